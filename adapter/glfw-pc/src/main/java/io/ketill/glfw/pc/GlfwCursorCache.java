@@ -0,0 +1,120 @@
+package io.ketill.glfw.pc;
+
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFWImage;
+
+import java.awt.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * A least recently used cache of GLFW cursors, keyed by the Java AWT
+ * image they were created from. When a cursor is evicted, it is also
+ * destroyed via {@code glfwDestroyCursor()}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It must
+ * be used on the thread which initialized GLFW.
+ */
+final class GlfwCursorCache {
+
+    static final int DEFAULT_CAPACITY = 8;
+    private static final long NULL_PTR = 0L;
+
+    private final int capacity;
+    private final LinkedHashMap<Image, Long> cursors;
+
+    GlfwCursorCache(int capacity) {
+        if (capacity < 2) {
+            /*
+             * The cursor currently in use must never be evicted (and in
+             * turn, destroyed) when a new one is created. A capacity of
+             * at least two guarantees this, as the current cursor is at
+             * worst the second most recently used.
+             */
+            throw new IllegalArgumentException("capacity must be >= 2");
+        }
+        this.capacity = capacity;
+
+        /*
+         * Images are used as keys by identity. Since Image does not
+         * override equals() or hashCode(), no expensive comparison of
+         * pixel data takes place when looking up a cursor.
+         */
+        this.cursors = new LinkedHashMap<Image, Long>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Image, Long> e) {
+                if (this.size() <= GlfwCursorCache.this.capacity) {
+                    return false;
+                }
+                glfwDestroyCursor(e.getValue());
+                return true;
+            }
+        };
+    }
+
+    GlfwCursorCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    int size() {
+        return cursors.size();
+    }
+
+    boolean isCached(@NotNull Image icon) {
+        return cursors.containsKey(icon);
+    }
+
+    /**
+     * Returns the GLFW cursor for an image, creating it if necessary.
+     * <p>
+     * <b>Note:</b> The returned cursor is owned by this cache. It must
+     * not be destroyed by the caller.
+     *
+     * @param icon the cursor icon.
+     * @return the GLFW cursor pointer, zero if the cursor could not be
+     * created.
+     * @throws NullPointerException if {@code icon} is {@code null}.
+     */
+    long getCursor(@NotNull Image icon) {
+        Objects.requireNonNull(icon, "icon cannot be null");
+
+        Long cached = cursors.get(icon);
+        if (cached != null) {
+            return cached;
+        }
+
+        /*
+         * GLFW copies the pixel data of the image when creating a cursor.
+         * As such, the image can be freed immediately afterwards. Only
+         * the cursor itself needs to be kept around.
+         */
+        GLFWImage glfwImg = GlfwMouseAdapter.createGlfwImage(icon);
+        long ptr_glfwCursor;
+        try {
+            ptr_glfwCursor = glfwCreateCursor(glfwImg, 0, 0);
+        } finally {
+            glfwImg.free();
+        }
+
+        if (ptr_glfwCursor != NULL_PTR) {
+            cursors.put(icon, ptr_glfwCursor);
+        }
+        return ptr_glfwCursor;
+    }
+
+    /**
+     * Destroys every cursor in this cache.
+     */
+    void clear() {
+        Iterator<Long> cursorsI = cursors.values().iterator();
+        while (cursorsI.hasNext()) {
+            glfwDestroyCursor(cursorsI.next());
+            cursorsI.remove();
+        }
+    }
+
+}
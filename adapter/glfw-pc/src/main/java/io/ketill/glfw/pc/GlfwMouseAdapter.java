@@ -19,6 +19,7 @@ import org.lwjgl.glfw.GLFWImage;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 import static io.ketill.pc.Mouse.*;
@@ -84,23 +85,24 @@ public class GlfwMouseAdapter extends GlfwDeviceAdapter<Mouse> {
             graphics.dispose();
         }
 
+        /*
+         * Java AWT returns pixels in ARGB format, but GLFW expects for
+         * them to be in RGBA format (byte order). Rather than reading and
+         * writing each pixel individually, the entire raster is read at
+         * once. Each pixel is then rearranged to ABGR, which results in
+         * RGBA when written as a little endian integer.
+         */
+        int[] argb = buffered.getRGB(0, 0, width, height, null, 0, width);
+        for (int i = 0; i < argb.length; i++) {
+            int color = argb[i];
+            argb[i] = (color & 0xFF00FF00)
+                    | ((color >> 16) & 0xFF)
+                    | ((color & 0xFF) << 16);
+        }
+
         int size = width * height * 4;
         ByteBuffer pixels = BufferUtils.createByteBuffer(size);
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                /*
-                 * Java AWT returns pixels in ARGB format, but GLFW expects
-                 * for them to be RGBA format. The code below rearranges the
-                 * bytes of the pixel color accordingly.
-                 */
-                int color = buffered.getRGB(x, y);
-                pixels.put((byte) ((color >> 16) & 0xFF));
-                pixels.put((byte) ((color >> 8) & 0xFF));
-                pixels.put((byte) (color & 0xFF));
-                pixels.put((byte) ((color >> 24) & 0xFF));
-            }
-        }
-        pixels.flip();
+        pixels.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(argb);
 
         GLFWImage glfwImg = GLFWImage.calloc();
         glfwImg.set(width, height, pixels);
@@ -109,9 +111,10 @@ public class GlfwMouseAdapter extends GlfwDeviceAdapter<Mouse> {
 
     private final double[] xPos;
     private final double[] yPos;
+    private final GlfwCursorCache cursorCache;
     private boolean wasCursorVisible;
-    private GLFWImage glfwCursorImage;
-    private long ptr_glfwCursor;
+    private boolean windowClosing;
+    private boolean cursorsReleased;
 
     /**
      * Constructs a new {@code GlfwMouseAdapter}.
@@ -130,6 +133,7 @@ public class GlfwMouseAdapter extends GlfwDeviceAdapter<Mouse> {
         super(mouse, registry, ptr_glfwWindow);
         this.xPos = new double[1];
         this.yPos = new double[1];
+        this.cursorCache = new GlfwCursorCache();
     }
 
     /**
@@ -215,27 +219,28 @@ public class GlfwMouseAdapter extends GlfwDeviceAdapter<Mouse> {
             this.wasCursorVisible = false;
         }
 
-        if (state.updatedIcon) {
-            if (glfwCursorImage != null) {
-                glfwCursorImage.free();
-                glfwDestroyCursor(ptr_glfwCursor);
-            }
-
+        /*
+         * If the cursors were released while the window was closing, but
+         * the window was not closed after all, the icon must be set once
+         * again. Otherwise, the default cursor would be left in its place.
+         */
+        boolean restoreIcon = cursorsReleased && !windowClosing;
+        if (state.updatedIcon || restoreIcon) {
             /*
              * If the icon for the cursor is null, it indicates the default
              * icon should be used. In GLFW, a NULL pointer represents the
-             * default cursor.
+             * default cursor. Otherwise, the cursor is fetched from cache
+             * so switching back to a recently used icon is cheap. Cursors
+             * are destroyed by the cache when they are evicted.
              */
-            if (state.icon == null) {
-                this.glfwCursorImage = null;
-                this.ptr_glfwCursor = 0L;
-            } else {
-                this.glfwCursorImage = createGlfwImage(state.icon);
-                this.ptr_glfwCursor = glfwCreateCursor(glfwCursorImage, 0, 0);
+            long ptr_glfwCursor = 0L;
+            if (state.icon != null) {
+                ptr_glfwCursor = cursorCache.getCursor(state.icon);
             }
             glfwSetCursor(ptr_glfwWindow, ptr_glfwCursor);
 
             state.updatedIcon = false;
+            this.cursorsReleased = false;
         }
     }
 
@@ -243,6 +248,20 @@ public class GlfwMouseAdapter extends GlfwDeviceAdapter<Mouse> {
     @MustBeInvokedByOverriders
     protected void pollDevice() {
         glfwGetCursorPos(ptr_glfwWindow, xPos, yPos);
+
+        /*
+         * GLFW only destroys cursors on its own when it is terminated.
+         * Once the window is about to close, this adapter is done with
+         * it. As such, the cached cursors are destroyed here rather than
+         * being leaked until then. The default cursor is set first, as
+         * the window must not be left using a destroyed cursor.
+         */
+        this.windowClosing = glfwWindowShouldClose(ptr_glfwWindow);
+        if (windowClosing && cursorCache.size() > 0) {
+            glfwSetCursor(ptr_glfwWindow, 0L);
+            cursorCache.clear();
+            this.cursorsReleased = true;
+        }
     }
 
     @Override
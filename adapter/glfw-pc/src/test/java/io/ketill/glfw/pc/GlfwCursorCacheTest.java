@@ -0,0 +1,108 @@
+package io.ketill.glfw.pc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.glfw.GLFW;
+import org.mockito.MockedStatic;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lwjgl.glfw.GLFW.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ConstantConditions")
+class GlfwCursorCacheTest {
+
+    private static BufferedImage createIcon() {
+        return new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private GlfwCursorCache cache;
+
+    @BeforeEach
+    void createCache() {
+        this.cache = new GlfwCursorCache(2);
+    }
+
+    @Test
+    void testInit() {
+        /*
+         * A cache with a capacity less than two could evict the cursor
+         * currently in use when a new one is created. Assume this was a
+         * mistake by the user and throw an exception.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> new GlfwCursorCache(1));
+    }
+
+    @Test
+    void testGetCursor() {
+        assertThrows(NullPointerException.class,
+                () -> cache.getCursor(null));
+
+        try (MockedStatic<GLFW> glfw = mockStatic(GLFW.class)) {
+            AtomicLong nextPtr = new AtomicLong(1L);
+            glfw.when(() -> glfwCreateCursor(any(), anyInt(), anyInt()))
+                    .thenAnswer(a -> nextPtr.getAndIncrement());
+
+            BufferedImage icon1 = createIcon();
+            BufferedImage icon2 = createIcon();
+            BufferedImage icon3 = createIcon();
+
+            /*
+             * When a cursor for an icon is requested for the first time,
+             * it must be created. Afterwards, the same cursor should be
+             * returned without creating a new one.
+             */
+            long ptr1 = cache.getCursor(icon1);
+            assertEquals(ptr1, cache.getCursor(icon1));
+            glfw.verify(() -> glfwCreateCursor(any(), anyInt(), anyInt()),
+                    times(1));
+
+            /*
+             * Use icon1 after creating icon2. This makes icon2 the least
+             * recently used cursor, meaning it should be the one evicted
+             * (and destroyed) when a third icon is requested.
+             */
+            long ptr2 = cache.getCursor(icon2);
+            cache.getCursor(icon1);
+            cache.getCursor(icon3);
+
+            assertEquals(2, cache.size());
+            assertTrue(cache.isCached(icon1));
+            assertFalse(cache.isCached(icon2));
+            glfw.verify(() -> glfwDestroyCursor(ptr2), times(1));
+            glfw.verify(() -> glfwDestroyCursor(ptr1), never());
+
+            /*
+             * If GLFW fails to create a cursor, it returns a NULL pointer.
+             * This must not be cached, as it would prevent the cursor from
+             * being created successfully in the future.
+             */
+            nextPtr.set(0L);
+            BufferedImage icon4 = createIcon();
+            assertEquals(0L, cache.getCursor(icon4));
+            assertFalse(cache.isCached(icon4));
+        }
+    }
+
+    @Test
+    void testClear() {
+        try (MockedStatic<GLFW> glfw = mockStatic(GLFW.class)) {
+            glfw.when(() -> glfwCreateCursor(any(), anyInt(), anyInt()))
+                    .thenReturn(1L);
+            cache.getCursor(createIcon());
+
+            /*
+             * When the cache is cleared, every cursor it contains must be
+             * destroyed. Failing to do so would result in a memory leak.
+             */
+            cache.clear();
+            assertEquals(0, cache.size());
+            glfw.verify(() -> glfwDestroyCursor(1L), times(1));
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import org.mockito.MockedStatic;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
 
 import static io.ketill.KetillAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,15 +53,24 @@ class GlfwMouseAdapterTest {
         BufferedImage buffered = new BufferedImage(16, 16,
                 BufferedImage.TYPE_INT_ARGB);
 
+        buffered.setRGB(1, 0, 0x80112233);
+
         /*
          * The created GLFW image should have the same dimensions as the
-         * image passed to it. The pixels cannot also be verified here as
-         * they are not directly accessible from the struct.
+         * image passed to it. Furthermore, each pixel must have been
+         * converted from ARGB (used by Java AWT) to RGBA (used by GLFW).
          */
         GLFWImage glfwImg = GlfwMouseAdapter.createGlfwImage(buffered);
         assertEquals(buffered.getWidth(), glfwImg.width());
         assertEquals(buffered.getHeight(), glfwImg.height());
 
+        ByteBuffer pixels = glfwImg.pixels(16 * 16 * 4);
+        assertEquals((byte) 0x11, pixels.get(4));
+        assertEquals((byte) 0x22, pixels.get(5));
+        assertEquals((byte) 0x33, pixels.get(6));
+        assertEquals((byte) 0x80, pixels.get(7));
+        glfwImg.free();
+
         Image unbuffered = mock(Image.class);
         when(unbuffered.getWidth(null)).thenReturn(16);
         when(unbuffered.getHeight(null)).thenReturn(16);
@@ -234,32 +244,84 @@ class GlfwMouseAdapterTest {
              * When the user sets a new cursor icon that is not null, the
              * adapter should make a call to glfwCreateCursor() (which is
              * mocked above) and then set the cursor to newly created one.
-             *
-             * Furthermore, since this is the first non-null cursor, the
-             * adapter should have made a call to glfwDestroyCursor(), as
-             * there is nothing to destroy.
              */
-            mouse.cursor.setIcon(new BufferedImage(16, 16,
-                    BufferedImage.TYPE_INT_ARGB));
+            BufferedImage icon = new BufferedImage(16, 16,
+                    BufferedImage.TYPE_INT_ARGB);
+            mouse.cursor.setIcon(icon);
             mouse.poll(); /* update mouse cursor */
-            glfw.verify(() -> glfwDestroyCursor(anyLong()), never());
+            glfw.verify(() -> glfwCreateCursor(any(), anyInt(), anyInt()),
+                    times(1));
             glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, ptr_glfwCursor),
                     times(1));
 
             /*
-             * When a new cursor icon is set, the adapter must free the
-             * memory associated with the previous and destroy the cursor.
-             * Failing to do so will result in a memory leak, which could
-             * be catastrophic if the user makes use of many cursors.
-             *
-             * Furthermore, since the user has set the icon, the adapter
-             * should use the default cursor. In GLFW, the default cursor
-             * is represented by a NULL pointer (or zero in Java).
+             * When the user sets the icon to null, the adapter should use
+             * the default cursor. In GLFW, the default cursor is represented
+             * by a NULL pointer (or zero in Java). The previous cursor must
+             * not be destroyed, as it is kept in the adapter's cache.
              */
             mouse.cursor.setIcon(null);
             mouse.poll(); /* update mouse cursor */
-            glfw.verify(() -> glfwDestroyCursor(ptr_glfwCursor), times(1));
+            glfw.verify(() -> glfwDestroyCursor(anyLong()), never());
             glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, 0L), times(1));
+
+            /*
+             * Switching back to a recently used icon should not result in
+             * a new cursor being created. Instead, the adapter must reuse
+             * the cursor it created previously.
+             */
+            mouse.cursor.setIcon(icon);
+            mouse.poll(); /* update mouse cursor */
+            glfw.verify(() -> glfwCreateCursor(any(), anyInt(), anyInt()),
+                    times(1));
+            glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, ptr_glfwCursor),
+                    times(2));
+        }
+    }
+
+    @Test
+    void testReleaseCursors() {
+        try (MockedStatic<GLFW> glfw = mockStatic(GLFW.class)) {
+            long ptr_glfwCursor = 0x012346789ABCDEFL;
+            glfw.when(() -> glfwCreateCursor(any(), anyInt(), anyInt()))
+                    .thenReturn(ptr_glfwCursor);
+
+            mouse.cursor.setIcon(new BufferedImage(16, 16,
+                    BufferedImage.TYPE_INT_ARGB));
+            mouse.poll(); /* update mouse cursor */
+            glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, ptr_glfwCursor),
+                    times(1));
+
+            /*
+             * Once the window is about to close, the adapter must destroy
+             * the cursors it has cached. Failing to do so will result in a
+             * memory leak, which could be catastrophic if the user makes
+             * use of many cursors. The default cursor must be set first,
+             * so the window is not left using a destroyed cursor.
+             */
+            glfw.when(() -> glfwWindowShouldClose(ptr_glfwWindow))
+                    .thenReturn(true);
+            mouse.poll();
+            glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, 0L), times(1));
+            glfw.verify(() -> glfwDestroyCursor(ptr_glfwCursor), times(1));
+
+            /* the icon must not be restored while the window is closing */
+            mouse.poll();
+            glfw.verify(() -> glfwCreateCursor(any(), anyInt(), anyInt()),
+                    times(1));
+
+            /*
+             * If the window was not closed after all, the icon the user
+             * set must be restored. Otherwise, the window would be left
+             * with the default cursor.
+             */
+            glfw.when(() -> glfwWindowShouldClose(ptr_glfwWindow))
+                    .thenReturn(false);
+            mouse.poll();
+            glfw.verify(() -> glfwCreateCursor(any(), anyInt(), anyInt()),
+                    times(2));
+            glfw.verify(() -> glfwSetCursor(ptr_glfwWindow, ptr_glfwCursor),
+                    times(2));
         }
     }
 
@@ -0,0 +1,123 @@
+package io.ketill.awt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A least recently used cache of Java AWT cursors, keyed by the image
+ * and hotspot they were created from.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+final class AwtCursorCache {
+
+    static final int DEFAULT_CAPACITY = 8;
+
+    /*
+     * Images are compared by identity. Since Image does not override
+     * equals() or hashCode(), no expensive comparison of pixel data takes
+     * place when looking up a cursor. The hotspot is copied, as Point is
+     * mutable and could otherwise change while used as a key.
+     */
+    private static final class CursorKey {
+
+        final Image icon;
+        final int hotspotX, hotspotY;
+
+        CursorKey(@NotNull Image icon, @NotNull Point hotspot) {
+            this.icon = icon;
+            this.hotspotX = hotspot.x;
+            this.hotspotY = hotspot.y;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof CursorKey)) {
+                return false;
+            }
+            CursorKey that = (CursorKey) obj;
+            return this.icon == that.icon
+                    && this.hotspotX == that.hotspotX
+                    && this.hotspotY == that.hotspotY;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(icon);
+            hash = 31 * hash + hotspotX;
+            return 31 * hash + hotspotY;
+        }
+
+    }
+
+    private final Toolkit toolkit;
+    private final LinkedHashMap<CursorKey, Cursor> cursors;
+
+    AwtCursorCache(@NotNull Toolkit toolkit, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        this.toolkit = toolkit;
+
+        /*
+         * AWT cursors have no explicit way to be disposed. As such,
+         * evicted cursors are simply dropped and left to the garbage
+         * collector.
+         */
+        /* @formatter:off */
+        this.cursors =
+                new LinkedHashMap<CursorKey, Cursor>(16, 0.75F, true) {
+            @Override
+            protected boolean
+                    removeEldestEntry(Map.Entry<CursorKey, Cursor> e) {
+                return this.size() > capacity;
+            }
+        };
+        /* @formatter:on */
+    }
+
+    AwtCursorCache(@NotNull Toolkit toolkit) {
+        this(toolkit, DEFAULT_CAPACITY);
+    }
+
+    synchronized int size() {
+        return cursors.size();
+    }
+
+    synchronized boolean isCached(@NotNull Image icon,
+                                  @NotNull Point hotspot) {
+        return cursors.containsKey(new CursorKey(icon, hotspot));
+    }
+
+    /**
+     * Returns the cursor for an image and hotspot, creating it if
+     * necessary.
+     *
+     * @param icon    the cursor icon.
+     * @param hotspot the hotspot of the cursor.
+     * @return the cursor for {@code icon} with {@code hotspot}.
+     * @throws NullPointerException if {@code icon} or {@code hotspot}
+     *                              are {@code null}.
+     */
+    synchronized @NotNull Cursor getCursor(@NotNull Image icon,
+                                           @NotNull Point hotspot) {
+        Objects.requireNonNull(icon, "icon cannot be null");
+        Objects.requireNonNull(hotspot, "hotspot cannot be null");
+
+        CursorKey key = new CursorKey(icon, hotspot);
+        Cursor cursor = cursors.get(key);
+        if (cursor == null) {
+            cursor = toolkit.createCustomCursor(icon, hotspot,
+                    "cursor_custom");
+            cursors.put(key, cursor);
+        }
+        return cursor;
+    }
+
+}
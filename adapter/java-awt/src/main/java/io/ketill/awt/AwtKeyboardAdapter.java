@@ -25,6 +25,10 @@ import static java.awt.event.KeyEvent.*;
  * the physical location of a key will change based on the current
  * keyboard layout of the system (such as QWERTY, AZERTY, etc.)
  * <p>
+ * <b>Push mode:</b> This adapter signals each time a key is pressed or
+ * released. As such, a keyboard polled in the background is only polled
+ * when input arrives, or while a key is being held down.
+ * <p>
  * <b>Thread safety:</b> This adapter is <i>thread-safe.</i>
  */
 public class AwtKeyboardAdapter extends IoDeviceAdapter<Keyboard> {
@@ -93,7 +97,8 @@ public class AwtKeyboardAdapter extends IoDeviceAdapter<Keyboard> {
                               @NotNull Component component) {
         super(keyboard, registry);
         Objects.requireNonNull(component, "component cannot be null");
-        this.keyboardListener = new AwtKeyboardListener(component);
+        this.keyboardListener = new AwtKeyboardListener(component,
+                this::signalInput);
     }
 
     /**
@@ -265,6 +270,10 @@ public class AwtKeyboardAdapter extends IoDeviceAdapter<Keyboard> {
     /**
      * Updater for keyboard keys mapped via
      * {@link #mapKey(KeyboardKey, int, int)}.
+     * <p>
+     * <b>Note:</b> The state of each key is kept in a flat table, indexed
+     * by the keycode and location of {@code mapping}. As such, updating a
+     * key is a single read from this table.
      *
      * @param state   the key state.
      * @param mapping the key mapping.
@@ -281,6 +290,12 @@ public class AwtKeyboardAdapter extends IoDeviceAdapter<Keyboard> {
         if (!keyboardListener.isInitialized()) {
             keyboardListener.init();
         }
+        keyboardListener.drainTransitions();
+    }
+
+    @Override
+    protected final boolean isPushMode() {
+        return true; /* key events are signalled */
     }
 
     @Override
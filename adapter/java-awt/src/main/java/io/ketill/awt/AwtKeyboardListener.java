@@ -5,51 +5,219 @@ import org.jetbrains.annotations.NotNull;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 final class AwtKeyboardListener implements KeyListener {
 
-    static class KeyState {
-        boolean pressed;
+    /*
+     * Every virtual keycode defined by KeyEvent (including VK_F13 through
+     * VK_F24, which start at 0xF000) is below this limit. There are five
+     * key locations, from KEY_LOCATION_UNKNOWN to KEY_LOCATION_NUMPAD.
+     */
+    static final int KEY_CODE_LIMIT = 0x10000;
+    static final int KEY_LOCATION_COUNT = KeyEvent.KEY_LOCATION_NUMPAD + 1;
+
+    static final int TRANSITION_CAPACITY = 1024;
+
+    private static final int KEY_INDEX_COUNT =
+            KEY_CODE_LIMIT * KEY_LOCATION_COUNT;
+    private static final int KEY_WORD_COUNT =
+            (KEY_INDEX_COUNT + Long.SIZE - 1) / Long.SIZE;
+
+    /**
+     * Returns the dense index of a key in the table of this listener.
+     *
+     * @param keyCode     the AWT keycode.
+     * @param keyLocation the location on the keyboard.
+     * @return the index of the key, {@code -1} if the key is outside the
+     * range of the table.
+     */
+    static int getKeyIndex(int keyCode, int keyLocation) {
+        if (keyCode < 0 || keyCode >= KEY_CODE_LIMIT
+                || keyLocation < 0 || keyLocation >= KEY_LOCATION_COUNT) {
+            return -1;
+        }
+        return keyCode * KEY_LOCATION_COUNT + keyLocation;
     }
 
-    private final Component component;
-    private final Map<Integer, Map<Integer, KeyState>> keys;
-    private boolean initialized;
+    private static long getOverflowKey(int keyCode, int keyLocation) {
+        return ((long) keyCode << 32) | (keyLocation & 0xFFFFFFFFL);
+    }
 
-    AwtKeyboardListener(@NotNull Component component) {
-        this.component = component;
-        this.keys = new HashMap<>();
+    private static boolean isSet(long @NotNull [] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0L;
     }
 
-    private @NotNull KeyState getState(int keyCode, int keyLocation) {
-        if (!keys.containsKey(keyCode)) {
-            keys.put(keyCode, new HashMap<>());
+    private static void set(long @NotNull [] words, int index,
+                            boolean value) {
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
         }
+    }
 
-        Map<Integer, KeyState> locations = keys.get(keyCode);
-        if (!locations.containsKey(keyLocation)) {
-            locations.put(keyLocation, new KeyState());
-        }
+    private final Component component;
+    private final Runnable inputCallback;
+    private final AwtTransitionQueue transitions;
+    private final Set<Long> overflowKeys;
+    private boolean initialized;
 
-        return locations.get(keyLocation);
+    /*
+     * The state of each key as of the latest event. This is only written
+     * by the AWT event thread. It is read by the polling thread only when
+     * it must resynchronize, after the transition queue has overflowed.
+     */
+    private final AtomicLongArray latestKeys;
+
+    /*
+     * The state of each key as observed by the polling thread. This is
+     * only ever accessed by the polling thread, so it needs no locking.
+     * The touched keys are those which changed during the current drain.
+     */
+    private final long[] keys;
+    private final long[] touchedKeys;
+    private final int[] touchedList;
+
+    /**
+     * Constructs a new {@code AwtKeyboardListener}.
+     *
+     * @param component     the AWT component.
+     * @param inputCallback called on the AWT event thread each time a key
+     *                      is pressed or released. It is also called by
+     *                      the polling thread when transitions are left
+     *                      over after a drain.
+     */
+    AwtKeyboardListener(@NotNull Component component,
+                        @NotNull Runnable inputCallback) {
+        this.component = component;
+        this.inputCallback = inputCallback;
+        this.transitions = new AwtTransitionQueue(TRANSITION_CAPACITY);
+        this.latestKeys = new AtomicLongArray(KEY_WORD_COUNT);
+        this.keys = new long[KEY_WORD_COUNT];
+        this.touchedKeys = new long[KEY_WORD_COUNT];
+        this.touchedList = new int[TRANSITION_CAPACITY];
+
+        /*
+         * Extended keycodes (e.g., those returned by the method
+         * KeyEvent.getExtendedKeyCodeForChar()) are far beyond the
+         * limit of the table. These are rare, so they are kept in a
+         * set instead of growing the table to fit them.
+         */
+        this.overflowKeys = new HashSet<>();
     }
 
-    private @NotNull KeyState getState(@NotNull KeyEvent event) {
-        int keyCode = event.getKeyCode();
-        int keyLocation = event.getKeyLocation();
-        return this.getState(keyCode, keyLocation);
+    AwtKeyboardListener(@NotNull Component component) {
+        this(component, () -> {
+            /* no callback */
+        });
+    }
+
+    boolean isPressed(int keyIndex) {
+        return isSet(keys, keyIndex);
     }
 
     boolean isPressed(int keyCode, int keyLocation) {
-        return this.getState(keyCode, keyLocation).pressed;
+        int keyIndex = getKeyIndex(keyCode, keyLocation);
+        if (keyIndex >= 0) {
+            return this.isPressed(keyIndex);
+        }
+        synchronized (overflowKeys) {
+            long key = getOverflowKey(keyCode, keyLocation);
+            return overflowKeys.contains(key);
+        }
     }
 
     boolean isPressed(@NotNull AwtKeyMapping mapping) {
         return this.isPressed(mapping.keyCode, mapping.keyLocation);
     }
 
+    /**
+     * Applies the key transitions received from the AWT event thread since
+     * the last call to this method. This must be called by the polling
+     * thread before the keys are updated.
+     * <p>
+     * Transitions are applied in order until a key would change for the
+     * second time. The remaining transitions are left for the next call.
+     * As such, a key which is pressed and released between two polls is
+     * still seen as pressed for one poll, rather than not at all.
+     * <p>
+     * When transitions are left over, the input callback is called again.
+     * This ensures the polling thread does not go idle while they wait,
+     * which would delay the release of a quick tap.
+     */
+    void drainTransitions() {
+        int touchedCount = 0;
+        while (!transitions.isEmpty()) {
+            int transition = transitions.peek();
+            int keyIndex = transition >>> 1;
+            boolean pressed = (transition & 1) != 0;
+
+            if (isSet(touchedKeys, keyIndex)) {
+                inputCallback.run(); /* apply during the next poll */
+                break;
+            }
+            transitions.remove();
+
+            if (isSet(keys, keyIndex) != pressed) {
+                set(keys, keyIndex, pressed);
+                set(touchedKeys, keyIndex, true);
+                touchedList[touchedCount++] = keyIndex;
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            set(touchedKeys, touchedList[i], false);
+        }
+
+        /*
+         * If the queue overflowed, some transitions were lost. The state
+         * of every key is copied from the latest state instead. This can
+         * only be done once the queue is empty, otherwise transitions that
+         * are still waiting would be applied out of order.
+         */
+        if (transitions.isEmpty() && transitions.clearOverflow()) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = latestKeys.get(i);
+            }
+        }
+    }
+
+    private void setPressed(@NotNull KeyEvent event, boolean pressed) {
+        int keyCode = event.getKeyCode();
+        int keyLocation = event.getKeyLocation();
+        int keyIndex = getKeyIndex(keyCode, keyLocation);
+
+        if (keyIndex >= 0) {
+            int word = keyIndex >>> 6;
+            long latest = latestKeys.get(word);
+            long updated = pressed ? latest | (1L << keyIndex)
+                    : latest & ~(1L << keyIndex);
+            if (updated == latest) {
+                return; /* auto-repeat, not a transition */
+            }
+            latestKeys.set(word, updated);
+            transitions.offer((keyIndex << 1) | (pressed ? 1 : 0));
+            inputCallback.run();
+            return;
+        }
+
+        boolean changed;
+        synchronized (overflowKeys) {
+            long key = getOverflowKey(keyCode, keyLocation);
+            if (pressed) {
+                changed = overflowKeys.add(key);
+            } else {
+                changed = overflowKeys.remove(key);
+            }
+        }
+        if (changed) {
+            inputCallback.run();
+        }
+    }
+
     boolean isInitialized() {
         return this.initialized;
     }
@@ -69,14 +237,12 @@ final class AwtKeyboardListener implements KeyListener {
 
     @Override
     public void keyPressed(@NotNull KeyEvent event) {
-        KeyState state = this.getState(event);
-        state.pressed = true;
+        this.setPressed(event, true);
     }
 
     @Override
     public void keyReleased(@NotNull KeyEvent event) {
-        KeyState state = this.getState(event);
-        state.pressed = false;
+        this.setPressed(event, false);
     }
 
 }
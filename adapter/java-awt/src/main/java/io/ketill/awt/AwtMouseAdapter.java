@@ -27,6 +27,12 @@ import static io.ketill.pc.Mouse.*;
  * operating system. This means that a cursor icon with dimensions
  * {@code 128x128} could be resized to {@code 64x64} (or another size).
  * <p>
+ * <b>Push mode:</b> By default, the position of the cursor is queried
+ * from the toolkit each poll. When the adapter is created to track motion
+ * events instead, polls become much cheaper and the adapter signals each
+ * time there is new input. A mouse captured via
+ * {@link #captureBackground(Component)} tracks motion events.
+ * <p>
  * <b>Thread safety:</b> This adapter is <i>thread-safe.</i>
  */
 public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
@@ -66,9 +72,34 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
      */
     @CapturingMethod
     public static @NotNull Mouse capture(@NotNull Component component) {
+        return capture(component, false);
+    }
+
+    /**
+     * Captures the mouse from a Java AWT component.
+     * <p>
+     * <b>Thread safety:</b> The returned mouse can be shared among
+     * multiple threads. Its adapter is an {@link AwtMouseAdapter},
+     * which is <i>thread-safe.</i>
+     *
+     * @param component   the AWT component.
+     * @param trackMotion {@code true} if the cursor position should be
+     *                    tracked via motion events, {@code false} if it
+     *                    should be queried each poll.
+     * @return the captured mouse.
+     * @throws NullPointerException if {@code component} is {@code null}.
+     * @see #AwtMouseAdapter(Mouse, MappedFeatureRegistry, Component,
+     * boolean)
+     */
+    /* @formatter:off */
+    @CapturingMethod
+    public static @NotNull Mouse
+            capture(@NotNull Component component, boolean trackMotion) {
         Objects.requireNonNull(component, "component cannot be null");
-        return new Mouse((d, r) -> new AwtMouseAdapter(d, r, component));
+        return new Mouse((d, r) ->
+                new AwtMouseAdapter(d, r, component, trackMotion));
     }
+    /* @formatter:on */
 
     /**
      * Captures the mouse from a Java AWT component.
@@ -77,6 +108,14 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
      * being that the returned {@code Mouse} will be polled automatically in
      * a background thread managed by Ketill's Java AWT module.
      * <p>
+     * <b>Note:</b> Unlike {@link #capture(Component)}, the position of the
+     * cursor is tracked via motion events. This puts the mouse in push mode,
+     * allowing the background thread to sleep while there is no new input.
+     * However, the position only updates while the cursor is moved over (or
+     * dragged from) the component. To query it each poll instead, use
+     * {@link #captureBackground(Component, boolean)} with a value of
+     * {@code false} for {@code trackMotion}.
+     * <p>
      * <b>Thread safety:</b> The returned worker can be shared among multiple
      * threads. It is an {@link AwtPollWorker}, which is <i>thread-safe.</i>
      * Furthermore, the mouse this worker manages can also be shared among
@@ -93,17 +132,55 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
     @CapturingMethod
     public static @NotNull AwtPollWorker<Mouse>
             captureBackground(@NotNull Component component) {
+        return captureBackground(component, true);
+    }
+    /* @formatter:on */
+
+    /**
+     * Captures the mouse from a Java AWT component.
+     * <p>
+     * <b>Similar to:</b> {@link #capture(Component, boolean)}, with the
+     * difference being that the returned {@code Mouse} will be polled
+     * automatically in a background thread managed by Ketill's Java AWT
+     * module. When {@code trackMotion} is {@code true}, the mouse is in
+     * push mode. As such, it is only polled when there is new input. When
+     * {@code false}, the background thread must poll the mouse constantly
+     * (and will not sleep while the mouse is being polled.)
+     * <p>
+     * <b>Thread safety:</b> The returned worker can be shared among multiple
+     * threads. It is an {@link AwtPollWorker}, which is <i>thread-safe.</i>
+     * Furthermore, the mouse this worker manages can also be shared among
+     * multiple threads. Its adapter is an {@link AwtMouseAdapter}, which is
+     * also <i>thread-safe.</i>
+     *
+     * @param component   the AWT component.
+     * @param trackMotion {@code true} if the cursor position should be
+     *                    tracked via motion events, {@code false} if it
+     *                    should be queried each poll.
+     * @return the captured mouse.
+     * @throws NullPointerException if {@code component} is {@code null}.
+     * @see AwtPollWorker#getDevice()
+     * @see AwtPollWorker#close()
+     */
+    /* @formatter:off */
+    @CapturingMethod
+    public static @NotNull AwtPollWorker<Mouse>
+            captureBackground(@NotNull Component component,
+                              boolean trackMotion) {
         Objects.requireNonNull(component, "component cannot be null");
-        Mouse mouse = capture(component);
+        Mouse mouse = capture(component, trackMotion);
         return AwtPollWorker.pollInBackground(mouse);
     }
     /* @formatter:on */
 
     private final @NotNull Component component;
     private final @NotNull AwtMouseListener mouseListener;
+    private final @Nullable AwtMouseMotionListener motionListener;
     private final @Nullable Robot robot;
+    private final @NotNull AwtCursorCache cursorCache;
     private boolean wasCursorVisible;
     private @Nullable Cursor currentCursor;
+    private long lastMotionCount;
 
     /**
      * Constructs a new {@code AwtMouseAdapter}.
@@ -117,11 +194,44 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
     public AwtMouseAdapter(@NotNull Mouse mouse,
                            @NotNull MappedFeatureRegistry registry,
                            @NotNull Component component) {
+        this(mouse, registry, component, false);
+    }
+
+    /**
+     * Constructs a new {@code AwtMouseAdapter}.
+     * <p>
+     * When {@code trackMotion} is {@code true}, the position of the cursor
+     * is recorded from motion events on the AWT event thread. Each poll
+     * then reads the latest position, rather than querying the toolkit
+     * for the location of the pointer and the component. The adapter is
+     * also in push mode, as every input it receives is signalled.
+     *
+     * @param mouse       the mouse which owns this adapter.
+     * @param registry    the mouse's mapped feature registry.
+     * @param component   the AWT component.
+     * @param trackMotion {@code true} if the cursor position should be
+     *                    tracked via motion events, {@code false} if it
+     *                    should be queried each poll.
+     * @throws NullPointerException if {@code device}, {@code registry},
+     *                              or {@code component} are {@code null}.
+     */
+    public AwtMouseAdapter(@NotNull Mouse mouse,
+                           @NotNull MappedFeatureRegistry registry,
+                           @NotNull Component component,
+                           boolean trackMotion) {
         super(mouse, registry);
         this.component = Objects.requireNonNull(component,
                 "component cannot be null");
-        this.mouseListener = new AwtMouseListener(component);
+        this.mouseListener = new AwtMouseListener(component,
+                this::signalInput);
+        if (trackMotion) {
+            this.motionListener = new AwtMouseMotionListener(component,
+                    this::signalInput);
+        } else {
+            this.motionListener = null;
+        }
         this.robot = createRobot();
+        this.cursorCache = new AwtCursorCache(TOOLKIT);
     }
 
     /**
@@ -195,6 +305,11 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
             return; /* position already set */
         }
 
+        if (motionListener != null) {
+            this.updateTrackedCursorPos(state);
+            return; /* position tracked via motion events */
+        }
+
         /*
          * It's common for isVisible() to return false just too late before
          * calling getLocationOnScreen(), causing an exception to be thrown
@@ -220,6 +335,26 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
         state.currentPos.y = (float) relativeY;
     }
 
+    private void updateTrackedCursorPos(@NotNull CursorStateZ state) {
+        assert motionListener != null;
+
+        /*
+         * The position is only updated when the cursor has moved since it
+         * was last read. Otherwise, a position which was just requested
+         * would be overwritten by a stale one, until the motion event for
+         * the requested position arrives.
+         */
+        long motionCount = motionListener.getMotionCount();
+        if (motionCount == lastMotionCount) {
+            return; /* cursor has not moved */
+        }
+        this.lastMotionCount = motionCount;
+
+        long pos = motionListener.getCursorPos();
+        state.currentPos.x = AwtMouseMotionListener.unpackX(pos);
+        state.currentPos.y = AwtMouseMotionListener.unpackY(pos);
+    }
+
     private void updateCursorVisibility(@NotNull CursorStateZ state) {
         if (GraphicsEnvironment.isHeadless()) {
             return; /* cannot update visibility */
@@ -246,12 +381,14 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
          * icon should be used. In Java AWT, null represents the default
          * cursor. Attempting to create a cursor with a null icon would
          * also likely result in a NullPointerException being thrown.
+         * Otherwise, the cursor is fetched from cache so switching back
+         * to a recently used icon does not create a new cursor.
          */
         if (state.icon == null) {
             this.currentCursor = null;
         } else {
-            this.currentCursor = TOOLKIT.createCustomCursor(state.icon,
-                    component.getLocation(), "cursor_custom");
+            this.currentCursor = cursorCache.getCursor(state.icon,
+                    component.getLocation());
         }
 
         /*
@@ -284,6 +421,19 @@ public class AwtMouseAdapter extends IoDeviceAdapter<Mouse> {
         if (!mouseListener.isInitialized()) {
             mouseListener.init();
         }
+        if (motionListener != null && !motionListener.isInitialized()) {
+            motionListener.init();
+        }
+        mouseListener.drainTransitions();
+    }
+
+    @Override
+    protected final boolean isPushMode() {
+        /*
+         * When the position of the cursor is queried each poll, its motion
+         * is never signalled. As such, the mouse must be polled constantly.
+         */
+        return motionListener != null;
     }
 
     @Override
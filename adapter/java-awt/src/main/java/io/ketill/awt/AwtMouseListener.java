@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.util.concurrent.atomic.AtomicInteger;
 
 final class AwtMouseListener implements MouseListener {
 
@@ -15,17 +16,114 @@ final class AwtMouseListener implements MouseListener {
      */
     static final int MOUSE_BUTTON_COUNT = 24;
 
+    static final int TRANSITION_CAPACITY = 256;
+
     private final Component component;
-    private final boolean[] buttons;
+    private final Runnable inputCallback;
+    private final AwtTransitionQueue transitions;
     private boolean initialized;
 
-    AwtMouseListener(@NotNull Component component) {
+    /*
+     * The state of each button as of the latest event, one bit for each
+     * button. This is only written by the AWT event thread. It is read by
+     * the polling thread only after the transition queue has overflowed.
+     */
+    private final AtomicInteger latestButtons;
+
+    /*
+     * The state of each button as observed by the polling thread. This is
+     * only ever accessed by the polling thread, so it needs no locking.
+     */
+    private int buttons;
+
+    /**
+     * Constructs a new {@code AwtMouseListener}.
+     *
+     * @param component     the AWT component.
+     * @param inputCallback called on the AWT event thread each time a
+     *                      button is pressed or released. It is also
+     *                      called by the polling thread when transitions
+     *                      are left over after a drain.
+     */
+    AwtMouseListener(@NotNull Component component,
+                     @NotNull Runnable inputCallback) {
         this.component = component;
-        this.buttons = new boolean[MOUSE_BUTTON_COUNT];
+        this.inputCallback = inputCallback;
+        this.transitions = new AwtTransitionQueue(TRANSITION_CAPACITY);
+        this.latestButtons = new AtomicInteger();
+    }
+
+    AwtMouseListener(@NotNull Component component) {
+        this(component, () -> {
+            /* no callback */
+        });
     }
 
     boolean isPressed(int id) {
-        return this.buttons[id];
+        if (id < 0 || id >= MOUSE_BUTTON_COUNT) {
+            String msg = "Button: " + id;
+            msg += ", Buttons: " + MOUSE_BUTTON_COUNT;
+            throw new IndexOutOfBoundsException(msg);
+        }
+        return (buttons & (1 << id)) != 0;
+    }
+
+    /**
+     * Applies the button transitions received from the AWT event thread
+     * since the last call to this method. This must be called by the
+     * polling thread before the buttons are updated.
+     * <p>
+     * Transitions are applied in order until a button would change for
+     * the second time. The remaining transitions are left for the next
+     * call. As such, a click shorter than the poll interval is still seen
+     * as pressed for one poll, rather than not at all.
+     * <p>
+     * When transitions are left over, the input callback is called again.
+     * This ensures the polling thread does not go idle while they wait,
+     * which would delay the release of a quick click.
+     */
+    void drainTransitions() {
+        int touched = 0;
+        while (!transitions.isEmpty()) {
+            int transition = transitions.peek();
+            int bit = 1 << (transition >>> 1);
+            boolean pressed = (transition & 1) != 0;
+
+            if ((touched & bit) != 0) {
+                inputCallback.run(); /* apply during the next poll */
+                break;
+            }
+            transitions.remove();
+
+            if (((buttons & bit) != 0) != pressed) {
+                this.buttons ^= bit;
+                touched |= bit;
+            }
+        }
+
+        /*
+         * If the queue overflowed, some transitions were lost. The state
+         * of every button is copied from the latest state instead, once
+         * there are no transitions left waiting to be applied.
+         */
+        if (transitions.isEmpty() && transitions.clearOverflow()) {
+            this.buttons = latestButtons.get();
+        }
+    }
+
+    private void setPressed(@NotNull MouseEvent event, boolean pressed) {
+        int id = event.getButton();
+        if (id < 0 || id >= MOUSE_BUTTON_COUNT) {
+            return; /* not a button which can be mapped */
+        }
+
+        int latest = latestButtons.get();
+        int updated = pressed ? latest | (1 << id) : latest & ~(1 << id);
+        if (updated != latest) {
+            latestButtons.set(updated);
+            transitions.offer((id << 1) | (pressed ? 1 : 0));
+            inputCallback.run();
+        }
     }
 
     boolean isInitialized() {
@@ -47,12 +145,12 @@ final class AwtMouseListener implements MouseListener {
 
     @Override
     public void mousePressed(@NotNull MouseEvent event) {
-        this.buttons[event.getButton()] = true;
+        this.setPressed(event, true);
     }
 
     @Override
     public void mouseReleased(@NotNull MouseEvent event) {
-        this.buttons[event.getButton()] = false;
+        this.setPressed(event, false);
     }
 
     @Override
@@ -0,0 +1,106 @@
+package io.ketill.awt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseMotionListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class AwtMouseMotionListener implements MouseMotionListener {
+
+    static long packPos(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    static int unpackX(long pos) {
+        return (int) (pos >> 32);
+    }
+
+    static int unpackY(long pos) {
+        return (int) pos;
+    }
+
+    private final Component component;
+    private final Runnable inputCallback;
+    private boolean initialized;
+
+    /*
+     * The position of the cursor relative to the component, as of the
+     * latest event. Both coordinates are packed into a single value, so
+     * the polling thread can never read an X and Y from different events.
+     */
+    private final AtomicLong cursorPos;
+    private final AtomicLong motionCount;
+
+    /**
+     * Constructs a new {@code AwtMouseMotionListener}.
+     *
+     * @param component     the AWT component.
+     * @param inputCallback called on the AWT event thread each time the
+     *                      cursor moves.
+     */
+    AwtMouseMotionListener(@NotNull Component component,
+                           @NotNull Runnable inputCallback) {
+        this.component = component;
+        this.inputCallback = inputCallback;
+        this.cursorPos = new AtomicLong();
+        this.motionCount = new AtomicLong();
+    }
+
+    AwtMouseMotionListener(@NotNull Component component) {
+        this(component, () -> {
+            /* no callback */
+        });
+    }
+
+    /**
+     * Returns the position of the cursor relative to the component, as of
+     * the latest motion event. The coordinates can be unpacked using
+     * {@link #unpackX(long)} and {@link #unpackY(long)}.
+     *
+     * @return the packed position of the cursor.
+     */
+    long getCursorPos() {
+        return cursorPos.get();
+    }
+
+    /**
+     * Returns how many motion events have been received. This can be
+     * used to check if the cursor has moved since it was last read.
+     *
+     * @return how many motion events have been received.
+     */
+    long getMotionCount() {
+        return motionCount.get();
+    }
+
+    boolean isInitialized() {
+        return this.initialized;
+    }
+
+    void init() {
+        if (this.isInitialized()) {
+            throw new IllegalStateException("already initialized");
+        }
+        component.addMouseMotionListener(this);
+        this.initialized = true;
+    }
+
+    private void moved(@NotNull MouseEvent event) {
+        cursorPos.set(packPos(event.getX(), event.getY()));
+        motionCount.incrementAndGet();
+        inputCallback.run();
+    }
+
+    @Override
+    public void mouseDragged(@NotNull MouseEvent event) {
+        this.moved(event);
+    }
+
+    @Override
+    public void mouseMoved(@NotNull MouseEvent event) {
+        this.moved(event);
+    }
+
+}
@@ -5,10 +5,20 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 final class AwtPollThread extends Thread {
 
+    /*
+     * When every device is idle, this thread sleeps until it is woken by
+     * new input. It still wakes up after this long regardless, in case a
+     * device needs polling without having signalled (e.g., to let a key
+     * which was debounced settle.)
+     */
+    static final long IDLE_TIMEOUT_MS = 50L;
+
     @TestOnly
     boolean interruptLowerCPU = false;
 
@@ -21,13 +31,38 @@ final class AwtPollThread extends Thread {
         this.devices = new CopyOnWriteArrayList<>();
     }
 
-    private void lowerCPU() {
-        /* simple hack to keep CPU usage low */
+    /**
+     * Wakes this thread if it is sleeping because every device was idle.
+     * This is called when new input is available for a device.
+     */
+    void wakeup() {
+        LockSupport.unpark(this);
+    }
+
+    private void lowerCPU(boolean idle) {
         try {
             if (interruptLowerCPU) {
                 throw new InterruptedException();
+            } else if (!idle) {
+                /*
+                 * A device which needs polling (e.g., a mouse which is not
+                 * in push mode) cannot wake this thread. As such, it only
+                 * yields here rather than sleeping until woken.
+                 */
+                Thread.sleep(0, 1); /* simple hack to keep CPU usage low */
+                return;
+            }
+
+            /*
+             * If this thread was woken since it last polled, the park will
+             * return immediately. As such, input which arrives during a poll
+             * is never missed.
+             */
+            LockSupport.parkNanos(this,
+                    TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
             }
-            Thread.sleep(0, 1);
         } catch (InterruptedException e) {
             running.set(false);
             this.interrupt();
@@ -48,10 +83,14 @@ final class AwtPollThread extends Thread {
             }
 
             while (running.get()) {
+                boolean idle = true;
                 for (IoDevice device : devices) {
                     device.poll();
+                    if (device.needsPolling()) {
+                        idle = false;
+                    }
                 }
-                this.lowerCPU();
+                this.lowerCPU(idle);
             }
         } finally {
             /*
@@ -20,6 +20,12 @@ import java.util.concurrent.locks.ReentrantLock;
  * It starts automatically when the first device is added, and stops
  * automatically when no devices are left.
  * <p>
+ * When every device is in push mode and none of them need polling, the
+ * thread sleeps until new input is available. This keeps an idle program
+ * from using the CPU. To be woken, the thread sets the waker of each device
+ * it polls, replacing any waker that was set beforehand. While any device is
+ * not in push mode, the thread instead yields briefly between polls.
+ * <p>
  * <b>Thread safety:</b> This class is <i>thread-safe.</i>
  *
  * @param <I> the I/O device type.
@@ -49,7 +55,15 @@ public final class AwtPollWorker<I extends IoDevice> implements Closeable {
                 pollThread.start();
             }
 
+            /*
+             * Devices in push mode signal when new input is available.
+             * This wakes the poll thread if it is sleeping because every
+             * device was idle.
+             */
+            AwtPollThread thread = pollThread;
+            device.useWaker(d -> thread.wakeup());
             pollThread.devices.add(device);
+            thread.wakeup(); /* poll the new device right away */
         } finally{
             POLL_THREAD_LOCK.unlock();
         }
@@ -65,6 +79,7 @@ public final class AwtPollWorker<I extends IoDevice> implements Closeable {
             }
 
             pollThread.devices.remove(device);
+            device.useWaker(null);
 
             /*
              * If there are no more devices to poll as a result of
@@ -75,6 +90,7 @@ public final class AwtPollWorker<I extends IoDevice> implements Closeable {
              */
             if (pollThread.devices.isEmpty()) {
                 pollThread.running.set(false);
+                pollThread.wakeup(); /* stop sleeping, if idle */
 
                 try {
                     if (interruptQuitPolling) {
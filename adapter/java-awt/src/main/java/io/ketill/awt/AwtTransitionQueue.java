@@ -0,0 +1,127 @@
+package io.ketill.awt;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free queue of input transitions, handed off from the AWT event
+ * dispatch thread to the thread polling a device.
+ * <p>
+ * Each transition is an {@code int} (e.g., the index of a key and if it
+ * was pressed or released.) The queue is bounded, so the event thread is
+ * never blocked. If it fills up (e.g., the device is not being polled),
+ * further transitions are dropped and the queue is marked as overflowed.
+ * The consumer must then resynchronize with the latest state known to the
+ * producer, as some transitions were lost.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe</i> for exactly one
+ * producer thread and one consumer thread. Only the producer may call
+ * {@link #offer(int)}. All other methods may only be called by the
+ * consumer.
+ */
+final class AwtTransitionQueue {
+
+    private final int @NotNull [] buffer;
+    private final int mask;
+    private final AtomicLong head; /* next index to read */
+    private final AtomicLong tail; /* next index to write */
+    private final AtomicBoolean overflowed;
+
+    /**
+     * Constructs a new {@code AwtTransitionQueue}.
+     *
+     * @param capacity the maximum number of transitions which can be
+     *                 waiting in the queue. This must be a power of two.
+     * @throws IllegalArgumentException if {@code capacity} is not a
+     *                                  positive power of two.
+     */
+    AwtTransitionQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            String msg = "capacity must be a positive power of two";
+            throw new IllegalArgumentException(msg);
+        }
+        this.buffer = new int[capacity];
+        this.mask = capacity - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.overflowed = new AtomicBoolean();
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Adds a transition to the end of this queue. This may only be called
+     * by the producer thread.
+     *
+     * @param transition the transition to add.
+     * @return {@code true} if the transition was added, {@code false} if
+     * this queue is full and the transition was dropped.
+     */
+    boolean offer(int transition) {
+        long t = tail.get();
+        if (t - head.get() >= buffer.length) {
+            overflowed.set(true);
+            return false;
+        }
+        buffer[(int) t & mask] = transition;
+
+        /*
+         * The ordered write of the tail publishes the transition written
+         * above. The consumer reads the tail before reading the buffer,
+         * so it is guaranteed to see the transition.
+         */
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Returns the transition at the front of this queue, without removing
+     * it. This may only be called by the consumer thread.
+     *
+     * @return the transition at the front of this queue.
+     * @throws IllegalStateException if this queue is empty.
+     * @see #remove()
+     */
+    int peek() {
+        long h = head.get();
+        if (h == tail.get()) {
+            throw new IllegalStateException("queue is empty");
+        }
+        return buffer[(int) h & mask];
+    }
+
+    /**
+     * Removes the transition at the front of this queue. This may only be
+     * called by the consumer thread.
+     *
+     * @throws IllegalStateException if this queue is empty.
+     * @see #peek()
+     */
+    void remove() {
+        long h = head.get();
+        if (h == tail.get()) {
+            throw new IllegalStateException("queue is empty");
+        }
+        head.lazySet(h + 1);
+    }
+
+    /**
+     * Clears the overflow flag of this queue. This may only be called by
+     * the consumer thread.
+     *
+     * @return {@code true} if transitions were dropped since the last call
+     * to this method, {@code false} otherwise.
+     */
+    boolean clearOverflow() {
+        return overflowed.getAndSet(false);
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.ketill.awt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ConstantConditions")
+class AwtCursorCacheTest {
+
+    private static BufferedImage createIcon() {
+        return new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private Toolkit toolkit;
+    private AwtCursorCache cache;
+
+    @BeforeEach
+    void createCache() {
+        this.toolkit = mock(Toolkit.class);
+        when(toolkit.createCustomCursor(any(), any(), any()))
+                .thenAnswer(a -> mock(Cursor.class));
+        this.cache = new AwtCursorCache(toolkit, 2);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AwtCursorCache(toolkit, 0));
+    }
+
+    @Test
+    void testGetCursor() {
+        Point hotspot = new Point(0, 0);
+        assertThrows(NullPointerException.class,
+                () -> cache.getCursor(null, hotspot));
+        assertThrows(NullPointerException.class,
+                () -> cache.getCursor(createIcon(), null));
+
+        BufferedImage icon1 = createIcon();
+        BufferedImage icon2 = createIcon();
+        BufferedImage icon3 = createIcon();
+
+        /*
+         * When a cursor for an icon is requested for the first time,
+         * it must be created. Afterwards, the same cursor should be
+         * returned without creating a new one.
+         */
+        Cursor cursor1 = cache.getCursor(icon1, hotspot);
+        assertSame(cursor1, cache.getCursor(icon1, hotspot));
+        verify(toolkit, times(1)).createCustomCursor(icon1, hotspot,
+                "cursor_custom");
+
+        /*
+         * Use icon1 after creating icon2. This makes icon2 the least
+         * recently used cursor, meaning it should be the one evicted
+         * when a third icon is requested.
+         */
+        cache.getCursor(icon2, hotspot);
+        cache.getCursor(icon1, hotspot);
+        cache.getCursor(icon3, hotspot);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.isCached(icon1, hotspot));
+        assertFalse(cache.isCached(icon2, hotspot));
+        assertTrue(cache.isCached(icon3, hotspot));
+    }
+
+    @Test
+    void testGetCursorHotspot() {
+        BufferedImage icon = createIcon();
+        Point hotspot1 = new Point(0, 0);
+        Point hotspot2 = new Point(4, 8);
+
+        /*
+         * The same icon can be used with a different hotspot (e.g., when
+         * the component moves.) A cursor created with the old hotspot
+         * must not be returned for the new one.
+         */
+        Cursor cursor1 = cache.getCursor(icon, hotspot1);
+        Cursor cursor2 = cache.getCursor(icon, hotspot2);
+        assertNotSame(cursor1, cursor2);
+        verify(toolkit).createCustomCursor(icon, hotspot2, "cursor_custom");
+
+        /*
+         * The hotspot is copied when a cursor is cached. Changing the
+         * point afterwards must not change which cursor it maps to.
+         */
+        hotspot1.setLocation(4, 8);
+        assertSame(cursor2, cache.getCursor(icon, hotspot1));
+        assertTrue(cache.isCached(icon, new Point(0, 0)));
+    }
+
+}
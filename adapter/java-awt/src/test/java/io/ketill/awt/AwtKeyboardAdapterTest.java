@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.ketill.KetillAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -95,6 +96,24 @@ class AwtKeyboardAdapterTest {
         assertFalse(keyboard.space.isPressed());
     }
 
+    @Test
+    void testUpdateKeyTapped() {
+        KeyEvent event = mock(KeyEvent.class);
+        when(event.getKeyCode()).thenReturn(KeyEvent.VK_SPACE);
+        when(event.getKeyLocation()).thenReturn(KeyEvent.KEY_LOCATION_STANDARD);
+
+        /*
+         * A key which is pressed and released between two polls must be
+         * seen as pressed by the first poll, and released by the second.
+         */
+        listener.keyPressed(event);
+        listener.keyReleased(event);
+        keyboard.poll();
+        assertTrue(keyboard.space.isPressed());
+        keyboard.poll();
+        assertFalse(keyboard.space.isPressed());
+    }
+
     @Test
     void testPollDevice() {
         /*
@@ -105,6 +124,31 @@ class AwtKeyboardAdapterTest {
         assertDoesNotThrow(() -> keyboard.poll());
     }
 
+    @Test
+    void testIsPushMode() {
+        assertTrue(keyboard.isPushMode());
+
+        /*
+         * Each time a key is pressed or released, the adapter must signal
+         * that new input is available. Otherwise, a keyboard polled in the
+         * background would not be woken up to see it.
+         */
+        AtomicInteger wakes = new AtomicInteger();
+        keyboard.useWaker(d -> wakes.incrementAndGet());
+
+        KeyEvent event = mock(KeyEvent.class);
+        when(event.getKeyCode()).thenReturn(KeyEvent.VK_SPACE);
+        when(event.getKeyLocation()).thenReturn(KeyEvent.KEY_LOCATION_STANDARD);
+        listener.keyPressed(event);
+        listener.keyReleased(event);
+        assertEquals(2, wakes.get());
+
+        /* once nothing is held down, the keyboard can wait for input */
+        keyboard.poll();
+        keyboard.poll();
+        assertFalse(keyboard.needsPolling());
+    }
+
     @Test
     void testIsDeviceConnected() {
         /*
@@ -31,6 +31,29 @@ class AwtKeyboardListenerTest {
         assertFalse(listener.isPressed(mapping));
     }
 
+    @Test
+    void testGetKeyIndex() {
+        int index = AwtKeyboardListener.getKeyIndex(KeyEvent.VK_SHIFT,
+                KeyEvent.KEY_LOCATION_LEFT);
+        assertTrue(index >= 0);
+
+        /*
+         * The same keycode at a different location is a different key,
+         * so it must be given a different index.
+         */
+        assertNotEquals(index, AwtKeyboardListener.getKeyIndex(
+                KeyEvent.VK_SHIFT, KeyEvent.KEY_LOCATION_RIGHT));
+
+        /* keys outside the range of the table have no index */
+        assertEquals(-1, AwtKeyboardListener.getKeyIndex(-1,
+                KeyEvent.KEY_LOCATION_STANDARD));
+        assertEquals(-1, AwtKeyboardListener.getKeyIndex(
+                AwtKeyboardListener.KEY_CODE_LIMIT,
+                KeyEvent.KEY_LOCATION_STANDARD));
+        assertEquals(-1, AwtKeyboardListener.getKeyIndex(KeyEvent.VK_SPACE,
+                AwtKeyboardListener.KEY_LOCATION_COUNT));
+    }
+
     @Test
     void testIsInitialized() {
         assertFalse(listener.isInitialized());
@@ -68,11 +91,108 @@ class AwtKeyboardListenerTest {
         when(event.getKeyCode()).thenReturn(mapping.keyCode);
         when(event.getKeyLocation()).thenReturn(mapping.keyLocation);
 
+        /*
+         * Key events are received on the AWT event thread. They must not
+         * be visible to the polling thread until it drains them.
+         */
         listener.keyPressed(event);
+        assertFalse(listener.isPressed(mapping));
+        listener.drainTransitions();
         assertTrue(listener.isPressed(mapping));
 
         listener.keyReleased(event);
+        listener.drainTransitions();
         assertFalse(listener.isPressed(mapping));
     }
 
+    @Test
+    void testDrainTransitions() {
+        KeyEvent event = mock(KeyEvent.class);
+        when(event.getKeyCode()).thenReturn(mapping.keyCode);
+        when(event.getKeyLocation()).thenReturn(mapping.keyLocation);
+
+        /*
+         * When a key is pressed and released between two polls, it must
+         * still be seen as pressed for exactly one poll. Otherwise, quick
+         * taps of a key would be lost.
+         */
+        listener.keyPressed(event);
+        listener.keyReleased(event);
+        listener.drainTransitions();
+        assertTrue(listener.isPressed(mapping));
+        listener.drainTransitions();
+        assertFalse(listener.isPressed(mapping));
+
+        /*
+         * When transitions are left over after a drain, the callback must
+         * be called again. Otherwise, the polling thread could go idle,
+         * delaying the release of the key until it next wakes up.
+         */
+        Runnable callback = mock(Runnable.class);
+        AwtKeyboardListener signalling =
+                new AwtKeyboardListener(component, callback);
+        signalling.keyPressed(event);
+        signalling.keyReleased(event);
+        verify(callback, times(2)).run();
+        signalling.drainTransitions();
+        verify(callback, times(3)).run();
+        signalling.drainTransitions();
+        verify(callback, times(3)).run();
+
+        /* auto-repeat sends repeated presses, which are not transitions */
+        listener.keyPressed(event);
+        listener.keyPressed(event);
+        listener.keyPressed(event);
+        listener.keyReleased(event);
+        listener.drainTransitions();
+        assertTrue(listener.isPressed(mapping));
+        listener.drainTransitions();
+        assertFalse(listener.isPressed(mapping));
+    }
+
+    @Test
+    void testDrainTransitionsOverflow() {
+        KeyEvent event = mock(KeyEvent.class);
+        when(event.getKeyCode()).thenReturn(mapping.keyCode);
+        when(event.getKeyLocation()).thenReturn(mapping.keyLocation);
+
+        /*
+         * If the keyboard is not polled for a long time, the transition
+         * queue will fill up. Once drained, the state of each key must
+         * match the latest state received on the AWT event thread.
+         */
+        int capacity = AwtKeyboardListener.TRANSITION_CAPACITY;
+        for (int i = 0; i < capacity; i++) {
+            listener.keyPressed(event);
+            listener.keyReleased(event);
+        }
+        listener.keyPressed(event);
+
+        for (int i = 0; i < capacity; i++) {
+            listener.drainTransitions();
+        }
+        assertTrue(listener.isPressed(mapping));
+    }
+
+    @Test
+    void testExtendedKeyCode() {
+        /*
+         * Extended keycodes are beyond the range of the key table. They
+         * must still be tracked, just not within the table itself.
+         */
+        int keyCode = KeyEvent.getExtendedKeyCodeForChar('\u00E9');
+        AwtKeyMapping extended = new AwtKeyMapping(keyCode,
+                KeyEvent.KEY_LOCATION_STANDARD);
+        KeyEvent event = mock(KeyEvent.class);
+        when(event.getKeyCode()).thenReturn(extended.keyCode);
+        when(event.getKeyLocation()).thenReturn(extended.keyLocation);
+
+        listener.keyPressed(event);
+        assertTrue(listener.isPressed(extended));
+        assertFalse(listener.isPressed(mapping));
+
+        listener.keyReleased(event);
+        assertFalse(listener.isPressed(extended));
+    }
+
 }
@@ -11,7 +11,9 @@ import org.mockito.MockedStatic;
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.ketill.KetillAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -79,6 +81,16 @@ class AwtMouseAdapterTest {
                 AwtMouseAdapter.captureBackground(component);
         assertNotNull(mouseWorker);
 
+        /*
+         * By default, a mouse polled in the background must be in push
+         * mode. Otherwise, the background thread would never be able to
+         * sleep while the mouse is idle.
+         */
+        assertTrue(mouseWorker.getDevice().isPushMode());
+        mouseWorker.close(); /* prevent lingering thread */
+
+        mouseWorker = AwtMouseAdapter.captureBackground(component, false);
+        assertFalse(mouseWorker.getDevice().isPushMode());
         mouseWorker.close(); /* prevent lingering thread */
     }
 
@@ -243,6 +255,60 @@ class AwtMouseAdapterTest {
         }
     }
 
+    @Test
+    void testUpdateTrackedCursorPos() {
+        AtomicReference<MouseMotionListener> motionListener =
+                new AtomicReference<>();
+        doAnswer(a -> {
+            motionListener.set(a.getArgument(0));
+            return null;
+        }).when(component).addMouseMotionListener(any());
+
+        Mouse tracked;
+        Robot trackedRobot;
+        try (MockedConstruction<Robot> mockRobots =
+                     mockConstruction(Robot.class)) {
+            tracked = AwtMouseAdapter.capture(component, true);
+            trackedRobot = mockRobots.constructed().get(0);
+            tracked.poll(); /* initialize listeners */
+        }
+        assertNotNull(motionListener.get());
+        assertTrue(tracked.isPushMode());
+        assertFalse(mouse.isPushMode());
+
+        /* further testing requires non-headless environment */
+        assumeFalse(GraphicsEnvironment.isHeadless());
+
+        /*
+         * When tracking motion, the position of the cursor comes from
+         * the latest motion event. The toolkit must not be queried for
+         * the location of the pointer.
+         */
+        try (MockedStatic<MouseInfo> mouseInfo = mockStatic(MouseInfo.class)) {
+            MouseEvent event = mock(MouseEvent.class);
+            when(event.getX()).thenReturn(123);
+            when(event.getY()).thenReturn(456);
+            motionListener.get().mouseMoved(event);
+
+            tracked.poll(); /* update cursor position */
+            assertEquals(123, tracked.cursor.getX());
+            assertEquals(456, tracked.cursor.getY());
+            mouseInfo.verifyNoInteractions();
+        }
+
+        /*
+         * A requested position must not be overwritten by the position
+         * of an earlier motion event. It should only be updated again
+         * once the cursor has actually moved.
+         */
+        tracked.cursor.setPosition(789, 101);
+        tracked.poll(); /* move cursor */
+        verify(trackedRobot).mouseMove(789, 101);
+        tracked.poll(); /* cursor has not moved */
+        assertEquals(789, tracked.cursor.getX());
+        assertEquals(101, tracked.cursor.getY());
+    }
+
     @Test
     void testUpdateCursorVisibility() {
         try (MockedStatic<GraphicsEnvironment> graphics =
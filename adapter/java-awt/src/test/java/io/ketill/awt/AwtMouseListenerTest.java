@@ -72,11 +72,58 @@ class AwtMouseListenerTest {
         MouseEvent event = mock(MouseEvent.class);
         when(event.getButton()).thenReturn(button);
 
+        /*
+         * Mouse events are received on the AWT event thread. They must not
+         * be visible to the polling thread until it drains them.
+         */
         listener.mousePressed(event);
+        assertFalse(listener.isPressed(button));
+        listener.drainTransitions();
         assertTrue(listener.isPressed(button));
 
         listener.mouseReleased(event);
+        listener.drainTransitions();
+        assertFalse(listener.isPressed(button));
+    }
+
+    @Test
+    void testDrainTransitions() {
+        int button = MouseEvent.BUTTON1;
+        MouseEvent event = mock(MouseEvent.class);
+        when(event.getButton()).thenReturn(button);
+
+        /*
+         * When a button is clicked between two polls, it must still be
+         * seen as pressed for exactly one poll. Otherwise, quick clicks
+         * of a button would be lost.
+         */
+        listener.mousePressed(event);
+        listener.mouseReleased(event);
+        listener.drainTransitions();
+        assertTrue(listener.isPressed(button));
+        listener.drainTransitions();
         assertFalse(listener.isPressed(button));
+
+        /*
+         * When transitions are left over after a drain, the callback must
+         * be called again. Otherwise, the polling thread could go idle,
+         * delaying the release of the button until it next wakes up.
+         */
+        Runnable callback = mock(Runnable.class);
+        AwtMouseListener signalling =
+                new AwtMouseListener(component, callback);
+        signalling.mousePressed(event);
+        signalling.mouseReleased(event);
+        verify(callback, times(2)).run();
+        signalling.drainTransitions();
+        verify(callback, times(3)).run();
+        signalling.drainTransitions();
+        verify(callback, times(3)).run();
+
+        /* buttons which cannot be mapped are ignored */
+        MouseEvent unknown = mock(MouseEvent.class);
+        when(unknown.getButton()).thenReturn(-1);
+        assertDoesNotThrow(() -> listener.mousePressed(unknown));
     }
 
     @Test
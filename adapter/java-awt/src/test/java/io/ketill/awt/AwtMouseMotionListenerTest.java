@@ -0,0 +1,85 @@
+package io.ketill.awt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AwtMouseMotionListenerTest {
+
+    private static MouseEvent createEvent(int x, int y) {
+        MouseEvent event = mock(MouseEvent.class);
+        when(event.getX()).thenReturn(x);
+        when(event.getY()).thenReturn(y);
+        return event;
+    }
+
+    private Component component;
+    private AtomicInteger signals;
+    private AwtMouseMotionListener listener;
+
+    @BeforeEach
+    void createListener() {
+        this.component = mock(Component.class);
+        this.signals = new AtomicInteger();
+        this.listener = new AwtMouseMotionListener(component,
+                signals::incrementAndGet);
+    }
+
+    @Test
+    void testPackPos() {
+        /* negative coordinates occur when dragging outside a component */
+        long pos = AwtMouseMotionListener.packPos(-123, 456);
+        assertEquals(-123, AwtMouseMotionListener.unpackX(pos));
+        assertEquals(456, AwtMouseMotionListener.unpackY(pos));
+
+        pos = AwtMouseMotionListener.packPos(789, -101);
+        assertEquals(789, AwtMouseMotionListener.unpackX(pos));
+        assertEquals(-101, AwtMouseMotionListener.unpackY(pos));
+    }
+
+    @Test
+    void testInit() {
+        /*
+         * When the AWT mouse motion listener is initialized, it must add
+         * itself as a mouse motion listener to the AWT component it was
+         * given. Failing to do so will result in it receiving no motion.
+         */
+        assertFalse(listener.isInitialized());
+        listener.init();
+        assertTrue(listener.isInitialized());
+        verify(component).addMouseMotionListener(listener);
+
+        /* it would not make sense to initialize it twice */
+        assertThrows(IllegalStateException.class, () -> listener.init());
+    }
+
+    @Test
+    void testMouseMovedAndMouseDragged() {
+        assertEquals(0L, listener.getMotionCount());
+
+        /*
+         * Both moving and dragging the cursor change its position. Each
+         * event must be counted and signalled, so the polling thread
+         * knows the cursor has moved.
+         */
+        listener.mouseMoved(createEvent(12, 34));
+        long pos = listener.getCursorPos();
+        assertEquals(12, AwtMouseMotionListener.unpackX(pos));
+        assertEquals(34, AwtMouseMotionListener.unpackY(pos));
+
+        listener.mouseDragged(createEvent(56, 78));
+        pos = listener.getCursorPos();
+        assertEquals(56, AwtMouseMotionListener.unpackX(pos));
+        assertEquals(78, AwtMouseMotionListener.unpackY(pos));
+
+        assertEquals(2L, listener.getMotionCount());
+        assertEquals(2, signals.get());
+    }
+
+}
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +66,50 @@ class AwtPollThreadTest {
         assertTrue(thread.devices.isEmpty());
     }
 
+    @Test
+    void testWakeup() throws InterruptedException {
+        AtomicReference<CountDownLatch> polled =
+                new AtomicReference<>(new CountDownLatch(1));
+        IoDevice device = mock(IoDevice.class);
+        doAnswer(a -> {
+            polled.get().countDown();
+            return null;
+        }).when(device).poll();
+        thread.devices.add(device);
+        thread.running.set(true);
+
+        /*
+         * The mocked device does not need polling, meaning it is idle. The
+         * thread should sleep until it is woken, and then poll the device
+         * again right away.
+         */
+        thread.start();
+        assertTrue(polled.get().await(1, TimeUnit.SECONDS));
+
+        polled.set(new CountDownLatch(1));
+        thread.wakeup();
+        assertTrue(polled.get().await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNeedsPolling() throws InterruptedException {
+        IoDevice idle = mock(IoDevice.class);
+        IoDevice busy = mock(IoDevice.class);
+        when(busy.needsPolling()).thenReturn(true);
+        thread.devices.add(idle);
+        thread.devices.add(busy);
+        thread.running.set(true);
+
+        /*
+         * While any device needs polling, the thread must not sleep until
+         * the idle timeout. Every device is polled each time, even those
+         * which are idle.
+         */
+        thread.start();
+        Thread.sleep(AwtPollThread.IDLE_TIMEOUT_MS * 2);
+        verify(idle, atLeast(5)).poll();
+    }
+
     @AfterEach
     void stopThread() {
         thread.running.set(false);
@@ -0,0 +1,89 @@
+package io.ketill.awt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AwtTransitionQueueTest {
+
+    private AwtTransitionQueue queue;
+
+    @BeforeEach
+    void createQueue() {
+        this.queue = new AwtTransitionQueue(4);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AwtTransitionQueue(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AwtTransitionQueue(3));
+        assertEquals(4, queue.capacity());
+    }
+
+    @Test
+    void testOfferAndRemove() {
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, () -> queue.peek());
+        assertThrows(IllegalStateException.class, () -> queue.remove());
+
+        /* transitions must be received in the order they were offered */
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, queue.peek());
+            queue.remove();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testOverflow() {
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+
+        /*
+         * The producer must never be blocked. When the queue is full, the
+         * transition is dropped and the queue is marked as overflowed, so
+         * the consumer knows it must resynchronize.
+         */
+        assertFalse(queue.offer(4));
+        assertTrue(queue.clearOverflow());
+        assertFalse(queue.clearOverflow());
+
+        queue.remove();
+        assertTrue(queue.offer(4));
+    }
+
+    @Test
+    void testConcurrentHandoff() throws InterruptedException {
+        int count = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield(); /* wait for the consumer */
+                }
+            }
+        });
+        producer.start();
+
+        /*
+         * Every transition must be received exactly once and in order,
+         * even though they are written on another thread.
+         */
+        int expected = 0;
+        while (expected < count) {
+            if (!queue.isEmpty()) {
+                assertEquals(expected++, queue.peek());
+                queue.remove();
+            }
+        }
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+
+}
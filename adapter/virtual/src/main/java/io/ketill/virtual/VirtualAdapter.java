@@ -0,0 +1,216 @@
+package io.ketill.virtual;
+
+import io.ketill.FeatureAdapter;
+import io.ketill.IoDevice;
+import io.ketill.IoDeviceAdapter;
+import io.ketill.IoFeature;
+import io.ketill.MappedFeatureRegistry;
+import io.ketill.MappingMethod;
+import io.ketill.StateUpdater;
+import io.ketill.controller.AnalogStick;
+import io.ketill.controller.AnalogTrigger;
+import io.ketill.controller.BatteryLevelZ;
+import io.ketill.controller.ButtonStateZ;
+import io.ketill.controller.ControllerButton;
+import io.ketill.controller.GenericSensor;
+import io.ketill.controller.InternalBattery;
+import io.ketill.controller.MotorVibration;
+import io.ketill.controller.RumbleMotor;
+import io.ketill.controller.SensorValueZ;
+import io.ketill.controller.StickPosZ;
+import io.ketill.controller.TriggerStateZ;
+import io.ketill.pc.CursorStateZ;
+import io.ketill.pc.KeyPressZ;
+import io.ketill.pc.KeyboardKey;
+import io.ketill.pc.MouseButton;
+import io.ketill.pc.MouseClickZ;
+import io.ketill.pc.MouseCursor;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector2fc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An adapter which drives a device from a {@link VirtualInput}, rather
+ * than real hardware. Features are mapped by their type, rather than by
+ * which device they belong to. As such, this adapter works for every
+ * device (e.g., {@code Keyboard}, {@code Mouse}, {@code XboxController},
+ * {@code Ps4Controller}, and {@code NxProController}.)
+ * <p>
+ * <b>Adapter quirks:</b> Only the features listed in
+ * {@link VirtualFeatureType} are supported. Features which are outputs,
+ * other than rumble motors, are left unmapped (e.g., player LEDs, and
+ * the lightbar of a PlayStation controller.) When the mouse cursor is
+ * moved via the device, the position stored by the input is updated to
+ * match.
+ * <p>
+ * <b>Thread safety:</b> This adapter is <i>thread-safe.</i>
+ *
+ * @param <I> the device type.
+ * @see VirtualDevices
+ */
+public class VirtualAdapter<I extends IoDevice> extends IoDeviceAdapter<I> {
+
+    private final @NotNull VirtualInput input;
+
+    /**
+     * Constructs a new {@code VirtualAdapter}.
+     *
+     * @param device   the device which owns this adapter.
+     * @param registry the device's mapped feature registry.
+     * @param input    the input to drive the device with.
+     * @throws NullPointerException if {@code device}, {@code registry},
+     *                              or {@code input} are {@code null}.
+     */
+    public VirtualAdapter(@NotNull I device,
+                          @NotNull MappedFeatureRegistry registry,
+                          @NotNull VirtualInput input) {
+        super(device, registry);
+        this.input = Objects.requireNonNull(input, "input cannot be null");
+    }
+
+    /**
+     * Returns the input driving the device.
+     *
+     * @return the input driving the device.
+     */
+    public final @NotNull VirtualInput getInput() {
+        return this.input;
+    }
+
+    /* @formatter:off */
+    @MappingMethod
+    private <Z> void
+            mapVirtual(@NotNull IoFeature<Z, ?> feature,
+                       @NotNull VirtualFeatureType type,
+                       @NotNull StateUpdater<Z, VirtualChannel> updater) {
+        VirtualChannel channel = input.attach(feature, type);
+        registry.mapFeature(feature, channel, updater);
+    }
+    /* @formatter:on */
+
+    @Override
+    protected void initAdapter() {
+        /*
+         * The features are copied, as mapping a feature is not expected to
+         * happen while iterating over those registered to the device.
+         */
+        List<IoFeature<?, ?>> features =
+                new ArrayList<>(registry.getFeatures());
+
+        for (IoFeature<?, ?> feature : features) {
+            if (feature instanceof KeyboardKey) {
+                this.mapVirtual((KeyboardKey) feature,
+                        VirtualFeatureType.BUTTON, this::updateKey);
+            } else if (feature instanceof MouseButton) {
+                this.mapVirtual((MouseButton) feature,
+                        VirtualFeatureType.BUTTON, this::updateClick);
+            } else if (feature instanceof MouseCursor) {
+                this.mapVirtual((MouseCursor) feature,
+                        VirtualFeatureType.CURSOR, this::updateCursor);
+                CursorStateZ cursor =
+                        registry.getInternalState((MouseCursor) feature);
+                cursor.adapterCanSetVisible = true;
+                cursor.adapterCanSetPosition = true;
+                cursor.adapterCanSetIcon = true;
+            } else if (feature instanceof ControllerButton) {
+                this.mapVirtual((ControllerButton) feature,
+                        VirtualFeatureType.BUTTON, this::updateButton);
+            } else if (feature instanceof AnalogStick) {
+                this.mapVirtual((AnalogStick) feature,
+                        VirtualFeatureType.STICK, this::updateStick);
+            } else if (feature instanceof AnalogTrigger) {
+                this.mapVirtual((AnalogTrigger) feature,
+                        VirtualFeatureType.TRIGGER, this::updateTrigger);
+            } else if (feature instanceof InternalBattery) {
+                this.mapVirtual((InternalBattery) feature,
+                        VirtualFeatureType.BATTERY, this::updateBattery);
+            } else if (feature instanceof GenericSensor) {
+                this.mapVirtual((GenericSensor) feature,
+                        VirtualFeatureType.SENSOR, this::updateSensor);
+            } else if (feature instanceof RumbleMotor) {
+                this.mapVirtual((RumbleMotor) feature,
+                        VirtualFeatureType.MOTOR, this::updateMotor);
+            }
+        }
+    }
+
+    @FeatureAdapter
+    private void updateKey(@NotNull KeyPressZ state,
+                           @NotNull VirtualChannel channel) {
+        state.pressed = channel.isPressed();
+    }
+
+    @FeatureAdapter
+    private void updateClick(@NotNull MouseClickZ state,
+                             @NotNull VirtualChannel channel) {
+        state.pressed = channel.isPressed();
+    }
+
+    @FeatureAdapter
+    private void updateCursor(@NotNull CursorStateZ state,
+                              @NotNull VirtualChannel channel) {
+        Vector2fc requested = state.requestedPos;
+        state.requestedPos = null;
+        if (requested != null) {
+            /*
+             * There is no real cursor to move. Instead, the input is moved
+             * to the requested position. This way, the position is kept
+             * the next time the input is read (or walked by a pattern.)
+             */
+            channel.set(requested.x(), requested.y(), 0.0F);
+        }
+
+        state.currentPos.set(channel.getX(), channel.getY());
+        state.updatedIcon = false; /* nothing to display */
+    }
+
+    @FeatureAdapter
+    private void updateButton(@NotNull ButtonStateZ state,
+                              @NotNull VirtualChannel channel) {
+        state.pressed = channel.isPressed();
+    }
+
+    @FeatureAdapter
+    private void updateStick(@NotNull StickPosZ state,
+                             @NotNull VirtualChannel channel) {
+        channel.get(state.pos);
+    }
+
+    @FeatureAdapter
+    private void updateTrigger(@NotNull TriggerStateZ state,
+                               @NotNull VirtualChannel channel) {
+        state.force = channel.getX();
+    }
+
+    @FeatureAdapter
+    private void updateBattery(@NotNull BatteryLevelZ state,
+                               @NotNull VirtualChannel channel) {
+        state.level = channel.getX();
+    }
+
+    @FeatureAdapter
+    private void updateSensor(@NotNull SensorValueZ state,
+                              @NotNull VirtualChannel channel) {
+        channel.get(state.value);
+    }
+
+    @FeatureAdapter
+    private void updateMotor(@NotNull MotorVibration state,
+                             @NotNull VirtualChannel channel) {
+        channel.set(state.getStrength(), 0.0F, 0.0F);
+    }
+
+    @Override
+    protected void pollDevice() {
+        input.step();
+    }
+
+    @Override
+    protected boolean isDeviceConnected() {
+        return input.isConnected();
+    }
+
+}
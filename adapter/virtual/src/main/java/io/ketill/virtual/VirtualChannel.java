@@ -0,0 +1,71 @@
+package io.ketill.virtual;
+
+import io.ketill.IoFeature;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+/**
+ * The state of a single feature of a {@link VirtualInput}. Each mapping
+ * of a {@link VirtualAdapter} is given its channel as a parameter. This
+ * way, updating the state of a feature does not require a lookup.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} as it is an
+ * implementation detail of {@link VirtualInput}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+final class VirtualChannel {
+
+    final @NotNull IoFeature<?, ?> feature;
+    final @NotNull VirtualFeatureType type;
+    private boolean pressed;
+    private float x, y, z;
+
+    VirtualChannel(@NotNull IoFeature<?, ?> feature,
+                   @NotNull VirtualFeatureType type) {
+        this.feature = feature;
+        this.type = type;
+    }
+
+    synchronized boolean isPressed() {
+        return this.pressed;
+    }
+
+    synchronized void setPressed(boolean pressed) {
+        this.pressed = pressed;
+    }
+
+    synchronized @NotNull Vector3f get(@NotNull Vector3f dest) {
+        return dest.set(x, y, z);
+    }
+
+    synchronized float getX() {
+        return this.x;
+    }
+
+    synchronized float getY() {
+        return this.y;
+    }
+
+    synchronized void set(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /* @formatter:off */
+    @Override
+    public synchronized String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("feature=" + feature)
+                .add("type=" + type)
+                .add("pressed=" + pressed)
+                .add("x=" + x)
+                .add("y=" + y)
+                .add("z=" + z)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,200 @@
+package io.ketill.virtual;
+
+import io.ketill.AdapterSupplier;
+import io.ketill.IoDevice;
+import io.ketill.gc.GcController;
+import io.ketill.nx.NxLeftJoyCon;
+import io.ketill.nx.NxProController;
+import io.ketill.nx.NxRightJoyCon;
+import io.ketill.pc.Keyboard;
+import io.ketill.pc.Mouse;
+import io.ketill.psx.Ps3Controller;
+import io.ketill.psx.Ps4Controller;
+import io.ketill.psx.Ps5Controller;
+import io.ketill.xbox.XboxController;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Creates devices which are driven by a {@link VirtualInput}. These can
+ * be used anywhere a real device would, without any hardware, window, or
+ * native library being present.
+ *
+ * @see VirtualAdapter
+ * @see VirtualSeeker
+ */
+public final class VirtualDevices {
+
+    private VirtualDevices() {
+        /* prevent instantiation */
+    }
+
+    /**
+     * Creates a device which is driven by a virtual input.
+     *
+     * @param constructor the constructor of the device (e.g.,
+     *                    {@code XboxController::new}.)
+     * @param input       the input to drive the device with.
+     * @param <I>         the device type.
+     * @return the created device.
+     * @throws NullPointerException if {@code constructor} or
+     *                              {@code input} are {@code null}; if
+     *                              {@code constructor} returns
+     *                              {@code null}.
+     */
+    /* @formatter:off */
+    public static <I extends IoDevice> @NotNull I
+            create(@NotNull Function<AdapterSupplier<I>, I> constructor,
+                   @NotNull VirtualInput input) {
+        Objects.requireNonNull(constructor, "constructor cannot be null");
+        Objects.requireNonNull(input, "input cannot be null");
+        I device = constructor.apply((d, r) ->
+                new VirtualAdapter<>(d, r, input));
+        return Objects.requireNonNull(device,
+                "constructor cannot return null");
+    }
+    /* @formatter:on */
+
+    /**
+     * Creates a {@link Keyboard} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(Keyboard::new, input)}
+     *
+     * @param input the input to drive the keyboard with.
+     * @return the created keyboard.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull Keyboard keyboard(@NotNull VirtualInput input) {
+        return create(Keyboard::new, input);
+    }
+
+    /**
+     * Creates a {@link Mouse} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(Mouse::new, input)}
+     *
+     * @param input the input to drive the mouse with.
+     * @return the created mouse.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull Mouse mouse(@NotNull VirtualInput input) {
+        return create(Mouse::new, input);
+    }
+
+    /**
+     * Creates an {@link XboxController} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(XboxController::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull XboxController xbox(@NotNull VirtualInput input) {
+        return create(XboxController::new, input);
+    }
+
+    /**
+     * Creates a {@link Ps3Controller} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(Ps3Controller::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull Ps3Controller ps3(@NotNull VirtualInput input) {
+        return create(Ps3Controller::new, input);
+    }
+
+    /**
+     * Creates a {@link Ps4Controller} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(Ps4Controller::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull Ps4Controller ps4(@NotNull VirtualInput input) {
+        return create(Ps4Controller::new, input);
+    }
+
+    /**
+     * Creates a {@link Ps5Controller} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(Ps5Controller::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull Ps5Controller ps5(@NotNull VirtualInput input) {
+        return create(Ps5Controller::new, input);
+    }
+
+    /**
+     * Creates an {@link NxProController} which is driven by a virtual
+     * input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(NxProController::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    /* @formatter:off */
+    public static @NotNull NxProController
+            nxPro(@NotNull VirtualInput input) {
+        return create(NxProController::new, input);
+    }
+    /* @formatter:on */
+
+    /**
+     * Creates an {@link NxLeftJoyCon} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(NxLeftJoyCon::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    /* @formatter:off */
+    public static @NotNull NxLeftJoyCon
+            nxLeftJoyCon(@NotNull VirtualInput input) {
+        return create(NxLeftJoyCon::new, input);
+    }
+    /* @formatter:on */
+
+    /**
+     * Creates an {@link NxRightJoyCon} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(NxRightJoyCon::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    /* @formatter:off */
+    public static @NotNull NxRightJoyCon
+            nxRightJoyCon(@NotNull VirtualInput input) {
+        return create(NxRightJoyCon::new, input);
+    }
+    /* @formatter:on */
+
+    /**
+     * Creates a {@link GcController} which is driven by a virtual input.
+     * <p>
+     * <b>Shorthand for:</b> {@code create(GcController::new, input)}
+     *
+     * @param input the input to drive the controller with.
+     * @return the created controller.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull GcController gc(@NotNull VirtualInput input) {
+        return create(GcController::new, input);
+    }
+
+}
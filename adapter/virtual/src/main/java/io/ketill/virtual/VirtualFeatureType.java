@@ -0,0 +1,58 @@
+package io.ketill.virtual;
+
+/**
+ * The kinds of features a {@link VirtualAdapter} is able to drive. Each
+ * feature of a virtual device is given one of these when it is mapped.
+ * The type decides how {@link VirtualInput} stores the feature's state,
+ * and which features a {@link VirtualPattern} should drive.
+ *
+ * @see VirtualInput#getFeatures(VirtualFeatureType)
+ */
+public enum VirtualFeatureType {
+
+    /**
+     * A feature which is either pressed or released (e.g., a keyboard
+     * key, a mouse button, or a controller button.)
+     *
+     * @see VirtualInput#setPressed(io.ketill.IoFeature, boolean)
+     */
+    BUTTON,
+
+    /**
+     * An analog stick. The X and Y components range from {@code -1.0F}
+     * to {@code 1.0F}. The Z component is {@code -1.0F} when the stick
+     * is pressed down, and {@code 0.0F} otherwise.
+     */
+    STICK,
+
+    /**
+     * An analog trigger. Only the X component is used, which ranges from
+     * {@code 0.0F} to {@code 1.0F}.
+     */
+    TRIGGER,
+
+    /**
+     * A mouse cursor. The X and Y components are its position, in pixels.
+     */
+    CURSOR,
+
+    /**
+     * An internal battery. Only the X component is used, which ranges
+     * from {@code 0.0F} to {@code 1.0F}.
+     */
+    BATTERY,
+
+    /**
+     * A sensor (e.g., an accelerometer, or a gyroscope.) The X, Y, and Z
+     * components are the value of the sensor along each axis.
+     */
+    SENSOR,
+
+    /**
+     * A rumble motor. Unlike the other types, this is an output. The X
+     * component is the strength most recently requested by the device,
+     * and cannot be set by the user.
+     */
+    MOTOR
+
+}
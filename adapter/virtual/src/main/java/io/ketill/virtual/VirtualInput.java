@@ -0,0 +1,410 @@
+package io.ketill.virtual;
+
+import io.ketill.IoFeature;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The input of a virtual device. Rather than being read from hardware, the
+ * state of each feature is set by the user, or by a {@link VirtualPattern}
+ * once every poll. This allows the input pipeline to be tested without a
+ * window, a display, or a physical device.
+ * <p>
+ * An input is given to a {@link VirtualAdapter} when its device is first
+ * created. Each feature the adapter is able to drive is then attached to
+ * this input. The state of a feature can only be set once it has been
+ * attached.
+ * <p>
+ * <b>Note:</b> The same input can be given to more than one device (e.g.,
+ * when a {@link VirtualSeeker} reconnects a device.) Features are shared
+ * by all devices of the same type, so each device will see the same state.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see VirtualDevices
+ */
+public final class VirtualInput {
+
+    private final @NotNull Map<IoFeature<?, ?>, VirtualChannel> channels;
+    private final @NotNull Map<String, IoFeature<?, ?>> featureIds;
+    private final @NotNull EnumMap<VirtualFeatureType,
+            List<IoFeature<?, ?>>> typedFeatures;
+    private @NotNull List<IoFeature<?, ?>> features;
+    private @Nullable VirtualPattern pattern;
+    private boolean connected;
+    private long tick;
+
+    /**
+     * Constructs a new {@code VirtualInput}. Devices using this input will
+     * be connected until {@link #setConnected(boolean)} says otherwise.
+     */
+    public VirtualInput() {
+        /*
+         * The features are kept in the order they were attached. As such,
+         * a pattern using a seeded random will drive them the same way on
+         * each run, making its input reproducible.
+         */
+        this.channels = new LinkedHashMap<>();
+        this.featureIds = new LinkedHashMap<>();
+        this.typedFeatures = new EnumMap<>(VirtualFeatureType.class);
+        for (VirtualFeatureType type : VirtualFeatureType.values()) {
+            typedFeatures.put(type, Collections.emptyList());
+        }
+        this.features = Collections.emptyList();
+        this.connected = true;
+    }
+
+    /**
+     * Attaches a feature to this input. If the feature is already
+     * attached, its existing channel is returned.
+     *
+     * @param feature the feature to attach.
+     * @param type    the type of {@code feature}.
+     * @return the channel of {@code feature}.
+     */
+    /* @formatter:off */
+    synchronized @NotNull VirtualChannel
+            attach(@NotNull IoFeature<?, ?> feature,
+                   @NotNull VirtualFeatureType type) {
+        VirtualChannel channel = channels.get(feature);
+        if (channel != null) {
+            return channel;
+        }
+
+        channel = new VirtualChannel(feature, type);
+        channels.put(feature, channel);
+        featureIds.putIfAbsent(feature.getId(), feature);
+
+        /*
+         * Patterns read these lists once every poll. They are replaced,
+         * rather than modified, so they can be given out as-is without
+         * creating a copy each time.
+         */
+        List<IoFeature<?, ?>> typed = new ArrayList<>(typedFeatures.get(type));
+        typed.add(feature);
+        typedFeatures.put(type, Collections.unmodifiableList(typed));
+        this.features = Collections.unmodifiableList(
+                new ArrayList<>(channels.keySet()));
+
+        return channel;
+    }
+    /* @formatter:on */
+
+    /* @formatter:off */
+    private synchronized @NotNull VirtualChannel
+            getChannel(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        VirtualChannel channel = channels.get(feature);
+        if (channel == null) {
+            String msg = "feature with ID \"" + feature.getId() + "\"";
+            msg += " is not attached";
+            throw new IllegalArgumentException(msg);
+        }
+        return channel;
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns the features attached to this input, in the order they were
+     * attached.
+     *
+     * @return the features attached to this input.
+     */
+    public synchronized @NotNull List<IoFeature<?, ?>> getFeatures() {
+        return this.features;
+    }
+
+    /**
+     * Returns the features of a given type attached to this input, in the
+     * order they were attached.
+     *
+     * @param type the feature type.
+     * @return the features of type {@code type} attached to this input.
+     * @throws NullPointerException if {@code type} is {@code null}.
+     */
+    /* @formatter:off */
+    public synchronized @NotNull List<IoFeature<?, ?>>
+            getFeatures(@NotNull VirtualFeatureType type) {
+        Objects.requireNonNull(type, "type cannot be null");
+        return typedFeatures.get(type);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns an attached feature by its ID.
+     *
+     * @param id the feature ID.
+     * @return the attached feature with the ID {@code id}, {@code null}
+     * if no such feature is attached.
+     * @throws NullPointerException if {@code id} is {@code null}.
+     */
+    /* @formatter:off */
+    public synchronized @Nullable IoFeature<?, ?>
+            getFeature(@NotNull String id) {
+        Objects.requireNonNull(id, "id cannot be null");
+        return featureIds.get(id);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns the type of an attached feature.
+     *
+     * @param feature the feature whose type to get.
+     * @return the type of {@code feature}, {@code null} if it is not
+     * attached to this input.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    /* @formatter:off */
+    public synchronized @Nullable VirtualFeatureType
+            getType(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        VirtualChannel channel = channels.get(feature);
+        return channel != null ? channel.type : null;
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns if a feature is pressed.
+     *
+     * @param feature the feature to check.
+     * @return {@code true} if {@code feature} is pressed, {@code false}
+     * otherwise.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input.
+     */
+    public boolean isPressed(@NotNull IoFeature<?, ?> feature) {
+        return this.getChannel(feature).isPressed();
+    }
+
+    /**
+     * Sets if a feature is pressed. The device will see the change the
+     * next time it is polled.
+     *
+     * @param feature the feature to press or release.
+     * @param pressed {@code true} if {@code feature} should be pressed,
+     *                {@code false} if it should be released.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input, or is not of type
+     *                                  {@link VirtualFeatureType#BUTTON}.
+     */
+    public void setPressed(@NotNull IoFeature<?, ?> feature,
+                           boolean pressed) {
+        VirtualChannel channel = this.getChannel(feature);
+        if (channel.type != VirtualFeatureType.BUTTON) {
+            String msg = "feature with ID \"" + feature.getId() + "\"";
+            msg += " is not a button";
+            throw new IllegalArgumentException(msg);
+        }
+        channel.setPressed(pressed);
+    }
+
+    /**
+     * Returns the value of a feature.
+     *
+     * @param feature the feature whose value to get.
+     * @param dest    the vector to store the value in.
+     * @return {@code dest}, for chaining.
+     * @throws NullPointerException     if {@code feature} or {@code dest}
+     *                                  are {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input.
+     * @see VirtualFeatureType
+     */
+    public @NotNull Vector3f getValue(@NotNull IoFeature<?, ?> feature,
+                                      @NotNull Vector3f dest) {
+        Objects.requireNonNull(dest, "dest cannot be null");
+        return this.getChannel(feature).get(dest);
+    }
+
+    /**
+     * Returns the value of a feature.
+     * <p>
+     * <b>Shorthand for:</b> {@code getValue(feature, new Vector3f())}
+     *
+     * @param feature the feature whose value to get.
+     * @return the value of {@code feature}.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input.
+     * @see VirtualFeatureType
+     */
+    public @NotNull Vector3f getValue(@NotNull IoFeature<?, ?> feature) {
+        return this.getValue(feature, new Vector3f());
+    }
+
+    /**
+     * Sets the value of a feature. The device will see the change the next
+     * time it is polled. What each component means depends on the type of
+     * the feature.
+     *
+     * @param feature the feature whose value to set.
+     * @param x       the X component.
+     * @param y       the Y component.
+     * @param z       the Z component.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input; if {@code feature}
+     *                                  is of type
+     *                                  {@link VirtualFeatureType#BUTTON}
+     *                                  or {@link VirtualFeatureType#MOTOR}.
+     * @see VirtualFeatureType
+     */
+    public void setValue(@NotNull IoFeature<?, ?> feature,
+                         float x, float y, float z) {
+        VirtualChannel channel = this.getChannel(feature);
+        if (channel.type == VirtualFeatureType.BUTTON) {
+            String msg = "feature with ID \"" + feature.getId() + "\"";
+            msg += " is a button";
+            throw new IllegalArgumentException(msg);
+        } else if (channel.type == VirtualFeatureType.MOTOR) {
+            String msg = "feature with ID \"" + feature.getId() + "\"";
+            msg += " is an output";
+            throw new IllegalArgumentException(msg);
+        }
+        channel.set(x, y, z);
+    }
+
+    /**
+     * Sets the value of a feature.
+     * <p>
+     * <b>Shorthand for:</b> {@code setValue(feature, x, y, 0.0F)}
+     *
+     * @param feature the feature whose value to set.
+     * @param x       the X component.
+     * @param y       the Y component.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input; if {@code feature}
+     *                                  is of type
+     *                                  {@link VirtualFeatureType#BUTTON}
+     *                                  or {@link VirtualFeatureType#MOTOR}.
+     */
+    public void setValue(@NotNull IoFeature<?, ?> feature,
+                         float x, float y) {
+        this.setValue(feature, x, y, 0.0F);
+    }
+
+    /**
+     * Sets the value of a feature.
+     * <p>
+     * <b>Shorthand for:</b> {@code setValue(feature, x, 0.0F, 0.0F)}
+     *
+     * @param feature the feature whose value to set.
+     * @param x       the X component.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code feature} is not attached
+     *                                  to this input; if {@code feature}
+     *                                  is of type
+     *                                  {@link VirtualFeatureType#BUTTON}
+     *                                  or {@link VirtualFeatureType#MOTOR}.
+     */
+    public void setValue(@NotNull IoFeature<?, ?> feature, float x) {
+        this.setValue(feature, x, 0.0F, 0.0F);
+    }
+
+    /**
+     * Returns if devices using this input are connected.
+     *
+     * @return {@code true} if devices using this input are connected,
+     * {@code false} otherwise.
+     */
+    public synchronized boolean isConnected() {
+        return this.connected;
+    }
+
+    /**
+     * Sets if devices using this input are connected. This can be used to
+     * simulate a device being unplugged, and plugged back in.
+     *
+     * @param connected {@code true} if devices using this input should be
+     *                  connected, {@code false} otherwise.
+     * @see VirtualSeeker#setChurn(double)
+     */
+    public synchronized void setConnected(boolean connected) {
+        this.connected = connected;
+    }
+
+    /**
+     * Returns the pattern which drives this input.
+     *
+     * @return the pattern which drives this input, {@code null} if the
+     * input is only driven by the user.
+     */
+    public synchronized @Nullable VirtualPattern getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Sets the pattern which drives this input. The pattern is applied
+     * once every poll, before the features of the device are updated.
+     *
+     * @param pattern the pattern to drive this input. A value of
+     *                {@code null} is permitted, and will result in the
+     *                input only being driven by the user.
+     * @see VirtualPatterns
+     */
+    public synchronized void setPattern(@Nullable VirtualPattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Returns how many times this input has been stepped. This is the
+     * amount of polls made to devices using this input, and is what a
+     * {@link VirtualPattern} uses to keep time.
+     *
+     * @return how many times this input has been stepped.
+     */
+    public synchronized long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * Applies the current pattern, then advances the tick of this input.
+     * This is called by {@link VirtualAdapter} each time its device is
+     * polled.
+     */
+    void step() {
+        VirtualPattern pattern;
+        synchronized (this) {
+            pattern = this.pattern;
+        }
+
+        /*
+         * The pattern is applied without holding the lock of this input.
+         * Otherwise, a pattern which waits on another thread that is using
+         * this input (e.g., to replay input as it arrives) would deadlock.
+         */
+        if (pattern != null) {
+            pattern.apply(this);
+        }
+
+        synchronized (this) {
+            this.tick++;
+        }
+    }
+
+    /* @formatter:off */
+    @Override
+    public synchronized String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("features=" + features.size())
+                .add("pattern=" + pattern)
+                .add("connected=" + connected)
+                .add("tick=" + tick)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
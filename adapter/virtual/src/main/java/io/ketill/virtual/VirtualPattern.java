@@ -0,0 +1,48 @@
+package io.ketill.virtual;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Generates the input of a virtual device. A pattern is applied to its
+ * {@link VirtualInput} once every poll, before the features of the device
+ * are updated. This allows a device to be driven without a user needing
+ * to set its state by hand (e.g., to soak-test the input pipeline.)
+ * <p>
+ * <b>Note:</b> A pattern should keep time using
+ * {@link VirtualInput#getTick()}, rather than counting how many times it
+ * has been applied. This way, the same pattern can drive the input of
+ * more than one device.
+ *
+ * @see VirtualInput#setPattern(VirtualPattern)
+ * @see VirtualPatterns
+ * @see VirtualReplay
+ */
+@FunctionalInterface
+public interface VirtualPattern {
+
+    /**
+     * Applies this pattern to a virtual input.
+     *
+     * @param input the input to apply this pattern to.
+     */
+    void apply(@NotNull VirtualInput input);
+
+    /**
+     * Returns a pattern which applies this pattern, followed by another.
+     *
+     * @param next the pattern to apply after this one.
+     * @return a pattern which applies this pattern, followed by
+     * {@code next}.
+     * @throws NullPointerException if {@code next} is {@code null}.
+     */
+    default @NotNull VirtualPattern andThen(@NotNull VirtualPattern next) {
+        Objects.requireNonNull(next, "next cannot be null");
+        return input -> {
+            this.apply(input);
+            next.apply(input);
+        };
+    }
+
+}
@@ -0,0 +1,132 @@
+package io.ketill.virtual;
+
+import io.ketill.IoFeature;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+import java.util.Random;
+
+/**
+ * Provides patterns which generate input for a {@link VirtualInput}.
+ * <p>
+ * Each pattern is driven by a {@link Random} created from the given seed.
+ * As such, the same seed generates the same input on each run, provided
+ * the pattern drives the input of only one device.
+ *
+ * @see VirtualReplay
+ */
+public final class VirtualPatterns {
+
+    private VirtualPatterns() {
+        /* prevent instantiation */
+    }
+
+    private static float nextStep(@NotNull Random random, float step) {
+        return (random.nextFloat() * 2.0F - 1.0F) * step;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * Returns a pattern which mashes buttons. Each poll, every button is
+     * toggled at random.
+     *
+     * @param seed   the seed of the pattern's random.
+     * @param chance the chance of a button being toggled each poll, from
+     *               {@code 0.0} to {@code 1.0}. A value of {@code 1.0}
+     *               toggles every button on each poll.
+     * @return a pattern which mashes buttons.
+     * @throws IllegalArgumentException if {@code chance} is not within
+     *                                  the range of {@code 0.0} to
+     *                                  {@code 1.0}.
+     * @see VirtualFeatureType#BUTTON
+     */
+    public static @NotNull VirtualPattern mash(long seed, double chance) {
+        if (!(chance >= 0.0 && chance <= 1.0)) {
+            String msg = "chance must be within 0.0 to 1.0";
+            throw new IllegalArgumentException(msg);
+        }
+        Random random = new Random(seed);
+        return input -> {
+            for (IoFeature<?, ?> feature :
+                    input.getFeatures(VirtualFeatureType.BUTTON)) {
+                if (random.nextDouble() < chance) {
+                    boolean pressed = input.isPressed(feature);
+                    input.setPressed(feature, !pressed);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a pattern which moves analog sticks and triggers in a random
+     * walk. Each poll, every axis moves by a random amount up to
+     * {@code step} in either direction. Sticks are kept within the range
+     * of {@code -1.0F} to {@code 1.0F}, and triggers within the range of
+     * {@code 0.0F} to {@code 1.0F}.
+     *
+     * @param seed the seed of the pattern's random.
+     * @param step the most an axis can move each poll.
+     * @return a pattern which moves analog sticks and triggers in a
+     * random walk.
+     * @throws IllegalArgumentException if {@code step} is negative.
+     * @see VirtualFeatureType#STICK
+     * @see VirtualFeatureType#TRIGGER
+     */
+    public static @NotNull VirtualPattern randomWalk(long seed, float step) {
+        if (!(step >= 0.0F)) {
+            throw new IllegalArgumentException("step must be >= 0");
+        }
+        Random random = new Random(seed);
+        return input -> {
+            Vector3f value = new Vector3f();
+
+            for (IoFeature<?, ?> stick :
+                    input.getFeatures(VirtualFeatureType.STICK)) {
+                input.getValue(stick, value);
+                float x = value.x + nextStep(random, step);
+                float y = value.y + nextStep(random, step);
+                input.setValue(stick, clamp(x, -1.0F, 1.0F),
+                        clamp(y, -1.0F, 1.0F), value.z);
+            }
+
+            for (IoFeature<?, ?> trigger :
+                    input.getFeatures(VirtualFeatureType.TRIGGER)) {
+                input.getValue(trigger, value);
+                float force = value.x + nextStep(random, step);
+                input.setValue(trigger, clamp(force, 0.0F, 1.0F));
+            }
+        };
+    }
+
+    /**
+     * Returns a pattern which moves mouse cursors in a random walk. Each
+     * poll, the cursor moves by a random amount up to {@code step} pixels
+     * along either axis. The position of the cursor is not bounded.
+     *
+     * @param seed the seed of the pattern's random.
+     * @param step the most the cursor can move along each axis each poll,
+     *             in pixels.
+     * @return a pattern which moves mouse cursors in a random walk.
+     * @throws IllegalArgumentException if {@code step} is negative.
+     * @see VirtualFeatureType#CURSOR
+     */
+    public static @NotNull VirtualPattern cursorWalk(long seed, float step) {
+        if (!(step >= 0.0F)) {
+            throw new IllegalArgumentException("step must be >= 0");
+        }
+        Random random = new Random(seed);
+        return input -> {
+            Vector3f pos = new Vector3f();
+            for (IoFeature<?, ?> cursor :
+                    input.getFeatures(VirtualFeatureType.CURSOR)) {
+                input.getValue(cursor, pos);
+                input.setValue(cursor, pos.x + nextStep(random, step),
+                        pos.y + nextStep(random, step));
+            }
+        };
+    }
+
+}
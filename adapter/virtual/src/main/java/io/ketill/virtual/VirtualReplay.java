@@ -0,0 +1,308 @@
+package io.ketill.virtual;
+
+import io.ketill.IoFeature;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A pattern which replays previously recorded input. A replay is made up
+ * of frames, each of which sets the state of a single feature at a given
+ * tick. Features are referred to by their ID. As such, a replay can be
+ * applied to any device which has features with the same IDs. Frames for
+ * features which are not attached to the input are ignored.
+ * <p>
+ * Replays can be read from and written to a plain text format. Each line
+ * is a single frame, made up of the tick, the feature ID, and one to three
+ * values. Blank lines, and everything following a {@code #}, are ignored.
+ * For example:
+ * <pre>
+ * # tick feature value(s)
+ * 0      a       1
+ * 8      a       0
+ * 8      ls      0.5 -0.25
+ * 16     lt      1.0
+ * </pre>
+ * For a feature of type {@link VirtualFeatureType#BUTTON}, a non-zero
+ * value presses it, and a value of zero releases it. For all other types,
+ * the values are the X, Y, and Z components (in that order.) Components
+ * which are left out are set to zero. Features of type
+ * {@link VirtualFeatureType#MOTOR} cannot be replayed.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see #read(Reader)
+ * @see #write(Writer)
+ */
+public final class VirtualReplay implements VirtualPattern {
+
+    private static final class Frame {
+
+        private final long tick;
+        private final @NotNull String featureId;
+        private final float @NotNull [] values;
+
+        private Frame(long tick, @NotNull String featureId,
+                      float @NotNull [] values) {
+            this.tick = tick;
+            this.featureId = featureId;
+            this.values = values;
+        }
+
+        private float get(int index) {
+            return index < values.length ? values[index] : 0.0F;
+        }
+
+    }
+
+    /**
+     * Reads a replay from its plain text format.
+     * <p>
+     * <b>Note:</b> The reader is not closed by this method.
+     *
+     * @param reader the reader to read the replay from.
+     * @return the replay which was read.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     * @throws IOException          if an I/O error occurs; if a line of
+     *                              the replay is not a valid frame.
+     */
+    public static @NotNull VirtualReplay read(@NotNull Reader reader)
+            throws IOException {
+        Objects.requireNonNull(reader, "reader cannot be null");
+
+        VirtualReplay replay = new VirtualReplay();
+        BufferedReader buffered = new BufferedReader(reader);
+
+        String line;
+        int lineNumber = 0;
+        while ((line = buffered.readLine()) != null) {
+            lineNumber++;
+
+            int commentIndex = line.indexOf('#');
+            if (commentIndex >= 0) {
+                line = line.substring(0, commentIndex);
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = line.split("\\s+");
+            if (tokens.length < 3 || tokens.length > 5) {
+                String msg = "line " + lineNumber + ": expected tick,";
+                msg += " feature ID, and one to three values";
+                throw new IOException(msg);
+            }
+
+            try {
+                long tick = Long.parseLong(tokens[0]);
+                float[] values = new float[tokens.length - 2];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Float.parseFloat(tokens[i + 2]);
+                }
+                replay.add(tick, tokens[1], values);
+            } catch (IllegalArgumentException cause) {
+                /*
+                 * NumberFormatException extends IllegalArgumentException.
+                 * As such, this also catches a tick or value which could
+                 * not be parsed, along with an invalid frame.
+                 */
+                String msg = "line " + lineNumber + ": " + cause.getMessage();
+                throw new IOException(msg, cause);
+            }
+        }
+
+        return replay;
+    }
+
+    private final @NotNull List<Frame> frames;
+    private boolean looping;
+
+    /**
+     * Constructs a new, empty {@code VirtualReplay}.
+     *
+     * @see #add(long, String, float...)
+     */
+    public VirtualReplay() {
+        this.frames = new ArrayList<>();
+    }
+
+    /**
+     * Adds a frame to this replay. Frames are kept in order of their tick.
+     * Frames with the same tick are applied in the order they were added.
+     *
+     * @param tick      the tick to apply the frame at.
+     * @param featureId the ID of the feature to set the state of.
+     * @param values    the value(s) to give the feature.
+     * @return this replay.
+     * @throws NullPointerException     if {@code featureId} or
+     *                                  {@code values} are {@code null}.
+     * @throws IllegalArgumentException if {@code tick} is negative; if
+     *                                  {@code featureId} is empty or
+     *                                  contains whitespace; if there are
+     *                                  not one to three {@code values}.
+     */
+    public synchronized @NotNull VirtualReplay add(long tick,
+                                                   @NotNull String featureId,
+                                                   float @NotNull ... values) {
+        Objects.requireNonNull(featureId, "featureId cannot be null");
+        Objects.requireNonNull(values, "values cannot be null");
+        if (tick < 0) {
+            throw new IllegalArgumentException("tick must be >= 0");
+        } else if (featureId.isEmpty() || featureId.matches(".*\\s.*")) {
+            String msg = "featureId cannot be empty or contain whitespace";
+            throw new IllegalArgumentException(msg);
+        } else if (values.length < 1 || values.length > 3) {
+            String msg = "there must be one to three values";
+            throw new IllegalArgumentException(msg);
+        }
+
+        /*
+         * Frames are usually added in order. Searching from the end keeps
+         * this quick, and ensures frames with the same tick are kept in
+         * the order they were added.
+         */
+        int index = frames.size();
+        while (index > 0 && frames.get(index - 1).tick > tick) {
+            index--;
+        }
+        frames.add(index, new Frame(tick, featureId, values.clone()));
+
+        return this;
+    }
+
+    /**
+     * Returns how many frames are in this replay.
+     *
+     * @return how many frames are in this replay.
+     */
+    public synchronized int getFrameCount() {
+        return frames.size();
+    }
+
+    /**
+     * Returns the length of this replay.
+     *
+     * @return the length of this replay in ticks, this being one past the
+     * tick of the last frame. If this replay has no frames, this will be
+     * zero.
+     */
+    public synchronized long getLength() {
+        if (frames.isEmpty()) {
+            return 0L;
+        }
+        return frames.get(frames.size() - 1).tick + 1;
+    }
+
+    /**
+     * Returns if this replay loops.
+     *
+     * @return {@code true} if this replay loops, {@code false} otherwise.
+     */
+    public synchronized boolean isLooping() {
+        return this.looping;
+    }
+
+    /**
+     * Sets if this replay loops. When looping, the replay starts over once
+     * the tick of the input reaches its length. Otherwise, the replay stops
+     * once its last frame has been applied.
+     *
+     * @param looping {@code true} if this replay should loop,
+     *                {@code false} otherwise.
+     * @return this replay.
+     * @see #getLength()
+     */
+    public synchronized @NotNull VirtualReplay setLooping(boolean looping) {
+        this.looping = looping;
+        return this;
+    }
+
+    private int findFirstFrame(long tick) {
+        int low = 0;
+        int high = frames.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (frames.get(mid).tick < tick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public synchronized void apply(@NotNull VirtualInput input) {
+        long tick = input.getTick();
+        if (looping && !frames.isEmpty()) {
+            tick %= this.getLength();
+        }
+
+        for (int i = this.findFirstFrame(tick); i < frames.size(); i++) {
+            Frame frame = frames.get(i);
+            if (frame.tick != tick) {
+                break;
+            }
+
+            IoFeature<?, ?> feature = input.getFeature(frame.featureId);
+            if (feature == null) {
+                continue; /* not present on this device */
+            }
+
+            VirtualFeatureType type = input.getType(feature);
+            if (type == VirtualFeatureType.BUTTON) {
+                input.setPressed(feature, frame.get(0) != 0.0F);
+            } else if (type != VirtualFeatureType.MOTOR) {
+                input.setValue(feature, frame.get(0), frame.get(1),
+                        frame.get(2));
+            }
+        }
+    }
+
+    /**
+     * Writes this replay in its plain text format.
+     * <p>
+     * <b>Note:</b> The writer is flushed, but not closed, by this method.
+     *
+     * @param writer the writer to write the replay to.
+     * @throws NullPointerException if {@code writer} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see #read(Reader)
+     */
+    public synchronized void write(@NotNull Writer writer)
+            throws IOException {
+        Objects.requireNonNull(writer, "writer cannot be null");
+
+        String lineSeparator = System.lineSeparator();
+        writer.write("# tick feature value(s)" + lineSeparator);
+        for (Frame frame : frames) {
+            StringBuilder line = new StringBuilder();
+            line.append(frame.tick).append(' ').append(frame.featureId);
+            for (float value : frame.values) {
+                line.append(' ').append(value);
+            }
+            writer.write(line.append(lineSeparator).toString());
+        }
+        writer.flush();
+    }
+
+    /* @formatter:off */
+    @Override
+    public synchronized String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("frames=" + frames.size())
+                .add("length=" + this.getLength())
+                .add("looping=" + looping)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
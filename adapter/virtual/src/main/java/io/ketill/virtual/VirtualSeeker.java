@@ -0,0 +1,215 @@
+package io.ketill.virtual;
+
+import io.ketill.AdapterSupplier;
+import io.ketill.IoDevice;
+import io.ketill.IoDeviceSeeker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A seeker for virtual devices. The seeker has a fixed amount of slots,
+ * each with its own {@link VirtualInput}. A device is discovered when the
+ * input of its slot is connected, and forgotten when it is disconnected.
+ * <p>
+ * To simulate devices being plugged in and unplugged, a slot can be
+ * connected or disconnected by hand via {@link #getInput(int)}. Slots can
+ * also be made to do so at random with {@link #setChurn(double)}. This
+ * allows for discovery and polling to be soak-tested at scale.
+ * <p>
+ * <b>Note:</b> Like a real device, each time a slot is connected, a new
+ * device is created for it. The input of the slot is kept, so its state
+ * (and pattern) carries over to the new device.
+ * <p>
+ * <b>Thread safety:</b> This seeker is <i>thread-safe.</i>
+ *
+ * @param <I> the device type.
+ * @see VirtualDevices
+ */
+public class VirtualSeeker<I extends IoDevice> extends IoDeviceSeeker<I> {
+
+    private final @NotNull Function<AdapterSupplier<I>, I> constructor;
+    private final @NotNull VirtualInput @NotNull [] inputs;
+    private final @NotNull AtomicReferenceArray<I> devices;
+    private final @NotNull Random random;
+    private volatile double churn;
+
+    /**
+     * Constructs a new {@code VirtualSeeker}. The input of each slot is
+     * connected until it is disconnected (either by hand, or by churn.)
+     *
+     * @param constructor the constructor of each device (e.g.,
+     *                    {@code XboxController::new}.)
+     * @param slotCount   how many slots this seeker has.
+     * @param seed        the seed of the random used for churn.
+     * @throws NullPointerException     if {@code constructor} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if {@code slotCount} is negative.
+     */
+    public VirtualSeeker(@NotNull Function<AdapterSupplier<I>, I> constructor,
+                         int slotCount, long seed) {
+        this.constructor = Objects.requireNonNull(constructor,
+                "constructor cannot be null");
+        if (slotCount < 0) {
+            throw new IllegalArgumentException("slotCount must be >= 0");
+        }
+
+        this.inputs = new VirtualInput[slotCount];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = new VirtualInput();
+        }
+        this.devices = new AtomicReferenceArray<>(slotCount);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Constructs a new {@code VirtualSeeker} with a random seed.
+     *
+     * @param constructor the constructor of each device (e.g.,
+     *                    {@code XboxController::new}.)
+     * @param slotCount   how many slots this seeker has.
+     * @throws NullPointerException     if {@code constructor} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if {@code slotCount} is negative.
+     */
+    public VirtualSeeker(@NotNull Function<AdapterSupplier<I>, I> constructor,
+                         int slotCount) {
+        this(constructor, slotCount, System.nanoTime());
+    }
+
+    /**
+     * Returns how many slots this seeker has.
+     *
+     * @return how many slots this seeker has.
+     */
+    public final int getSlotCount() {
+        return inputs.length;
+    }
+
+    private void requireSlot(int slot) {
+        if (slot < 0 || slot >= inputs.length) {
+            String msg = "Slot: " + slot + ", Slots: " + inputs.length;
+            throw new IndexOutOfBoundsException(msg);
+        }
+    }
+
+    /**
+     * Returns the input of a slot. This can be used to set the state of
+     * the device in the slot, or to connect and disconnect it.
+     *
+     * @param slot the slot index.
+     * @return the input of {@code slot}.
+     * @throws IndexOutOfBoundsException if {@code slot} is negative, or
+     *                                   not less than
+     *                                   {@link #getSlotCount()}.
+     */
+    public final @NotNull VirtualInput getInput(int slot) {
+        this.requireSlot(slot);
+        return inputs[slot];
+    }
+
+    /**
+     * Returns the device currently discovered in a slot.
+     *
+     * @param slot the slot index.
+     * @return the device discovered in {@code slot}, {@code null} if no
+     * device is currently discovered in it.
+     * @throws IndexOutOfBoundsException if {@code slot} is negative, or
+     *                                   not less than
+     *                                   {@link #getSlotCount()}.
+     */
+    public final @Nullable I getDevice(int slot) {
+        this.requireSlot(slot);
+        return devices.get(slot);
+    }
+
+    /**
+     * Sets the pattern which drives the input of every slot.
+     * <p>
+     * <b>Note:</b> The same pattern is given to each slot. As such, any
+     * random used by the pattern is shared between them.
+     *
+     * @param pattern the pattern to drive each slot. A value of
+     *                {@code null} is permitted, and will result in each
+     *                slot only being driven by the user.
+     * @see VirtualInput#setPattern(VirtualPattern)
+     */
+    public final void setPattern(@Nullable VirtualPattern pattern) {
+        for (VirtualInput input : inputs) {
+            input.setPattern(pattern);
+        }
+    }
+
+    /**
+     * Returns the chance of a slot changing connection each seek.
+     *
+     * @return the chance of a slot changing connection each seek.
+     */
+    public final double getChurn() {
+        return this.churn;
+    }
+
+    /**
+     * Sets the chance of a slot changing connection each seek. When a slot
+     * changes connection, it is disconnected if connected, and connected
+     * if disconnected. This simulates devices being plugged in and out.
+     *
+     * @param chance the chance of a slot changing connection each seek,
+     *               from {@code 0.0} to {@code 1.0}. A value of
+     *               {@code 0.0} disables churn.
+     * @throws IllegalArgumentException if {@code chance} is not within
+     *                                  the range of {@code 0.0} to
+     *                                  {@code 1.0}.
+     */
+    public final void setChurn(double chance) {
+        if (!(chance >= 0.0 && chance <= 1.0)) {
+            String msg = "chance must be within 0.0 to 1.0";
+            throw new IllegalArgumentException(msg);
+        }
+        this.churn = chance;
+    }
+
+    @Override
+    protected void seekImpl() {
+        double churn = this.churn;
+        for (int i = 0; i < inputs.length; i++) {
+            VirtualInput input = inputs[i];
+            if (churn > 0.0 && random.nextDouble() < churn) {
+                input.setConnected(!input.isConnected());
+            }
+
+            /*
+             * Unlike most devices, the connection of a virtual device can
+             * be checked without polling it. As such, a disconnected device
+             * is forgotten on the next seek, even if it was never polled.
+             */
+            I device = devices.get(i);
+            if (device != null) {
+                if (!device.isConnected()) {
+                    this.forgetDevice(device);
+                    devices.set(i, null);
+                }
+                continue;
+            }
+
+            if (input.isConnected()) {
+                device = VirtualDevices.create(constructor, input);
+                devices.set(i, device);
+                this.discoverDevice(device);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        for (int i = 0; i < devices.length(); i++) {
+            devices.set(i, null);
+        }
+    }
+
+}
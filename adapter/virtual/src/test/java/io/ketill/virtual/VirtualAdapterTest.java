@@ -0,0 +1,176 @@
+package io.ketill.virtual;
+
+import io.ketill.nx.NxProController;
+import io.ketill.pc.Keyboard;
+import io.ketill.pc.Mouse;
+import io.ketill.psx.Ps4Controller;
+import io.ketill.xbox.XboxController;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualAdapterTest {
+
+    private VirtualInput input;
+    private XboxController controller;
+
+    @BeforeEach
+    void createAdapter() {
+        this.input = new VirtualInput();
+        this.controller = new XboxController(
+                (c, r) -> new VirtualAdapter<>(c, r, input));
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new XboxController((c, r) ->
+                        new VirtualAdapter<>(c, r, null)));
+    }
+
+    @Test
+    void ensureAllFeaturesSupported() {
+        assertAllFeaturesSupported(controller);
+
+        /*
+         * Outputs other than rumble motors cannot be driven by a virtual
+         * input. As such, they are the only features which should not be
+         * supported for these devices.
+         */
+        Ps4Controller ps4 = VirtualDevices.ps4(new VirtualInput());
+        assertAllFeaturesSupported(ps4, Ps4Controller.FEATURE_LIGHTBAR);
+
+        NxProController nxPro = VirtualDevices.nxPro(new VirtualInput());
+        assertAllFeaturesSupported(nxPro, NxProController.FEATURE_LED);
+
+        assertAllFeaturesSupported(VirtualDevices.keyboard(input));
+        assertAllFeaturesSupported(VirtualDevices.mouse(input));
+    }
+
+    @Test
+    void testGetInput() {
+        AtomicReference<VirtualAdapter<XboxController>> adapter =
+                new AtomicReference<>();
+        new XboxController((c, r) -> {
+            adapter.set(new VirtualAdapter<>(c, r, input));
+            return adapter.get();
+        });
+        assertSame(input, adapter.get().getInput());
+    }
+
+    @Test
+    void testUpdateButton() {
+        input.setPressed(XboxController.BUTTON_A, true);
+        controller.poll(); /* update button states */
+        assertTrue(controller.a.isPressed());
+        assertFalse(controller.b.isPressed());
+    }
+
+    @Test
+    void testUpdateStick() {
+        input.setValue(XboxController.STICK_LS, 0.25F, -0.5F, -1.0F);
+        controller.poll(); /* update stick positions */
+        assertEquals(0.25F, controller.ls.getX());
+        assertEquals(-0.5F, controller.ls.getY());
+        assertEquals(-1.0F, controller.ls.getZ());
+    }
+
+    @Test
+    void testUpdateTrigger() {
+        input.setValue(XboxController.TRIGGER_LT, 0.75F);
+        controller.poll(); /* update trigger forces */
+        assertEquals(0.75F, controller.lt.getForce());
+    }
+
+    @Test
+    void testUpdateBattery() {
+        input.setValue(XboxController.INTERNAL_BATTERY, 0.5F);
+        controller.poll(); /* update battery level */
+        assertEquals(0.5F, controller.battery.getLevel());
+    }
+
+    @Test
+    void testUpdateSensor() {
+        NxProController nxPro = VirtualDevices.nxPro(input);
+        input.setValue(NxProController.SENSOR_GYROSCOPE, 1.0F, 2.0F, 3.0F);
+        nxPro.poll(); /* update sensor values */
+        assertEquals(new Vector3f(1.0F, 2.0F, 3.0F),
+                nxPro.gyroscope.getValue());
+    }
+
+    @Test
+    void testUpdateMotor() {
+        /*
+         * Rumble motors are outputs. The strength requested by the user
+         * should be written to the input when the device is polled, so it
+         * can be checked by the test driving the device.
+         */
+        controller.rumbleCoarse.setStrength(0.5F);
+        controller.poll(); /* update motor strengths */
+        Vector3f strength = input.getValue(XboxController.MOTOR_COARSE);
+        assertEquals(0.5F, strength.x);
+    }
+
+    @Test
+    void testUpdateKey() {
+        Keyboard keyboard = VirtualDevices.keyboard(input);
+        input.setPressed(Keyboard.KEY_A, true);
+        keyboard.poll(); /* update key states */
+        assertTrue(keyboard.a.isPressed());
+    }
+
+    @Test
+    void testUpdateCursor() {
+        Mouse mouse = VirtualDevices.mouse(input);
+        assertTrue(mouse.cursor.canSetVisible());
+        assertTrue(mouse.cursor.canSetPosition());
+        assertTrue(mouse.cursor.canSetIcon());
+
+        input.setPressed(Mouse.BUTTON_M1, true);
+        input.setValue(Mouse.FEATURE_CURSOR, 12.0F, 34.0F);
+        mouse.poll(); /* update mouse state */
+        assertTrue(mouse.m1.isPressed());
+        assertEquals(new Vector2f(12.0F, 34.0F), mouse.cursor.getPosition());
+
+        /*
+         * When the cursor is moved via the mouse, the input must be moved
+         * with it. Otherwise, the next poll would return the cursor to the
+         * position of the input.
+         */
+        mouse.cursor.setPosition(new Vector2f(56.0F, 78.0F));
+        mouse.poll(); /* move cursor */
+        mouse.poll(); /* cursor should stay */
+        assertEquals(new Vector2f(56.0F, 78.0F), mouse.cursor.getPosition());
+        Vector3f pos = input.getValue(Mouse.FEATURE_CURSOR);
+        assertEquals(56.0F, pos.x);
+        assertEquals(78.0F, pos.y);
+    }
+
+    @Test
+    void testPollDevice() {
+        VirtualPattern pattern = VirtualPatterns.mash(0L, 1.0);
+        input.setPattern(pattern);
+
+        /*
+         * The pattern must be applied before the features are updated.
+         * Otherwise, the device would always be one poll behind.
+         */
+        controller.poll();
+        assertTrue(controller.a.isPressed());
+        assertEquals(1L, input.getTick());
+    }
+
+    @Test
+    void testIsDeviceConnected() {
+        assertTrue(controller.isConnected());
+        input.setConnected(false);
+        assertFalse(controller.isConnected());
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.ketill.virtual;
+
+import io.ketill.IoDevice;
+import io.ketill.xbox.XboxController;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualDevicesTest {
+
+    @Test
+    void testCreate() {
+        VirtualInput input = new VirtualInput();
+
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> VirtualDevices.create(null, input));
+        assertThrows(NullPointerException.class,
+                () -> VirtualDevices.create(XboxController::new, null));
+        assertThrows(NullPointerException.class,
+                () -> VirtualDevices.create(supplier -> null, input));
+        /* @formatter:on */
+
+        /*
+         * The created device must be driven by the given input. If it is
+         * not, pressing a button here would have no effect on it.
+         */
+        XboxController controller =
+                VirtualDevices.create(XboxController::new, input);
+        input.setPressed(XboxController.BUTTON_A, true);
+        controller.poll(); /* update button states */
+        assertTrue(controller.a.isPressed());
+    }
+
+    @Test
+    void testShorthands() {
+        List<Function<VirtualInput, IoDevice>> factories = Arrays.asList(
+                VirtualDevices::keyboard, VirtualDevices::mouse,
+                VirtualDevices::xbox, VirtualDevices::ps3,
+                VirtualDevices::ps4, VirtualDevices::ps5,
+                VirtualDevices::nxPro, VirtualDevices::nxLeftJoyCon,
+                VirtualDevices::nxRightJoyCon, VirtualDevices::gc);
+
+        for (Function<VirtualInput, IoDevice> factory : factories) {
+            assertThrows(NullPointerException.class,
+                    () -> factory.apply(null));
+
+            VirtualInput input = new VirtualInput();
+            IoDevice device = factory.apply(input);
+            assertFalse(input.getFeatures().isEmpty());
+
+            input.setConnected(false);
+            device.poll(); /* should not throw */
+            assertFalse(device.isConnected());
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.ketill.virtual;
+
+import io.ketill.PlainIoFeature;
+import io.ketill.controller.AnalogStick;
+import io.ketill.controller.ControllerButton;
+import io.ketill.controller.RumbleMotor;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualInputTest {
+
+    private ControllerButton button;
+    private AnalogStick stick;
+    private RumbleMotor motor;
+    private VirtualInput input;
+
+    @BeforeEach
+    void createInput() {
+        this.button = new ControllerButton("button");
+        this.stick = new AnalogStick("stick");
+        this.motor = new RumbleMotor("motor");
+
+        this.input = new VirtualInput();
+        input.attach(button, VirtualFeatureType.BUTTON);
+        input.attach(stick, VirtualFeatureType.STICK);
+        input.attach(motor, VirtualFeatureType.MOTOR);
+    }
+
+    @Test
+    void testAttach() {
+        /*
+         * When a feature is attached more than once, it must be given the
+         * same channel. Otherwise, a device created with an input which
+         * has already been used would not see its current state.
+         */
+        VirtualChannel channel =
+                input.attach(button, VirtualFeatureType.BUTTON);
+        assertSame(channel, input.attach(button, VirtualFeatureType.BUTTON));
+        assertEquals(3, input.getFeatures().size());
+    }
+
+    @Test
+    void testGetFeatures() {
+        assertIterableEquals(Arrays.asList(button, stick, motor),
+                input.getFeatures());
+        assertThrows(UnsupportedOperationException.class,
+                () -> input.getFeatures().clear());
+
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> input.getFeatures(null));
+        assertIterableEquals(Collections.singletonList(stick),
+                input.getFeatures(VirtualFeatureType.STICK));
+        assertTrue(input.getFeatures(VirtualFeatureType.CURSOR).isEmpty());
+        /* @formatter:on */
+    }
+
+    @Test
+    void testGetFeature() {
+        assertThrows(NullPointerException.class,
+                () -> input.getFeature(null));
+        assertSame(button, input.getFeature("button"));
+        assertNull(input.getFeature("missing"));
+    }
+
+    @Test
+    void testGetType() {
+        assertThrows(NullPointerException.class,
+                () -> input.getType(null));
+        assertEquals(VirtualFeatureType.STICK, input.getType(stick));
+
+        PlainIoFeature<Object> missing =
+                new PlainIoFeature<>("missing", Object::new);
+        assertNull(input.getType(missing));
+    }
+
+    @Test
+    void testSetPressed() {
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> input.setPressed(null, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> input.setPressed(new ControllerButton("missing"),
+                        true));
+        assertThrows(IllegalArgumentException.class,
+                () -> input.setPressed(stick, true));
+        /* @formatter:on */
+
+        input.setPressed(button, true);
+        assertTrue(input.isPressed(button));
+        input.setPressed(button, false);
+        assertFalse(input.isPressed(button));
+    }
+
+    @Test
+    void testSetValue() {
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> input.setValue(null, 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> input.setValue(new AnalogStick("missing"), 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> input.setValue(button, 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> input.setValue(motor, 1.0F));
+        assertThrows(NullPointerException.class,
+                () -> input.getValue(stick, null));
+        /* @formatter:on */
+
+        input.setValue(stick, 0.1F, 0.2F, -1.0F);
+        assertEquals(new Vector3f(0.1F, 0.2F, -1.0F), input.getValue(stick));
+
+        input.setValue(stick, 0.3F, 0.4F);
+        assertEquals(new Vector3f(0.3F, 0.4F, 0.0F), input.getValue(stick));
+
+        input.setValue(stick, 0.5F);
+        assertEquals(new Vector3f(0.5F, 0.0F, 0.0F), input.getValue(stick));
+
+        Vector3f dest = new Vector3f();
+        assertSame(dest, input.getValue(stick, dest));
+        assertEquals(0.5F, dest.x);
+    }
+
+    @Test
+    void testSetConnected() {
+        assertTrue(input.isConnected()); /* connected by default */
+        input.setConnected(false);
+        assertFalse(input.isConnected());
+    }
+
+    @Test
+    void testStep() {
+        AtomicLong appliedTick = new AtomicLong(-1L);
+        VirtualPattern pattern = i -> appliedTick.set(i.getTick());
+        input.setPattern(pattern);
+        assertSame(pattern, input.getPattern());
+
+        /*
+         * The pattern must be applied before the tick is advanced. This
+         * way, the first poll of a device is at tick zero, which is where
+         * a replay begins.
+         */
+        input.step();
+        assertEquals(0L, appliedTick.get());
+        assertEquals(1L, input.getTick());
+
+        input.setPattern(null);
+        input.step(); /* should not throw */
+        assertEquals(2L, input.getTick());
+    }
+
+    @Test
+    void verifyToString() {
+        assertImplementsToString(VirtualInput.class, input);
+    }
+
+}
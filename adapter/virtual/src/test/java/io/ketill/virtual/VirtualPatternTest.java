@@ -0,0 +1,26 @@
+package io.ketill.virtual;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualPatternTest {
+
+    @Test
+    void testAndThen() {
+        List<String> applied = new ArrayList<>();
+        VirtualPattern first = input -> applied.add("first");
+        VirtualPattern second = input -> applied.add("second");
+
+        assertThrows(NullPointerException.class, () -> first.andThen(null));
+
+        first.andThen(second).apply(new VirtualInput());
+        assertEquals(2, applied.size());
+        assertEquals("first", applied.get(0));
+        assertEquals("second", applied.get(1));
+    }
+
+}
@@ -0,0 +1,143 @@
+package io.ketill.virtual;
+
+import io.ketill.controller.AnalogStick;
+import io.ketill.controller.AnalogTrigger;
+import io.ketill.controller.ControllerButton;
+import io.ketill.pc.MouseCursor;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualPatternsTest {
+
+    private static final long SEED = 0x4B45544CL;
+
+    private ControllerButton button;
+    private AnalogStick stick;
+    private AnalogTrigger trigger;
+    private MouseCursor cursor;
+    private VirtualInput input;
+
+    @BeforeEach
+    void createInput() {
+        this.button = new ControllerButton("button");
+        this.stick = new AnalogStick("stick");
+        this.trigger = new AnalogTrigger("trigger");
+        this.cursor = new MouseCursor("cursor");
+
+        this.input = new VirtualInput();
+        input.attach(button, VirtualFeatureType.BUTTON);
+        input.attach(stick, VirtualFeatureType.STICK);
+        input.attach(trigger, VirtualFeatureType.TRIGGER);
+        input.attach(cursor, VirtualFeatureType.CURSOR);
+    }
+
+    @Test
+    void testMash() {
+        /* @formatter:off */
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.mash(SEED, -0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.mash(SEED, 1.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.mash(SEED, Double.NaN));
+        /* @formatter:on */
+
+        /*
+         * With a chance of one, every button must be toggled each time the
+         * pattern is applied. With a chance of zero, no button should ever
+         * be toggled.
+         */
+        VirtualPattern always = VirtualPatterns.mash(SEED, 1.0);
+        always.apply(input);
+        assertTrue(input.isPressed(button));
+        always.apply(input);
+        assertFalse(input.isPressed(button));
+
+        VirtualPattern never = VirtualPatterns.mash(SEED, 0.0);
+        for (int i = 0; i < 64; i++) {
+            never.apply(input);
+            assertFalse(input.isPressed(button));
+        }
+    }
+
+    @Test
+    void testRandomWalk() {
+        /* @formatter:off */
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.randomWalk(SEED, -1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.randomWalk(SEED, Float.NaN));
+        /* @formatter:on */
+
+        /*
+         * A large step would quickly take each axis out of its range if
+         * it were not kept within it. As such, it is used here to ensure
+         * the pattern clamps the value of sticks and triggers.
+         */
+        VirtualPattern walk = VirtualPatterns.randomWalk(SEED, 4.0F);
+        Vector3f value = new Vector3f();
+        boolean moved = false;
+        for (int i = 0; i < 64; i++) {
+            walk.apply(input);
+
+            input.getValue(stick, value);
+            assertTrue(value.x >= -1.0F && value.x <= 1.0F);
+            assertTrue(value.y >= -1.0F && value.y <= 1.0F);
+            moved |= value.x != 0.0F || value.y != 0.0F;
+
+            input.getValue(trigger, value);
+            assertTrue(value.x >= 0.0F && value.x <= 1.0F);
+        }
+        assertTrue(moved);
+
+        /* cursors should not be moved by this pattern */
+        assertEquals(new Vector3f(), input.getValue(cursor));
+    }
+
+    @Test
+    void testRandomWalkReproducible() {
+        VirtualInput first = new VirtualInput();
+        VirtualInput second = new VirtualInput();
+        first.attach(stick, VirtualFeatureType.STICK);
+        second.attach(stick, VirtualFeatureType.STICK);
+
+        /*
+         * Two patterns created with the same seed must generate the same
+         * input. Otherwise, a failure found while soak-testing could not
+         * be reproduced.
+         */
+        VirtualPattern firstWalk = VirtualPatterns.randomWalk(SEED, 0.1F);
+        VirtualPattern secondWalk = VirtualPatterns.randomWalk(SEED, 0.1F);
+        for (int i = 0; i < 16; i++) {
+            firstWalk.apply(first);
+            secondWalk.apply(second);
+            assertEquals(first.getValue(stick), second.getValue(stick));
+        }
+    }
+
+    @Test
+    void testCursorWalk() {
+        /* @formatter:off */
+        assertThrows(IllegalArgumentException.class,
+                () -> VirtualPatterns.cursorWalk(SEED, -1.0F));
+        /* @formatter:on */
+
+        VirtualPattern walk = VirtualPatterns.cursorWalk(SEED, 8.0F);
+        Vector3f last = input.getValue(cursor);
+        for (int i = 0; i < 16; i++) {
+            walk.apply(input);
+            Vector3f pos = input.getValue(cursor);
+            assertTrue(Math.abs(pos.x - last.x) <= 8.0F);
+            assertTrue(Math.abs(pos.y - last.y) <= 8.0F);
+            last = pos;
+        }
+        assertNotEquals(new Vector3f(), last);
+
+        /* sticks should not be moved by this pattern */
+        assertEquals(new Vector3f(), input.getValue(stick));
+    }
+
+}
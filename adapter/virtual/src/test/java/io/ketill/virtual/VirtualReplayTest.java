@@ -0,0 +1,190 @@
+package io.ketill.virtual;
+
+import io.ketill.controller.AnalogStick;
+import io.ketill.controller.ControllerButton;
+import io.ketill.controller.RumbleMotor;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualReplayTest {
+
+    private ControllerButton button;
+    private AnalogStick stick;
+    private RumbleMotor motor;
+    private VirtualInput input;
+    private VirtualReplay replay;
+
+    @BeforeEach
+    void createReplay() {
+        this.button = new ControllerButton("button");
+        this.stick = new AnalogStick("stick");
+        this.motor = new RumbleMotor("motor");
+
+        this.input = new VirtualInput();
+        input.attach(button, VirtualFeatureType.BUTTON);
+        input.attach(stick, VirtualFeatureType.STICK);
+        input.attach(motor, VirtualFeatureType.MOTOR);
+
+        this.replay = new VirtualReplay();
+    }
+
+    @Test
+    void testAdd() {
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> replay.add(0L, null, 1.0F));
+        assertThrows(NullPointerException.class,
+                () -> replay.add(0L, "button", (float[]) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> replay.add(-1L, "button", 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> replay.add(0L, "", 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> replay.add(0L, "has space", 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> replay.add(0L, "button"));
+        assertThrows(IllegalArgumentException.class,
+                () -> replay.add(0L, "stick", 1.0F, 2.0F, 3.0F, 4.0F));
+        /* @formatter:on */
+
+        assertEquals(0, replay.getFrameCount());
+        assertEquals(0L, replay.getLength());
+
+        /*
+         * Frames added out of order should still be applied in order of
+         * their tick. The length is always one past the latest frame.
+         */
+        assertSame(replay, replay.add(8L, "button", 0.0F));
+        replay.add(2L, "button", 1.0F);
+        assertEquals(2, replay.getFrameCount());
+        assertEquals(9L, replay.getLength());
+    }
+
+    @Test
+    void testApply() {
+        replay.add(0L, "button", 1.0F);
+        replay.add(0L, "stick", 0.5F, -0.5F);
+        replay.add(1L, "missing", 1.0F); /* should be ignored */
+        replay.add(1L, "motor", 1.0F); /* outputs cannot be replayed */
+        replay.add(2L, "button", 0.0F);
+
+        replay.apply(input); /* tick 0 */
+        assertTrue(input.isPressed(button));
+        assertEquals(new Vector3f(0.5F, -0.5F, 0.0F), input.getValue(stick));
+
+        input.step();
+        replay.apply(input); /* tick 1 */
+        assertTrue(input.isPressed(button));
+        assertEquals(new Vector3f(), input.getValue(motor));
+
+        input.step();
+        replay.apply(input); /* tick 2 */
+        assertFalse(input.isPressed(button));
+    }
+
+    @Test
+    void testSetLooping() {
+        replay.add(0L, "button", 1.0F);
+        replay.add(1L, "button", 0.0F);
+        assertFalse(replay.isLooping());
+        assertSame(replay, replay.setLooping(true));
+        assertTrue(replay.isLooping());
+
+        /*
+         * The replay has a length of two ticks. When looping, the frame
+         * at tick zero should be applied again at tick two, four, etc.
+         */
+        input.setPattern(replay);
+        for (int i = 0; i < 8; i++) {
+            input.step();
+            assertEquals(i % 2 == 0, input.isPressed(button));
+        }
+
+        /* once looping stops, the replay should not start over */
+        replay.setLooping(false);
+        input.setPressed(button, false);
+        input.step(); /* tick 8 */
+        assertFalse(input.isPressed(button));
+    }
+
+    @Test
+    void testRead() throws IOException {
+        assertThrows(NullPointerException.class,
+                () -> VirtualReplay.read(null));
+
+        String text = "# a comment\n"
+                + "\n"
+                + "0 button 1 # pressed\n"
+                + "  4\tstick 0.25 0.5 -1\n";
+        VirtualReplay read = VirtualReplay.read(new StringReader(text));
+        assertEquals(2, read.getFrameCount());
+        assertEquals(5L, read.getLength());
+
+        read.apply(input);
+        assertTrue(input.isPressed(button));
+    }
+
+    @Test
+    void testReadInvalid() {
+        /* @formatter:off */
+        assertThrows(IOException.class, () -> VirtualReplay.read(
+                new StringReader("0 button")));
+        assertThrows(IOException.class, () -> VirtualReplay.read(
+                new StringReader("0 stick 1 2 3 4")));
+        assertThrows(IOException.class, () -> VirtualReplay.read(
+                new StringReader("zero button 1")));
+        assertThrows(IOException.class, () -> VirtualReplay.read(
+                new StringReader("0 button one")));
+        assertThrows(IOException.class, () -> VirtualReplay.read(
+                new StringReader("-1 button 1")));
+        /* @formatter:on */
+
+        /* the line number must be reported for the invalid frame */
+        IOException thrown = assertThrows(IOException.class,
+                () -> VirtualReplay.read(new StringReader("\n\n0 button")));
+        assertTrue(thrown.getMessage().startsWith("line 3"));
+    }
+
+    @Test
+    void testWrite() throws IOException {
+        assertThrows(NullPointerException.class, () -> replay.write(null));
+
+        replay.add(0L, "button", 1.0F);
+        replay.add(3L, "stick", 0.25F, -0.5F, 0.0F);
+
+        /*
+         * A written replay must be readable. Otherwise, a replay recorded
+         * for one soak test could not be used in another.
+         */
+        StringWriter writer = new StringWriter();
+        replay.write(writer);
+        VirtualReplay read =
+                VirtualReplay.read(new StringReader(writer.toString()));
+        assertEquals(replay.getFrameCount(), read.getFrameCount());
+        assertEquals(replay.getLength(), read.getLength());
+
+        VirtualInput other = new VirtualInput();
+        other.attach(stick, VirtualFeatureType.STICK);
+        for (int i = 0; i < 4; i++) {
+            replay.apply(input);
+            read.apply(other);
+            input.step();
+            other.step();
+        }
+        assertEquals(input.getValue(stick), other.getValue(stick));
+    }
+
+    @Test
+    void verifyToString() {
+        assertImplementsToString(VirtualReplay.class, replay);
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.ketill.virtual;
+
+import io.ketill.IoDeviceDiscoverEvent;
+import io.ketill.IoDeviceForgetEvent;
+import io.ketill.xbox.XboxController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualSeekerTest {
+
+    private static final int SLOT_COUNT = 4;
+
+    private VirtualSeeker<XboxController> seeker;
+
+    @BeforeEach
+    void createSeeker() {
+        this.seeker = new VirtualSeeker<>(XboxController::new,
+                SLOT_COUNT, 0L);
+    }
+
+    @Test
+    void testInit() {
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> new VirtualSeeker<XboxController>(null, SLOT_COUNT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VirtualSeeker<>(XboxController::new, -1));
+        /* @formatter:on */
+
+        assertEquals(SLOT_COUNT, seeker.getSlotCount());
+        assertEquals(0, new VirtualSeeker<>(XboxController::new, 0)
+                .seek().getDeviceCount());
+    }
+
+    @Test
+    void testGetInput() {
+        /* @formatter:off */
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> seeker.getInput(-1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> seeker.getInput(SLOT_COUNT));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> seeker.getDevice(SLOT_COUNT));
+        /* @formatter:on */
+
+        assertNotSame(seeker.getInput(0), seeker.getInput(1));
+    }
+
+    @Test
+    void testSeekImpl() {
+        AtomicInteger discovered = new AtomicInteger();
+        seeker.subscribeEvents(IoDeviceDiscoverEvent.class,
+                event -> discovered.incrementAndGet());
+        AtomicInteger forgotten = new AtomicInteger();
+        seeker.subscribeEvents(IoDeviceForgetEvent.class,
+                event -> forgotten.incrementAndGet());
+
+        /*
+         * Each slot is connected by default. As such, the first seek
+         * should discover a device for every slot.
+         */
+        seeker.seek();
+        assertEquals(SLOT_COUNT, discovered.get());
+        XboxController device = seeker.getDevice(0);
+        assertNotNull(device);
+
+        /*
+         * Unlike most seekers, a disconnected virtual device should be
+         * forgotten on the next seek even if it was not polled.
+         */
+        seeker.getInput(0).setConnected(false);
+        seeker.seek();
+        assertEquals(1, forgotten.get());
+        assertNull(seeker.getDevice(0));
+
+        /*
+         * When the slot is connected again, a new device should be made
+         * for it. The input of the slot must carry over to this device.
+         */
+        seeker.getInput(0).setPressed(XboxController.BUTTON_A, true);
+        seeker.getInput(0).setConnected(true);
+        seeker.seek().pollDevices();
+        assertEquals(SLOT_COUNT + 1, discovered.get());
+        XboxController reconnected = seeker.getDevice(0);
+        assertNotNull(reconnected);
+        assertNotSame(device, reconnected);
+        assertTrue(reconnected.a.isPressed());
+    }
+
+    @Test
+    void testSetChurn() {
+        /* @formatter:off */
+        assertThrows(IllegalArgumentException.class,
+                () -> seeker.setChurn(-0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> seeker.setChurn(1.1));
+        /* @formatter:on */
+
+        seeker.setChurn(1.0);
+        assertEquals(1.0, seeker.getChurn());
+
+        /*
+         * With a churn of one, every slot changes connection each seek.
+         * Since each slot starts connected, the first seek disconnects
+         * all of them, and the second connects them again.
+         */
+        seeker.seek();
+        assertEquals(0, seeker.getDeviceCount());
+        seeker.seek();
+        assertEquals(SLOT_COUNT, seeker.getDeviceCount());
+    }
+
+    @Test
+    void testSetPattern() {
+        VirtualPattern pattern = VirtualPatterns.mash(0L, 1.0);
+        seeker.setPattern(pattern);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            assertSame(pattern, seeker.getInput(i).getPattern());
+        }
+
+        seeker.seek().pollDevices();
+        seeker.forEachDevice(device -> assertTrue(device.a.isPressed()));
+    }
+
+    @Test
+    void testClose() {
+        seeker.seek();
+        seeker.close();
+        assertEquals(0, seeker.getDeviceCount());
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            assertNull(seeker.getDevice(i));
+        }
+    }
+
+}
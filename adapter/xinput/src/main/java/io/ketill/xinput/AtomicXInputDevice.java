@@ -1,18 +1,15 @@
 package io.ketill.xinput;
 
-import com.github.strikerx3.jxinput.XInputAxes;
-import com.github.strikerx3.jxinput.XInputButtons;
 import com.github.strikerx3.jxinput.XInputComponents;
 import com.github.strikerx3.jxinput.XInputDevice;
 import com.github.strikerx3.jxinput.XInputDevice14;
 import com.github.strikerx3.jxinput.enums.XInputBatteryDeviceType;
 import com.github.strikerx3.jxinput.enums.XInputBatteryLevel;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A thread-safe wrapper for {@link XInputDevice}.
@@ -21,32 +18,53 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * only the functionality required by {@link XInputXboxAdapter} to
  * do its job is provided. As such, it is kept hidden from users.
  * <p>
- * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> The native
+ * device is only accessed while holding a lock. However, its state is
+ * published as an immutable {@link XInputSnapshot} once per poll. This
+ * allows it to be read without any locking.
  *
  * @see #poll()
+ * @see #getSnapshot()
  */
 final class AtomicXInputDevice {
 
     private static final XInputBatteryDeviceType GAMEPAD =
             XInputBatteryDeviceType.GAMEPAD;
 
-    private final XInputDevice device;
-    private final Lock deviceReadLock;
-    private final Lock deviceWriteLock;
+    /* @formatter:off */
+    private static float
+            toBatteryLevel(@Nullable XInputBatteryLevel batteryLevel) {
+        if (batteryLevel == null) {
+            return XInput.BATTERY_LEVEL_UNKNOWN;
+        }
+
+        switch (batteryLevel) {
+            case EMPTY:
+                return XInput.BATTERY_LEVEL_EMPTY;
+            case LOW:
+                return XInput.BATTERY_LEVEL_LOW;
+            case MEDIUM:
+                return XInput.BATTERY_LEVEL_MEDIUM;
+            case FULL:
+                return XInput.BATTERY_LEVEL_FULL;
+            default:
+                /* this should never happen */
+                String msg = "unexpected battery level " + batteryLevel;
+                throw new XInputException(msg);
+        }
+    }
+    /* @formatter:on */
 
-    private final AtomicBoolean connected;
-    private XInputButtons buttons;
-    private XInputAxes axes;
-    private XInputBatteryLevel batteryLevel;
+    private final XInputDevice device;
+    private final Lock deviceLock;
+    private volatile @NotNull XInputSnapshot snapshot;
+    private float batteryLevel;
 
     AtomicXInputDevice(@NotNull XInputDevice device) {
         this.device = device;
-
-        ReadWriteLock deviceLock = new ReentrantReadWriteLock();
-        this.deviceReadLock = deviceLock.readLock();
-        this.deviceWriteLock = deviceLock.writeLock();
-
-        this.connected = new AtomicBoolean();
+        this.deviceLock = new ReentrantLock();
+        this.snapshot = XInputSnapshot.DISCONNECTED;
+        this.batteryLevel = XInput.BATTERY_LEVEL_UNKNOWN;
     }
 
     boolean supportsGuideButton() {
@@ -57,103 +75,111 @@ final class AtomicXInputDevice {
         return device instanceof XInputDevice14;
     }
 
+    /**
+     * Returns the snapshot taken during the last call to {@link #poll()}.
+     * If the device has not yet been polled, this will be a snapshot of
+     * a disconnected device.
+     *
+     * @return the latest snapshot of the device.
+     */
+    @NotNull XInputSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
     boolean isConnected() {
-        deviceReadLock.lock();
-        try {
-            return connected.get();
-        } finally {
-            deviceReadLock.unlock();
-        }
+        return snapshot.connected;
     }
 
-    boolean isPressed(@NotNull XInputButtonAccessor accessor) {
-        deviceReadLock.lock();
+    /**
+     * Polls the native device and returns if it is currently connected.
+     * Unlike {@link #poll()}, this does not publish a new snapshot. As
+     * such, it is cheap enough to be called whenever an up-to-date
+     * connection status is required.
+     *
+     * @return {@code true} if the device is currently connected,
+     * {@code false} otherwise.
+     */
+    boolean pollConnected() {
+        deviceLock.lock();
         try {
-            if (buttons != null) {
-                return accessor.isPressed(buttons);
-            } else {
-                return false;
-            }
+            device.poll();
+            return device.isConnected();
         } finally {
-            deviceReadLock.unlock();
+            deviceLock.unlock();
         }
     }
 
-    float getAxis(@NotNull XInputAxisAccessor accessor) {
-        deviceReadLock.lock();
+    void setVibration(int rumbleCoarse, int rumbleFine) {
+        deviceLock.lock();
         try {
-            if (axes != null) {
-                return accessor.get(axes);
-            } else {
-                return 0.0F;
-            }
+            device.setVibration(rumbleCoarse, rumbleFine);
         } finally {
-            deviceReadLock.unlock();
+            deviceLock.unlock();
         }
     }
 
-    float getBatteryLevel() {
-        deviceReadLock.lock();
-        try {
-            if (batteryLevel == null) {
-                return XInput.BATTERY_LEVEL_UNKNOWN;
-            }
-
-            switch (batteryLevel) {
-                case EMPTY:
-                    return XInput.BATTERY_LEVEL_EMPTY;
-                case LOW:
-                    return XInput.BATTERY_LEVEL_LOW;
-                case MEDIUM:
-                    return XInput.BATTERY_LEVEL_MEDIUM;
-                case FULL:
-                    return XInput.BATTERY_LEVEL_FULL;
-                default:
-                    /* this should never happen */
-                    String msg = "unexpected battery level " + batteryLevel;
-                    throw new XInputException(msg);
-            }
-        } finally {
-            deviceReadLock.unlock();
+    private void queryBatteryLevel() {
+        /* @formatter:off */
+        if (device instanceof XInputDevice14) {
+            this.batteryLevel = toBatteryLevel(((XInputDevice14) device)
+                    .getBatteryInformation(GAMEPAD)
+                    .getLevel());
         }
+        /* @formatter:on */
     }
 
-    void setVibration(int rumbleCoarse, int rumbleFine) {
-        deviceWriteLock.lock();
+    /**
+     * Queries the battery level of the native device. Since the battery
+     * level changes very slowly, this is not done by {@link #poll()}
+     * (except for when the device first connects). The queried value
+     * will be present in the next snapshot taken.
+     *
+     * @return the current battery level, {@link XInput#BATTERY_LEVEL_UNKNOWN}
+     * if the device is not connected or does not support battery levels.
+     */
+    float pollBatteryLevel() {
+        deviceLock.lock();
         try {
-            device.setVibration(rumbleCoarse, rumbleFine);
+            if (snapshot.connected) {
+                this.queryBatteryLevel();
+            }
+            return this.batteryLevel;
         } finally {
-            deviceWriteLock.unlock();
+            deviceLock.unlock();
         }
     }
 
-    void poll() {
-        deviceWriteLock.lock();
+    /**
+     * Polls the native device and publishes a new snapshot of its state.
+     *
+     * @return the newly published snapshot.
+     */
+    @NotNull XInputSnapshot poll() {
+        deviceLock.lock();
         try {
             device.poll();
-            if (device.isConnected()) {
-                connected.set(true);
-
-                XInputComponents comps = device.getComponents();
-                this.axes = comps.getAxes();
-                this.buttons = comps.getButtons();
-
-                /* @formatter:off */
-                if (device instanceof XInputDevice14) {
-                    this.batteryLevel = ((XInputDevice14) device)
-                            .getBatteryInformation(GAMEPAD)
-                            .getLevel();
-                }
-                /* @formatter:on */
-            } else {
-                connected.set(false);
-
-                this.axes = null;
-                this.buttons = null;
-                this.batteryLevel = null;
+            if (!device.isConnected()) {
+                this.batteryLevel = XInput.BATTERY_LEVEL_UNKNOWN;
+                this.snapshot = XInputSnapshot.DISCONNECTED;
+                return snapshot;
             }
+
+            /*
+             * The battery level is queried when the device first connects.
+             * This ensures the snapshot holds it right away, instead of only
+             * after pollBatteryLevel() is next called. The adapter requests
+             * an update of the battery feature on connect to make use of it.
+             */
+            if (!snapshot.connected) {
+                this.queryBatteryLevel();
+            }
+
+            XInputComponents comps = device.getComponents();
+            this.snapshot = new XInputSnapshot(comps.getButtons(),
+                    comps.getAxes(), batteryLevel);
+            return snapshot;
         } finally {
-            deviceWriteLock.unlock();
+            deviceLock.unlock();
         }
     }
 
@@ -57,6 +57,8 @@ public final class XInput {
             CONTROLLERS_ERROR = new AtomicReference<>();
     private static final XboxController[]
             CONTROLLERS = new XboxController[PLAYER_COUNT];
+    private static final AtomicXInputDevice[]
+            X_DEVICES = new AtomicXInputDevice[PLAYER_COUNT];
     /* @formatter:on */
 
     private XInput() {
@@ -70,6 +72,7 @@ public final class XInput {
             CONTROLLERS_CACHED.set(false);
             CONTROLLERS_ERROR.set(null);
             Arrays.fill(CONTROLLERS, null);
+            Arrays.fill(X_DEVICES, null);
         } finally {
             CONTROLLERS_LOCK.unlock();
         }
@@ -248,6 +251,7 @@ public final class XInput {
             CONTROLLERS[i] = new XboxController((c, r) ->
                     new XInputXboxAdapter(c, r, xDevice));
             /* @formatter:on */
+            X_DEVICES[i] = xDevice;
         }
     }
 
@@ -320,6 +324,21 @@ public final class XInput {
         }
     }
 
+    /*
+     * Used by XInputXboxSeeker to check if a player has connected without
+     * polling their controller. Calling getPlayer() first ensures that the
+     * devices have been cached, and that the same checks are performed.
+     */
+    static @NotNull AtomicXInputDevice getPlayerDevice(int playerNum) {
+        getPlayer(playerNum); /* cache controllers */
+        CONTROLLERS_LOCK.lock();
+        try {
+            return X_DEVICES[playerNum];
+        } finally {
+            CONTROLLERS_LOCK.unlock();
+        }
+    }
+
     /**
      * Gets the {@link XboxController} for every available player.
      * Take note that the returned array will be populated with the
@@ -1,11 +1,10 @@
 package io.ketill.xinput;
 
-import com.github.strikerx3.jxinput.XInputAxes;
 import org.jetbrains.annotations.NotNull;
 
 @FunctionalInterface
 interface XInputAxisAccessor {
 
-    float get(@NotNull XInputAxes axes);
+    float get(@NotNull XInputSnapshot snapshot);
 
 }
@@ -1,11 +1,10 @@
 package io.ketill.xinput;
 
-import com.github.strikerx3.jxinput.XInputButtons;
 import org.jetbrains.annotations.NotNull;
 
 @FunctionalInterface
 interface XInputButtonAccessor {
 
-    boolean isPressed(@NotNull XInputButtons buttons);
+    boolean isPressed(@NotNull XInputSnapshot snapshot);
 
 }
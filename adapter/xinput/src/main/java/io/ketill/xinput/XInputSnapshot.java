@@ -0,0 +1,118 @@
+package io.ketill.xinput;
+
+import com.github.strikerx3.jxinput.XInputAxes;
+import com.github.strikerx3.jxinput.XInputButtons;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable snapshot of an {@link AtomicXInputDevice}, taken once
+ * each time it is polled.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it
+ * is only used by {@link XInputXboxAdapter} to read the state of the
+ * device. As such, it is kept hidden from users.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> Since it is
+ * immutable, it can be read without any locking.
+ *
+ * @see AtomicXInputDevice#getSnapshot()
+ */
+final class XInputSnapshot {
+
+    /**
+     * The snapshot of a device which is not connected. All buttons are
+     * released, all axes are zero, and the battery level is unknown.
+     */
+    static final XInputSnapshot DISCONNECTED = new XInputSnapshot();
+
+    final boolean connected;
+
+    /* @formatter:off */
+    final boolean
+            a, b, x, y,
+            back, guide, start,
+            lShoulder, rShoulder,
+            lThumb, rThumb,
+            up, down, left, right;
+
+    final float
+            lx, ly,
+            rx, ry,
+            lt, rt;
+    /* @formatter:on */
+
+    final float batteryLevel;
+
+    private XInputSnapshot() {
+        this.connected = false;
+
+        this.a = false;
+        this.b = false;
+        this.x = false;
+        this.y = false;
+        this.back = false;
+        this.guide = false;
+        this.start = false;
+        this.lShoulder = false;
+        this.rShoulder = false;
+        this.lThumb = false;
+        this.rThumb = false;
+        this.up = false;
+        this.down = false;
+        this.left = false;
+        this.right = false;
+
+        this.lx = 0.0F;
+        this.ly = 0.0F;
+        this.rx = 0.0F;
+        this.ry = 0.0F;
+        this.lt = 0.0F;
+        this.rt = 0.0F;
+
+        this.batteryLevel = XInput.BATTERY_LEVEL_UNKNOWN;
+    }
+
+    /*
+     * The button and axes objects from JXInput are updated in place each
+     * time the device is polled. As such, their values must be copied here
+     * for this snapshot to remain immutable.
+     */
+    XInputSnapshot(@NotNull XInputButtons buttons, @NotNull XInputAxes axes,
+                   float batteryLevel) {
+        this.connected = true;
+
+        this.a = buttons.a;
+        this.b = buttons.b;
+        this.x = buttons.x;
+        this.y = buttons.y;
+        this.back = buttons.back;
+        this.guide = buttons.guide;
+        this.start = buttons.start;
+        this.lShoulder = buttons.lShoulder;
+        this.rShoulder = buttons.rShoulder;
+        this.lThumb = buttons.lThumb;
+        this.rThumb = buttons.rThumb;
+        this.up = buttons.up;
+        this.down = buttons.down;
+        this.left = buttons.left;
+        this.right = buttons.right;
+
+        this.lx = axes.lx;
+        this.ly = axes.ly;
+        this.rx = axes.rx;
+        this.ry = axes.ry;
+        this.lt = axes.lt;
+        this.rt = axes.rt;
+
+        this.batteryLevel = batteryLevel;
+    }
+
+    boolean isPressed(@NotNull XInputButtonAccessor accessor) {
+        return accessor.isPressed(this);
+    }
+
+    float getAxis(@NotNull XInputAxisAccessor accessor) {
+        return accessor.get(this);
+    }
+
+}
@@ -10,6 +10,7 @@ import io.ketill.controller.BatteryLevelZ;
 import io.ketill.controller.ButtonStateZ;
 import io.ketill.controller.ControllerButton;
 import io.ketill.controller.MotorVibration;
+import io.ketill.controller.OutputStage;
 import io.ketill.controller.RumbleMotor;
 import io.ketill.controller.StickPosZ;
 import io.ketill.controller.TriggerStateZ;
@@ -17,6 +18,8 @@ import io.ketill.xbox.XboxController;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.TimeUnit;
+
 import static io.ketill.xbox.XboxController.*;
 
 /**
@@ -39,17 +42,37 @@ import static io.ketill.xbox.XboxController.*;
  */
 public final class XInputXboxAdapter extends IoDeviceAdapter<XboxController> {
 
+    /*
+     * The battery level of a controller changes over the span of minutes.
+     * Querying it every poll would be wasteful, as it requires a call to
+     * the native library. Instead, it is only queried every so often.
+     */
+    private static final int BATTERY_UPDATE_DIVISOR = 500;
+
     private static final int RUMBLE_MIN = 0x0000;
     private static final int RUMBLE_MAX = 0xFFFF;
 
+    /*
+     * Each call to XInputSetState() results in a report being sent to the
+     * controller. Sending these faster than the controller can process them
+     * only results in them being dropped, so vibration writes are limited.
+     */
+    static final long MIN_OUTPUT_INTERVAL_MS = 4L;
+
     private final AtomicXInputDevice xDevice;
-    private int rumbleCoarse, rumbleFine;
+    private final OutputStage output;
+    private @NotNull XInputSnapshot snapshot;
+    private boolean connectionChanged;
+    private volatile boolean snapshotFresh;
 
     XInputXboxAdapter(@NotNull XboxController controller,
                       @NotNull MappedFeatureRegistry registry,
                       @NotNull AtomicXInputDevice xDevice) {
         super(controller, registry);
         this.xDevice = xDevice;
+        this.snapshot = xDevice.getSnapshot();
+        this.output = new OutputStage(this::writeOutput,
+                MIN_OUTPUT_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
 
     @MappingMethod
@@ -101,27 +124,30 @@ public final class XInputXboxAdapter extends IoDeviceAdapter<XboxController> {
         this.mapXTrigger(TRIGGER_RT, axes -> axes.rt);
 
         if (xDevice.supportsBatteryLevel()) {
-            registry.mapFeature(INTERNAL_BATTERY, this::updateBattery);
+            registry.mapFeature(INTERNAL_BATTERY, this::updateBattery,
+                    BATTERY_UPDATE_DIVISOR);
         }
 
         registry.mapFeature(MOTOR_COARSE, this::updateMotor);
         registry.mapFeature(MOTOR_FINE, this::updateMotor);
+        output.declare(MOTOR_COARSE, 1);
+        output.declare(MOTOR_FINE, 1);
     }
 
     @FeatureAdapter
     private void updateButton(@NotNull ButtonStateZ state,
                               @NotNull XInputButtonAccessor button) {
-        state.pressed = xDevice.isPressed(button);
+        state.pressed = snapshot.isPressed(button);
     }
 
     @FeatureAdapter
     private void updateStick(@NotNull StickPosZ state,
                              @NotNull StickMapping mapping) {
-        state.pos.x = xDevice.getAxis(mapping.xAxis);
-        state.pos.y = xDevice.getAxis(mapping.yAxis);
+        state.pos.x = snapshot.getAxis(mapping.xAxis);
+        state.pos.y = snapshot.getAxis(mapping.yAxis);
 
         XInputButtonAccessor zButton = mapping.zButton;
-        if (zButton != null && xDevice.isPressed(zButton)) {
+        if (zButton != null && snapshot.isPressed(zButton)) {
             state.pos.z = -1.0F;
         } else {
             state.pos.z = 0.0F;
@@ -131,12 +157,21 @@ public final class XInputXboxAdapter extends IoDeviceAdapter<XboxController> {
     @FeatureAdapter
     private void updateTrigger(@NotNull TriggerStateZ state,
                                @NotNull XInputAxisAccessor axis) {
-        state.force = xDevice.getAxis(axis);
+        state.force = snapshot.getAxis(axis);
     }
 
     @FeatureAdapter
     private void updateBattery(@NotNull BatteryLevelZ state) {
-        state.level = xDevice.getBatteryLevel();
+        /*
+         * When the device has just connected, the snapshot already holds
+         * a freshly queried battery level. When it has disconnected, the
+         * snapshot holds an unknown level. Querying again would be pointless.
+         */
+        if (connectionChanged) {
+            state.level = snapshot.batteryLevel;
+        } else {
+            state.level = xDevice.pollBatteryLevel();
+        }
     }
 
     @FeatureAdapter
@@ -151,33 +186,63 @@ public final class XInputXboxAdapter extends IoDeviceAdapter<XboxController> {
         force = Math.min(Math.max(force, RUMBLE_MIN), RUMBLE_MAX);
 
         /*
-         * A comparison is made here to ensure that a vibration force update
-         * is only sent when necessary. It would likely lower performance if
-         * these signals were dispatched every update call.
+         * The force is only staged here. Both motors are written together
+         * once all features have been updated, and only if either of their
+         * forces have changed since the last write.
          */
-        if (motor == MOTOR_COARSE && rumbleCoarse != force) {
-            this.rumbleCoarse = force;
-            xDevice.setVibration(rumbleCoarse, rumbleFine);
-        } else if (motor == MOTOR_FINE && rumbleFine != force) {
-            this.rumbleFine = force;
-            xDevice.setVibration(rumbleCoarse, rumbleFine);
-        }
+        output.stage(motor, 0, force);
+    }
+
+    private void writeOutput(@NotNull OutputStage stage) {
+        int rumbleCoarse = (int) stage.get(MOTOR_COARSE, 0);
+        int rumbleFine = (int) stage.get(MOTOR_FINE, 0);
+        xDevice.setVibration(rumbleCoarse, rumbleFine);
     }
 
     @Override
     protected void pollDevice() {
-        xDevice.poll(); /* update components */
+        /*
+         * The snapshot is only fetched once here. This ensures that every
+         * feature updated during this poll sees the same device state, and
+         * that no locks are acquired when reading it.
+         */
+        boolean wasConnected = snapshot.connected;
+        this.snapshot = xDevice.poll();
+
+        /*
+         * The battery level is only updated once every so many polls. When
+         * the device connects or disconnects, it must be updated right away.
+         * Otherwise, it would be left stale for an entire period.
+         */
+        this.connectionChanged = snapshot.connected != wasConnected;
+        if (connectionChanged) {
+            registry.requestUpdate(INTERNAL_BATTERY);
+        }
+
+        /* must come last, as it publishes the snapshot */
+        this.snapshotFresh = true;
+    }
+
+    @Override
+    protected void featuresUpdated() throws Exception {
+        output.flush(device.getPollTime());
     }
 
     @Override
     protected boolean isDeviceConnected() {
         /*
-         * This must return an up-to-date connection status, regardless
-         * if the device was polled previously. As a result, the XInput
-         * device must be polled here.
+         * IoDevice.poll() calls this method just after pollDevice(). Since
+         * the snapshot was refreshed there, it is up-to-date. Polling the
+         * XInput device again here would be redundant. At any other time
+         * (e.g., when a seeker checks if the controller is still present),
+         * the snapshot may be stale. Since this method must return an
+         * up-to-date value, the native device is queried instead.
          */
-        xDevice.poll(); /* update connection status */
-        return xDevice.isConnected();
+        if (snapshotFresh) {
+            this.snapshotFresh = false;
+            return snapshot.connected;
+        }
+        return xDevice.pollConnected();
     }
 
 }
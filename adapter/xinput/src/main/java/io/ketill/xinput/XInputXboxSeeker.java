@@ -6,6 +6,11 @@ import io.ketill.xbox.XboxController;
 /**
  * An {@link XboxController} seeker using XInput.
  * <p>
+ * <b>Note:</b> Discovered controllers are not polled by this seeker. Their
+ * connection status is only refreshed when they are polled, which should
+ * be done via {@link #pollDevices()}. Controllers which have not yet been
+ * discovered are polled by this seeker to check if they are connected.
+ * <p>
  * <b>Thread safety:</b> This seeker is <i>thread-safe.</i>
  *
  * @see XInputXboxAdapter
@@ -39,8 +44,14 @@ public final class XInputXboxSeeker extends IoDeviceSeeker<XboxController> {
                 continue;
             }
 
+            /*
+             * Nobody else polls a controller before it is discovered. As
+             * such, the snapshot of its native device is refreshed here.
+             * The controller itself is not polled, as that would update
+             * its features (and emit its events) on the seeker thread.
+             */
             XboxController player = XInput.getPlayer(i);
-            if (player.isConnected()) {
+            if (XInput.getPlayerDevice(i).poll().connected) {
                 this.controllers[i] = player;
                 this.discoverDevice(player);
             }
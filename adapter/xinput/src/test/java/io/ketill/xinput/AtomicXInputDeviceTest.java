@@ -83,6 +83,33 @@ class AtomicXInputDeviceTest {
         assertTrue(atomic.supportsBatteryLevel());
     }
 
+    @Test
+    void testGetSnapshot() {
+        /*
+         * Before the device has been polled for the first time, its state
+         * is unknown. As such, the snapshot of a disconnected device must
+         * be returned.
+         */
+        assertSame(XInputSnapshot.DISCONNECTED, atomic.getSnapshot());
+
+        /*
+         * Each poll must publish a new snapshot. The snapshot returned by
+         * poll() must also be the one returned by getSnapshot().
+         */
+        XInputSnapshot snapshot = atomic.poll();
+        assertSame(snapshot, atomic.getSnapshot());
+        assertTrue(snapshot.connected);
+
+        /*
+         * JXInput updates its components in place. A snapshot that was
+         * previously taken must not change when the components do, as
+         * it would no longer be immutable.
+         */
+        xButtons.a = true;
+        assertFalse(snapshot.a);
+        assertTrue(atomic.poll().a);
+    }
+
     @Test
     void testIsConnected() {
         when(xDevice.isConnected()).thenReturn(true);
@@ -94,11 +121,28 @@ class AtomicXInputDeviceTest {
         assertFalse(atomic.isConnected());
     }
 
+    @Test
+    void testPollConnected() {
+        when(xDevice.isConnected()).thenReturn(true);
+        atomic.poll(); /* update connection status */
+
+        /*
+         * Unlike poll(), pollConnected() must not publish a new snapshot.
+         * It should only return the current connection status of the
+         * native device.
+         */
+        XInputSnapshot snapshot = atomic.getSnapshot();
+        when(xDevice.isConnected()).thenReturn(false);
+        assertFalse(atomic.pollConnected());
+        assertSame(snapshot, atomic.getSnapshot());
+        verify(xDevice, times(2)).poll();
+    }
+
     @Test
     void testIsPressed() {
         xButtons.a = true;
         atomic.poll(); /* update buttons */
-        assertTrue(atomic.isPressed(b -> b.a));
+        assertTrue(atomic.getSnapshot().a);
 
         /*
          * When the device is not connected, the internal buttons state
@@ -108,14 +152,14 @@ class AtomicXInputDeviceTest {
          */
         when(xDevice.isConnected()).thenReturn(false);
         atomic.poll(); /* update buttons */
-        assertFalse(atomic.isPressed(b -> b.a));
+        assertFalse(atomic.getSnapshot().a);
     }
 
     @Test
     void testGetAxis() {
         xAxes.lx = 1.23F;
         atomic.poll(); /* update axes */
-        assertEquals(1.23F, atomic.getAxis(a -> a.lx));
+        assertEquals(1.23F, atomic.getSnapshot().lx);
 
         /*
          * When the device is not connected, the internal axes state
@@ -125,11 +169,30 @@ class AtomicXInputDeviceTest {
          */
         when(xDevice.isConnected()).thenReturn(false);
         atomic.poll(); /* update axes */
-        assertEquals(0.00F, atomic.getAxis(a -> a.lx));
+        assertEquals(0.00F, atomic.getSnapshot().lx);
     }
 
     @Test
-    void testGetBatteryLevel() {
+    void testPollBatteryLevel() {
+        /*
+         * Until the device has been polled, it is not known if it is
+         * connected. As such, the battery level must not be queried.
+         */
+        assertEquals(XInput.BATTERY_LEVEL_UNKNOWN, atomic.pollBatteryLevel());
+        verify(xDevice, never()).getBatteryInformation(any());
+
+        /*
+         * When the device connects, its battery level should be queried
+         * right away and be present in the snapshot. It should not be
+         * queried again on subsequent polls, as it changes slowly.
+         */
+        when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.FULL);
+        atomic.poll(); /* connect device */
+        atomic.poll(); /* update components */
+        verify(xDevice, times(1)).getBatteryInformation(any());
+        assertEquals(XInput.BATTERY_LEVEL_FULL,
+                atomic.getSnapshot().batteryLevel);
+
         /*
          * When the battery level is null, assume that X-input does not
          * know what the battery level is. This means we would not know
@@ -137,28 +200,23 @@ class AtomicXInputDeviceTest {
          * in the battery level being set to -1.0F.
          */
         when(xBatteryInfo.getLevel()).thenReturn(null);
-        atomic.poll(); /* update battery level */
-        assertEquals(XInput.BATTERY_LEVEL_UNKNOWN, atomic.getBatteryLevel());
+        assertEquals(XInput.BATTERY_LEVEL_UNKNOWN, atomic.pollBatteryLevel());
 
         /* verify EMPTY results in corresponding battery level */
         when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.EMPTY);
-        atomic.poll(); /* update battery level */
-        assertEquals(XInput.BATTERY_LEVEL_EMPTY, atomic.getBatteryLevel());
+        assertEquals(XInput.BATTERY_LEVEL_EMPTY, atomic.pollBatteryLevel());
 
         /* verify LOW results in corresponding battery level */
         when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.LOW);
-        atomic.poll(); /* update battery level */
-        assertEquals(XInput.BATTERY_LEVEL_LOW, atomic.getBatteryLevel());
+        assertEquals(XInput.BATTERY_LEVEL_LOW, atomic.pollBatteryLevel());
 
         /* verify MEDIUM results in corresponding battery level */
         when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.MEDIUM);
-        atomic.poll(); /* update battery level */
-        assertEquals(XInput.BATTERY_LEVEL_MEDIUM, atomic.getBatteryLevel());
+        assertEquals(XInput.BATTERY_LEVEL_MEDIUM, atomic.pollBatteryLevel());
 
         /* verify FULL results in corresponding battery level */
         when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.FULL);
-        atomic.poll(); /* update battery level */
-        assertEquals(XInput.BATTERY_LEVEL_FULL, atomic.getBatteryLevel());
+        assertEquals(XInput.BATTERY_LEVEL_FULL, atomic.pollBatteryLevel());
     }
 
     @Test
@@ -131,10 +131,47 @@ class XInputXboxAdapterTest {
         when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.LOW);
         controller.poll(); /* update battery level */
         assertEquals(XInput.BATTERY_LEVEL_LOW, controller.battery.getLevel());
+
+        /*
+         * The battery level changes slowly, so the adapter only updates
+         * it every so many polls. As such, it should not change on the
+         * very next poll even though the reported level has.
+         */
+        when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.FULL);
+        controller.poll(); /* skip battery level */
+        assertEquals(XInput.BATTERY_LEVEL_LOW, controller.battery.getLevel());
     }
 
     @Test
-    void testUpdateMotor() {
+    void testUpdateBatteryOnConnection() {
+        when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.LOW);
+        controller.poll(); /* update battery level */
+
+        /*
+         * When the device disconnects, its battery level is no longer
+         * known. It must be updated right away, rather than being left
+         * stale until the adapter would next update it.
+         */
+        when(xDevice.isConnected()).thenReturn(false);
+        controller.poll(); /* update battery level */
+        assertEquals(XInput.BATTERY_LEVEL_UNKNOWN,
+                controller.battery.getLevel());
+
+        /*
+         * When the device connects again, the battery level queried on
+         * connect must be used right away. It should not be queried once
+         * more by the adapter during the same poll.
+         */
+        when(xDevice.isConnected()).thenReturn(true);
+        when(xBatteryInfo.getLevel()).thenReturn(XInputBatteryLevel.FULL);
+        clearInvocations(xDevice);
+        controller.poll(); /* update battery level */
+        assertEquals(XInput.BATTERY_LEVEL_FULL, controller.battery.getLevel());
+        verify(xDevice, times(1)).getBatteryInformation(any());
+    }
+
+    @Test
+    void testUpdateMotor() throws InterruptedException {
         controller.rumbleCoarse.setStrength(0.125F);
         controller.rumbleFine.setStrength(0.875F);
 
@@ -159,22 +196,71 @@ class XInputXboxAdapterTest {
         controller.rumbleCoarse.setStrength(-1.0F);
         controller.rumbleFine.setStrength(2.0F);
 
+        /*
+         * Vibration writes are rate limited. Since the last write was only
+         * just made, this one should be deferred until enough time passes.
+         */
+        clearInvocations(xDevice);
+        controller.poll(); /* update rumble motors */
+        verify(xDevice, never()).setVibration(anyInt(), anyInt());
+        Thread.sleep(XInputXboxAdapter.MIN_OUTPUT_INTERVAL_MS);
+
         /*
          * If the rumble motor force is out of bounds, it is up to the
          * adapter to clamp the vibration strength back into bounds for
          * X-input. If this is not done, X-input will crash.
          */
+        controller.poll(); /* update rumble motors */
+        verify(xDevice, times(1)).setVibration(0, 65535);
+    }
+
+    @Test
+    void testRumble() {
+        /*
+         * When both motors are changed at once (as done by rumble()), they
+         * must be written to X-input together via a single native call.
+         */
+        controller.rumble(1.0F);
         clearInvocations(xDevice);
         controller.poll(); /* update rumble motors */
-        verify(xDevice).setVibration(0, 65535);
+        verify(xDevice, times(1)).setVibration(anyInt(), anyInt());
+        verify(xDevice).setVibration(65535, 65535);
+    }
+
+    @Test
+    void testPollDevice() {
+        /*
+         * The XInput device must only be polled once per poll of the
+         * controller. Polling it again to check the connection status
+         * would be redundant, since a new snapshot was just taken.
+         */
+        clearInvocations(xDevice);
+        controller.poll(); /* update snapshot */
+        verify(xDevice, times(1)).poll();
     }
 
     @Test
     void testIsDeviceConnected() {
         when(xDevice.isConnected()).thenReturn(true);
+        controller.poll(); /* update connection status */
         assertTrue(controller.isConnected());
+
+        /*
+         * The connection status must always be up-to-date. As such, it
+         * should change even if the controller has not been polled since
+         * the device disconnected.
+         */
         when(xDevice.isConnected()).thenReturn(false);
         assertFalse(controller.isConnected());
+
+        /*
+         * The snapshot taken during the last poll must not be updated by
+         * checking the connection status. It should only be updated when
+         * the controller itself is polled.
+         */
+        when(xDevice.isConnected()).thenReturn(true);
+        assertTrue(controller.isConnected());
+        assertTrue(axDevice.getSnapshot().connected);
     }
 
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.ketill.xinput;
 import com.github.strikerx3.jxinput.XInputComponents;
 import com.github.strikerx3.jxinput.XInputDevice;
 import com.github.strikerx3.jxinput.XInputDevice14;
+import io.ketill.IoDeviceConnectEvent;
 import io.ketill.IoDeviceDiscoverEvent;
 import io.ketill.IoDeviceForgetEvent;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,14 +92,21 @@ class XInputXboxSeekerTest {
         seeker.subscribeEvents(IoDeviceDiscoverEvent.class,
                 event -> discovered.set(true));
 
+        AtomicBoolean connected = new AtomicBoolean();
+        XInput.getPlayer(0).subscribeEvents(IoDeviceConnectEvent.class,
+                event -> connected.set(true));
+
         /*
          * Device connection is mocked to stimulate the device seeker
          * into discovering a device. Once the seeker sees the device
-         * has been connected, it should be discovered.
+         * has been connected, it should be discovered. The controller
+         * itself must not be polled by the seeker, so no connect event
+         * should be emitted for it.
          */
         when(player1.isConnected()).thenReturn(true);
         seeker.seek(); /* trigger discover event */
         assertTrue(discovered.get());
+        assertFalse(connected.get());
 
         AtomicBoolean forgotten = new AtomicBoolean();
         seeker.subscribeEvents(IoDeviceForgetEvent.class,
@@ -107,7 +115,8 @@ class XInputXboxSeekerTest {
         /*
          * Device disconnection is mocked to stimulate the device seeker
          * into forgetting a device. Once the seeker sees the device has
-         * been disconnected, it should be forgotten.
+         * been disconnected, it should be forgotten. This must occur even
+         * if the device has not been polled since it disconnected.
          */
         when(player1.isConnected()).thenReturn(false);
         seeker.seek(); /* trigger forget event */
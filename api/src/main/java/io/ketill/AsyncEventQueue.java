@@ -0,0 +1,421 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue of events emitted by an {@link IoDevice}, which are
+ * delivered to subscribers asynchronously. This allows a slow subscriber
+ * (e.g., one which logs events, or syncs them over a network) to not stall
+ * the thread polling the device.
+ * <p>
+ * Events are stored in a ring buffer which is allocated once, when this
+ * queue is created. They are delivered in the order they were emitted by
+ * a single task at a time. This task runs either on a dedicated consumer
+ * thread, or on an {@link Executor} provided by the user. When the buffer
+ * is full, the {@link OverflowPolicy} decides what happens to the next
+ * event emitted. How often each policy was applied can be retrieved via
+ * {@link #getBlockedCount()}, {@link #getDroppedCount()}, and
+ * {@link #getCoalescedCount()}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see IoDevice#useAsyncEvents(int, OverflowPolicy, Executor)
+ */
+public final class AsyncEventQueue {
+
+    /**
+     * Decides what happens to an event emitted while the buffer of an
+     * {@link AsyncEventQueue} is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The thread emitting the event waits until there is room for it
+         * in the buffer. No events are lost, at the cost of polling being
+         * stalled by slow subscribers.
+         * <p>
+         * <b>Note:</b> A subscriber must not emit events from the device
+         * it is subscribed to. Doing so would cause the consumer to wait
+         * on itself once the buffer is full.
+         */
+        BLOCK,
+
+        /**
+         * The oldest event in the buffer is discarded to make room for the
+         * event being emitted.
+         */
+        DROP_OLDEST,
+
+        /**
+         * If an event of the same type for the same feature is still in
+         * the buffer, it is replaced with the event being emitted. This
+         * keeps only the latest change of each feature. When there is no
+         * such event, the oldest event in the buffer is discarded instead.
+         * <p>
+         * <b>Note:</b> Only instances of {@link IoFeatureEvent} can be
+         * coalesced, as other events do not describe the state of a
+         * feature.
+         */
+        COALESCE
+
+    }
+
+    private final @NotNull Consumer<IoDeviceEvent> sink;
+    private final @NotNull OverflowPolicy policy;
+    private final @NotNull Executor executor;
+    private final @Nullable ExecutorService consumerThread;
+    private final @NotNull Runnable drainTask;
+
+    private final IoDeviceEvent[] buffer;
+    private final ReentrantLock lock;
+    private final Condition notFull;
+    private int head;
+    private int size;
+    private boolean draining;
+    private boolean closed;
+
+    private volatile long deliveredCount;
+    private volatile long blockedCount;
+    private volatile long droppedCount;
+    private volatile long coalescedCount;
+
+    /**
+     * Constructs a new {@code AsyncEventQueue}.
+     *
+     * @param sink       where to deliver events taken from the buffer.
+     * @param capacity   how many events the buffer can hold.
+     * @param policy     what to do with an event emitted while the buffer
+     *                   is full.
+     * @param executor   the executor to deliver events with. A value of
+     *                   {@code null} is permitted, and will result in a
+     *                   dedicated consumer thread being started.
+     * @param threadName the name of the dedicated consumer thread.
+     * @throws NullPointerException     if {@code sink}, {@code policy},
+     *                                  or {@code threadName} are
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  one.
+     */
+    AsyncEventQueue(@NotNull Consumer<IoDeviceEvent> sink, int capacity,
+                    @NotNull OverflowPolicy policy,
+                    @Nullable Executor executor,
+                    @NotNull String threadName) {
+        this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+        this.policy = Objects.requireNonNull(policy,
+                "policy cannot be null");
+        Objects.requireNonNull(threadName, "threadName cannot be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+
+        if (executor != null) {
+            this.executor = executor;
+            this.consumerThread = null;
+        } else {
+            this.consumerThread = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = consumerThread;
+        }
+
+        this.drainTask = this::drain;
+        this.buffer = new IoDeviceEvent[capacity];
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+    }
+
+    /**
+     * Returns the policy applied when an event is emitted while the buffer
+     * of this queue is full.
+     *
+     * @return the overflow policy of this queue.
+     */
+    public @NotNull OverflowPolicy getPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Returns how many events the buffer of this queue can hold.
+     *
+     * @return the capacity of this queue.
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns how many events are waiting to be delivered.
+     *
+     * @return how many events are waiting to be delivered.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return this.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns if this queue has been closed. Once closed, events are no
+     * longer accepted. Any events still in the buffer will be delivered.
+     *
+     * @return {@code true} if this queue has been closed, {@code false}
+     * otherwise.
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return this.closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many events have been delivered to subscribers.
+     *
+     * @return how many events have been delivered.
+     */
+    public long getDeliveredCount() {
+        return this.deliveredCount;
+    }
+
+    /**
+     * Returns how many times an event had to wait for room in the buffer.
+     * This can only increase under {@link OverflowPolicy#BLOCK}.
+     *
+     * @return how many times an event had to wait for room in the buffer.
+     */
+    public long getBlockedCount() {
+        return this.blockedCount;
+    }
+
+    /**
+     * Returns how many events were discarded without being delivered.
+     *
+     * @return how many events were discarded.
+     */
+    public long getDroppedCount() {
+        return this.droppedCount;
+    }
+
+    /**
+     * Returns how many events were replaced by a later event of the same
+     * type for the same feature. This can only increase under
+     * {@link OverflowPolicy#COALESCE}.
+     *
+     * @return how many events were coalesced.
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount;
+    }
+
+    private boolean isCoalescable(@NotNull IoDeviceEvent queued,
+                                  @NotNull IoDeviceEvent event) {
+        if (queued.getClass() != event.getClass()) {
+            return false;
+        } else if (!(event instanceof IoFeatureEvent)) {
+            return false;
+        }
+        IoFeatureEvent queuedFeatureEvent = (IoFeatureEvent) queued;
+        IoFeatureEvent featureEvent = (IoFeatureEvent) event;
+        return queuedFeatureEvent.getFeature() == featureEvent.getFeature();
+    }
+
+    private boolean coalesce(@NotNull IoDeviceEvent event) {
+        /*
+         * The buffer is searched from the newest event to the oldest, as
+         * the latest change of a feature is the most likely to have been
+         * emitted recently.
+         */
+        for (int i = size - 1; i >= 0; i--) {
+            int index = (head + i) % buffer.length;
+            if (this.isCoalescable(buffer[index], event)) {
+                buffer[index] = event;
+                this.coalescedCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dropOldest() {
+        buffer[head] = null;
+        this.head = (head + 1) % buffer.length;
+        this.size--;
+        this.droppedCount++;
+    }
+
+    /**
+     * Adds an event to the buffer of this queue, applying the overflow
+     * policy if it is full. The event will be delivered asynchronously.
+     *
+     * @param event the event to add.
+     * @return {@code true} if the event was accepted, {@code false} if
+     * this queue has been closed.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    boolean offer(@NotNull IoDeviceEvent event) {
+        Objects.requireNonNull(event, "event cannot be null");
+
+        boolean schedule;
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+
+            if (size >= buffer.length) {
+                switch (policy) {
+                    case BLOCK:
+                        this.blockedCount++;
+                        while (size >= buffer.length && !closed) {
+                            notFull.awaitUninterruptibly();
+                        }
+                        if (closed) {
+                            return false;
+                        }
+                        break;
+                    case COALESCE:
+                        if (this.coalesce(event)) {
+                            return true;
+                        }
+                        this.dropOldest();
+                        break;
+                    default:
+                        this.dropOldest();
+                        break;
+                }
+            }
+
+            buffer[(head + size) % buffer.length] = event;
+            this.size++;
+
+            schedule = !draining;
+            this.draining = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (schedule) {
+            this.scheduleDrain();
+        }
+        return true;
+    }
+
+    private void scheduleDrain() {
+        try {
+            executor.execute(drainTask);
+        } catch (RuntimeException e) {
+            /*
+             * If the executor rejects the task, the next event offered
+             * must try to schedule it again. Otherwise, the events in
+             * the buffer would never be delivered.
+             */
+            lock.lock();
+            try {
+                this.draining = false;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private @Nullable IoDeviceEvent poll() {
+        lock.lock();
+        try {
+            if (size <= 0) {
+                this.draining = false;
+                return null;
+            }
+            IoDeviceEvent event = buffer[head];
+            buffer[head] = null;
+            this.head = (head + 1) % buffer.length;
+            this.size--;
+            notFull.signal();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        boolean finished = false;
+        try {
+            IoDeviceEvent event;
+            while ((event = this.poll()) != null) {
+                sink.accept(event);
+                this.deliveredCount++;
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                /*
+                 * A subscriber threw an exception. The events remaining
+                 * in the buffer are delivered by a new task, so they are
+                 * not stuck until another event is emitted.
+                 */
+                boolean reschedule;
+                lock.lock();
+                try {
+                    reschedule = size > 0;
+                    this.draining = reschedule;
+                } finally {
+                    lock.unlock();
+                }
+                if (reschedule) {
+                    this.scheduleDrain();
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes this queue. Events are no longer accepted, and threads waiting
+     * for room in the buffer are released. Any events still in the buffer
+     * will be delivered. If this queue started a dedicated consumer thread,
+     * it will be stopped once they have been delivered.
+     */
+    void close() {
+        lock.lock();
+        try {
+            this.closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (consumerThread != null) {
+            consumerThread.shutdown();
+        }
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("policy=" + policy)
+                .add("capacity=" + buffer.length)
+                .add("deliveredCount=" + deliveredCount)
+                .add("blockedCount=" + blockedCount)
+                .add("droppedCount=" + droppedCount)
+                .add("coalescedCount=" + coalescedCount)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
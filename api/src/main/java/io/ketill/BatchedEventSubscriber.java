@@ -0,0 +1,140 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Delivers events from an {@link IoDevice} to a callback via an
+ * {@link Executor}. Events are collected until the device is done being
+ * polled, and then handed to the executor as a single task. This is more
+ * efficient than submitting a task for each event.
+ * <p>
+ * Only one task is given to the executor at a time. If events arrive
+ * while a task is still running, they are delivered by that same task.
+ * This ensures events are delivered in the order they were emitted, even
+ * if the executor runs tasks concurrently.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} as it is an
+ * implementation detail of
+ * {@link IoDevice#subscribeEvents(Class, Executor, Consumer)}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @param <T> the event type.
+ */
+final class BatchedEventSubscriber<T extends IoDeviceEvent> {
+
+    private final @NotNull Executor executor;
+    private final @NotNull Consumer<T> callback;
+    private final @NotNull Runnable deliverTask;
+
+    private List<T> pending;
+    private List<T> delivering;
+    private boolean scheduled;
+    private volatile boolean disposed;
+
+    BatchedEventSubscriber(@NotNull Executor executor,
+                           @NotNull Consumer<T> callback) {
+        this.executor = Objects.requireNonNull(executor,
+                "executor cannot be null");
+        this.callback = Objects.requireNonNull(callback,
+                "callback cannot be null");
+        this.deliverTask = this::deliver;
+        this.pending = new ArrayList<>();
+        this.delivering = new ArrayList<>();
+    }
+
+    /**
+     * Adds an event to the current batch. It will be delivered once the
+     * batch is flushed.
+     *
+     * @param event the event to add.
+     */
+    synchronized void add(@NotNull T event) {
+        if (!disposed) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * Submits a task to the executor which delivers the current batch, if
+     * it contains any events. When a task is already running, it delivers
+     * the batch instead.
+     */
+    void flush() {
+        synchronized (this) {
+            if (scheduled || pending.isEmpty()) {
+                return;
+            }
+            this.scheduled = true;
+        }
+
+        try {
+            executor.execute(deliverTask);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                this.scheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized @NotNull List<T> takeBatch() {
+        /*
+         * The two lists are swapped rather than allocated anew. This way,
+         * events can keep being collected while the previous batch is
+         * delivered, without creating garbage each poll.
+         */
+        delivering.clear();
+        List<T> batch = this.pending;
+        this.pending = this.delivering;
+        this.delivering = batch;
+        if (batch.isEmpty() || disposed) {
+            batch.clear();
+            this.scheduled = false;
+        }
+        return batch;
+    }
+
+    private void deliver() {
+        boolean finished = false;
+        try {
+            List<T> batch;
+            while (!(batch = this.takeBatch()).isEmpty()) {
+                for (T event : batch) {
+                    if (disposed) {
+                        break;
+                    }
+                    callback.accept(event);
+                }
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                /*
+                 * The callback threw an exception. Without this, no task
+                 * would ever be scheduled again, as this one would still
+                 * be considered running.
+                 */
+                synchronized (this) {
+                    this.scheduled = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Prevents any further events from being delivered, including those
+     * which have already been added to a batch.
+     */
+    synchronized void dispose() {
+        this.disposed = true;
+        pending.clear();
+    }
+
+}
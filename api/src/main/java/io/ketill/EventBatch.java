@@ -0,0 +1,158 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The events emitted by an {@link IoDevice} during a single poll, in the
+ * order they were emitted. This allows a subscriber to handle all input
+ * from a frame at once (e.g., for text entry, or to detect chords.)
+ * <p>
+ * <b>Note:</b> The same instance is reused for each poll. Its contents
+ * are only valid until the callback it was given to returns. If events
+ * must be kept afterwards, they must be copied out.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It should
+ * only be read from within the callback it was given to.
+ *
+ * @see IoDevice#subscribeBatches(Consumer)
+ */
+public final class EventBatch implements Iterable<IoDeviceEvent> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final @NotNull IoDevice device;
+    private IoDeviceEvent[] events;
+    private int size;
+
+    EventBatch(@NotNull IoDevice device) {
+        this.device = device;
+        this.events = new IoDeviceEvent[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the device which emitted the events in this batch.
+     *
+     * @return the device which emitted the events in this batch.
+     */
+    public @NotNull IoDevice getDevice() {
+        return this.device;
+    }
+
+    /**
+     * Returns how many events are in this batch.
+     *
+     * @return how many events are in this batch.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns if this batch contains no events.
+     *
+     * @return {@code true} if this batch contains no events,
+     * {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size <= 0;
+    }
+
+    /**
+     * Returns an event in this batch.
+     *
+     * @param index the index of the event, with zero being the first
+     *              event emitted during the poll.
+     * @return the event at {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index} is negative, or
+     *                                   not less than {@link #size()}.
+     */
+    public @NotNull IoDeviceEvent get(int index) {
+        if (index < 0 || index >= size) {
+            String msg = "Index: " + index + ", Size: " + size;
+            throw new IndexOutOfBoundsException(msg);
+        }
+        return events[index];
+    }
+
+    /**
+     * Performs an action for each event in this batch of a given type,
+     * in the order they were emitted.
+     *
+     * @param eventClazz the event type class. Only events of this type
+     *                   and those extending it are given to
+     *                   {@code action}.
+     * @param action     the action to perform for each event.
+     * @param <T>        the event type.
+     * @throws NullPointerException if {@code eventClazz} or
+     *                              {@code action} are {@code null}.
+     */
+    /* @formatter:off */
+    public <T extends IoDeviceEvent> void
+            forEach(@NotNull Class<T> eventClazz,
+                    @NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(eventClazz, "eventClazz cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+        for (int i = 0; i < size; i++) {
+            if (eventClazz.isInstance(events[i])) {
+                action.accept(eventClazz.cast(events[i]));
+            }
+        }
+    }
+    /* @formatter:on */
+
+    @Override
+    public @NotNull Iterator<IoDeviceEvent> iterator() {
+        return new Iterator<IoDeviceEvent>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public IoDeviceEvent next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return events[index++];
+            }
+
+        };
+    }
+
+    void add(@NotNull IoDeviceEvent event) {
+        if (size >= events.length) {
+            this.events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[size++] = event;
+    }
+
+    void clear() {
+        /*
+         * The references are cleared so the events of the last poll can
+         * be garbage collected. The backing array itself is kept for the
+         * next poll.
+         */
+        Arrays.fill(events, 0, size, null);
+        this.size = 0;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("device=" + device)
+                .add("size=" + size)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,115 @@
+package io.ketill;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Collects the events emitted by an {@link IoDevice} into an
+ * {@link EventBatch}, which is given to each batch subscriber once the
+ * device is done being polled.
+ * <p>
+ * Two batches are kept, and swapped on each flush. This way, events
+ * emitted by a subscriber while a batch is being delivered are placed
+ * into the next batch, rather than the one being read.
+ * <p>
+ * Errors thrown by a subscriber are reported to
+ * {@link RxJavaPlugins#onError(Throwable)}. This way, the remaining
+ * subscribers are still given the batch.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} as it is an
+ * implementation detail of {@link IoDevice#subscribeBatches(Consumer)}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+final class EventBatcher {
+
+    private final List<Consumer<EventBatch>> subscribers;
+    private EventBatch current;
+    private EventBatch spare;
+    private boolean flushing;
+
+    EventBatcher(@NotNull IoDevice device) {
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.current = new EventBatch(device);
+        this.spare = new EventBatch(device);
+    }
+
+    boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    @NotNull IoDisposable subscribe(@NotNull Consumer<EventBatch> callback) {
+        Objects.requireNonNull(callback, "callback cannot be null");
+        subscribers.add(callback);
+        return new IoDisposable(Disposable.fromRunnable(
+                () -> subscribers.remove(callback)));
+    }
+
+    synchronized void add(@NotNull IoDeviceEvent event) {
+        current.add(event);
+    }
+
+    private synchronized EventBatch takeBatch() {
+        if (current.isEmpty()) {
+            this.flushing = false;
+            return null;
+        }
+        EventBatch batch = this.current;
+        this.current = this.spare;
+        this.spare = batch;
+        return batch;
+    }
+
+    private static void deliver(@NotNull Consumer<EventBatch> subscriber,
+                                @NotNull EventBatch batch) {
+        try {
+            subscriber.accept(batch);
+        } catch (Throwable cause) {
+            Exceptions.throwIfFatal(cause);
+            RxJavaPlugins.onError(cause);
+        }
+    }
+
+    void flush() {
+        synchronized (this) {
+            if (flushing || current.isEmpty()) {
+                /*
+                 * If a batch is already being delivered, the events added
+                 * since will be delivered by the same call to flush() once
+                 * it is finished.
+                 */
+                return;
+            }
+            this.flushing = true;
+        }
+
+        boolean finished = false;
+        try {
+            EventBatch batch;
+            while ((batch = this.takeBatch()) != null) {
+                try {
+                    for (Consumer<EventBatch> subscriber : subscribers) {
+                        deliver(subscriber, batch);
+                    }
+                } finally {
+                    batch.clear();
+                }
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                synchronized (this) {
+                    this.flushing = false;
+                }
+            }
+        }
+    }
+
+}
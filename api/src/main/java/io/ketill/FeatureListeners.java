@@ -0,0 +1,165 @@
+package io.ketill;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The listeners of each feature registered to an {@link IoDevice}, kept
+ * in an array indexed by the slot of the feature. When an event is
+ * emitted, only the listeners of the feature which triggered it are
+ * visited. As such, the cost of emitting an event does not grow with
+ * the amount of listeners for other features.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} as it is an
+ * implementation detail of
+ * {@link IoDevice#subscribeEvents(IoFeature, Class, Consumer)}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> Listeners are
+ * stored in copy-on-write arrays, as they are expected to be added and
+ * removed far less often than events are emitted.
+ */
+final class FeatureListeners {
+
+    static final class Listener {
+
+        private final @NotNull Class<?> eventClazz;
+        private final @NotNull Consumer<IoDeviceEvent> callback;
+
+        private Listener(@NotNull Class<?> eventClazz,
+                         @NotNull Consumer<IoDeviceEvent> callback) {
+            this.eventClazz = eventClazz;
+            this.callback = callback;
+        }
+
+    }
+
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    private volatile Listener[][] slots;
+
+    FeatureListeners() {
+        this.slots = new Listener[0][];
+    }
+
+    /**
+     * Returns if any feature currently has a listener.
+     *
+     * @return {@code true} if any feature has a listener, {@code false}
+     * otherwise.
+     */
+    boolean hasListeners() {
+        return slots.length > 0;
+    }
+
+    /* @formatter:off */
+    @SuppressWarnings("unchecked")
+    synchronized <T extends IoDeviceEvent> @NotNull Listener
+            add(int slot, @NotNull Class<T> eventClazz,
+                @NotNull Consumer<T> callback) {
+        Listener listener = new Listener(eventClazz,
+                (Consumer<IoDeviceEvent>) callback);
+
+        Listener[][] slots = this.slots;
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, slot + 1);
+        } else {
+            slots = slots.clone();
+        }
+
+        Listener[] listeners = slots[slot];
+        if (listeners == null) {
+            listeners = NO_LISTENERS;
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        slots[slot] = listeners;
+
+        this.slots = slots;
+        return listener;
+    }
+    /* @formatter:on */
+
+    synchronized void remove(int slot, @NotNull Listener listener) {
+        Listener[][] slots = this.slots;
+        if (slot >= slots.length || slots[slot] == null) {
+            return; /* slot was cleared */
+        }
+
+        Listener[] listeners = slots[slot];
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] != listener) {
+                continue;
+            }
+            Listener[] removed = new Listener[listeners.length - 1];
+            System.arraycopy(listeners, 0, removed, 0, i);
+            System.arraycopy(listeners, i + 1, removed, i,
+                    listeners.length - i - 1);
+
+            slots = slots.clone();
+            slots[slot] = removed.length > 0 ? removed : null;
+            this.slots = this.trim(slots);
+            return;
+        }
+    }
+
+    /**
+     * Removes all listeners of a slot. This must be called when the
+     * feature assigned the slot is unregistered. Otherwise, the next
+     * feature assigned the slot would inherit its listeners.
+     *
+     * @param slot the slot to clear.
+     */
+    synchronized void clear(int slot) {
+        Listener[][] slots = this.slots;
+        if (slot < 0 || slot >= slots.length || slots[slot] == null) {
+            return;
+        }
+        slots = slots.clone();
+        slots[slot] = null;
+        this.slots = this.trim(slots);
+    }
+
+    private Listener @NotNull [][] trim(Listener @NotNull [][] slots) {
+        /*
+         * Trailing slots without listeners are removed. This ensures
+         * hasListeners() returns false once every listener is gone.
+         */
+        int length = slots.length;
+        while (length > 0 && slots[length - 1] == null) {
+            length--;
+        }
+        return length < slots.length ? Arrays.copyOf(slots, length) : slots;
+    }
+
+    void dispatch(int slot, @NotNull IoDeviceEvent event) {
+        Listener[][] slots = this.slots;
+        if (slot < 0 || slot >= slots.length) {
+            return;
+        }
+        Listener[] listeners = slots[slot];
+        if (listeners == null) {
+            return;
+        }
+        for (Listener listener : listeners) {
+            if (!listener.eventClazz.isInstance(event)) {
+                continue;
+            }
+            try {
+                listener.callback.accept(event);
+            } catch (Throwable cause) {
+                /*
+                 * Errors in a callback are handled the same way RxJava
+                 * handles them for other subscribers. This prevents one
+                 * listener from breaking the poll of the device.
+                 */
+                Exceptions.throwIfFatal(cause);
+                RxJavaPlugins.onError(cause);
+            }
+        }
+    }
+
+}
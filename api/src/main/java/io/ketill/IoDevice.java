@@ -1,6 +1,10 @@
 package io.ketill;
 
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.Subject;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
@@ -12,8 +16,12 @@ import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -34,6 +42,11 @@ import java.util.function.Consumer;
  */
 public abstract class IoDevice implements FeatureRegistry {
 
+    private static final int CONNECT_TYPE =
+            IoEventRing.getTypeId(IoDeviceConnectEvent.class);
+    private static final int DISCONNECT_TYPE =
+            IoEventRing.getTypeId(IoDeviceDisconnectEvent.class);
+
     private final @NotNull String typeId;
 
     private final @NotNull Subject<IoDeviceEvent> subject;
@@ -53,6 +66,13 @@ public abstract class IoDevice implements FeatureRegistry {
     private boolean initializedAdapter;
     private boolean registeredFields;
     private boolean connected;
+    private @NotNull IoDeviceClock clock;
+    private long pollTime;
+    private volatile @Nullable IoDeviceWaker waker;
+    private @Nullable AsyncEventQueue asyncEvents;
+    private final @NotNull List<BatchedEventSubscriber<?>> batchedSubscribers;
+    private final @NotNull List<ThrottledEventSubscriber<?>> throttledSubscribers;
+    volatile boolean polling;
 
     /**
      * Constructs a new {@code IoDevice}.
@@ -92,9 +112,19 @@ public abstract class IoDevice implements FeatureRegistry {
          */
         this.subject = PublishSubject.create();
         this.observer = new IoDeviceObserver(this, subject);
+        this.batchedSubscribers = new CopyOnWriteArrayList<>();
+        this.throttledSubscribers = new CopyOnWriteArrayList<>();
 
         this.registry = new MappedFeatureRegistry(observer);
 
+        /*
+         * The poll time is initialized here so that features which are
+         * updated before the first poll (e.g., by a test) do not see a
+         * poll time far in the past.
+         */
+        this.clock = IoDeviceClock.SYSTEM;
+        this.pollTime = clock.nanoTime();
+
         /*
          * While this is an unchecked cast, the template requires that the
          * type extend IoDevice. As such, this cast is safe to perform.
@@ -176,6 +206,269 @@ public abstract class IoDevice implements FeatureRegistry {
     }
     /* @formatter:on */
 
+    /**
+     * Subscribes to events emitted from this I/O device, with the callback
+     * being executed by the specified executor.
+     * <p>
+     * Events are not handed to the executor one by one. Rather, all events
+     * emitted during a single poll are delivered by one task once polling
+     * has finished. Events emitted outside of {@link #poll()} are handed to
+     * the executor immediately. Only one task is given to the executor at
+     * a time, ensuring events are delivered in the order they were emitted.
+     *
+     * @param eventClazz the event type class to listen for. Only events of
+     *                   this type and those extending it will be emitted
+     *                   to {@code callable}.
+     * @param executor   the executor to run {@code callback} on.
+     * @param callback   the code to execute when an event of the desired
+     *                   type is emitted by the device.
+     * @param <T>        the event type.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time. Events not yet delivered when
+     * it is disposed are discarded.
+     * @throws NullPointerException if {@code eventClazz}, {@code executor},
+     *                              or {@code callback} are {@code null}.
+     * @see #subscribeEvents(Class, Scheduler, Consumer)
+     */
+    /* @formatter:off */
+    public final <T extends IoDeviceEvent> @NotNull IoDisposable
+            subscribeEvents(@NotNull Class<T> eventClazz,
+                            @NotNull Executor executor,
+                            @NotNull Consumer<T> callback) {
+        Objects.requireNonNull(eventClazz, "eventClazz cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        Objects.requireNonNull(callback, "callback cannot be null");
+
+        BatchedEventSubscriber<T> subscriber =
+                new BatchedEventSubscriber<>(executor, callback);
+        batchedSubscribers.add(subscriber);
+
+        IoDisposable events = this.subscribeEvents(eventClazz, event -> {
+            subscriber.add(event);
+            if (!polling) {
+                subscriber.flush();
+            }
+        });
+
+        Disposable rxDisposable = new CompositeDisposable(events,
+                Disposable.fromRunnable(() -> {
+                    batchedSubscribers.remove(subscriber);
+                    subscriber.dispose();
+                }));
+        return new IoDisposable(rxDisposable);
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to events emitted from this I/O device, with the callback
+     * being executed on the specified scheduler.
+     * <p>
+     * <b>Shorthand for:</b> {@link #subscribeEvents(Class, Executor,
+     * Consumer)}, with the argument for {@code executor} being
+     * {@link Scheduler#scheduleDirect(Runnable)} of {@code scheduler}.
+     *
+     * @param eventClazz the event type class to listen for. Only events of
+     *                   this type and those extending it will be emitted
+     *                   to {@code callable}.
+     * @param scheduler  the scheduler to run {@code callback} on.
+     * @param callback   the code to execute when an event of the desired
+     *                   type is emitted by the device.
+     * @param <T>        the event type.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time.
+     * @throws NullPointerException if {@code eventClazz}, {@code scheduler},
+     *                              or {@code callback} are {@code null}.
+     */
+    /* @formatter:off */
+    public final <T extends IoDeviceEvent> @NotNull IoDisposable
+            subscribeEvents(@NotNull Class<T> eventClazz,
+                            @NotNull Scheduler scheduler,
+                            @NotNull Consumer<T> callback) {
+        Objects.requireNonNull(scheduler, "scheduler cannot be null");
+        return this.subscribeEvents(eventClazz, scheduler::scheduleDirect,
+                callback);
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to change events emitted from this I/O device, with the
+     * callback being executed no more than a given amount of times per
+     * second for each feature.
+     * <p>
+     * When a change event is emitted before {@code callback} is ready for
+     * another, it is held back and coalesced with the change events which
+     * follow. The coalesced event is delivered once enough time has passed,
+     * at the latest at the end of the first poll for which this is true.
+     * As such, no change is lost. Time is measured using the poll time of
+     * this device.
+     *
+     * @param eventClazz the event type class to listen for. Only events of
+     *                   this type and those extending it will be emitted
+     *                   to {@code callable}.
+     * @param maxRate    the maximum amount of times per second to execute
+     *                   {@code callback} for each feature. A value of
+     *                   {@link Double#POSITIVE_INFINITY} is permitted,
+     *                   and will result in events only being coalesced
+     *                   when emitted during the same poll. These are
+     *                   delivered once the poll has finished.
+     * @param callback   the code to execute when an event of the desired
+     *                   type is emitted by the device.
+     * @param <T>        the event type.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time. Events being held back when it
+     * is disposed are discarded.
+     * @throws NullPointerException     if {@code eventClazz} or
+     *                                  {@code callback} are {@code null}.
+     * @throws IllegalArgumentException if {@code maxRate} is not greater
+     *                                  than zero.
+     * @see IoFeatureChangeEvent#coalesce(IoFeatureChangeEvent)
+     */
+    /* @formatter:off */
+    public final <T extends IoFeatureChangeEvent> @NotNull IoDisposable
+            subscribeEvents(@NotNull Class<T> eventClazz, double maxRate,
+                            @NotNull Consumer<T> callback) {
+        Objects.requireNonNull(eventClazz, "eventClazz cannot be null");
+        Objects.requireNonNull(callback, "callback cannot be null");
+        if (!(maxRate > 0.0D)) {
+            throw new IllegalArgumentException("maxRate must be > 0");
+        }
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / maxRate);
+        ThrottledEventSubscriber<T> subscriber =
+                new ThrottledEventSubscriber<>(this, interval, callback);
+        throttledSubscribers.add(subscriber);
+
+        IoDisposable events =
+                this.subscribeEvents(eventClazz, subscriber::add);
+
+        Disposable rxDisposable = new CompositeDisposable(events,
+                Disposable.fromRunnable(() -> {
+                    throttledSubscribers.remove(subscriber);
+                    subscriber.dispose();
+                }));
+        return new IoDisposable(rxDisposable);
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to events triggered by a single feature of this I/O
+     * device. Unlike filtering the events of the entire device, emitting
+     * an event only visits the listeners of the feature which triggered
+     * it. As such, the cost of emitting an event does not grow with the
+     * amount of features being listened to.
+     * <p>
+     * <b>Note:</b> The subscription ends when {@code feature} is
+     * unregistered. The {@link IoFeatureUnregisterEvent} for it is not
+     * given to {@code callback}.
+     *
+     * @param feature    the feature whose events to listen for.
+     * @param eventClazz the event type class to listen for. Only events of
+     *                   this type and those extending it will be emitted
+     *                   to {@code callable}.
+     * @param callback   the code to execute when an event of the desired
+     *                   type is triggered by {@code feature}.
+     * @param <T>        the event type.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time.
+     * @throws NullPointerException  if {@code feature}, {@code eventClazz},
+     *                               or {@code callback} are {@code null}.
+     * @throws IllegalStateException if {@code feature} is not registered
+     *                               to this device.
+     */
+    /* @formatter:off */
+    public final synchronized <T extends IoFeatureEvent> @NotNull IoDisposable
+            subscribeEvents(@NotNull IoFeature<?, ?> feature,
+                            @NotNull Class<T> eventClazz,
+                            @NotNull Consumer<T> callback) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        Objects.requireNonNull(eventClazz, "eventClazz cannot be null");
+        Objects.requireNonNull(callback, "callback cannot be null");
+
+        int slot = registry.getFeatureSlot(feature);
+        if (slot == IoEventRing.NO_SLOT) {
+            throw new IllegalStateException("feature not registered");
+        }
+
+        FeatureListeners listeners = observer.featureListeners;
+        FeatureListeners.Listener listener =
+                listeners.add(slot, eventClazz, callback);
+        return new IoDisposable(Disposable.fromRunnable(
+                () -> listeners.remove(slot, listener)));
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to the events emitted from this I/O device in batches.
+     * Rather than receiving each event separately, {@code callback} is
+     * given all events emitted during a poll at once, after polling has
+     * finished. Events emitted outside of {@link #poll()} are given to
+     * {@code callback} immediately, in a batch of their own.
+     * <p>
+     * <b>Note:</b> The same {@link EventBatch} instance is reused for each
+     * poll. Its contents are only valid until {@code callback} returns.
+     * Batches are always delivered on the thread which polled the device,
+     * even if it uses asynchronous events.
+     *
+     * @param callback the code to execute with each batch of events.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time.
+     * @throws NullPointerException if {@code callback} is {@code null}.
+     */
+    /* @formatter:off */
+    public final @NotNull IoDisposable
+            subscribeBatches(@NotNull Consumer<EventBatch> callback) {
+        return observer.batcher.subscribe(callback);
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to all events emitted from this I/O device, with the
+     * callback being executed by the specified executor.
+     * <p>
+     * <b>Shorthand for:</b> {@link #subscribeEvents(Class, Executor,
+     * Consumer)}, with the argument for {@code eventClazz} being
+     * {@code IoDeviceEvent.class}.
+     *
+     * @param executor the executor to run {@code callback} on.
+     * @param callback the code to execute when an event is emitted by the
+     *                 device.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time.
+     * @throws NullPointerException if {@code executor} or {@code callback}
+     *                              are {@code null}.
+     */
+    /* @formatter:off */
+    public final @NotNull IoDisposable
+            subscribeEvents(@NotNull Executor executor,
+                            @NotNull Consumer<IoDeviceEvent> callback) {
+        return this.subscribeEvents(IoDeviceEvent.class, executor, callback);
+    }
+    /* @formatter:on */
+
+    /**
+     * Subscribes to all events emitted from this I/O device, with the
+     * callback being executed on the specified scheduler.
+     * <p>
+     * <b>Shorthand for:</b> {@link #subscribeEvents(Class, Scheduler,
+     * Consumer)}, with the argument for {@code eventClazz} being
+     * {@code IoDeviceEvent.class}.
+     *
+     * @param scheduler the scheduler to run {@code callback} on.
+     * @param callback  the code to execute when an event is emitted by the
+     *                  device.
+     * @return the new {@link IoDisposable} instance, which can be used to
+     * dispose the subscription at any time.
+     * @throws NullPointerException if {@code scheduler} or {@code callback}
+     *                              are {@code null}.
+     */
+    /* @formatter:off */
+    public final @NotNull IoDisposable
+            subscribeEvents(@NotNull Scheduler scheduler,
+                            @NotNull Consumer<IoDeviceEvent> callback) {
+        return this.subscribeEvents(IoDeviceEvent.class, scheduler, callback);
+    }
+    /* @formatter:on */
+
     /**
      * Subscribes to all events emitted from this I/O device.
      *
@@ -193,6 +486,119 @@ public abstract class IoDevice implements FeatureRegistry {
     }
     /* @formatter:on */
 
+    /**
+     * Makes this device deliver events to subscribers asynchronously.
+     * Emitted events are added to a bounded queue, rather than delivered
+     * on the thread which emitted them (typically the thread polling this
+     * device.) This prevents a slow subscriber from stalling polling.
+     * <p>
+     * If this device already uses asynchronous events, its current queue
+     * is closed and replaced. Events still in the closed queue will be
+     * delivered.
+     * <p>
+     * <b>Note:</b> Events are still delivered in the order they were
+     * emitted. However, subscribers can no longer expect the state of
+     * this device to match that described by an event when it arrives.
+     *
+     * @param capacity how many events can wait to be delivered.
+     * @param policy   what to do with an event emitted while
+     *                 {@code capacity} events are waiting to be
+     *                 delivered.
+     * @param executor the executor to deliver events with. A value of
+     *                 {@code null} is permitted, and will result in a
+     *                 dedicated consumer thread being started for this
+     *                 device.
+     * @return the queue events will be added to, which can be used to
+     * retrieve how often {@code policy} was applied.
+     * @throws NullPointerException     if {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  one.
+     * @see #useSyncEvents()
+     */
+    /* @formatter:off */
+    public final synchronized @NotNull AsyncEventQueue
+            useAsyncEvents(int capacity,
+                           @NotNull AsyncEventQueue.OverflowPolicy policy,
+                           @Nullable Executor executor) {
+        String threadName = "ketill-events-" + typeId;
+        AsyncEventQueue queue = new AsyncEventQueue(observer::deliver,
+                capacity, policy, executor, threadName);
+        this.useSyncEvents();
+        this.asyncEvents = queue;
+        observer.asyncQueue = queue;
+        return queue;
+    }
+    /* @formatter:on */
+
+    /**
+     * Makes this device deliver events to subscribers synchronously, on
+     * the thread which emitted them. This is the default behavior.
+     * <p>
+     * If this device uses asynchronous events, its queue is closed. Events
+     * still in the queue will be delivered.
+     *
+     * @see #useAsyncEvents(int, AsyncEventQueue.OverflowPolicy, Executor)
+     */
+    public final synchronized void useSyncEvents() {
+        if (asyncEvents != null) {
+            observer.asyncQueue = null;
+            asyncEvents.close();
+            this.asyncEvents = null;
+        }
+    }
+
+    /**
+     * Returns the queue this device adds emitted events to.
+     *
+     * @return the queue this device adds emitted events to, {@code null}
+     * if events are delivered synchronously.
+     * @see #useAsyncEvents(int, AsyncEventQueue.OverflowPolicy, Executor)
+     */
+    public final synchronized @Nullable AsyncEventQueue getAsyncEvents() {
+        return this.asyncEvents;
+    }
+
+    /**
+     * Makes this device record the events it emits to a ring buffer of
+     * primitive records, alongside emitting them to subscribers. This is
+     * intended for consumers which read events at a high rate, as reading
+     * the records creates no objects.
+     * <p>
+     * If this device already uses an event ring, it is replaced.
+     *
+     * @param capacity how many records the ring can hold.
+     * @return the new event ring.
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  one.
+     * @see IoEventRing#cursor()
+     */
+    public final synchronized @NotNull IoEventRing useEventRing(int capacity) {
+        IoEventRing ring = new IoEventRing(capacity);
+        observer.eventRing = ring;
+        return ring;
+    }
+
+    /**
+     * Makes this device stop recording the events it emits to a ring
+     * buffer. Events are still emitted to subscribers.
+     *
+     * @see #useEventRing(int)
+     */
+    public final synchronized void removeEventRing() {
+        observer.eventRing = null;
+    }
+
+    /**
+     * Returns the ring buffer this device records the events it emits to.
+     *
+     * @return the ring buffer this device records the events it emits to,
+     * {@code null} if there is none.
+     * @see #useEventRing(int)
+     */
+    public final @Nullable IoEventRing getEventRing() {
+        return observer.eventRing;
+    }
+
     /**
      * Initializes the adapter instantiated at construction.
      * <p>
@@ -440,6 +846,33 @@ public abstract class IoDevice implements FeatureRegistry {
         return registry.getFeatureCount();
     }
 
+    /**
+     * Returns the slot assigned to a feature when it was registered.
+     *
+     * @param feature the feature whose slot to fetch.
+     * @return the slot assigned to {@code feature}, or
+     * {@value IoEventRing#NO_SLOT} if it is not registered.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     * @see RegisteredIoFeature#getSlot()
+     */
+    public final int getFeatureSlot(@NotNull IoFeature<?, ?> feature) {
+        return registry.getFeatureSlot(feature);
+    }
+
+    /**
+     * Returns the feature currently assigned a slot. This should be used
+     * to find the feature which triggered a record in an
+     * {@link IoEventRing}.
+     *
+     * @param slot the slot of the feature.
+     * @return the feature assigned {@code slot}, {@code null} if no
+     * registered feature has been assigned it.
+     * @see IoEventRing.Cursor#getSlot()
+     */
+    public final @Nullable IoFeature<?, ?> getFeatureAtSlot(int slot) {
+        return registry.getFeatureAtSlot(slot);
+    }
+
     @Override
     public final @Nullable IoFeature<?, ?> getFeatureById(@NotNull String id) {
         return registry.getFeatureById(id);
@@ -539,8 +972,16 @@ public abstract class IoDevice implements FeatureRegistry {
      * @see #featureUnregistered(IoFeature)
      */
     @Override
-    public void unregisterFeature(@NotNull IoFeature<?, ?> feature) {
+    public synchronized void unregisterFeature(@NotNull IoFeature<?, ?> feature) {
+        /*
+         * This must hold the same lock as subscribeEvents(). Otherwise, a
+         * listener could be added to the slot of the feature just after it
+         * was cleared, and be given the events of the next feature to be
+         * assigned the slot.
+         */
+        int slot = registry.getFeatureSlot(feature);
         registry.unregisterFeature(feature);
+        observer.featureListeners.clear(slot);
         this.featureUnregistered(feature);
         observer.onNext(new IoFeatureUnregisterEvent(this, feature));
     }
@@ -599,6 +1040,123 @@ public abstract class IoDevice implements FeatureRegistry {
         /* optional implement */
     }
 
+    /**
+     * Called during each poll, once all features registered to this device
+     * have been updated. Events emitted from here are delivered alongside
+     * the rest emitted during the poll.
+     */
+    protected void featuresUpdated() {
+        /* optional implement */
+    }
+
+    /**
+     * Returns the clock used to timestamp each poll of this device.
+     *
+     * @return the clock used to timestamp each poll of this device.
+     * @see #getPollTime()
+     */
+    public final @NotNull IoDeviceClock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * Sets the clock used to timestamp each poll of this device. The new
+     * clock is first read at the start of the next poll.
+     * <p>
+     * <b>Note:</b> The poll time is compared with times taken during
+     * earlier polls (e.g., to detect a held button). As such, the clock
+     * should be set before the device is first polled.
+     *
+     * @param clock the clock to use. A value of {@code null} is permitted,
+     *              and will result in {@link IoDeviceClock#SYSTEM} being
+     *              used.
+     */
+    public final synchronized void useClock(@Nullable IoDeviceClock clock) {
+        this.clock = clock != null ? clock : IoDeviceClock.SYSTEM;
+    }
+
+    /**
+     * Returns the time at which this device was last polled, according
+     * to its clock. This should be used by features which depend on timing,
+     * as it is read only once per poll and shared between all of them.
+     * <p>
+     * <b>Note:</b> Before the device is first polled, this returns the time
+     * at which it was constructed.
+     *
+     * @return the time in nanoseconds at which this device was last polled.
+     * @see #getClock()
+     */
+    public final long getPollTime() {
+        return this.pollTime;
+    }
+
+    /**
+     * Returns if the adapter of this device supports push mode. When it
+     * does, the adapter signals when new input has arrived. Any waker set
+     * via {@link #useWaker(IoDeviceWaker)} is then called.
+     *
+     * @return {@code true} if the adapter of this device supports push
+     * mode, {@code false} otherwise.
+     * @see IoDeviceAdapter#isPushMode()
+     */
+    public final boolean isPushMode() {
+        return adapter.isPushMode();
+    }
+
+    /**
+     * Returns the waker called when new input is available for this device.
+     *
+     * @return the waker called when new input is available for this device,
+     * {@code null} if there is none.
+     */
+    public final @Nullable IoDeviceWaker getWaker() {
+        return this.waker;
+    }
+
+    /**
+     * Sets the waker called when new input is available for this device.
+     * This is only ever called if the adapter of this device supports
+     * push mode.
+     * <p>
+     * <b>Note:</b> Only one waker can be set at a time, as a device should
+     * only be polled by one thread.
+     *
+     * @param waker the waker to use. A value of {@code null} is permitted,
+     *              and will result in no waker being called.
+     * @see #isPushMode()
+     */
+    public final void useWaker(@Nullable IoDeviceWaker waker) {
+        this.waker = waker;
+    }
+
+    /**
+     * Called by {@link IoDeviceAdapter#signalInput()}.
+     */
+    final void inputSignalled() {
+        IoDeviceWaker waker = this.waker;
+        if (waker != null) {
+            waker.wake(this);
+        }
+    }
+
+    /**
+     * Returns if this device must be polled again soon, even if no new
+     * input arrives (e.g., because a button is being held down.) A thread
+     * polling a device in push mode can sleep until woken only once this
+     * returns {@code false}.
+     * <p>
+     * By default, this returns {@code true} unless the adapter of this
+     * device supports push mode. Devices with features that depend on
+     * timing should override this method.
+     *
+     * @return {@code true} if this device must be polled again soon,
+     * {@code false} if it can wait until new input is available.
+     * @see #isPushMode()
+     */
+    public boolean needsPolling() {
+        return !this.isPushMode();
+    }
+
     /**
      * Performs a <i>single</i> query on the device adapter and updates all
      * features registered to this I/O device. It is recommended to call this
@@ -609,29 +1167,108 @@ public abstract class IoDevice implements FeatureRegistry {
      */
     @MustBeInvokedByOverriders
     public synchronized void poll() {
+        this.polling = true;
+        try {
+            this.pollImpl();
+        } finally {
+            this.polling = false;
+            this.flushSubscribers();
+        }
+    }
+
+    private static void onFlushError(@NotNull Throwable cause) {
+        /*
+         * Flushing happens in the finally block of poll(). An error here
+         * would hide any error thrown by the poll itself, and would skip
+         * flushing the remaining subscribers. As such, it is handled the
+         * same way RxJava handles errors for other subscribers.
+         */
+        Exceptions.throwIfFatal(cause);
+        RxJavaPlugins.onError(cause);
+    }
+
+    private void flushSubscribers() {
+        /*
+         * Change events held back by a throttled subscriber would not
+         * be delivered until their feature changes again. Now that the
+         * poll time has advanced, those which are due are delivered.
+         */
+        for (ThrottledEventSubscriber<?> subscriber : throttledSubscribers) {
+            try {
+                subscriber.flush();
+            } catch (Throwable cause) {
+                onFlushError(cause);
+            }
+        }
+
+        /*
+         * Subscribers with an executor collect the events emitted
+         * during a poll. Now that polling has finished, they can be
+         * handed to their executors in a single task.
+         */
+        for (BatchedEventSubscriber<?> subscriber : batchedSubscribers) {
+            try {
+                subscriber.flush();
+            } catch (Throwable cause) {
+                onFlushError(cause);
+            }
+        }
+
+        try {
+            observer.batcher.flush();
+        } catch (Throwable cause) {
+            onFlushError(cause);
+        }
+    }
+
+    private void pollImpl() {
+        this.pollTime = clock.nanoTime();
+
         try {
             adapter.pollDevice();
         } catch (Throwable cause) {
-            if (cause instanceof KetillException) {
-                throw (KetillException) cause;
-            }
-            String msg = "error while polling ";
-            msg += adapter.getClass().getName();
-            throw new KetillException(msg, cause);
+            throw this.wrapAdapterError("polling", cause);
         }
 
         boolean wasConnected = this.connected;
         this.connected = this.isConnected();
+        IoEventRing ring = observer.eventRing;
         if (connected && !wasConnected) {
             this.deviceConnected();
+            if (ring != null) {
+                ring.write(CONNECT_TYPE, IoEventRing.NO_SLOT, pollTime);
+            }
             observer.onNext(new IoDeviceConnectEvent(this));
         } else if (!connected && wasConnected) {
             this.deviceDisconnected();
+            if (ring != null) {
+                ring.write(DISCONNECT_TYPE, IoEventRing.NO_SLOT, pollTime);
+            }
             observer.onNext(new IoDeviceDisconnectEvent(this));
         }
 
         registry.updateFeatures();
+        this.featuresUpdated();
+
+        try {
+            adapter.featuresUpdated();
+        } catch (Throwable cause) {
+            throw this.wrapAdapterError("flushing", cause);
+        }
+    }
+
+    /* @formatter:off */
+    private @NotNull KetillException
+            wrapAdapterError(@NotNull String action,
+                             @NotNull Throwable cause) {
+        if (cause instanceof KetillException) {
+            return (KetillException) cause;
+        }
+        String msg = "error while " + action + " ";
+        msg += adapter.getClass().getName();
+        return new KetillException(msg, cause);
     }
+    /* @formatter:on */
 
     /* @formatter:off */
     @Override
@@ -83,6 +83,57 @@ public abstract class IoDeviceAdapter<I extends IoDevice> {
      */
     protected abstract void pollDevice() throws Exception;
 
+    /**
+     * Called by {@link IoDevice#poll()} after every feature has been
+     * updated.
+     * <p>
+     * This is where changes to output features (e.g., rumble motors or
+     * LEDs) staged by their updaters during the current poll should be
+     * written to the device. Doing so allows for multiple changes to be
+     * merged into a single write.
+     * <p>
+     * <b>On error:</b> Any exceptions thrown by this method that
+     * are not an instance of {@link KetillException} will be wrapped
+     * into one and thrown back to the caller. They will otherwise
+     * be thrown to the caller as-is.
+     * <p>
+     * <b>Thread safety:</b> Implementation dependent.
+     *
+     * @throws Exception if an error occurs.
+     */
+    protected void featuresUpdated() throws Exception {
+        /* optional implement */
+    }
+
+    /**
+     * Returns if this adapter supports push mode. An adapter in push mode
+     * calls {@link #signalInput()} each time new input arrives, so the
+     * thread polling the device can sleep while there is none.
+     * <p>
+     * This should only return {@code true} if <i>all</i> input is signalled.
+     * Otherwise, some input would only be seen once other input arrives.
+     * <p>
+     * <b>Thread safety:</b> Implementation dependent.
+     *
+     * @return {@code true} if this adapter supports push mode,
+     * {@code false} otherwise.
+     * @see IoDevice#useWaker(IoDeviceWaker)
+     */
+    protected boolean isPushMode() {
+        return false; /* optional implement */
+    }
+
+    /**
+     * Signals that new input is available for {@link #device}. This should
+     * be called by adapters in push mode each time new input arrives. It can
+     * be called from any thread.
+     *
+     * @see #isPushMode()
+     */
+    protected final void signalInput() {
+        device.inputSignalled();
+    }
+
     /**
      * Called by {@link IoDevice#isConnected()}.
      * <p>
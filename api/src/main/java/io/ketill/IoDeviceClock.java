@@ -0,0 +1,37 @@
+package io.ketill;
+
+/**
+ * A monotonic clock used by an {@link IoDevice} to timestamp each poll.
+ * <p>
+ * The clock is read <i>once</i> at the start of each call to
+ * {@link IoDevice#poll()}. Features which depend on timing (e.g., the
+ * detection of a held button) then use the time of that poll via
+ * {@link IoDevice#getPollTime()}, rather than reading the clock again.
+ * This keeps timing consistent between every feature of the device.
+ * <p>
+ * By default, devices use {@link #SYSTEM}. A virtual clock can be used
+ * instead for deterministic tests or for replaying recorded input.
+ *
+ * @see IoDevice#useClock(IoDeviceClock)
+ */
+@FunctionalInterface
+public interface IoDeviceClock {
+
+    /**
+     * A clock backed by {@link System#nanoTime()}. Unlike the wall clock,
+     * it does not jump when the system time is adjusted.
+     */
+    IoDeviceClock SYSTEM = System::nanoTime;
+
+    /**
+     * Returns the current time of this clock in nanoseconds.
+     * <p>
+     * <b>Requirements:</b> The returned value must never decrease. It is
+     * only meaningful when compared with other values returned by this
+     * clock, and as such need not relate to any wall clock time.
+     *
+     * @return the current time of this clock in nanoseconds.
+     */
+    long nanoTime();
+
+}
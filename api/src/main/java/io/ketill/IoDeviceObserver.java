@@ -2,6 +2,7 @@ package io.ketill;
 
 import io.reactivex.rxjava3.subjects.Subject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
@@ -15,11 +16,17 @@ import java.util.Objects;
 public final class IoDeviceObserver extends EventObserver<IoDeviceEvent> {
 
     private final @NotNull IoDevice device;
+    volatile @Nullable AsyncEventQueue asyncQueue;
+    volatile @Nullable IoEventRing eventRing;
+    final @NotNull EventBatcher batcher;
+    final @NotNull FeatureListeners featureListeners;
 
     IoDeviceObserver(@NotNull IoDevice device,
                      @NotNull Subject<IoDeviceEvent> subject) {
         super(subject);
         this.device = device;
+        this.batcher = new EventBatcher(device);
+        this.featureListeners = new FeatureListeners();
     }
 
     /**
@@ -33,11 +40,48 @@ public final class IoDeviceObserver extends EventObserver<IoDeviceEvent> {
         return this.device;
     }
 
+    /**
+     * Returns the ring events should also be recorded to. Code emitting
+     * events should write a record to this ring when it is present.
+     * <p>
+     * <b>Thread safety:</b> This method is <i>thread-safe.</i> However,
+     * the returned ring should only be written to by the thread polling
+     * the device.
+     *
+     * @return the ring events should be recorded to, {@code null} if the
+     * device does not use one.
+     * @see IoDevice#useEventRing(int)
+     */
+    public @Nullable IoEventRing getEventRing() {
+        return this.eventRing;
+    }
+
+    /**
+     * Returns if any subscribers are currently observing events. Code
+     * emitting events can use this to avoid creating events which no one
+     * would receive. This includes batch subscribers and the listeners of
+     * individual features.
+     * <p>
+     * <b>Thread safety:</b> This method is <i>thread-safe.</i>
+     *
+     * @return {@code true} if there is at least one subscriber,
+     * {@code false} otherwise.
+     */
+    public boolean hasSubscribers() {
+        return subject.hasObservers() || batcher.hasSubscribers()
+                || featureListeners.hasListeners();
+    }
+
     /**
      * Provides subscribers with a new event to observe. This method may
      * be called zero or more times. The event <i>must</i> come from the
      * device which created this observer.
      * <p>
+     * If the device uses asynchronous events, the event is added to its
+     * {@link AsyncEventQueue} rather than being delivered immediately.
+     * If the device has batch subscribers, the event is also added to
+     * the {@link EventBatch} of the current poll.
+     * <p>
      * <b>Thread safety:</b> This method is <i>thread-safe.</i>
      *
      * @param event the event to emit.
@@ -58,6 +102,45 @@ public final class IoDeviceObserver extends EventObserver<IoDeviceEvent> {
             throw new IllegalArgumentException(msg);
         }
 
+        if (batcher.hasSubscribers()) {
+            batcher.add(event);
+            if (!device.polling) {
+                batcher.flush();
+            }
+        }
+
+        if (event instanceof IoFeatureEvent
+                && featureListeners.hasListeners()) {
+            IoFeatureEvent featureEvent = (IoFeatureEvent) event;
+            IoFeature<?, ?> feature = featureEvent.getFeature();
+            featureEvent.slot = device.getFeatureSlot(feature);
+        }
+
+        AsyncEventQueue queue = this.asyncQueue;
+        if (queue == null || !queue.offer(event)) {
+            this.deliver(event);
+        }
+    }
+
+    /*
+     * Delivers an event to the listeners of the feature which triggered
+     * it (if any), and then to all other subscribers. This is called by
+     * the asynchronous event queue of the device when it has one.
+     */
+    void deliver(@NotNull IoDeviceEvent event) {
+        if (event instanceof IoFeatureEvent) {
+            /*
+             * With asynchronous events, the feature which triggered this
+             * event may have been unregistered before it was delivered. If
+             * its slot has since been given to another feature, then the
+             * listeners of that slot are not for this event.
+             */
+            IoFeatureEvent featureEvent = (IoFeatureEvent) event;
+            int slot = featureEvent.slot;
+            if (device.getFeatureAtSlot(slot) == featureEvent.getFeature()) {
+                featureListeners.dispatch(slot, event);
+            }
+        }
         subject.onNext(event);
     }
 
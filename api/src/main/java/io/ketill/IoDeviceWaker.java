@@ -0,0 +1,35 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Notified when new input is available for an {@link IoDevice} whose
+ * adapter supports push mode.
+ * <p>
+ * Some adapters receive input via callbacks (e.g., from an event thread),
+ * rather than by querying the device each poll. These adapters can signal
+ * when new input has arrived. A thread which polls such a device can then
+ * sleep until it is woken, instead of polling it repeatedly while nothing
+ * is happening.
+ * <p>
+ * <b>Thread safety:</b> A waker is called on the thread which received
+ * the input, which is usually <i>not</i> the thread that polls the device.
+ * As such, implementations must be thread-safe. They should also return
+ * quickly, as they may be called on a UI thread.
+ *
+ * @see IoDevice#useWaker(IoDeviceWaker)
+ * @see IoDevice#isPushMode()
+ * @see IoDevice#needsPolling()
+ */
+@FunctionalInterface
+public interface IoDeviceWaker {
+
+    /**
+     * Called when new input is available for a device. The device should
+     * be polled soon afterwards, on the thread which usually polls it.
+     *
+     * @param device the device which has new input available.
+     */
+    void wake(@NotNull IoDevice device);
+
+}
@@ -0,0 +1,357 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A reusable ring buffer of fixed-size event records, written by an
+ * {@link IoDevice} alongside the events it emits to subscribers.
+ * <p>
+ * Each record consists of an event type ID, the slot of the feature
+ * which triggered it (or {@value #NO_SLOT} if there was none), the poll
+ * time at which it occurred, and up to {@value #VALUE_COUNT} values.
+ * Records are stored in primitive arrays allocated when the ring is
+ * created. As such, writing and reading them creates no objects. This
+ * makes the ring suitable for high-rate consumers (e.g., a 1000Hz mouse,
+ * combo detection, or input recording.)
+ * <p>
+ * Records are read via a {@link Cursor}. Each cursor keeps its own
+ * position, allowing multiple consumers to read the same ring. When a
+ * consumer falls more than {@link #getCapacity()} records behind, the
+ * oldest records are overwritten. The cursor then skips ahead, and the
+ * amount of records skipped is available via
+ * {@link Cursor#getMissedCount()}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. Records
+ * are written by the thread polling the device. Cursors should only be
+ * used by the same thread (e.g., after calling {@link IoDevice#poll()}.)
+ *
+ * @see IoDevice#useEventRing(int)
+ * @see #getTypeId(Class)
+ * @see IoDevice#getFeatureAtSlot(int)
+ */
+public final class IoEventRing {
+
+    /**
+     * The slot written for events not triggered by a feature (e.g.,
+     * when a device is connected.)
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * The maximum amount of values a single record can hold.
+     */
+    public static final int VALUE_COUNT = 4;
+
+    private static final Map<Class<?>, Integer> TYPE_IDS = new HashMap<>();
+    private static final List<Class<?>> TYPES = new ArrayList<>();
+
+    /* @formatter:off */
+    /**
+     * Returns the ID used in records for an event type. An ID is assigned
+     * the first time this is called for a type, and never changes. As such,
+     * it is recommended to store this in a {@code static final} field.
+     * <p>
+     * <b>Thread safety:</b> This method is <i>thread-safe.</i>
+     *
+     * @param type the event type.
+     * @return the ID for {@code type}.
+     * @throws NullPointerException if {@code type} is {@code null}.
+     */
+    public static int
+            getTypeId(@NotNull Class<? extends IoDeviceEvent> type) {
+        Objects.requireNonNull(type, "type cannot be null");
+        synchronized (TYPE_IDS) {
+            Integer id = TYPE_IDS.get(type);
+            if (id == null) {
+                id = TYPES.size();
+                TYPES.add(type);
+                TYPE_IDS.put(type, id);
+            }
+            return id;
+        }
+    }
+    /* @formatter:on */
+
+    /* @formatter:off */
+    /**
+     * Returns the event type for an ID used in records.
+     * <p>
+     * <b>Thread safety:</b> This method is <i>thread-safe.</i>
+     *
+     * @param typeId the event type ID.
+     * @return the event type with ID {@code typeId}, {@code null} if no
+     * event type has been assigned it.
+     * @see #getTypeId(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable Class<? extends IoDeviceEvent>
+            getType(int typeId) {
+        synchronized (TYPE_IDS) {
+            if (typeId < 0 || typeId >= TYPES.size()) {
+                return null;
+            }
+            return (Class<? extends IoDeviceEvent>) TYPES.get(typeId);
+        }
+    }
+    /* @formatter:on */
+
+    /**
+     * Reads records from an {@link IoEventRing}, in the order they were
+     * written. The values of the current record are available once
+     * {@link #next()} returns {@code true}.
+     * <p>
+     * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It
+     * should only be used by the thread polling the device.
+     */
+    public final class Cursor {
+
+        private long position;
+        private int index;
+        private long missedCount;
+
+        private Cursor(long position) {
+            this.position = position;
+            this.index = -1;
+        }
+
+        /**
+         * Moves this cursor to the next record, if one has been written.
+         *
+         * @return {@code true} if this cursor moved to the next record,
+         * {@code false} if there are no more records to read.
+         */
+        public boolean next() {
+            if (position >= written) {
+                return false;
+            }
+
+            /*
+             * If the writer has lapped this cursor, the records it has not
+             * read yet were overwritten. The only option is to skip ahead
+             * to the oldest record which still exists.
+             */
+            long oldest = written - types.length;
+            if (position < oldest) {
+                this.missedCount += oldest - position;
+                this.position = oldest;
+            }
+
+            this.index = (int) (position % types.length);
+            this.position++;
+            return true;
+        }
+
+        /**
+         * Moves this cursor past every record written so far, without
+         * reading them.
+         */
+        public void skipAll() {
+            this.position = written;
+            this.index = -1;
+        }
+
+        private void requireRecord() {
+            if (index < 0) {
+                throw new IllegalStateException("no current record");
+            }
+        }
+
+        /**
+         * Returns the sequence number of the current record. The first
+         * record written to the ring has a sequence number of zero.
+         *
+         * @return the sequence number of the current record.
+         * @throws IllegalStateException if there is no current record.
+         */
+        public long getSequence() {
+            this.requireRecord();
+            return this.position - 1;
+        }
+
+        /**
+         * Returns the event type ID of the current record.
+         *
+         * @return the event type ID of the current record.
+         * @throws IllegalStateException if there is no current record.
+         * @see IoEventRing#getType(int)
+         */
+        public int getTypeId() {
+            this.requireRecord();
+            return types[index];
+        }
+
+        /**
+         * Returns the slot of the feature which triggered the current
+         * record.
+         *
+         * @return the slot of the feature which triggered the current
+         * record, {@value IoEventRing#NO_SLOT} if there was none.
+         * @throws IllegalStateException if there is no current record.
+         * @see IoDevice#getFeatureAtSlot(int)
+         */
+        public int getSlot() {
+            this.requireRecord();
+            return slots[index];
+        }
+
+        /**
+         * Returns the poll time at which the current record was written.
+         *
+         * @return the poll time in nanoseconds at which the current record
+         * was written.
+         * @throws IllegalStateException if there is no current record.
+         * @see IoDevice#getPollTime()
+         */
+        public long getTime() {
+            this.requireRecord();
+            return times[index];
+        }
+
+        /**
+         * Returns a value of the current record. What each value means
+         * depends on the event type. Unused values are zero.
+         *
+         * @param i the index of the value.
+         * @return the value at index {@code i} of the current record.
+         * @throws IllegalStateException     if there is no current record.
+         * @throws IndexOutOfBoundsException if {@code i} is negative, or
+         *                                   not less than
+         *                                   {@value IoEventRing#VALUE_COUNT}.
+         */
+        public float getValue(int i) {
+            this.requireRecord();
+            if (i < 0 || i >= VALUE_COUNT) {
+                String msg = "Index: " + i + ", Size: " + VALUE_COUNT;
+                throw new IndexOutOfBoundsException(msg);
+            }
+            return values[index * VALUE_COUNT + i];
+        }
+
+        /**
+         * Returns how many records were overwritten before this cursor
+         * could read them.
+         *
+         * @return how many records this cursor has missed.
+         */
+        public long getMissedCount() {
+            return this.missedCount;
+        }
+
+    }
+
+    private final int[] types;
+    private final int[] slots;
+    private final long[] times;
+    private final float[] values;
+    private long written;
+
+    /**
+     * Constructs a new {@code IoEventRing}.
+     *
+     * @param capacity how many records the ring can hold.
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  one.
+     */
+    public IoEventRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        this.types = new int[capacity];
+        this.slots = new int[capacity];
+        this.times = new long[capacity];
+        this.values = new float[capacity * VALUE_COUNT];
+    }
+
+    /**
+     * Returns how many records this ring can hold.
+     *
+     * @return the capacity of this ring.
+     */
+    public int getCapacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns how many records have been written to this ring. This
+     * includes records which have since been overwritten.
+     *
+     * @return how many records have been written.
+     */
+    public long getWrittenCount() {
+        return this.written;
+    }
+
+    /**
+     * Creates a new cursor for this ring. The cursor starts after the
+     * last record written, meaning it will only read records written
+     * after its creation.
+     *
+     * @return the new cursor.
+     */
+    public @NotNull Cursor cursor() {
+        return new Cursor(written);
+    }
+
+    /**
+     * Writes a record to this ring, overwriting the oldest record if it
+     * is full.
+     *
+     * @param typeId the event type ID.
+     * @param slot   the slot of the feature which triggered the event,
+     *               {@value #NO_SLOT} if there was none.
+     * @param time   the poll time at which the event occurred.
+     * @param v0     the first value.
+     * @param v1     the second value.
+     * @param v2     the third value.
+     * @param v3     the fourth value.
+     * @see #getTypeId(Class)
+     */
+    public void write(int typeId, int slot, long time,
+                      float v0, float v1, float v2, float v3) {
+        int index = (int) (written % types.length);
+        types[index] = typeId;
+        slots[index] = slot;
+        times[index] = time;
+
+        int offset = index * VALUE_COUNT;
+        values[offset] = v0;
+        values[offset + 1] = v1;
+        values[offset + 2] = v2;
+        values[offset + 3] = v3;
+
+        this.written++;
+    }
+
+    /**
+     * Writes a record with no values to this ring.
+     * <p>
+     * <b>Shorthand for:</b> {@link #write(int, int, long, float, float,
+     * float, float)}, with each value being zero.
+     *
+     * @param typeId the event type ID.
+     * @param slot   the slot of the feature which triggered the event,
+     *               {@value #NO_SLOT} if there was none.
+     * @param time   the poll time at which the event occurred.
+     */
+    public void write(int typeId, int slot, long time) {
+        this.write(typeId, slot, time, 0.0F, 0.0F, 0.0F, 0.0F);
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("capacity=" + types.length)
+                .add("written=" + written)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
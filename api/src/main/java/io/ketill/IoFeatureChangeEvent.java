@@ -0,0 +1,50 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * The base for events emitted by {@link IoDevice} when the value of an
+ * analog {@link IoFeature} has changed (e.g., the position of a cursor.)
+ * <p>
+ * Unlike other events, change events can be coalesced. When a subscriber
+ * is not ready to receive another change event, it is combined with the
+ * change events which follow it. As such, no change is lost, even when
+ * the subscriber receives fewer events than were emitted.
+ *
+ * @see IoDevice#subscribeEvents(Class, double, Consumer)
+ */
+public abstract class IoFeatureChangeEvent extends IoFeatureEvent {
+
+    /**
+     * Constructs a new {@code IoFeatureChangeEvent}.
+     *
+     * @param emitter the device which emitted this event.
+     * @param feature the feature which triggered this event.
+     * @throws NullPointerException if {@code emitter} or {@code feature}
+     *                              are {@code null}.
+     */
+    public IoFeatureChangeEvent(@NotNull IoDevice emitter,
+                                @NotNull IoFeature<?, ?> feature) {
+        super(emitter, feature);
+    }
+
+    /**
+     * Combines this event with one emitted after it. The returned event
+     * must describe the change from before this event to after
+     * {@code next} (e.g., by summing their deltas, and taking the latest
+     * value from {@code next}.)
+     * <p>
+     * <b>Note:</b> {@code next} is always of the same class as this
+     * event, and was triggered by the same feature.
+     *
+     * @param next the event emitted after this one.
+     * @return an event describing the change of both events.
+     */
+    /* @formatter:off */
+    protected abstract @NotNull IoFeatureChangeEvent
+            coalesce(@NotNull IoFeatureChangeEvent next);
+    /* @formatter:on */
+
+}
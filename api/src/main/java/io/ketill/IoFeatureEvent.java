@@ -11,6 +11,14 @@ public abstract class IoFeatureEvent extends IoDeviceEvent {
 
     private final IoFeature<?, ?> feature;
 
+    /*
+     * The slot of the feature is looked up when the event is emitted,
+     * while the feature is known to still be registered. This allows
+     * the event to be given to the listeners of the feature later on,
+     * even if it is delivered asynchronously.
+     */
+    int slot = IoEventRing.NO_SLOT;
+
     /**
      * Constructs a new {@code IoFeatureEvent}.
      *
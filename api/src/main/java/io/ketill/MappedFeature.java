@@ -7,10 +7,13 @@ final class MappedFeature<R extends RegisteredIoFeature<?, Z, ?>, Z, P> {
 
     private final @Nullable P params;
     private final @NotNull StateUpdater<Z, P> updater;
+    final int updateDivisor;
 
-    MappedFeature(@Nullable P params, @NotNull StateUpdater<Z, P> updater) {
+    MappedFeature(@Nullable P params, @NotNull StateUpdater<Z, P> updater,
+                  int updateDivisor) {
         this.params = params;
         this.updater = updater;
+        this.updateDivisor = updateDivisor;
     }
 
     @NotNull Runnable getUpdater(@NotNull R registered) {
@@ -6,8 +6,10 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A special feature registry which supports mapping I/O features.
@@ -16,6 +18,15 @@ import java.util.Objects;
  */
 public final class MappedFeatureRegistry implements FeatureRegistry {
 
+    /**
+     * The update divisor used when a feature is mapped without one. It
+     * results in the feature being updated every time the device is
+     * polled.
+     *
+     * @see #mapFeature(IoFeature, Object, StateUpdater, int)
+     */
+    public static final int UPDATE_EVERY_POLL = 1;
+
     /* @formatter:off */
     private static final String DSE_MSG = "%s cannot be the %s" +
             " of a previously registered feature";
@@ -24,11 +35,19 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
     private final IoDeviceObserver observer;
     private final Map<IoFeature<?, ?>, RegisteredIoFeature<?, ?, ?>> features;
     private final Map<IoFeature<?, ?>, MappedFeature<?, ?, ?>> mappings;
+    private final List<RegisteredIoFeature<?, ?, ?>> slots;
 
     MappedFeatureRegistry(@NotNull IoDeviceObserver observer) {
         this.observer = observer;
         this.features = new HashMap<>();
         this.mappings = new HashMap<>();
+
+        /*
+         * The feature at a slot is looked up when delivering asynchronous
+         * events, which happens on another thread. Features are seldom
+         * registered, so copying the list each time is cheap enough.
+         */
+        this.slots = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -46,6 +65,53 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
         return mappings.containsKey(feature);
     }
 
+    /**
+     * Maps a feature to a state updater. Each time {@link #updateFeatures()}
+     * is called {@code updateDivisor} times, every feature with a mapping
+     * will have their state updated by their assigned state updater once
+     * (assuming they have one.) This allows for features which change
+     * slowly (e.g., a battery level) or are expensive to update to be
+     * updated less often than the device is polled.
+     * <p>
+     * <b>Note:</b> A feature can be mapped without being registered. This
+     * allows for an adapter to support a feature without being registered
+     * to the device. The autonomous updater of a feature (if present) is
+     * still run every time the device is polled.
+     *
+     * @param feature       the feature to map.
+     * @param params        the params to map the feature by. Depending on
+     *                      the feature and adapter, this could be something
+     *                      like a button ID or a file path.
+     * @param updater       the method to call when updating the state.
+     * @param updateDivisor how many polls it takes for the feature to be
+     *                      updated once. A value of one results in it being
+     *                      updated every poll.
+     * @param <F>           the I/O feature type.
+     * @param <Z>           the internal state type.
+     * @param <P>           the mapping parameters type.
+     * @throws NullPointerException     if {@code feature} or {@code updater}
+     *                                  are {@code null}.
+     * @throws IllegalArgumentException if {@code updateDivisor} is less
+     *                                  than one.
+     * @see MappingMethod
+     * @see #UPDATE_EVERY_POLL
+     */
+    /* @formatter:off */
+    public <F extends IoFeature<Z, ?>, Z, P> void
+            mapFeature(@NotNull F feature, @Nullable P params,
+                       @NotNull StateUpdater<Z, P> updater,
+                       int updateDivisor) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        Objects.requireNonNull(updater, "updater cannot be null");
+        if (updateDivisor < 1) {
+            throw new IllegalArgumentException("updateDivisor must be >= 1");
+        }
+        mappings.put(feature,
+                new MappedFeature<>(params, updater, updateDivisor));
+        this.updateMapping(feature);
+    }
+    /* @formatter:on */
+
     /**
      * Maps a feature to a state updater. Each time {@link #updateFeatures()}
      * is called, every feature with a mapping will have their state updated
@@ -54,6 +120,10 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
      * <b>Note:</b> A feature can be mapped without being registered. This
      * allows for an adapter to support a feature without being registered
      * to the device.
+     * <p>
+     * <b>Shorthand for:</b>
+     * {@link #mapFeature(IoFeature, Object, StateUpdater, int)}, with the
+     * argument for {@code updateDivisor} being {@link #UPDATE_EVERY_POLL}.
      *
      * @param feature the feature to map.
      * @param params  the params to map the feature by. Depending on the
@@ -71,10 +141,36 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
     public <F extends IoFeature<Z, ?>, Z, P> void
             mapFeature(@NotNull F feature, @Nullable P params,
                        @NotNull StateUpdater<Z, P> updater) {
-        Objects.requireNonNull(feature, "feature cannot be null");
-        Objects.requireNonNull(updater, "updater cannot be null");
-        mappings.put(feature, new MappedFeature<>(params, updater));
-        this.updateMapping(feature);
+        this.mapFeature(feature, params, updater, UPDATE_EVERY_POLL);
+    }
+    /* @formatter:on */
+
+    /**
+     * Maps a feature to a state updater, which is run once every
+     * {@code updateDivisor} polls.
+     * <p>
+     * <b>Shorthand for:</b>
+     * {@link #mapFeature(IoFeature, Object, StateUpdater, int)}, with the
+     * argument for {@code params} being {@code feature}.
+     *
+     * @param feature       the feature to map.
+     * @param updater       the method to call when updating the state.
+     * @param updateDivisor how many polls it takes for the feature to be
+     *                      updated once.
+     * @param <F>           the I/O feature type.
+     * @param <Z>           the internal state type.
+     * @throws NullPointerException     if {@code feature} or {@code updater}
+     *                                  are {@code null}.
+     * @throws IllegalArgumentException if {@code updateDivisor} is less
+     *                                  than one.
+     * @see MappingMethod
+     */
+    /* @formatter:off */
+    public <F extends IoFeature<Z, ?>, Z> void
+            mapFeature(@NotNull F feature,
+                       @NotNull StateUpdater<Z, F> updater,
+                       int updateDivisor) {
+        this.mapFeature(feature, feature, updater, updateDivisor);
     }
     /* @formatter:on */
 
@@ -107,6 +203,38 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
     }
     /* @formatter:on */
 
+    /**
+     * Maps a feature to a state updater, which is run once every
+     * {@code updateDivisor} polls.
+     * <p>
+     * <b>Shorthand for:</b>
+     * {@link #mapFeature(IoFeature, Object, StateUpdater, int)}, which passes
+     * {@code params} as {@code null} and converts {@code updater} to an
+     * instance of {@link StateUpdater}.
+     *
+     * @param feature       the feature to map.
+     * @param updater       the method to call when updating the state.
+     * @param updateDivisor how many polls it takes for the feature to be
+     *                      updated once.
+     * @param <F>           the I/O feature type.
+     * @param <Z>           the internal state type.
+     * @throws NullPointerException     if {@code feature} or {@code updater}
+     *                                  are {@code null}.
+     * @throws IllegalArgumentException if {@code updateDivisor} is less
+     *                                  than one.
+     * @see MappingMethod
+     */
+    /* @formatter:off */
+    public <F extends IoFeature<Z, ?>, Z> void
+            mapFeature(@NotNull F feature,
+                       @NotNull StateUpdater.NoParams<Z> updater,
+                       int updateDivisor) {
+        Objects.requireNonNull(updater, "updater cannot be null");
+        this.mapFeature(feature, null,
+                (state, params) -> updater.update(state), updateDivisor);
+    }
+    /* @formatter:on */
+
     /**
      * Maps a feature to a state updater. Each time {@link #updateFeatures()}
      * is called, every feature with a mapping will have their state updated
@@ -117,9 +245,8 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
      * to the device.
      * <p>
      * <b>Shorthand for:</b>
-     * {@link #mapFeature(IoFeature, Object, StateUpdater)}, which passes
-     * {@code params} as {@code null} and converts {@code updater} to an
-     * instance of {@link StateUpdater}.
+     * {@link #mapFeature(IoFeature, StateUpdater.NoParams, int)}, with the
+     * argument for {@code updateDivisor} being {@link #UPDATE_EVERY_POLL}.
      *
      * @param feature the feature to map.
      * @param updater the method to call when updating the state.
@@ -133,9 +260,7 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
     public <F extends IoFeature<Z, ?>, Z> void
             mapFeature(@NotNull F feature,
                        @NotNull StateUpdater.NoParams<Z> updater) {
-        Objects.requireNonNull(updater, "updater cannot be null");
-        this.mapFeature(feature, null,
-                (state, params) -> updater.update(state));
+        this.mapFeature(feature, updater, UPDATE_EVERY_POLL);
     }
     /* @formatter:on */
 
@@ -157,10 +282,32 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
         RegisteredIoFeature<?, ?, ?> registered = features.get(feature);
         if (registered != null) {
             registered.adapterUpdater = RegisteredIoFeature.NO_UPDATER;
+            registered.adapterDivisor = UPDATE_EVERY_POLL;
+            registered.adapterSkips = 0;
         }
         return removed != null;
     }
 
+    /**
+     * Requests that a feature be updated by its adapter on the next call
+     * to {@link #updateFeatures()}, regardless of its update divisor. This
+     * allows for an adapter to refresh a feature which is updated rarely
+     * (e.g., a battery level) when it knows the state has changed.
+     * <p>
+     * If the feature is not registered, this method does nothing.
+     *
+     * @param feature the feature to update.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     * @see #mapFeature(IoFeature, StateUpdater.NoParams, int)
+     */
+    public void requestUpdate(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        RegisteredIoFeature<?, ?, ?> registered = features.get(feature);
+        if (registered != null) {
+            registered.adapterSkips = 0;
+        }
+    }
+
     /* @formatter:off */
     @SuppressWarnings("unchecked")
     private <R extends RegisteredIoFeature<?, ?, ?>> void
@@ -174,9 +321,18 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
                 (MappedFeature<R, ?, ?>) mappings.get(feature);
         if (mapped != null) {
             registered.adapterUpdater = mapped.getUpdater(registered);
+            registered.adapterDivisor = mapped.updateDivisor;
         } else {
             registered.adapterUpdater = RegisteredIoFeature.NO_UPDATER;
+            registered.adapterDivisor = UPDATE_EVERY_POLL;
         }
+
+        /*
+         * Reset the skip counter so a newly mapped feature is always
+         * updated on the next call to updateFeatures(). Otherwise, it
+         * could be left with a stale state for an entire period.
+         */
+        registered.adapterSkips = 0;
     }
     /* @formatter:on */
 
@@ -207,6 +363,37 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
         return null;
     }
 
+    /**
+     * Returns the slot assigned to a feature when it was registered.
+     *
+     * @param feature the feature whose slot to fetch.
+     * @return the slot assigned to {@code feature}, or
+     * {@value IoEventRing#NO_SLOT} if it is not registered.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     * @see RegisteredIoFeature#getSlot()
+     */
+    public int getFeatureSlot(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        RegisteredIoFeature<?, ?, ?> registered = features.get(feature);
+        return registered != null ? registered.slot : IoEventRing.NO_SLOT;
+    }
+
+    /**
+     * Returns the feature currently assigned a slot.
+     *
+     * @param slot the slot of the feature.
+     * @return the feature assigned {@code slot}, {@code null} if no
+     * registered feature has been assigned it.
+     * @see RegisteredIoFeature#getSlot()
+     */
+    public @Nullable IoFeature<?, ?> getFeatureAtSlot(int slot) {
+        if (slot < 0 || slot >= slots.size()) {
+            return null;
+        }
+        RegisteredIoFeature<?, ?, ?> registered = slots.get(slot);
+        return registered != null ? registered.feature : null;
+    }
+
     @Override
     public @NotNull Collection<@NotNull IoFeature<?, ?>> getFeatures() {
         return Collections.unmodifiableCollection(features.keySet());
@@ -309,6 +496,20 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
             }
         }
 
+        /*
+         * Slots freed by features which have since been unregistered are
+         * reused. This keeps slots small, so they can be used as indices
+         * into arrays.
+         */
+        int slot = slots.indexOf(null);
+        if (slot < 0) {
+            slot = slots.size();
+            slots.add(registered);
+        } else {
+            slots.set(slot, registered);
+        }
+        registered.slot = slot;
+
         features.put(feature, registered);
         this.updateMapping(feature);
 
@@ -322,12 +523,24 @@ public final class MappedFeatureRegistry implements FeatureRegistry {
         if (!this.isFeatureRegistered(feature)) {
             throw new IllegalStateException("feature not registered");
         }
-        features.remove(feature);
+        RegisteredIoFeature<?, ?, ?> registered = features.remove(feature);
+        slots.set(registered.slot, null);
     }
 
     void updateFeatures() {
         for (RegisteredIoFeature<?, ?, ?> registered : features.values()) {
-            registered.adapterUpdater.run();
+            /*
+             * Features with an update divisor greater than one are only
+             * updated by their adapter once every so many polls. Using a
+             * countdown (rather than the remainder of a poll counter) is
+             * cheap, and staggers features mapped at different times.
+             */
+            if (registered.adapterSkips > 0) {
+                registered.adapterSkips--;
+            } else {
+                registered.adapterUpdater.run();
+                registered.adapterSkips = registered.adapterDivisor - 1;
+            }
             registered.autonomousUpdater.run();
         }
     }
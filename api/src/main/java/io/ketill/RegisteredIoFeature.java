@@ -36,6 +36,9 @@ public final class RegisteredIoFeature<F extends IoFeature<Z, S>, Z, S> {
     final @NotNull Z internalState;
     final @NotNull Runnable autonomousUpdater;
     @NotNull Runnable adapterUpdater;
+    int adapterDivisor;
+    int adapterSkips;
+    int slot;
 
     RegisteredIoFeature(@NotNull F feature,
                         @NotNull IoDeviceObserver observer) {
@@ -54,6 +57,7 @@ public final class RegisteredIoFeature<F extends IoFeature<Z, S>, Z, S> {
         }
 
         this.adapterUpdater = NO_UPDATER;
+        this.adapterDivisor = MappedFeatureRegistry.UPDATE_EVERY_POLL;
     }
 
     /**
@@ -74,6 +78,18 @@ public final class RegisteredIoFeature<F extends IoFeature<Z, S>, Z, S> {
         return this.containerState;
     }
 
+    /**
+     * Returns the slot assigned to the feature when it was registered.
+     * Slots are small indices which stay the same for as long as the
+     * feature remains registered. Once it is unregistered, its slot can
+     * be assigned to the next feature registered.
+     *
+     * @return the slot assigned to the feature.
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
     /* @formatter:off */
     @Override
     public String toString() {
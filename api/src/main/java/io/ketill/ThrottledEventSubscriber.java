@@ -0,0 +1,167 @@
+package io.ketill;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Delivers change events from an {@link IoDevice} to a callback at no
+ * more than a maximum rate. Each feature is throttled separately, so a
+ * feature which changes often cannot starve the others.
+ * <p>
+ * When a change event arrives before the callback is ready for another,
+ * it is held back and coalesced with those which follow. The held event
+ * is delivered once enough time has passed, either when the next change
+ * event arrives or at the end of a poll. Time is measured using the poll
+ * time of the device, rather than the system clock.
+ * <p>
+ * When there is no interval between deliveries, the change events emitted
+ * during a poll are held and coalesced until the end of that poll.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} as it is an
+ * implementation detail of
+ * {@link IoDevice#subscribeEvents(Class, double, Consumer)}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @param <T> the event type.
+ */
+final class ThrottledEventSubscriber<T extends IoFeatureChangeEvent> {
+
+    private static final class Throttle {
+
+        private final @NotNull IoFeature<?, ?> feature;
+        private final @NotNull Class<?> eventClazz;
+        private IoFeatureChangeEvent pending;
+        private boolean delivered;
+        private long lastDelivery;
+
+        private Throttle(@NotNull IoFeature<?, ?> feature,
+                         @NotNull Class<?> eventClazz) {
+            this.feature = feature;
+            this.eventClazz = eventClazz;
+        }
+
+    }
+
+    private final @NotNull IoDevice device;
+    private final long interval;
+    private final @NotNull Consumer<T> callback;
+    private final @NotNull List<Throttle> throttles;
+    private boolean disposed;
+
+    ThrottledEventSubscriber(@NotNull IoDevice device, long interval,
+                             @NotNull Consumer<T> callback) {
+        this.device = device;
+        this.interval = interval;
+        this.callback = Objects.requireNonNull(callback,
+                "callback cannot be null");
+        this.throttles = new ArrayList<>();
+    }
+
+    private @NotNull Throttle getThrottle(@NotNull T event) {
+        /*
+         * A device only has so many features. A linear search is quick
+         * enough, and unlike a map it creates no garbage for each event.
+         */
+        IoFeature<?, ?> feature = event.getFeature();
+        Class<?> eventClazz = event.getClass();
+        for (Throttle throttle : throttles) {
+            if (throttle.feature == feature
+                    && throttle.eventClazz == eventClazz) {
+                return throttle;
+            }
+        }
+        Throttle throttle = new Throttle(feature, eventClazz);
+        throttles.add(throttle);
+        return throttle;
+    }
+
+    /**
+     * Delivers an event to the callback if enough time has passed since
+     * the last one. Otherwise, it is coalesced with the held event.
+     *
+     * @param event the event to deliver.
+     */
+    synchronized void add(@NotNull T event) {
+        if (disposed) {
+            return;
+        }
+        Throttle throttle = this.getThrottle(event);
+        if (throttle.pending == null) {
+            throttle.pending = event;
+        } else {
+            throttle.pending = throttle.pending.coalesce(event);
+        }
+
+        /*
+         * Without an interval, every event would be due right away, and
+         * none would ever be coalesced. Instead, the events emitted during
+         * a poll are held until flush() is called once it has finished.
+         * Events emitted outside a poll have nothing to be coalesced with.
+         */
+        if (interval > 0 || !device.polling) {
+            this.deliverIfDue(throttle, device.getPollTime());
+        }
+    }
+
+    /**
+     * Delivers each held event for which enough time has passed. This
+     * should be called at the end of each poll. Otherwise, the last change
+     * of a feature would not be delivered until it changes again.
+     */
+    synchronized void flush() {
+        long time = device.getPollTime();
+
+        /*
+         * The callback may cause another event to be added (or dispose
+         * this subscriber.) Indexing rather than using an iterator keeps
+         * that from throwing a ConcurrentModificationException.
+         */
+        for (int i = 0; i < throttles.size(); i++) {
+            this.deliverIfDue(throttles.get(i), time);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliverIfDue(@NotNull Throttle throttle, long time) {
+        if (throttle.pending == null || disposed) {
+            return;
+        } else if (throttle.delivered
+                && time - throttle.lastDelivery < interval) {
+            return;
+        }
+
+        T event = (T) throttle.pending;
+        throttle.pending = null;
+        throttle.delivered = true;
+        throttle.lastDelivery = time;
+
+        try {
+            callback.accept(event);
+        } catch (Throwable cause) {
+            /*
+             * This is called at the end of each poll. An error here must
+             * not break polling of the device, so it is handled the same
+             * way RxJava handles errors for other subscribers.
+             */
+            Exceptions.throwIfFatal(cause);
+            RxJavaPlugins.onError(cause);
+        }
+    }
+
+    /**
+     * Prevents any further events from being delivered, including those
+     * which are currently being held back.
+     */
+    synchronized void dispose() {
+        this.disposed = true;
+        throttles.clear();
+    }
+
+}
@@ -0,0 +1,246 @@
+package io.ketill;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static io.ketill.AsyncEventQueue.OverflowPolicy.*;
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class AsyncEventQueueTest {
+
+    private MockIoDevice device;
+    private List<IoDeviceEvent> delivered;
+    private Queue<Runnable> tasks;
+    private Executor executor;
+
+    @BeforeEach
+    void createQueue() {
+        this.device = new MockIoDevice();
+        this.delivered = new ArrayList<>();
+        this.tasks = new ArrayDeque<>();
+        this.executor = tasks::add;
+    }
+
+    private AsyncEventQueue createQueue(int capacity,
+                                        AsyncEventQueue.OverflowPolicy policy) {
+        return new AsyncEventQueue(delivered::add, capacity, policy,
+                executor, "events");
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new AsyncEventQueue(null, 1, BLOCK, executor,
+                        "events"));
+        assertThrows(NullPointerException.class,
+                () -> new AsyncEventQueue(delivered::add, 1, null,
+                        executor, "events"));
+        assertThrows(NullPointerException.class,
+                () -> new AsyncEventQueue(delivered::add, 1, BLOCK,
+                        executor, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncEventQueue(delivered::add, 0, BLOCK,
+                        executor, "events"));
+
+        AsyncEventQueue queue = this.createQueue(4, COALESCE);
+        assertEquals(4, queue.getCapacity());
+        assertSame(COALESCE, queue.getPolicy());
+    }
+
+    @Test
+    void testOffer() {
+        AsyncEventQueue queue = this.createQueue(4, BLOCK);
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+
+        /*
+         * Events must not be delivered on the thread which offered them.
+         * Only a single task should be scheduled to deliver them, and it
+         * must deliver them in the order they were offered.
+         */
+        IoDeviceEvent event1 = new MockIoDeviceEvent(device);
+        IoDeviceEvent event2 = new MockIoDeviceEvent(device);
+        assertTrue(queue.offer(event1));
+        assertTrue(queue.offer(event2));
+        assertTrue(delivered.isEmpty());
+        assertEquals(2, queue.size());
+        assertEquals(1, tasks.size());
+
+        this.runTasks();
+        assertEquals(2, delivered.size());
+        assertSame(event1, delivered.get(0));
+        assertSame(event2, delivered.get(1));
+        assertEquals(0, queue.size());
+        assertEquals(2, queue.getDeliveredCount());
+
+        /* once the buffer has been drained, a new task must be scheduled */
+        queue.offer(new MockIoDeviceEvent(device));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void testDropOldest() {
+        AsyncEventQueue queue = this.createQueue(2, DROP_OLDEST);
+
+        IoDeviceEvent event1 = new MockIoDeviceEvent(device);
+        IoDeviceEvent event2 = new MockIoDeviceEvent(device);
+        IoDeviceEvent event3 = new MockIoDeviceEvent(device);
+        queue.offer(event1);
+        queue.offer(event2);
+        queue.offer(event3);
+
+        this.runTasks();
+        assertEquals(2, delivered.size());
+        assertSame(event2, delivered.get(0));
+        assertSame(event3, delivered.get(1));
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(0, queue.getCoalescedCount());
+    }
+
+    @Test
+    void testCoalesce() {
+        AsyncEventQueue queue = this.createQueue(2, COALESCE);
+        MockIoFeature feature1 = new MockIoFeature("feature1");
+        MockIoFeature feature2 = new MockIoFeature("feature2");
+
+        IoDeviceEvent event1 = new MockIoFeatureEvent(device, feature1);
+        IoDeviceEvent event2 = new MockIoFeatureEvent(device, feature2);
+        IoDeviceEvent event3 = new MockIoFeatureEvent(device, feature1);
+        queue.offer(event1);
+        queue.offer(event2);
+
+        /*
+         * When the buffer is full, an event for a feature which still has
+         * an event waiting in the buffer must replace it. The order of the
+         * other events in the buffer must not be changed.
+         */
+        queue.offer(event3);
+        this.runTasks();
+        assertEquals(2, delivered.size());
+        assertSame(event3, delivered.get(0));
+        assertSame(event2, delivered.get(1));
+        assertEquals(1, queue.getCoalescedCount());
+        assertEquals(0, queue.getDroppedCount());
+
+        /*
+         * Events which do not describe the state of a feature cannot be
+         * coalesced. For these, the oldest event must be dropped instead.
+         */
+        delivered.clear();
+        IoDeviceEvent event4 = new MockIoDeviceEvent(device);
+        IoDeviceEvent event5 = new MockIoDeviceEvent(device);
+        queue.offer(event1);
+        queue.offer(event4);
+        queue.offer(event5);
+        this.runTasks();
+        assertEquals(2, delivered.size());
+        assertSame(event4, delivered.get(0));
+        assertSame(event5, delivered.get(1));
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void testBlock() throws InterruptedException {
+        CountDownLatch deliveredAll = new CountDownLatch(3);
+        AsyncEventQueue queue = new AsyncEventQueue(e -> {
+            delivered.add(e);
+            deliveredAll.countDown();
+        }, 2, BLOCK, executor, "events");
+
+        queue.offer(new MockIoDeviceEvent(device));
+        queue.offer(new MockIoDeviceEvent(device));
+
+        /*
+         * Once the buffer is full, the thread offering an event must wait
+         * for there to be room. No events should be dropped.
+         */
+        Thread producer = new Thread(
+                () -> queue.offer(new MockIoDeviceEvent(device)));
+        producer.start();
+        while (queue.getBlockedCount() == 0) {
+            Thread.yield();
+        }
+
+        this.runTasks();
+        producer.join();
+        this.runTasks();
+
+        assertTrue(deliveredAll.await(1, TimeUnit.SECONDS));
+        assertEquals(1, queue.getBlockedCount());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void testClose() throws InterruptedException {
+        AsyncEventQueue queue = this.createQueue(1, BLOCK);
+        queue.offer(new MockIoDeviceEvent(device));
+
+        Thread producer = new Thread(
+                () -> queue.offer(new MockIoDeviceEvent(device)));
+        producer.start();
+        while (queue.getBlockedCount() == 0) {
+            Thread.yield();
+        }
+
+        /*
+         * Closing the queue must release threads waiting for room in the
+         * buffer. Afterwards, events are no longer accepted. However, the
+         * events already in the buffer must still be delivered.
+         */
+        queue.close();
+        producer.join(1000L);
+        assertFalse(producer.isAlive());
+        assertTrue(queue.isClosed());
+        assertFalse(queue.offer(new MockIoDeviceEvent(device)));
+
+        this.runTasks();
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    void testConsumerThread() throws InterruptedException {
+        CountDownLatch deliveredLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        AsyncEventQueue queue = new AsyncEventQueue(e -> {
+            threads.add(Thread.currentThread());
+            deliveredLatch.countDown();
+        }, 1, BLOCK, null, "events");
+
+        /*
+         * When no executor is given, a dedicated consumer thread must be
+         * started to deliver events. This thread must not prevent the JVM
+         * from shutting down.
+         */
+        queue.offer(new MockIoDeviceEvent(device));
+        assertTrue(deliveredLatch.await(1, TimeUnit.SECONDS));
+        Thread consumer = threads.get(0);
+        assertNotSame(Thread.currentThread(), consumer);
+        assertEquals("events", consumer.getName());
+        assertTrue(consumer.isDaemon());
+
+        queue.close();
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        AsyncEventQueue queue = this.createQueue(1, BLOCK);
+        assertImplementsToString(AsyncEventQueue.class, queue);
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.ketill;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class EventBatchTest {
+
+    private MockIoDevice device;
+    private EventBatch batch;
+
+    @BeforeEach
+    void createBatch() {
+        this.device = new MockIoDevice();
+        this.batch = new EventBatch(device);
+    }
+
+    @Test
+    void testGetDevice() {
+        assertSame(device, batch.getDevice());
+    }
+
+    @Test
+    void testGet() {
+        assertTrue(batch.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(0));
+
+        /*
+         * The batch must be able to hold more events than its initial
+         * capacity, as there is no limit to how many events a device can
+         * emit during a single poll.
+         */
+        List<IoDeviceEvent> events = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            IoDeviceEvent event = new MockIoDeviceEvent(device);
+            events.add(event);
+            batch.add(event);
+        }
+
+        assertEquals(64, batch.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertSame(events.get(i), batch.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(64));
+
+        batch.clear();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    void testForEach() {
+        assertThrows(NullPointerException.class,
+                () -> batch.forEach(null, event -> {}));
+        assertThrows(NullPointerException.class,
+                () -> batch.forEach(IoDeviceEvent.class, null));
+
+        MockIoFeature feature = new MockIoFeature();
+        IoDeviceEvent deviceEvent = new MockIoDeviceEvent(device);
+        IoDeviceEvent featureEvent = new MockIoFeatureEvent(device, feature);
+        batch.add(deviceEvent);
+        batch.add(featureEvent);
+
+        /* only events of the requested type should be given to the action */
+        List<IoFeatureEvent> featureEvents = new ArrayList<>();
+        batch.forEach(IoFeatureEvent.class, featureEvents::add);
+        assertEquals(1, featureEvents.size());
+        assertSame(featureEvent, featureEvents.get(0));
+    }
+
+    @Test
+    void testIterator() {
+        IoDeviceEvent event = new MockIoDeviceEvent(device);
+        batch.add(event);
+
+        Iterator<IoDeviceEvent> iterator = batch.iterator();
+        assertTrue(iterator.hasNext());
+        assertSame(event, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(EventBatch.class, batch);
+    }
+
+}
@@ -30,6 +30,32 @@ class IoDeviceObserverTest {
         assertSame(device, observer.getDevice());
     }
 
+    @Test
+    void testHasSubscribers() {
+        assertFalse(observer.hasSubscribers());
+
+        Disposable subscription = subject.subscribe(event -> {});
+        assertTrue(observer.hasSubscribers());
+        subscription.dispose();
+        assertFalse(observer.hasSubscribers());
+
+        /*
+         * Batch subscribers and the listeners of a feature do not observe
+         * the subject. However, they still receive events. Code which
+         * skips creating events without subscribers must consider them.
+         */
+        IoDisposable batches = observer.batcher.subscribe(batch -> {});
+        assertTrue(observer.hasSubscribers());
+        batches.dispose();
+        assertFalse(observer.hasSubscribers());
+
+        observer.featureListeners.add(0, MockIoFeatureEvent.class,
+                event -> {});
+        assertTrue(observer.hasSubscribers());
+        observer.featureListeners.clear(0);
+        assertFalse(observer.hasSubscribers());
+    }
+
     @Test
     void testOnNext() {
         /*
@@ -1,12 +1,27 @@
 package io.ketill;
 
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+import static io.ketill.AsyncEventQueue.OverflowPolicy.*;
 import static io.ketill.KetillAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,7 +107,8 @@ class IoDeviceTest {
          */
         /* @formatter:off */
         assertThrows(NullPointerException.class,
-                () -> device.subscribeEvents(null, event -> {}));
+                () -> device.subscribeEvents((Class<IoDeviceEvent>) null,
+                        event -> {}));
         assertThrows(NullPointerException.class,
                 () -> device.subscribeEvents(null));
         /* @formatter:on */
@@ -126,6 +142,335 @@ class IoDeviceTest {
         assertFalse(emitted.get());
     }
 
+    @Test
+    void testSubscribeEventsWithExecutor() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor executor = tasks::add;
+        Consumer<IoDeviceEvent> callback = event -> {};
+
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(null, executor, callback));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(IoDeviceEvent.class,
+                        (Executor) null, callback));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(IoDeviceEvent.class,
+                        executor, null));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(IoDeviceEvent.class,
+                        (Scheduler) null, callback));
+        /* @formatter:on */
+
+        List<IoDeviceEvent> events = new ArrayList<>();
+        IoDisposable subscription =
+                device.subscribeEvents(MockIoDeviceEvent.class, executor,
+                        events::add);
+
+        /*
+         * All events emitted during a single poll must be handed to the
+         * executor as one task, and only once polling has finished. The
+         * callback must not be executed on the polling thread.
+         */
+        device.eventsPerPoll = 3;
+        device.poll();
+        assertTrue(events.isEmpty());
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertEquals(3, events.size());
+
+        /*
+         * Events emitted outside a poll have no batch to be part of. As
+         * such, they must be handed to the executor immediately.
+         */
+        device.observer.onNext(new MockIoDeviceEvent(device));
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertEquals(4, events.size());
+
+        /*
+         * Once disposed, events which have not been delivered yet must be
+         * discarded. No further tasks should be given to the executor.
+         */
+        device.poll();
+        subscription.dispose();
+        assertTrue(subscription.isDisposed());
+        tasks.remove().run();
+        device.poll();
+        assertTrue(tasks.isEmpty());
+        assertEquals(4, events.size());
+    }
+
+    @Test
+    void testSubscribeEventsWithMaxRate() {
+        Consumer<MockIoFeatureChangeEvent> callback = event -> {};
+
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(
+                        (Class<MockIoFeatureChangeEvent>) null,
+                        1.0D, callback));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(MockIoFeatureChangeEvent.class,
+                        1.0D, null));
+        /* @formatter:on */
+
+        /*
+         * It makes no sense to deliver events at a rate of zero (or less),
+         * as that would mean never delivering them. As such, assume this
+         * was a mistake by the user.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> device.subscribeEvents(MockIoFeatureChangeEvent.class,
+                        0.0D, callback));
+        assertThrows(IllegalArgumentException.class,
+                () -> device.subscribeEvents(MockIoFeatureChangeEvent.class,
+                        Double.NaN, callback));
+
+        AtomicLong time = new AtomicLong();
+        device.useClock(time::get);
+        device.poll();
+
+        MockIoFeature feature1 = new MockIoFeature("feature1");
+        MockIoFeature feature2 = new MockIoFeature("feature2");
+        List<MockIoFeatureChangeEvent> events = new ArrayList<>();
+        IoDisposable subscription = device.subscribeEvents(
+                MockIoFeatureChangeEvent.class, 10.0D, events::add);
+
+        /* the first change of a feature must be delivered immediately */
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature1, 1));
+        assertEquals(1, events.size());
+
+        /*
+         * Changes which arrive too soon after the last delivery must be
+         * held back and coalesced, rather than dropped. Each feature is
+         * throttled on its own, so the change of the second feature must
+         * still be delivered immediately.
+         */
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature1, 2));
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature1, 3));
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature2, 4));
+        assertEquals(2, events.size());
+        assertSame(feature2, events.get(1).getFeature());
+
+        /*
+         * The held change must be delivered at the end of the first poll
+         * for which enough time has passed, even though the feature has
+         * not changed again since.
+         */
+        time.set(TimeUnit.MILLISECONDS.toNanos(50));
+        device.poll();
+        assertEquals(2, events.size());
+        time.set(TimeUnit.MILLISECONDS.toNanos(100));
+        device.poll();
+        assertEquals(3, events.size());
+        assertSame(feature1, events.get(2).getFeature());
+        assertEquals(5, events.get(2).delta);
+
+        subscription.dispose();
+        time.set(TimeUnit.SECONDS.toNanos(1));
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature1, 1));
+        device.poll();
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testSubscribeEventsWithInfiniteRate() {
+        MockIoFeature feature = new MockIoFeature();
+        List<MockIoFeatureChangeEvent> events = new ArrayList<>();
+        device.subscribeEvents(MockIoFeatureChangeEvent.class,
+                Double.POSITIVE_INFINITY, events::add);
+
+        /*
+         * With no limit on the rate, the change events emitted during a
+         * single poll must still be coalesced. They are delivered as one
+         * event once the poll has finished.
+         */
+        device.pollEvents.add(
+                new MockIoFeatureChangeEvent(device, feature, 1));
+        device.pollEvents.add(
+                new MockIoFeatureChangeEvent(device, feature, 2));
+        device.poll();
+        assertEquals(1, events.size());
+        assertEquals(3, events.get(0).delta);
+
+        /* each poll must deliver its own coalesced event */
+        device.poll();
+        assertEquals(2, events.size());
+
+        /* events emitted outside a poll have nothing to wait for */
+        device.pollEvents.clear();
+        device.observer.onNext(
+                new MockIoFeatureChangeEvent(device, feature, 4));
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testSubscribeFeatureEvents() {
+        MockIoFeature feature1 = new MockIoFeature("feature1");
+        MockIoFeature feature2 = new MockIoFeature("feature2");
+        Consumer<MockIoFeatureEvent> callback = event -> {};
+
+        /* @formatter:off */
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents((IoFeature<?, ?>) null,
+                        MockIoFeatureEvent.class, callback));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(MockIoDevice.FEATURE,
+                        null, callback));
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeEvents(MockIoDevice.FEATURE,
+                        MockIoFeatureEvent.class, null));
+        /* @formatter:on */
+
+        /*
+         * It makes no sense to listen for the events of a feature which
+         * is not registered, as it cannot trigger any. As such, assume
+         * this was a mistake by the user.
+         */
+        assertThrows(IllegalStateException.class,
+                () -> device.subscribeEvents(feature1,
+                        MockIoFeatureEvent.class, callback));
+
+        device.registerFeature(feature1);
+        device.registerFeature(feature2);
+
+        /*
+         * A listener of a feature must only be given the events which
+         * that feature triggered, and never those of other features.
+         */
+        List<IoFeatureEvent> events = new ArrayList<>();
+        IoDisposable subscription = device.subscribeEvents(feature1,
+                MockIoFeatureEvent.class, events::add);
+        device.observer.onNext(new MockIoFeatureEvent(device, feature1));
+        device.observer.onNext(new MockIoFeatureEvent(device, feature2));
+        assertEquals(1, events.size());
+        assertSame(feature1, events.get(0).getFeature());
+
+        subscription.dispose();
+        device.observer.onNext(new MockIoFeatureEvent(device, feature1));
+        assertEquals(1, events.size());
+
+        /*
+         * Once a feature is unregistered, its listeners must be removed.
+         * Otherwise, the next feature assigned its slot would have its
+         * events given to them.
+         */
+        device.subscribeEvents(feature1, MockIoFeatureEvent.class,
+                events::add);
+        device.unregisterFeature(feature1);
+        MockIoFeature feature3 = new MockIoFeature("feature3");
+        device.registerFeature(feature3);
+        device.observer.onNext(new MockIoFeatureEvent(device, feature3));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void testSubscribeBatches() {
+        assertThrows(NullPointerException.class,
+                () -> device.subscribeBatches(null));
+
+        List<Integer> sizes = new ArrayList<>();
+        IoDisposable subscription = device.subscribeBatches(batch -> {
+            assertSame(device, batch.getDevice());
+            sizes.add(batch.size());
+        });
+
+        /*
+         * All events emitted during a single poll must be given to the
+         * subscriber in one batch, once polling has finished. If no
+         * events were emitted, there is no batch to deliver.
+         */
+        device.eventsPerPoll = 3;
+        device.poll();
+        device.eventsPerPoll = 0;
+        device.poll();
+        assertEquals(1, sizes.size());
+        assertEquals(3, sizes.get(0));
+
+        /* events emitted outside a poll are delivered in their own batch */
+        device.observer.onNext(new MockIoDeviceEvent(device));
+        assertEquals(2, sizes.size());
+        assertEquals(1, sizes.get(1));
+
+        subscription.dispose();
+        device.observer.onNext(new MockIoDeviceEvent(device));
+        assertEquals(2, sizes.size());
+    }
+
+    @Test
+    void testSubscribeBatchesReentrant() {
+        /*
+         * When a subscriber emits an event while handling a batch, that
+         * event must be placed in the next batch. Otherwise, the batch
+         * being handled would change while it is being read.
+         */
+        List<Integer> sizes = new ArrayList<>();
+        device.subscribeBatches(batch -> {
+            sizes.add(batch.size());
+            if (sizes.size() == 1) {
+                device.observer.onNext(new MockIoDeviceEvent(device));
+            }
+        });
+
+        device.eventsPerPoll = 2;
+        device.poll();
+        assertEquals(2, sizes.size());
+        assertEquals(2, sizes.get(0));
+        assertEquals(1, sizes.get(1));
+    }
+
+    @Test
+    void testSubscribeBatchesError() {
+        List<Throwable> errors = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        try {
+            List<Integer> sizes = new ArrayList<>();
+            device.subscribeBatches(batch -> {
+                throw new IllegalStateException();
+            });
+            device.subscribeBatches(batch -> sizes.add(batch.size()));
+
+            /*
+             * An error thrown by one subscriber must not keep the others
+             * from receiving the batch. It must be reported the same way
+             * RxJava reports errors for other subscribers.
+             */
+            device.eventsPerPoll = 2;
+            device.poll();
+            assertEquals(1, sizes.size());
+            assertEquals(1, errors.size());
+
+            /* the same applies to events emitted outside a poll */
+            device.observer.onNext(new MockIoDeviceEvent(device));
+            assertEquals(2, sizes.size());
+            assertEquals(2, errors.size());
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    void testSubscribeEventsWithScheduler() throws InterruptedException {
+        Scheduler scheduler = Schedulers.single();
+        CountDownLatch delivered = new CountDownLatch(2);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        device.subscribeEvents(scheduler, event -> {
+            thread.set(Thread.currentThread());
+            delivered.countDown();
+        });
+
+        device.eventsPerPoll = 2;
+        device.poll();
+        assertTrue(delivered.await(1, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), thread.get());
+    }
+
     @Test
     void testInitAdapter() {
         /*
@@ -467,6 +812,261 @@ class IoDeviceTest {
         assertThrows(KetillException.class, device::poll);
     }
 
+    @Test
+    void testPollFlushError() {
+        List<Throwable> errors = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        try {
+            Queue<Runnable> tasks = new ArrayDeque<>();
+            Executor rejecting = task -> {
+                throw new RejectedExecutionException();
+            };
+            device.subscribeEvents(MockIoDeviceEvent.class, rejecting,
+                    event -> {});
+            device.subscribeEvents(MockIoDeviceEvent.class, tasks::add,
+                    event -> {});
+            device.subscribeBatches(batch -> {
+                throw new IllegalStateException();
+            });
+
+            /*
+             * Subscribers are flushed at the end of each poll. An error
+             * from one of them must not skip flushing the others, nor
+             * escape the poll. Instead, it must be reported the same way
+             * RxJava reports errors for other subscribers.
+             */
+            device.eventsPerPoll = 1;
+            assertDoesNotThrow(device::poll);
+            assertEquals(1, tasks.size());
+            assertEquals(2, errors.size());
+
+            /*
+             * When the poll itself fails, its error must be the one which
+             * is thrown back to the caller. It must not be hidden by an
+             * error which occurred while flushing the subscribers.
+             */
+            adapter.errorOnFlush = true;
+            assertThrows(KetillException.class, device::poll);
+            assertEquals(4, errors.size());
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    void testPollFeaturesUpdated() {
+        /*
+         * After all features have been updated, the device must notify
+         * its adapter. This gives the adapter a chance to write changes
+         * made to output features during this poll all at once.
+         */
+        device.poll();
+        assertEquals(1, adapter.featuresUpdatedCount);
+
+        /*
+         * Errors which occur while the adapter is notified must also be
+         * wrapped and thrown back to the caller, just like errors which
+         * occur while polling the adapter.
+         */
+        adapter.errorOnFlush = true;
+        assertThrows(KetillException.class, device::poll);
+    }
+
+    @Test
+    void testUseClock() {
+        assertSame(IoDeviceClock.SYSTEM, device.getClock());
+
+        /*
+         * The clock must be read once at the start of each poll, and the
+         * value it returned must be available to features as the time of
+         * the poll. This allows a virtual clock to be used in tests.
+         */
+        AtomicLong time = new AtomicLong(1234L);
+        AtomicInteger reads = new AtomicInteger();
+        device.useClock(() -> {
+            reads.incrementAndGet();
+            return time.get();
+        });
+        device.poll();
+        assertEquals(1234L, device.getPollTime());
+        assertEquals(1, reads.get());
+
+        /* the poll time must not change until the next poll */
+        time.set(5678L);
+        assertEquals(1234L, device.getPollTime());
+        device.poll();
+        assertEquals(5678L, device.getPollTime());
+
+        /*
+         * When the device is told to use a null clock, it should use the
+         * system clock instead.
+         */
+        device.useClock(null);
+        assertSame(IoDeviceClock.SYSTEM, device.getClock());
+    }
+
+    @Test
+    void testUseWaker() {
+        assertNull(device.getWaker());
+
+        /* signalling input without a waker must not throw */
+        assertDoesNotThrow(() -> adapter.signal());
+
+        AtomicReference<IoDevice> woken = new AtomicReference<>();
+        IoDeviceWaker waker = woken::set;
+        device.useWaker(waker);
+        assertSame(waker, device.getWaker());
+
+        /*
+         * When the adapter signals that new input has arrived, the waker
+         * must be called with the device that has new input.
+         */
+        adapter.signal();
+        assertSame(device, woken.get());
+
+        device.useWaker(null);
+        assertNull(device.getWaker());
+    }
+
+    @Test
+    void testNeedsPolling() {
+        /*
+         * Unless its adapter signals new input, a device must be polled
+         * continuously. Otherwise, input would be missed.
+         */
+        assertFalse(device.isPushMode());
+        assertTrue(device.needsPolling());
+
+        adapter.pushMode = true;
+        assertTrue(device.isPushMode());
+        assertFalse(device.needsPolling());
+    }
+
+    @Test
+    void testUseAsyncEvents() {
+        /*
+         * It would not make sense to use asynchronous events without an
+         * overflow policy, or with a buffer that cannot hold any events.
+         * As such, assume these were mistakes by the user.
+         */
+        assertNull(device.getAsyncEvents());
+        assertThrows(NullPointerException.class,
+                () -> device.useAsyncEvents(1, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> device.useAsyncEvents(0, DROP_OLDEST, null));
+
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        AsyncEventQueue queue =
+                device.useAsyncEvents(8, DROP_OLDEST, tasks::add);
+        assertSame(queue, device.getAsyncEvents());
+
+        /*
+         * When using asynchronous events, an emitted event must not be
+         * delivered on the thread that emitted it. Rather, it must be
+         * delivered by the executor.
+         */
+        AtomicInteger eventCount = new AtomicInteger();
+        device.subscribeEvents(MockIoDeviceEvent.class,
+                e -> eventCount.incrementAndGet());
+        device.observer.onNext(new MockIoDeviceEvent(device));
+        assertEquals(0, eventCount.get());
+        tasks.remove().run();
+        assertEquals(1, eventCount.get());
+
+        /*
+         * Using asynchronous events again must replace the current queue
+         * with a new one. The old queue must be closed.
+         */
+        AsyncEventQueue replacement =
+                device.useAsyncEvents(8, COALESCE, tasks::add);
+        assertTrue(queue.isClosed());
+        assertNotSame(queue, replacement);
+
+        /* once back to synchronous, events must be delivered immediately */
+        device.useSyncEvents();
+        assertNull(device.getAsyncEvents());
+        assertTrue(replacement.isClosed());
+        device.observer.onNext(new MockIoDeviceEvent(device));
+        assertEquals(2, eventCount.get());
+    }
+
+    @Test
+    void testAsyncEventsOfReusedSlot() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        device.useAsyncEvents(8, DROP_OLDEST, tasks::add);
+
+        MockIoFeature feature1 = new MockIoFeature("feature1");
+        device.registerFeature(feature1);
+        device.subscribeEvents(feature1, MockIoFeatureEvent.class,
+                event -> {});
+        device.observer.onNext(new MockIoFeatureEvent(device, feature1));
+
+        /*
+         * The event of the first feature is still queued when it is
+         * unregistered, and its slot given to the second feature. Once
+         * delivered, it must not be given to the listeners of the second
+         * feature. It must still be given to other subscribers.
+         */
+        int slot = device.getFeatureSlot(feature1);
+        device.unregisterFeature(feature1);
+        MockIoFeature feature2 = new MockIoFeature("feature2");
+        device.registerFeature(feature2);
+        assertEquals(slot, device.getFeatureSlot(feature2));
+
+        List<IoFeatureEvent> featureEvents = new ArrayList<>();
+        device.subscribeEvents(feature2, MockIoFeatureEvent.class,
+                featureEvents::add);
+        List<IoFeatureEvent> deviceEvents = new ArrayList<>();
+        device.subscribeEvents(MockIoFeatureEvent.class, deviceEvents::add);
+
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+        assertTrue(featureEvents.isEmpty());
+        assertEquals(1, deviceEvents.size());
+    }
+
+    @Test
+    void testUseEventRing() {
+        assertNull(device.getEventRing());
+        assertThrows(IllegalArgumentException.class,
+                () -> device.useEventRing(0));
+
+        IoEventRing ring = device.useEventRing(4);
+        assertSame(ring, device.getEventRing());
+        assertSame(ring, device.observer.getEventRing());
+        IoEventRing.Cursor cursor = ring.cursor();
+
+        /*
+         * When the device is connected or disconnected, a record must be
+         * written to the ring. Neither is triggered by a feature, so they
+         * must not have a slot.
+         */
+        adapter.shouldBeConnected = true;
+        device.poll();
+        assertTrue(cursor.next());
+        assertEquals(IoEventRing.getTypeId(IoDeviceConnectEvent.class),
+                cursor.getTypeId());
+        assertEquals(IoEventRing.NO_SLOT, cursor.getSlot());
+        assertEquals(device.getPollTime(), cursor.getTime());
+
+        adapter.shouldBeConnected = false;
+        device.poll();
+        assertTrue(cursor.next());
+        assertEquals(IoEventRing.getTypeId(IoDeviceDisconnectEvent.class),
+                cursor.getTypeId());
+
+        device.removeEventRing();
+        assertNull(device.getEventRing());
+    }
+
+    @Test
+    void testGetFeatureSlot() {
+        int slot = device.getFeatureSlot(MockIoDevice.FEATURE);
+        assertNotEquals(IoEventRing.NO_SLOT, slot);
+        assertSame(MockIoDevice.FEATURE, device.getFeatureAtSlot(slot));
+    }
+
     @Test
     void ensureImplementsToString() {
         assertImplementsToString(IoDevice.class, device);
@@ -0,0 +1,105 @@
+package io.ketill;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IoEventRingTest {
+
+    private IoEventRing ring;
+
+    @BeforeEach
+    void createRing() {
+        this.ring = new IoEventRing(4);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IoEventRing(0));
+        assertEquals(4, ring.getCapacity());
+    }
+
+    @Test
+    void testGetTypeId() {
+        assertThrows(NullPointerException.class,
+                () -> IoEventRing.getTypeId(null));
+
+        /*
+         * The ID of an event type must never change once assigned, and
+         * no two event types can share the same ID.
+         */
+        int mockId = IoEventRing.getTypeId(MockIoDeviceEvent.class);
+        int featureId = IoEventRing.getTypeId(MockIoFeatureEvent.class);
+        assertEquals(mockId, IoEventRing.getTypeId(MockIoDeviceEvent.class));
+        assertNotEquals(mockId, featureId);
+
+        assertSame(MockIoDeviceEvent.class, IoEventRing.getType(mockId));
+        assertNull(IoEventRing.getType(-1));
+        assertNull(IoEventRing.getType(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testCursor() {
+        /* records written before a cursor is created must not be read */
+        ring.write(1, 2, 3L);
+        IoEventRing.Cursor cursor = ring.cursor();
+        assertFalse(cursor.next());
+
+        /*
+         * There is no record to read until next() returns true. It makes
+         * no sense to read one, so assume this was a mistake by the user.
+         */
+        assertThrows(IllegalStateException.class, cursor::getTypeId);
+
+        ring.write(4, 5, 6L, 0.25F, 0.50F, 0.75F, 1.00F);
+        assertTrue(cursor.next());
+        assertEquals(1L, cursor.getSequence());
+        assertEquals(4, cursor.getTypeId());
+        assertEquals(5, cursor.getSlot());
+        assertEquals(6L, cursor.getTime());
+        assertEquals(0.25F, cursor.getValue(0));
+        assertEquals(1.00F, cursor.getValue(3));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> cursor.getValue(-1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> cursor.getValue(IoEventRing.VALUE_COUNT));
+        assertFalse(cursor.next());
+
+        /* each cursor must keep its own position */
+        IoEventRing.Cursor other = ring.cursor();
+        ring.write(7, 8, 9L);
+        assertTrue(cursor.next());
+        assertTrue(other.next());
+        assertEquals(7, other.getTypeId());
+    }
+
+    @Test
+    void testCursorLapped() {
+        IoEventRing.Cursor cursor = ring.cursor();
+        for (int i = 0; i < 6; i++) {
+            ring.write(i, IoEventRing.NO_SLOT, i);
+        }
+        assertEquals(6L, ring.getWrittenCount());
+
+        /*
+         * The first two records were overwritten before the cursor could
+         * read them. It must skip to the oldest record which still exists,
+         * and count the ones it missed.
+         */
+        assertTrue(cursor.next());
+        assertEquals(2, cursor.getTypeId());
+        assertEquals(2L, cursor.getMissedCount());
+
+        cursor.skipAll();
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(IoEventRing.class, ring);
+    }
+
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -99,6 +100,90 @@ class MappedFeatureRegistryTest {
                 () -> registry.mapFeature(feature, feature, null));
     }
 
+    @Test
+    void testMapFeatureWithDivisor() {
+        MockIoFeature feature = new MockIoFeature();
+        AtomicInteger updateCount = new AtomicInteger();
+
+        /* feature must be registered for updates */
+        registry.registerFeature(feature);
+
+        /*
+         * When a feature is mapped with an update divisor, its adapter
+         * updater should only be run once every so many updates. It must
+         * also be run on the very first update after being mapped, so the
+         * state of the feature is not left stale for an entire period.
+         */
+        registry.mapFeature(feature, (s) -> updateCount.incrementAndGet(), 3);
+        for (int i = 0; i < 7; i++) {
+            registry.updateFeatures();
+        }
+        assertEquals(3, updateCount.get()); /* updates 0, 3, and 6 */
+
+        /*
+         * Remapping the feature must reset its schedule. As such, the
+         * updater should be run on the very next update regardless of
+         * where the previous mapping was in its period.
+         */
+        updateCount.set(0);
+        registry.mapFeature(feature, feature,
+                (s, p) -> updateCount.incrementAndGet(), 2);
+        registry.updateFeatures();
+        assertEquals(1, updateCount.get());
+
+        /*
+         * Mapping a feature without a divisor should result in it being
+         * updated every time, even if it was previously mapped with one.
+         */
+        updateCount.set(0);
+        registry.mapFeature(feature, (s) -> updateCount.incrementAndGet());
+        registry.updateFeatures();
+        registry.updateFeatures();
+        assertEquals(2, updateCount.get());
+
+        /*
+         * It makes no sense for a feature to be updated once every zero
+         * (or a negative amount of) updates. Assume this was a mistake
+         * by the user and throw an exception.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.mapFeature(feature, (s) -> {}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.mapFeature(feature, feature,
+                        (s, p) -> {}, -1));
+    }
+
+    @Test
+    void testRequestUpdate() {
+        MockIoFeature feature = new MockIoFeature();
+        AtomicInteger updateCount = new AtomicInteger();
+
+        assertThrows(NullPointerException.class,
+                () -> registry.requestUpdate(null));
+
+        /* unregistered features have nothing to update */
+        assertDoesNotThrow(() -> registry.requestUpdate(feature));
+
+        registry.registerFeature(feature);
+        registry.mapFeature(feature, (s) -> updateCount.incrementAndGet(), 3);
+        registry.updateFeatures();
+        assertEquals(1, updateCount.get());
+
+        /*
+         * When an update is requested, the feature must be updated on the
+         * very next update, even if its divisor says otherwise. Afterwards,
+         * its schedule should continue from there.
+         */
+        registry.requestUpdate(feature);
+        registry.updateFeatures();
+        assertEquals(2, updateCount.get());
+        registry.updateFeatures();
+        registry.updateFeatures();
+        assertEquals(2, updateCount.get());
+        registry.updateFeatures();
+        assertEquals(3, updateCount.get());
+    }
+
     @Test
     void testUnmapFeature() {
         AtomicBoolean updatedAdapter = new AtomicBoolean();
@@ -333,6 +418,36 @@ class MappedFeatureRegistryTest {
         assertNull(registry.requestState(feature));
     }
 
+    @Test
+    void testFeatureSlots() {
+        MockIoFeature feature1 = new MockIoFeature("feature1");
+        MockIoFeature feature2 = new MockIoFeature("feature2");
+        MockIoFeature feature3 = new MockIoFeature("feature3");
+        assertThrows(NullPointerException.class,
+                () -> registry.getFeatureSlot(null));
+
+        /*
+         * Each registered feature must be assigned its own slot. Features
+         * which are not registered have no slot at all.
+         */
+        assertEquals(IoEventRing.NO_SLOT, registry.getFeatureSlot(feature1));
+        int slot1 = registry.registerFeature(feature1).getSlot();
+        int slot2 = registry.registerFeature(feature2).getSlot();
+        assertNotEquals(slot1, slot2);
+        assertEquals(slot1, registry.getFeatureSlot(feature1));
+        assertSame(feature2, registry.getFeatureAtSlot(slot2));
+        assertNull(registry.getFeatureAtSlot(-1));
+        assertNull(registry.getFeatureAtSlot(Integer.MAX_VALUE));
+
+        /*
+         * Once a feature is unregistered, its slot must be freed. This
+         * keeps slots small, as they are reused by the next feature.
+         */
+        registry.unregisterFeature(feature1);
+        assertNull(registry.getFeatureAtSlot(slot1));
+        assertEquals(slot1, registry.registerFeature(feature3).getSlot());
+    }
+
     @Test
     void testRegisterFeature() {
         MockIoFeature feature = new MockIoFeature();
@@ -2,6 +2,9 @@ package io.ketill;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class MockIoDevice extends IoDevice {
 
     static class WithPrivateFeature extends MockIoDevice {
@@ -34,6 +37,8 @@ class MockIoDevice extends IoDevice {
     boolean featureRegistered, featureUnregistered;
     boolean deviceConnected, deviceDisconnected;
     boolean polled;
+    int eventsPerPoll;
+    final List<IoDeviceEvent> pollEvents = new ArrayList<>();
 
     MockIoDevice(String typeId,
                  AdapterSupplier<MockIoDevice> adapterSupplier,
@@ -93,6 +98,16 @@ class MockIoDevice extends IoDevice {
         this.deviceDisconnected = true;
     }
 
+    @Override
+    protected void featuresUpdated() {
+        for (int i = 0; i < eventsPerPoll; i++) {
+            observer.onNext(new MockIoDeviceEvent(this));
+        }
+        for (IoDeviceEvent event : pollEvents) {
+            observer.onNext(event);
+        }
+    }
+
     @Override
     public void poll() {
         super.poll();
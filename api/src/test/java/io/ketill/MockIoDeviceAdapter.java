@@ -4,6 +4,9 @@ class MockIoDeviceAdapter extends IoDeviceAdapter<MockIoDevice> {
 
     boolean shouldBeConnected;
     boolean errorOnPoll;
+    boolean errorOnFlush;
+    boolean pushMode;
+    int featuresUpdatedCount;
     private boolean initialized;
     private boolean connected;
 
@@ -31,6 +34,23 @@ class MockIoDeviceAdapter extends IoDeviceAdapter<MockIoDevice> {
         this.connected = this.shouldBeConnected;
     }
 
+    @Override
+    protected void featuresUpdated() {
+        if (errorOnFlush) {
+            throw new RuntimeException();
+        }
+        this.featuresUpdatedCount++;
+    }
+
+    @Override
+    protected boolean isPushMode() {
+        return this.pushMode;
+    }
+
+    void signal() {
+        this.signalInput();
+    }
+
     @Override
     protected boolean isDeviceConnected() {
         return this.connected;
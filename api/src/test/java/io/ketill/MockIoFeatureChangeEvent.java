@@ -0,0 +1,25 @@
+package io.ketill;
+
+import org.jetbrains.annotations.NotNull;
+
+class MockIoFeatureChangeEvent extends IoFeatureChangeEvent {
+
+    final int delta;
+
+    MockIoFeatureChangeEvent(@NotNull IoDevice device,
+                             @NotNull IoFeature<?, ?> feature, int delta) {
+        super(device, feature);
+        this.delta = delta;
+    }
+
+    /* @formatter:off */
+    @Override
+    protected @NotNull MockIoFeatureChangeEvent
+            coalesce(@NotNull IoFeatureChangeEvent next) {
+        MockIoFeatureChangeEvent mockNext = (MockIoFeatureChangeEvent) next;
+        return new MockIoFeatureChangeEvent(this.getDevice(),
+                this.getFeature(), delta + mockNext.delta);
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,48 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDevice;
+import io.ketill.virtual.VirtualInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of a device. This includes registering the
+ * fields of the device, and initializing its adapter.
+ *
+ * @see RegisterFieldsBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConstructBenchmark {
+
+    @Param
+    public ScriptedDevice device;
+
+    private VirtualInput input;
+
+    @Setup
+    public void createInput() {
+        this.input = new VirtualInput();
+    }
+
+    @Benchmark
+    public IoDevice construct() {
+        return device.create(input);
+    }
+
+}
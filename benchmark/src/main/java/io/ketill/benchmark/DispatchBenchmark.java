@@ -0,0 +1,52 @@
+package io.ketill.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures emitting an event to a varying amount of subscribers. The
+ * same event is emitted each time, so any allocation reported comes from
+ * the dispatch itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DispatchBenchmark {
+
+    @Param({"0", "1", "16"})
+    public int subscribers;
+
+    private EmitterDevice device;
+    private EmitterDevice.Event event;
+
+    @Setup
+    public void subscribe(Blackhole blackhole) {
+        this.device = new EmitterDevice();
+        this.event = new EmitterDevice.Event(device);
+        for (int i = 0; i < subscribers; i++) {
+            device.subscribeEvents(EmitterDevice.Event.class,
+                    blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void emit() {
+        device.emit(event);
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDevice;
+import io.ketill.IoDeviceEvent;
+import io.ketill.IoDeviceObserver;
+import io.ketill.virtual.VirtualAdapter;
+import io.ketill.virtual.VirtualInput;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A device with no features of its own, which exposes its observer. This
+ * allows benchmarks to emit events (and create observers) directly, so
+ * the cost of dispatch can be measured apart from that of polling.
+ */
+public final class EmitterDevice extends IoDevice {
+
+    /**
+     * The event emitted by {@link #emit(IoDeviceEvent)} in benchmarks.
+     */
+    public static final class Event extends IoDeviceEvent {
+
+        /**
+         * Constructs a new {@code Event}.
+         *
+         * @param device the device which emits this event.
+         * @throws NullPointerException if {@code device} is {@code null}.
+         */
+        public Event(@NotNull EmitterDevice device) {
+            super(device);
+        }
+
+    }
+
+    private final @NotNull VirtualInput input;
+
+    /**
+     * Constructs a new {@code EmitterDevice}.
+     */
+    public EmitterDevice() {
+        this(new VirtualInput());
+    }
+
+    private EmitterDevice(@NotNull VirtualInput input) {
+        super("emitter", (d, r) -> new VirtualAdapter<>(d, r, input));
+        this.input = input;
+    }
+
+    /**
+     * Returns the virtual input of this device. Since this device has no
+     * features of its own, this is only useful for its tick.
+     *
+     * @return the virtual input of this device.
+     * @see ScriptedDevice#clockOf(VirtualInput)
+     */
+    public @NotNull VirtualInput getInput() {
+        return this.input;
+    }
+
+    /**
+     * Returns the observer of this device.
+     *
+     * @return the observer of this device.
+     */
+    public @NotNull IoDeviceObserver getObserver() {
+        return this.observer;
+    }
+
+    /**
+     * Emits an event from this device.
+     *
+     * @param event the event to emit.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    public void emit(@NotNull IoDeviceEvent event) {
+        observer.onNext(event);
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.ketill.benchmark;
+
+import io.ketill.FeaturePresent;
+import io.ketill.IoDevice;
+import io.ketill.PlainIoFeature;
+import io.ketill.virtual.VirtualAdapter;
+import io.ketill.virtual.VirtualInput;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A device whose features are all declared as fields. Whether they are
+ * registered is decided at construction. This allows the cost of
+ * {@link IoDevice#registerFields()} to be measured on its own.
+ */
+public final class FieldsDevice extends IoDevice {
+
+    /* @formatter:off */
+    @FeaturePresent
+    public static final @NotNull PlainIoFeature<Object>
+            FEATURE_0 = new PlainIoFeature<>("feature_0", Object::new),
+            FEATURE_1 = new PlainIoFeature<>("feature_1", Object::new),
+            FEATURE_2 = new PlainIoFeature<>("feature_2", Object::new),
+            FEATURE_3 = new PlainIoFeature<>("feature_3", Object::new),
+            FEATURE_4 = new PlainIoFeature<>("feature_4", Object::new),
+            FEATURE_5 = new PlainIoFeature<>("feature_5", Object::new),
+            FEATURE_6 = new PlainIoFeature<>("feature_6", Object::new),
+            FEATURE_7 = new PlainIoFeature<>("feature_7", Object::new),
+            FEATURE_8 = new PlainIoFeature<>("feature_8", Object::new),
+            FEATURE_9 = new PlainIoFeature<>("feature_9", Object::new),
+            FEATURE_10 = new PlainIoFeature<>("feature_10", Object::new),
+            FEATURE_11 = new PlainIoFeature<>("feature_11", Object::new),
+            FEATURE_12 = new PlainIoFeature<>("feature_12", Object::new),
+            FEATURE_13 = new PlainIoFeature<>("feature_13", Object::new),
+            FEATURE_14 = new PlainIoFeature<>("feature_14", Object::new),
+            FEATURE_15 = new PlainIoFeature<>("feature_15", Object::new);
+    /* @formatter:on */
+
+    /**
+     * Constructs a new {@code FieldsDevice}.
+     *
+     * @param registerFields {@code true} if the fields of this device
+     *                       should be registered, {@code false} otherwise.
+     */
+    public FieldsDevice(boolean registerFields) {
+        super("fields", (d, r) ->
+                        new VirtualAdapter<>(d, r, new VirtualInput()),
+                registerFields, true);
+    }
+
+}
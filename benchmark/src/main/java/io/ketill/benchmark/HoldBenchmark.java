@@ -0,0 +1,92 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDeviceObserver;
+import io.ketill.IoFeature;
+import io.ketill.PlainIoFeature;
+import io.ketill.pressable.PressableIoFeatureObserver;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PressableIoFeatureObserver} on its own, apart from the
+ * rest of a device. This includes deciding when a feature is pressed,
+ * held, and released, and emitting the events for each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HoldBenchmark {
+
+    private static final class SwitchObserver
+            extends PressableIoFeatureObserver<Object> {
+
+        private boolean pressed;
+
+        private SwitchObserver(@NotNull IoFeature<Object, ?> feature,
+                               @NotNull IoDeviceObserver observer) {
+            super(feature, new Object(), observer);
+        }
+
+        @Override
+        protected boolean isPressedImpl() {
+            return this.pressed;
+        }
+
+    }
+
+    @Param({"1", "64"})
+    public int featureCount;
+
+    @Param
+    public Script script;
+
+    private EmitterDevice device;
+    private SwitchObserver[] observers;
+    private long tick;
+
+    @Setup
+    public void createObservers() {
+        this.device = new EmitterDevice();
+        device.useClock(ScriptedDevice.clockOf(device.getInput()));
+
+        this.observers = new SwitchObserver[featureCount];
+        for (int i = 0; i < observers.length; i++) {
+            PlainIoFeature<Object> feature =
+                    new PlainIoFeature<>("switch_" + i, Object::new);
+            observers[i] = new SwitchObserver(feature,
+                    device.getObserver());
+        }
+    }
+
+    @Benchmark
+    public void poll() {
+        /*
+         * The device is polled only to advance its poll time, which the
+         * observers use to decide when a feature is held. It has no
+         * features of its own to update.
+         */
+        device.poll();
+        this.tick++;
+
+        for (int i = 0; i < observers.length; i++) {
+            observers[i].pressed = script.isPressed(tick, i);
+            observers[i].poll();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDevice;
+import io.ketill.virtual.VirtualInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single poll of a device. Nearly all the work of a poll is
+ * done by the feature registry, which updates the state of each feature
+ * and emits events for those which changed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PollBenchmark {
+
+    @Param
+    public ScriptedDevice device;
+
+    @Param
+    public Script script;
+
+    private IoDevice polled;
+
+    @Setup
+    public void createDevice() {
+        VirtualInput input = new VirtualInput();
+        input.setPattern(script.createPattern());
+        this.polled = device.create(input);
+        polled.useClock(ScriptedDevice.clockOf(input));
+    }
+
+    @Benchmark
+    public void poll() {
+        polled.poll();
+    }
+
+}
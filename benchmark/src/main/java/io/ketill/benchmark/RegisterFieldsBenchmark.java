@@ -0,0 +1,39 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDevice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IoDevice#registerFields()}. It can only be called once
+ * per device, during construction. As such, a device is constructed with
+ * and without registering its fields. The difference between the two is
+ * the cost of registering them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RegisterFieldsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean registerFields;
+
+    @Benchmark
+    public IoDevice construct() {
+        return new FieldsDevice(registerFields);
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoFeature;
+import io.ketill.virtual.VirtualFeatureType;
+import io.ketill.virtual.VirtualInput;
+import io.ketill.virtual.VirtualPattern;
+import io.ketill.virtual.VirtualPatterns;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The input given to the features of a device each poll. Each script is
+ * seeded the same way, so the input of each poll is the same from one
+ * run to the next.
+ */
+public enum Script {
+
+    /**
+     * Nothing is pressed, and all analog values are zero. This is the
+     * cost of polling a device no one is touching.
+     */
+    IDLE,
+
+    /**
+     * Everything is pressed, and all analog values are at their
+     * maximum. After the hold time has passed, every pressable feature
+     * is considered held down.
+     */
+    HOLD,
+
+    /**
+     * Every feature is toggled each poll, and all analog values wander
+     * at random. This is the worst case, as every feature emits events
+     * each poll.
+     */
+    MASH;
+
+    private static final long SEED = 0x6B6574696C6CL;
+
+    private static void hold(@NotNull VirtualInput input) {
+        for (IoFeature<?, ?> button :
+                input.getFeatures(VirtualFeatureType.BUTTON)) {
+            input.setPressed(button, true);
+        }
+        for (IoFeature<?, ?> stick :
+                input.getFeatures(VirtualFeatureType.STICK)) {
+            input.setValue(stick, 1.0F, 1.0F);
+        }
+        for (IoFeature<?, ?> trigger :
+                input.getFeatures(VirtualFeatureType.TRIGGER)) {
+            input.setValue(trigger, 1.0F);
+        }
+        for (IoFeature<?, ?> cursor :
+                input.getFeatures(VirtualFeatureType.CURSOR)) {
+            input.setValue(cursor, 512.0F, 512.0F);
+        }
+    }
+
+    /**
+     * Creates the pattern which drives the input of a device.
+     *
+     * @return the pattern for this script, {@code null} if the input
+     * should be left untouched.
+     */
+    public @Nullable VirtualPattern createPattern() {
+        switch (this) {
+            case HOLD:
+                return Script::hold;
+            case MASH:
+                return VirtualPatterns.mash(SEED, 1.0)
+                        .andThen(VirtualPatterns.randomWalk(SEED, 1.0F))
+                        .andThen(VirtualPatterns.cursorWalk(SEED, 512.0F));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns if a pressable feature is pressed. This is for benchmarks
+     * which press features directly, rather than through a device.
+     *
+     * @param tick  how many times the device has been polled.
+     * @param index the index of the feature.
+     * @return {@code true} if the feature is pressed at {@code tick},
+     * {@code false} otherwise.
+     */
+    public boolean isPressed(long tick, int index) {
+        switch (this) {
+            case HOLD:
+                return true;
+            case MASH:
+                return ((tick + index) & 1) == 0;
+            default:
+                return false;
+        }
+    }
+
+}
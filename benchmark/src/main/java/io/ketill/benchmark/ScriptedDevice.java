@@ -0,0 +1,76 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDevice;
+import io.ketill.IoDeviceClock;
+import io.ketill.virtual.VirtualDevices;
+import io.ketill.virtual.VirtualInput;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The devices which benchmarks can be run against. Each is driven by a
+ * {@link VirtualInput}, so no hardware is required.
+ */
+public enum ScriptedDevice {
+
+    KEYBOARD {
+        @Override
+        public @NotNull IoDevice create(@NotNull VirtualInput input) {
+            return VirtualDevices.keyboard(input);
+        }
+    },
+
+    MOUSE {
+        @Override
+        public @NotNull IoDevice create(@NotNull VirtualInput input) {
+            return VirtualDevices.mouse(input);
+        }
+    },
+
+    PS4 {
+        @Override
+        public @NotNull IoDevice create(@NotNull VirtualInput input) {
+            return VirtualDevices.ps4(input);
+        }
+    },
+
+    XBOX {
+        @Override
+        public @NotNull IoDevice create(@NotNull VirtualInput input) {
+            return VirtualDevices.xbox(input);
+        }
+    };
+
+    /**
+     * How far the clock of a device advances each poll. This is the time
+     * between polls of a device polled at 1000Hz.
+     */
+    public static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Creates a new instance of this device.
+     *
+     * @param input the input to drive the device with.
+     * @return the created device.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public abstract @NotNull IoDevice create(@NotNull VirtualInput input);
+
+    /**
+     * Returns a clock which only advances when a virtual input is polled.
+     * This keeps the timing of features (e.g., when a button is considered
+     * held) independent of how fast the benchmark is running.
+     *
+     * @param input the input whose polls drive the clock.
+     * @return a clock which advances {@value #TICK} nanoseconds each time
+     * {@code input} is polled.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    public static @NotNull IoDeviceClock clockOf(@NotNull VirtualInput input) {
+        Objects.requireNonNull(input, "input cannot be null");
+        return () -> input.getTick() * TICK;
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.ketill.benchmark;
+
+import io.ketill.IoDeviceSeeker;
+import io.ketill.virtual.VirtualSeeker;
+import io.ketill.xbox.XboxController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a seeker with many devices connected. Each seek checks every
+ * slot again, as a seeker for real hardware would. All devices have
+ * already been discovered, so this is the cost of seeking once nothing
+ * has changed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SeekerBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int deviceCount;
+
+    private VirtualSeeker<XboxController> seeker;
+
+    @Setup
+    public void createSeeker() {
+        this.seeker = new VirtualSeeker<>(XboxController::new,
+                deviceCount, 0L);
+        seeker.setPattern(Script.MASH.createPattern());
+        seeker.seek(); /* discover devices ahead of time */
+        for (int i = 0; i < deviceCount; i++) {
+            XboxController device = seeker.getDevice(i);
+            if (device != null) {
+                device.useClock(ScriptedDevice.clockOf(seeker.getInput(i)));
+            }
+        }
+    }
+
+    @TearDown
+    public void closeSeeker() {
+        seeker.close();
+    }
+
+    @Benchmark
+    public IoDeviceSeeker<XboxController> seek() {
+        return seeker.seek();
+    }
+
+    @Benchmark
+    public IoDeviceSeeker<XboxController> pollDevices() {
+        return seeker.pollDevices();
+    }
+
+}
@@ -0,0 +1,201 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Maps the magnitude of an analog input (past its deadzone) to the
+ * magnitude reported to the user. This is used to give analog sticks and
+ * triggers more precision near their center, or to match the feel of a
+ * specific game.
+ * <p>
+ * Curves other than {@link #LINEAR} are sampled into a lookup table when
+ * created. Applying a curve is then a single table lookup with linear
+ * interpolation, regardless of how expensive the curve is to evaluate.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> It is immutable.
+ *
+ * @see #power(float)
+ * @see #spline(float...)
+ * @see AnalogStickCalibration#withCurve(AnalogResponseCurve)
+ * @see AnalogTriggerCalibration#withCurve(AnalogResponseCurve)
+ */
+public final class AnalogResponseCurve {
+
+    /**
+     * How many samples are in the lookup table of a curve.
+     */
+    static final int TABLE_SIZE = 257;
+
+    /**
+     * A curve which returns the magnitude as given.
+     */
+    public static final @NotNull AnalogResponseCurve LINEAR =
+            new AnalogResponseCurve("linear", null);
+
+    private interface CurveFunction {
+
+        float evaluate(float input);
+
+    }
+
+    private static float @NotNull [] sample(@NotNull CurveFunction func) {
+        float[] table = new float[TABLE_SIZE];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            float input = (float) i / (TABLE_SIZE - 1);
+            float output = func.evaluate(input);
+            table[i] = Math.max(0.0F, Math.min(1.0F, output));
+        }
+        return table;
+    }
+
+    /**
+     * Returns a curve which raises the magnitude to a power. Exponents
+     * greater than one give more precision near the center, while those
+     * less than one make the input more sensitive near the center.
+     *
+     * @param exponent the exponent to raise the magnitude to.
+     * @return the power curve.
+     * @throws IllegalArgumentException if {@code exponent} is not positive
+     *                                  or not finite.
+     */
+    public static @NotNull AnalogResponseCurve power(float exponent) {
+        if (!(exponent > 0.0F) || Float.isInfinite(exponent)) {
+            String msg = "exponent must be positive and finite";
+            throw new IllegalArgumentException(msg);
+        } else if (exponent == 1.0F) {
+            return LINEAR;
+        }
+        float[] table = sample(in -> (float) Math.pow(in, exponent));
+        return new AnalogResponseCurve("power(" + exponent + ")", table);
+    }
+
+    private static float catmullRom(float p0, float p1, float p2, float p3,
+                                    float t) {
+        float t2 = t * t;
+        float t3 = t2 * t;
+        return 0.5F * ((2.0F * p1) + (-p0 + p2) * t
+                + (2.0F * p0 - 5.0F * p1 + 4.0F * p2 - p3) * t2
+                + (-p0 + 3.0F * p1 - 3.0F * p2 + p3) * t3);
+    }
+
+    /**
+     * Returns a curve which passes through the specified points. The
+     * points are spaced evenly over the magnitude, with the first being
+     * at a magnitude of {@code 0.0F} and the last being at {@code 1.0F}.
+     * The curve between them is smoothed with a Catmull-Rom spline.
+     *
+     * @param points the points to pass through. Each point must be in
+     *               range of {@code 0.0F} to {@code 1.0F}.
+     * @return the spline curve.
+     * @throws NullPointerException     if {@code points} is {@code null}.
+     * @throws IllegalArgumentException if there are less than two points;
+     *                                  if any point is out of range.
+     */
+    /* @formatter:off */
+    public static @NotNull AnalogResponseCurve
+            spline(float @NotNull ... points) {
+        Objects.requireNonNull(points, "points cannot be null");
+        if (points.length < 2) {
+            throw new IllegalArgumentException("must have at least 2 points");
+        }
+        for (float point : points) {
+            if (!(point >= 0.0F && point <= 1.0F)) {
+                String msg = "points must be in range of 0.0F to 1.0F";
+                throw new IllegalArgumentException(msg);
+            }
+        }
+
+        float[] copy = points.clone();
+        int last = copy.length - 1;
+        float[] table = sample(in -> {
+            float pos = in * last;
+            int i = Math.min((int) pos, last - 1);
+
+            /*
+             * The points before the first and after the last do not
+             * exist. Repeating the end points in their place keeps the
+             * curve from overshooting at either end.
+             */
+            float p0 = copy[Math.max(i - 1, 0)];
+            float p1 = copy[i];
+            float p2 = copy[i + 1];
+            float p3 = copy[Math.min(i + 2, last)];
+            return catmullRom(p0, p1, p2, p3, pos - i);
+        });
+
+        String desc = "spline" + Arrays.toString(copy);
+        return new AnalogResponseCurve(desc, table);
+    }
+    /* @formatter:on */
+
+    private final @NotNull String description;
+    private final float @Nullable [] table;
+
+    private AnalogResponseCurve(@NotNull String description,
+                                float @Nullable [] table) {
+        this.description = description;
+        this.table = table;
+    }
+
+    /**
+     * Returns if this curve returns the magnitude as given.
+     *
+     * @return {@code true} if this curve is linear, {@code false}
+     * otherwise.
+     */
+    public boolean isLinear() {
+        return table == null;
+    }
+
+    /**
+     * Applies this curve to a magnitude.
+     *
+     * @param magnitude the magnitude to apply this curve to. This value
+     *                  will be capped to a range of {@code 0.0F} to
+     *                  {@code 1.0F}.
+     * @return the adjusted magnitude, in range of {@code 0.0F} to
+     * {@code 1.0F}.
+     */
+    public float apply(float magnitude) {
+        magnitude = Math.max(0.0F, Math.min(1.0F, magnitude));
+        if (table == null) {
+            return magnitude;
+        }
+
+        float pos = magnitude * (TABLE_SIZE - 1);
+        int i = (int) pos;
+        if (i >= TABLE_SIZE - 1) {
+            return table[TABLE_SIZE - 1];
+        }
+        float lower = table[i];
+        return lower + (table[i + 1] - lower) * (pos - i);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(table);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnalogResponseCurve that = (AnalogResponseCurve) o;
+        return Arrays.equals(table, that.table);
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("curve=" + description)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
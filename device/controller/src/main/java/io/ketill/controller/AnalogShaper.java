@@ -0,0 +1,113 @@
+package io.ketill.controller;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Applies a deadzone, anti-deadzone, and response curve to the magnitude
+ * of an analog input. All constants needed are computed once on creation,
+ * so that shaping a magnitude takes no divisions.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it is
+ * only a detail of {@link AnalogStickCalibration} and
+ * {@link AnalogTriggerCalibration}. As such, it is kept hidden from
+ * users.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> It is immutable.
+ */
+final class AnalogShaper {
+
+    static void requireDeadzone(float inner, float outer) {
+        if (!(inner >= 0.0F && outer <= 1.0F)) {
+            String msg = "deadzone must be in range of 0.0F to 1.0F";
+            throw new IllegalArgumentException(msg);
+        } else if (inner >= outer) {
+            String msg = "inner deadzone must be less than outer deadzone";
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    static void requireAntiDeadzone(float anti) {
+        if (!(anti >= 0.0F && anti < 1.0F)) {
+            String msg = "antiDeadzone must be in range of 0.0F to 1.0F";
+            msg += " (exclusive)";
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    /**
+     * Returns if shaping with the specified parameters would change the
+     * magnitude of an input in range of {@code 0.0F} to {@code 1.0F}.
+     */
+    static boolean isIdentity(float inner, float outer, float anti,
+                              @NotNull AnalogResponseCurve curve) {
+        return inner == 0.0F && outer == 1.0F && anti == 0.0F
+                && curve.isLinear();
+    }
+
+    private final float inner, outer;
+    private final float anti, antiScale;
+    private final float scale, offset;
+    private final float linearScale, linearOffset;
+    private final @NotNull AnalogResponseCurve curve;
+
+    AnalogShaper(float inner, float outer, float anti,
+                 @NotNull AnalogResponseCurve curve) {
+        this.inner = inner;
+        this.outer = outer;
+        this.anti = anti;
+        this.antiScale = 1.0F - anti;
+        this.curve = curve;
+
+        /*
+         * The magnitude past the deadzone is (m - inner) / (outer - inner).
+         * This is rewritten as (m * scale + offset), so only a multiply
+         * and add are needed for each input. When the curve is linear, the
+         * anti-deadzone is folded into these as well.
+         */
+        this.scale = 1.0F / (outer - inner);
+        this.offset = -inner * scale;
+        this.linearScale = antiScale * scale;
+        this.linearOffset = anti + antiScale * offset;
+    }
+
+    /**
+     * Shapes the magnitude of an input.
+     *
+     * @param magnitude the magnitude, expected to be positive.
+     * @return the shaped magnitude, in range of {@code 0.0F} to
+     * {@code 1.0F}.
+     */
+    float shape(float magnitude) {
+        if (magnitude <= inner) {
+            return 0.0F;
+        } else if (magnitude >= outer) {
+            return 1.0F;
+        } else if (curve.isLinear()) {
+            return magnitude * linearScale + linearOffset;
+        }
+        float curved = curve.apply(magnitude * scale + offset);
+        return curved * antiScale + anti;
+    }
+
+    /**
+     * Shapes a signed value, keeping its sign.
+     *
+     * @param value the value to shape.
+     * @return the shaped value, in range of {@code -1.0F} to
+     * {@code 1.0F}.
+     */
+    float shapeSigned(float value) {
+        if (value >= 0.0F) {
+            return this.shape(value);
+        }
+
+        /*
+         * Negating a shaped value of zero would result in negative zero,
+         * which is not equal to zero according to Float.equals(). Users
+         * expect a value inside the deadzone to be exactly zero.
+         */
+        float shaped = this.shape(-value);
+        return shaped > 0.0F ? -shaped : 0.0F;
+    }
+
+}
@@ -26,6 +26,12 @@ public final class AnalogStick extends IoFeature<StickPosZ, StickPos> {
      * towards a certain direction. An analog stick is considered to be
      * pressed if the corresponding axis has an absolute value greater
      * than or equal to {@code 2.0F / 3.0F}.
+     * <p>
+     * <b>Note:</b> This does not account for hysteresis, or for the
+     * {@link AnalogStickPressConfig} of a stick. To check if the stick
+     * of a state is pressed as reported by its events, use the
+     * {@link StickPos#up}, {@link StickPos#down}, {@link StickPos#left},
+     * and {@link StickPos#right} fields.
      *
      * @param pos       the analog stick position.
      * @param direction the direction to check for.
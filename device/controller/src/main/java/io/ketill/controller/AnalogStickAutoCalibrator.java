@@ -0,0 +1,247 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector2f;
+import org.joml.Vector2fc;
+import org.joml.Vector3fc;
+
+import java.util.Objects;
+
+/**
+ * Learns the calibration of an analog stick from its raw position while
+ * it is being used. This accounts for worn or third-party sticks which do
+ * not match the bounds given by their device.
+ * <p>
+ * Each axis has its own center and extrema. The extrema expand as soon as
+ * the stick goes past them, and then decay slowly back towards the center.
+ * The center is only learned while the stick is at rest, which is when it
+ * has barely moved for a number of samples in a row near the center. Only
+ * a constant amount of memory is used, no matter how many samples are
+ * taken.
+ * <p>
+ * A new calibration is created only when the learned bounds move by a
+ * noticeable amount. Since calibrations are immutable, and the current
+ * calibration is swapped out all at once, a reader never sees a calibration
+ * which is only partially updated.
+ * <p>
+ * <b>Thread safety:</b> Only {@link #getCalibration()} is thread-safe.
+ * All other methods should only be called by the thread polling the
+ * device which owns the analog stick.
+ *
+ * @see StickPos#useAutoCalibration(AnalogStickAutoCalibrator)
+ * @see AnalogTriggerAutoCalibrator
+ */
+public final class AnalogStickAutoCalibrator {
+
+    /* @formatter:off */
+    public static final float
+            DEFAULT_DECAY = 1.0E-5F,
+            DEFAULT_REST_TOLERANCE = 0.005F;
+
+    public static final int
+            DEFAULT_REST_SAMPLES = 50;
+    /* @formatter:on */
+
+    /**
+     * How close to the center the stick must be to be considered at rest,
+     * as a fraction of the span of the seed calibration.
+     */
+    static final float REST_ZONE = 0.25F;
+
+    /**
+     * How far the bounds must move before a new calibration is created,
+     * as a fraction of the span of the seed calibration.
+     */
+    static final float UPDATE_THRESHOLD = 0.001F;
+
+    private final @NotNull AnalogStickCalibration seed;
+    private final float decay;
+    private final int restSamples;
+    private final float restTolerance;
+
+    private final AutoCalibrationAxis x, y;
+    private final Vector2f upperBound, lowerBound;
+    private int stillSamples;
+    private volatile @NotNull AnalogStickCalibration calibration;
+
+    /**
+     * Constructs a new {@code AnalogStickAutoCalibrator}.
+     *
+     * @param seed          the calibration to start from. Its deadzone,
+     *                      anti-deadzone, and response curve are kept in
+     *                      each learned calibration.
+     * @param decay         how much the extrema decay towards the center
+     *                      each sample, as a fraction of their distance
+     *                      from it.
+     * @param restSamples   how many samples in a row the stick must barely
+     *                      move for to be considered at rest.
+     * @param restTolerance how far the stick can move between samples and
+     *                      still be considered at rest, as a fraction of
+     *                      the span of {@code seed}.
+     * @throws NullPointerException     if {@code seed} is {@code null}.
+     * @throws IllegalArgumentException if {@code decay} is not in range of
+     *                                  {@code 0.0F} to {@code 1.0F}; if
+     *                                  {@code restSamples} is less than
+     *                                  one; if {@code restTolerance} is
+     *                                  negative.
+     */
+    public AnalogStickAutoCalibrator(@NotNull AnalogStickCalibration seed,
+                                     float decay, int restSamples,
+                                     float restTolerance) {
+        this.seed = Objects.requireNonNull(seed, "seed cannot be null");
+        if (!(decay >= 0.0F && decay <= 1.0F)) {
+            String msg = "decay must be in range of 0.0F to 1.0F";
+            throw new IllegalArgumentException(msg);
+        } else if (restSamples < 1) {
+            throw new IllegalArgumentException("restSamples must be >= 1");
+        } else if (!(restTolerance >= 0.0F)) {
+            String msg = "restTolerance cannot be negative";
+            throw new IllegalArgumentException(msg);
+        }
+
+        this.decay = decay;
+        this.restSamples = restSamples;
+        this.restTolerance = restTolerance;
+
+        Vector2fc upper = seed.getUpperBound();
+        Vector2fc lower = seed.getLowerBound();
+        this.x = new AutoCalibrationAxis(lower.x(), upper.x(),
+                (upper.x() + lower.x()) / 2.0F);
+        this.y = new AutoCalibrationAxis(lower.y(), upper.y(),
+                (upper.y() + lower.y()) / 2.0F);
+
+        this.upperBound = new Vector2f(upper);
+        this.lowerBound = new Vector2f(lower);
+        this.calibration = seed;
+    }
+
+    /**
+     * Constructs a new {@code AnalogStickAutoCalibrator} with the default
+     * decay, rest samples, and rest tolerance.
+     *
+     * @param seed the calibration to start from. Its deadzone,
+     *             anti-deadzone, and response curve are kept in each
+     *             learned calibration.
+     * @throws NullPointerException if {@code seed} is {@code null}.
+     */
+    public AnalogStickAutoCalibrator(@NotNull AnalogStickCalibration seed) {
+        this(seed, DEFAULT_DECAY, DEFAULT_REST_SAMPLES,
+                DEFAULT_REST_TOLERANCE);
+    }
+
+    /**
+     * Returns the most recently learned calibration.
+     *
+     * @return the most recently learned calibration. Before any samples
+     * have been taken, this is the seed calibration.
+     */
+    public @NotNull AnalogStickCalibration getCalibration() {
+        return this.calibration;
+    }
+
+    /**
+     * Returns if the stick was at rest as of the last sample.
+     *
+     * @return {@code true} if the stick is at rest, {@code false}
+     * otherwise.
+     */
+    public boolean isAtRest() {
+        return stillSamples >= restSamples;
+    }
+
+    /**
+     * Forgets everything learned so far, and goes back to the seed
+     * calibration.
+     */
+    public void reset() {
+        x.reset();
+        y.reset();
+        upperBound.set(seed.getUpperBound());
+        lowerBound.set(seed.getLowerBound());
+        this.stillSamples = 0;
+        this.calibration = seed;
+    }
+
+    private boolean moved(float a, float b, float span) {
+        return Math.abs(a - b) > span * UPDATE_THRESHOLD;
+    }
+
+    /**
+     * Takes a sample of the raw position of the stick.
+     *
+     * @param rawX the raw X-axis position.
+     * @param rawY the raw Y-axis position.
+     */
+    public void sample(float rawX, float rawY) {
+        float spanX = x.getSeedSpan();
+        float spanY = y.getSeedSpan();
+
+        /* non-short circuit, both axes must remember this sample */
+        boolean still = x.isStill(rawX, spanX * restTolerance)
+                & y.isStill(rawY, spanY * restTolerance);
+        if (!still) {
+            this.stillSamples = 0;
+        } else if (stillSamples < restSamples) {
+            this.stillSamples++;
+        }
+
+        x.sample(rawX, decay);
+        y.sample(rawY, decay);
+
+        if (this.isAtRest() && x.isNearCenter(rawX, spanX * REST_ZONE)
+                && y.isNearCenter(rawY, spanY * REST_ZONE)) {
+            x.rest(rawX);
+            y.rest(rawY);
+        }
+
+        /*
+         * A calibration maps the midpoint of its bounds to zero. As such,
+         * the bounds are kept symmetrical around the learned center. The
+         * extent used is the greater of the two, so that neither extreme
+         * is reported past a full press.
+         */
+        float extentX = Math.max(x.upper - x.center, x.center - x.lower);
+        float extentY = Math.max(y.upper - y.center, y.center - y.lower);
+        float upperX = x.center + extentX, lowerX = x.center - extentX;
+        float upperY = y.center + extentY, lowerY = y.center - extentY;
+
+        if (this.moved(upperX, upperBound.x, spanX)
+                || this.moved(lowerX, lowerBound.x, spanX)
+                || this.moved(upperY, upperBound.y, spanY)
+                || this.moved(lowerY, lowerBound.y, spanY)) {
+            upperBound.set(upperX, upperY);
+            lowerBound.set(lowerX, lowerY);
+            this.calibration = seed.withBounds(upperBound, lowerBound);
+        }
+    }
+
+    /**
+     * Takes a sample of the raw position of the stick.
+     * <p>
+     * <b>Shorthand for:</b> {@link #sample(float, float)}, with the
+     * arguments for {@code rawX} and {@code rawY} being the X-axis and
+     * Y-axis of {@code pos}.
+     *
+     * @param pos the raw position.
+     * @throws NullPointerException if {@code pos} is {@code null}.
+     */
+    public void sample(@NotNull Vector3fc pos) {
+        Objects.requireNonNull(pos, "pos cannot be null");
+        this.sample(pos.x(), pos.y());
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("seed=" + seed)
+                .add("decay=" + decay)
+                .add("restSamples=" + restSamples)
+                .add("restTolerance=" + restTolerance)
+                .add("calibration=" + calibration)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -2,6 +2,7 @@ package io.ketill.controller;
 
 import io.ketill.ToStringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector2f;
 import org.joml.Vector2fc;
 import org.joml.Vector3f;
@@ -12,6 +13,13 @@ import java.util.Objects;
  * Used by {@link AnalogStick} and {@link StickPos} to calibrate the current
  * position of an analog stick to the appropriate bounds of {@code -1.0F} to
  * {@code 1.0F}.
+ * <p>
+ * A calibration can also apply a deadzone, an anti-deadzone, and a response
+ * curve to the normalized position. By default, none of these are applied.
+ * Since calibrations are immutable, these are set via methods which return
+ * a new calibration (e.g., {@link #withDeadzone(DeadzoneShape, float,
+ * float)}.) All constants needed to apply a calibration are computed when
+ * it is created.
  *
  * @see #applyTo(Vector2f)
  * @see #applyTo(Vector3f)
@@ -19,13 +27,100 @@ import java.util.Objects;
  */
 public final class AnalogStickCalibration {
 
-    private static float normalize(float value, float upper, float lower) {
-        float normalized = (value - lower) / (upper - lower);
+    private static float normalize(float value, float lower, float range) {
+        float normalized = (value - lower) / range;
         return (normalized * 2.0F) - 1.0F;
     }
 
+    /**
+     * The shape of an analog stick deadzone.
+     */
+    public enum DeadzoneShape {
+
+        /**
+         * The deadzone is applied to the distance of the stick from its
+         * center. This preserves the direction of the stick, and is best
+         * suited for free movement (e.g., walking or aiming.)
+         */
+        RADIAL,
+
+        /**
+         * The deadzone is applied to each axis separately. This makes it
+         * easier to hold the stick along a single axis, and is best suited
+         * for menus or cardinal movement.
+         */
+        AXIAL
+
+    }
+
+    /* @formatter:off */
+    public static final float
+            NO_INNER_DEADZONE = 0.0F,
+            NO_OUTER_DEADZONE = 1.0F,
+            NO_ANTI_DEADZONE = 0.0F;
+    /* @formatter:on */
+
     private final @NotNull Vector2fc upperBound;
     private final @NotNull Vector2fc lowerBound;
+    private final @NotNull DeadzoneShape deadzoneShape;
+    private final float innerDeadzone;
+    private final float outerDeadzone;
+    private final float antiDeadzone;
+    private final @NotNull AnalogResponseCurve curve;
+
+    /*
+     * These are derived from the fields above when the calibration is
+     * created. They are transient since they are not part of the value
+     * of this calibration, only a faster way of applying it.
+     */
+    private final transient float rangeX, rangeY;
+    private final transient @Nullable AnalogShaper shaper;
+
+    private AnalogStickCalibration(@NotNull Vector2fc upperBound,
+                                   @NotNull Vector2fc lowerBound,
+                                   @NotNull DeadzoneShape deadzoneShape,
+                                   float innerDeadzone, float outerDeadzone,
+                                   float antiDeadzone,
+                                   @NotNull AnalogResponseCurve curve) {
+        this.upperBound = upperBound;
+        this.lowerBound = lowerBound;
+        this.deadzoneShape = deadzoneShape;
+        this.innerDeadzone = innerDeadzone;
+        this.outerDeadzone = outerDeadzone;
+        this.antiDeadzone = antiDeadzone;
+        this.curve = curve;
+
+        this.rangeX = upperBound.x() - lowerBound.x();
+        this.rangeY = upperBound.y() - lowerBound.y();
+
+        if (AnalogShaper.isIdentity(innerDeadzone, outerDeadzone,
+                antiDeadzone, curve)) {
+            this.shaper = null; /* nothing to shape */
+        } else {
+            this.shaper = new AnalogShaper(innerDeadzone, outerDeadzone,
+                    antiDeadzone, curve);
+        }
+    }
+
+    /* @formatter:off */
+    private static @NotNull Vector2fc
+            requireUpperBound(@NotNull Vector2fc upperBound,
+                              @NotNull Vector2fc lowerBound) {
+        Objects.requireNonNull(upperBound, "upperBound cannot be null");
+        Objects.requireNonNull(lowerBound, "lowerBound cannot be null");
+
+        /*
+         * If the upper bound is not greater than the lower bound, it would
+         * break normalization. This would render calibration useless.
+         */
+        if (upperBound.x() <= lowerBound.x() || upperBound.y() <= lowerBound.y()) {
+            String msg = "upperBound must be greater than lowerBound";
+            throw new IllegalArgumentException(msg);
+        }
+
+        return new Vector2f(upperBound);
+    }
+    /* @formatter:on */
 
     /**
      * Constructs a new {@code AnalogStickCalibration}.
@@ -47,20 +142,12 @@ public final class AnalogStickCalibration {
      */
     public AnalogStickCalibration(@NotNull Vector2fc upperBound,
                                   @NotNull Vector2fc lowerBound) {
-        Objects.requireNonNull(upperBound, "upperBound cannot be null");
-        Objects.requireNonNull(lowerBound, "lowerBound cannot be null");
-
-        /*
-         * If the upper bound is not greater than the lower bound, it would
-         * break normalization. This would render calibration useless.
-         */
-        if (upperBound.x() <= lowerBound.x() || upperBound.y() <= lowerBound.y()) {
-            String msg = "upperBound must be greater than lowerBound";
-            throw new IllegalArgumentException(msg);
-        }
-
-        this.upperBound = new Vector2f(upperBound);
-        this.lowerBound = new Vector2f(lowerBound);
+        /* @formatter:off */
+        this(requireUpperBound(upperBound, lowerBound),
+                new Vector2f(lowerBound),
+                DeadzoneShape.RADIAL, NO_INNER_DEADZONE, NO_OUTER_DEADZONE,
+                NO_ANTI_DEADZONE, AnalogResponseCurve.LINEAR);
+        /* @formatter:on */
     }
 
     /**
@@ -111,6 +198,170 @@ public final class AnalogStickCalibration {
         return this.lowerBound;
     }
 
+    /* @formatter:off */
+    /**
+     * Returns a copy of this calibration with different bounds. The
+     * deadzone, anti-deadzone, and response curve are kept.
+     *
+     * @param upperBound the upper bound. This <i>must</i> have a value
+     *                   greater than {@code lowerBound}.
+     * @param lowerBound the lower bound. This <i>must</i> have a value
+     *                   lower than {@code upperBound}.
+     * @return the new calibration.
+     * @throws NullPointerException     if {@code upperBound} or
+     *                                  {@code lowerBound} are {@code null}.
+     * @throws IllegalArgumentException if the value of {@code upperBound} is
+     *                                  not greater than {@code lowerBound}.
+     */
+    public @NotNull AnalogStickCalibration
+            withBounds(@NotNull Vector2fc upperBound,
+                       @NotNull Vector2fc lowerBound) {
+        return new AnalogStickCalibration(
+                requireUpperBound(upperBound, lowerBound),
+                new Vector2f(lowerBound), deadzoneShape, innerDeadzone,
+                outerDeadzone, antiDeadzone, curve);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns the shape of the deadzone for this calibration.
+     *
+     * @return the shape of the deadzone for this calibration.
+     */
+    public @NotNull DeadzoneShape getDeadzoneShape() {
+        return this.deadzoneShape;
+    }
+
+    /**
+     * Returns the inner deadzone for this calibration. Any normalized
+     * position with a magnitude at or below this is reported as zero.
+     *
+     * @return the inner deadzone for this calibration.
+     */
+    public float getInnerDeadzone() {
+        return this.innerDeadzone;
+    }
+
+    /**
+     * Returns the outer deadzone for this calibration. Any normalized
+     * position with a magnitude at or above this is reported as one.
+     *
+     * @return the outer deadzone for this calibration.
+     */
+    public float getOuterDeadzone() {
+        return this.outerDeadzone;
+    }
+
+    /**
+     * Returns the anti-deadzone for this calibration. This is the lowest
+     * magnitude reported for a position outside the inner deadzone. It is
+     * used to cancel out a deadzone applied by a game itself.
+     *
+     * @return the anti-deadzone for this calibration.
+     */
+    public float getAntiDeadzone() {
+        return this.antiDeadzone;
+    }
+
+    /**
+     * Returns the response curve for this calibration.
+     *
+     * @return the response curve for this calibration.
+     */
+    public @NotNull AnalogResponseCurve getCurve() {
+        return this.curve;
+    }
+
+    /* @formatter:off */
+    /**
+     * Returns a copy of this calibration with a different deadzone.
+     *
+     * @param shape the shape of the deadzone.
+     * @param inner the inner deadzone. Any normalized position with a
+     *              magnitude at or below this is reported as zero.
+     * @param outer the outer deadzone. Any normalized position with a
+     *              magnitude at or above this is reported as one.
+     * @return the new calibration.
+     * @throws NullPointerException     if {@code shape} is {@code null}.
+     * @throws IllegalArgumentException if {@code inner} or {@code outer}
+     *                                  are not in range of {@code 0.0F}
+     *                                  to {@code 1.0F}; if {@code inner}
+     *                                  is not less than {@code outer}.
+     */
+    public @NotNull AnalogStickCalibration
+            withDeadzone(@NotNull DeadzoneShape shape, float inner,
+                         float outer) {
+        Objects.requireNonNull(shape, "shape cannot be null");
+        AnalogShaper.requireDeadzone(inner, outer);
+        return new AnalogStickCalibration(upperBound, lowerBound, shape,
+                inner, outer, antiDeadzone, curve);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns a copy of this calibration with a different radial
+     * deadzone.
+     * <p>
+     * <b>Shorthand for:</b> {@link #withDeadzone(DeadzoneShape, float,
+     * float)}, with the argument for {@code shape} being
+     * {@link DeadzoneShape#RADIAL} and {@code outer} being
+     * {@value #NO_OUTER_DEADZONE}.
+     *
+     * @param inner the inner deadzone. Any normalized position with a
+     *              magnitude at or below this is reported as zero.
+     * @return the new calibration.
+     * @throws IllegalArgumentException if {@code inner} is not in range
+     *                                  of {@code 0.0F} (inclusive) to
+     *                                  {@code 1.0F} (exclusive).
+     */
+    public @NotNull AnalogStickCalibration withDeadzone(float inner) {
+        return this.withDeadzone(DeadzoneShape.RADIAL, inner,
+                NO_OUTER_DEADZONE);
+    }
+
+    /**
+     * Returns a copy of this calibration with a different anti-deadzone.
+     *
+     * @param anti the lowest magnitude reported for a position outside
+     *             the inner deadzone.
+     * @return the new calibration.
+     * @throws IllegalArgumentException if {@code anti} is not in range of
+     *                                  {@code 0.0F} (inclusive) to
+     *                                  {@code 1.0F} (exclusive).
+     */
+    public @NotNull AnalogStickCalibration withAntiDeadzone(float anti) {
+        AnalogShaper.requireAntiDeadzone(anti);
+        return new AnalogStickCalibration(upperBound, lowerBound,
+                deadzoneShape, innerDeadzone, outerDeadzone, anti, curve);
+    }
+
+    /* @formatter:off */
+    /**
+     * Returns a copy of this calibration with a different response curve.
+     *
+     * @param curve the response curve.
+     * @return the new calibration.
+     * @throws NullPointerException if {@code curve} is {@code null}.
+     */
+    public @NotNull AnalogStickCalibration
+            withCurve(@NotNull AnalogResponseCurve curve) {
+        Objects.requireNonNull(curve, "curve cannot be null");
+        return new AnalogStickCalibration(upperBound, lowerBound,
+                deadzoneShape, innerDeadzone, outerDeadzone, antiDeadzone,
+                curve);
+    }
+    /* @formatter:on */
+
+    /*
+     * When the deadzone is radial, both axes are scaled by the same amount
+     * to keep the direction of the stick. This returns that amount.
+     */
+    private float getRadialScale(float x, float y) {
+        float magnitude = (float) Math.sqrt(x * x + y * y);
+        float shaped = shaper.shape(magnitude);
+        return shaped > 0.0F ? shaped / magnitude : 0.0F;
+    }
+
     /**
      * Applies this calibration to the specified vector.
      *
@@ -122,8 +373,19 @@ public final class AnalogStickCalibration {
      */
     public void applyTo(@NotNull Vector2f vec) {
         Objects.requireNonNull(vec, "vec cannot be null");
-        vec.x = normalize(vec.x, upperBound.x(), lowerBound.x());
-        vec.y = normalize(vec.y, upperBound.y(), lowerBound.y());
+        vec.x = normalize(vec.x, lowerBound.x(), rangeX);
+        vec.y = normalize(vec.y, lowerBound.y(), rangeY);
+
+        if (shaper == null) {
+            return; /* nothing to shape */
+        } else if (deadzoneShape == DeadzoneShape.AXIAL) {
+            vec.x = shaper.shapeSigned(vec.x);
+            vec.y = shaper.shapeSigned(vec.y);
+        } else {
+            float scale = this.getRadialScale(vec.x, vec.y);
+            vec.x = scale > 0.0F ? vec.x * scale : 0.0F;
+            vec.y = scale > 0.0F ? vec.y * scale : 0.0F;
+        }
     }
 
     /**
@@ -139,13 +401,25 @@ public final class AnalogStickCalibration {
      */
     public void applyTo(@NotNull Vector3f vec) {
         Objects.requireNonNull(vec, "vec cannot be null");
-        vec.x = normalize(vec.x, upperBound.x(), lowerBound.x());
-        vec.y = normalize(vec.y, upperBound.y(), lowerBound.y());
+        vec.x = normalize(vec.x, lowerBound.x(), rangeX);
+        vec.y = normalize(vec.y, lowerBound.y(), rangeY);
+
+        if (shaper == null) {
+            return; /* nothing to shape */
+        } else if (deadzoneShape == DeadzoneShape.AXIAL) {
+            vec.x = shaper.shapeSigned(vec.x);
+            vec.y = shaper.shapeSigned(vec.y);
+        } else {
+            float scale = this.getRadialScale(vec.x, vec.y);
+            vec.x = scale > 0.0F ? vec.x * scale : 0.0F;
+            vec.y = scale > 0.0F ? vec.y * scale : 0.0F;
+        }
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(upperBound, lowerBound);
+        return Objects.hash(upperBound, lowerBound, deadzoneShape,
+                innerDeadzone, outerDeadzone, antiDeadzone, curve);
     }
 
     @Override
@@ -153,8 +427,13 @@ public final class AnalogStickCalibration {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         AnalogStickCalibration that = (AnalogStickCalibration) o;
-        return upperBound.equals(that.upperBound)
-                && lowerBound.equals(that.lowerBound);
+        return Float.compare(that.innerDeadzone, innerDeadzone) == 0
+                && Float.compare(that.outerDeadzone, outerDeadzone) == 0
+                && Float.compare(that.antiDeadzone, antiDeadzone) == 0
+                && upperBound.equals(that.upperBound)
+                && lowerBound.equals(that.lowerBound)
+                && deadzoneShape == that.deadzoneShape
+                && curve.equals(that.curve);
     }
 
     /* @formatter:off */
@@ -163,6 +442,11 @@ public final class AnalogStickCalibration {
         return ToStringUtils.getJoiner(this)
                 .add("upperBound=" + upperBound)
                 .add("lowerBound=" + lowerBound)
+                .add("deadzoneShape=" + deadzoneShape)
+                .add("innerDeadzone=" + innerDeadzone)
+                .add("outerDeadzone=" + outerDeadzone)
+                .add("antiDeadzone=" + antiDeadzone)
+                .add("curve=" + curve)
                 .toString();
     }
     /* @formatter:on */
@@ -0,0 +1,165 @@
+package io.ketill.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3fc;
+
+/**
+ * Decides which directions an analog stick is pressed towards, for all
+ * four directions in a single pass.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it is
+ * only used by {@link StickPosZ}. As such, it is kept hidden from users.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It should
+ * only be used by the thread polling the device which owns the stick.
+ *
+ * @see AnalogStickPressConfig
+ */
+final class AnalogStickClassifier {
+
+    /* @formatter:off */
+    static final int
+            UP = 1 << Direction.UP.getId(),
+            DOWN = 1 << Direction.DOWN.getId(),
+            LEFT = 1 << Direction.LEFT.getId(),
+            RIGHT = 1 << Direction.RIGHT.getId();
+    /* @formatter:on */
+
+    /**
+     * How far past the edge of its sector the stick can move before the
+     * sector changes, in radians. This prevents chattering between two
+     * sectors when the stick is held on the edge between them.
+     */
+    static final float SECTOR_HYSTERESIS = (float) Math.toRadians(7.5D);
+
+    private static final float TWO_PI = (float) (Math.PI * 2.0D);
+
+    /*
+     * Sectors start at the right and go counter-clockwise, matching the
+     * angle returned by Math.atan2().
+     */
+    private static final int[] FOUR_WAY_SECTORS = {
+            RIGHT, UP, LEFT, DOWN
+    };
+
+    private static final int[] EIGHT_WAY_SECTORS = {
+            RIGHT, RIGHT | UP, UP, UP | LEFT,
+            LEFT, LEFT | DOWN, DOWN, DOWN | RIGHT
+    };
+
+    static int getMask(@NotNull Direction direction) {
+        return 1 << direction.getId();
+    }
+
+    private int pressed;
+    private int @Nullable [] sectors;
+    private int sector = -1;
+
+    /**
+     * Returns the directions pressed as of the last classification.
+     *
+     * @return a bit mask of the directions pressed. The bit for each
+     * direction is given by {@link #getMask(Direction)}.
+     */
+    int getPressed() {
+        return this.pressed;
+    }
+
+    boolean isPressed(@NotNull Direction direction) {
+        return (pressed & getMask(direction)) != 0;
+    }
+
+    private static boolean axisPressed(boolean wasPressed, float value,
+                                       float press, float release) {
+        return value >= (wasPressed ? release : press);
+    }
+
+    private int classifyAxial(float x, float y, float press, float release) {
+        int mask = 0;
+        if (axisPressed((pressed & UP) != 0, y, press, release)) {
+            mask |= UP;
+        }
+        if (axisPressed((pressed & DOWN) != 0, -y, press, release)) {
+            mask |= DOWN;
+        }
+        if (axisPressed((pressed & LEFT) != 0, -x, press, release)) {
+            mask |= LEFT;
+        }
+        if (axisPressed((pressed & RIGHT) != 0, x, press, release)) {
+            mask |= RIGHT;
+        }
+        return mask;
+    }
+
+    private static float angleDistance(float a, float b) {
+        float diff = Math.abs(a - b) % TWO_PI;
+        return diff > Math.PI ? TWO_PI - diff : diff;
+    }
+
+    private int classifyRadial(float x, float y, float press, float release,
+                               int @NotNull [] sectors) {
+        if (this.sectors != sectors) {
+            this.sectors = sectors; /* mode was changed */
+            this.sector = -1;
+        }
+
+        float magnitude = (float) Math.sqrt(x * x + y * y);
+        float threshold = pressed != 0 ? release : press;
+        if (magnitude < threshold) {
+            this.sector = -1;
+            return 0;
+        }
+
+        float sectorSize = TWO_PI / sectors.length;
+        float angle = (float) Math.atan2(y, x);
+
+        /*
+         * Only change sectors once the stick has moved far enough past
+         * the edge of the current one. Without this, a stick held on the
+         * edge between two sectors would rapidly switch between them.
+         */
+        if (sector >= 0) {
+            float center = sector * sectorSize;
+            float limit = sectorSize / 2.0F + SECTOR_HYSTERESIS;
+            if (angleDistance(angle, center) <= limit) {
+                return sectors[sector];
+            }
+        }
+
+        int nearest = Math.round(angle / sectorSize);
+        this.sector = Math.floorMod(nearest, sectors.length);
+        return sectors[sector];
+    }
+
+    /**
+     * Classifies the position of an analog stick.
+     *
+     * @param pos    the calibrated position of the stick.
+     * @param config the configuration to classify with.
+     * @return a bit mask of the directions now pressed.
+     */
+    int classify(@NotNull Vector3fc pos,
+                 @NotNull AnalogStickPressConfig config) {
+        float press = config.getPressThreshold();
+        float release = config.getReleaseThreshold();
+        switch (config.getMode()) {
+            case FOUR_WAY:
+                this.pressed = this.classifyRadial(pos.x(), pos.y(),
+                        press, release, FOUR_WAY_SECTORS);
+                break;
+            case EIGHT_WAY:
+                this.pressed = this.classifyRadial(pos.x(), pos.y(),
+                        press, release, EIGHT_WAY_SECTORS);
+                break;
+            default:
+                this.sectors = null;
+                this.sector = -1;
+                this.pressed = this.classifyAxial(pos.x(), pos.y(),
+                        press, release);
+                break;
+        }
+        return this.pressed;
+    }
+
+}
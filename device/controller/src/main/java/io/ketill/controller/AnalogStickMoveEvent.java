@@ -0,0 +1,95 @@
+package io.ketill.controller;
+
+import io.ketill.IoDevice;
+import io.ketill.IoFeatureChangeEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Emitted by {@link Controller} when an {@link AnalogStick} has moved
+ * further than its move epsilon since this event was last emitted.
+ * Smaller moves are not discarded, but rather coalesced into the next
+ * event. The position is calibrated.
+ *
+ * @see StickPos#setMoveEpsilon(float)
+ * @see IoDevice#subscribeEvents(Class, double, Consumer)
+ */
+public final class AnalogStickMoveEvent extends IoFeatureChangeEvent
+        implements ControllerEvent {
+
+    private final float deltaX, deltaY;
+    private final float x, y;
+
+    AnalogStickMoveEvent(@NotNull Controller controller,
+                         @NotNull AnalogStick stick,
+                         float deltaX, float deltaY, float x, float y) {
+        super(controller, stick);
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public @NotNull Controller getController() {
+        return (Controller) this.getDevice();
+    }
+
+    /**
+     * Returns the analog stick which triggered this event.
+     *
+     * @return the analog stick which triggered this event.
+     */
+    public @NotNull AnalogStick getStick() {
+        return (AnalogStick) this.getFeature();
+    }
+
+    /**
+     * Returns how far the analog stick moved along the X-axis.
+     *
+     * @return how far the analog stick moved along the X-axis.
+     */
+    public float getDeltaX() {
+        return this.deltaX;
+    }
+
+    /**
+     * Returns how far the analog stick moved along the Y-axis.
+     *
+     * @return how far the analog stick moved along the Y-axis.
+     */
+    public float getDeltaY() {
+        return this.deltaY;
+    }
+
+    /**
+     * Returns the X-axis position of the analog stick after it moved.
+     *
+     * @return the X-axis position of the analog stick after it moved.
+     */
+    public float getX() {
+        return this.x;
+    }
+
+    /**
+     * Returns the Y-axis position of the analog stick after it moved.
+     *
+     * @return the Y-axis position of the analog stick after it moved.
+     */
+    public float getY() {
+        return this.y;
+    }
+
+    /* @formatter:off */
+    @Override
+    protected @NotNull AnalogStickMoveEvent
+            coalesce(@NotNull IoFeatureChangeEvent next) {
+        AnalogStickMoveEvent nextMove = (AnalogStickMoveEvent) next;
+        return new AnalogStickMoveEvent(this.getController(),
+                this.getStick(), deltaX + nextMove.deltaX,
+                deltaY + nextMove.deltaY, nextMove.x, nextMove.y);
+    }
+    /* @formatter:on */
+
+}
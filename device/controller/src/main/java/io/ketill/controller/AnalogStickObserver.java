@@ -25,7 +25,16 @@ final class AnalogStickObserver extends PressableIoFeatureObserver<StickPosZ> {
 
     @Override
     protected boolean isPressedImpl() {
-        return AnalogStick.isPressed(internalState.calibratedPos, direction);
+        return internalState.classifier.isPressed(direction);
+    }
+
+    /*
+     * Each direction of a stick is observed separately, but they share
+     * the same slot. The direction ID tells their records apart.
+     */
+    @Override
+    protected float getRecordValue() {
+        return direction.getId();
     }
 
     @Override
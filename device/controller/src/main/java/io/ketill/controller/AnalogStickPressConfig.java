@@ -0,0 +1,182 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Used by {@link StickPos} to decide which {@link Direction} an analog
+ * stick is pressed towards.
+ * <p>
+ * A direction is pressed once the stick moves past the press threshold,
+ * and is only released once it moves back within the release threshold.
+ * Having the release threshold lower than the press threshold prevents a
+ * stick resting near the press threshold from rapidly being pressed and
+ * released.
+ *
+ * @see Mode
+ * @see StickPos#usePressConfig(AnalogStickPressConfig)
+ */
+public final class AnalogStickPressConfig {
+
+    /**
+     * How the position of an analog stick is divided into directions.
+     */
+    public enum Mode {
+
+        /**
+         * Each axis is checked on its own. A direction is pressed when
+         * the value of its axis moves past the threshold. This can press
+         * two directions at once, such as {@link Direction#UP} and
+         * {@link Direction#RIGHT}.
+         */
+        AXIAL,
+
+        /**
+         * The position is divided into four sectors of equal size, one
+         * for each direction. Only one direction can be pressed at once,
+         * and the thresholds apply to the distance of the stick from its
+         * center.
+         */
+        FOUR_WAY,
+
+        /**
+         * The position is divided into eight sectors of equal size, one
+         * for each direction and one for each diagonal. A diagonal sector
+         * presses both of its directions. The thresholds apply to the
+         * distance of the stick from its center.
+         */
+        EIGHT_WAY
+
+    }
+
+    /* @formatter:off */
+    public static final float
+            DEFAULT_PRESS_THRESHOLD = 2.0F / 3.0F,
+            DEFAULT_RELEASE_THRESHOLD = 0.6F;
+
+    public static final @NotNull AnalogStickPressConfig
+            DEFAULT = new AnalogStickPressConfig();
+    /* @formatter:on */
+
+    private final @NotNull Mode mode;
+    private final float pressThreshold;
+    private final float releaseThreshold;
+
+    /**
+     * Constructs a new {@code AnalogStickPressConfig}.
+     *
+     * @param mode             how the position of the stick is divided
+     *                         into directions.
+     * @param pressThreshold   how far the stick must move to press a
+     *                         direction.
+     * @param releaseThreshold how far the stick must move back to release
+     *                         a direction. This <i>must</i> not be greater
+     *                         than {@code pressThreshold}.
+     * @throws NullPointerException     if {@code mode} is {@code null}.
+     * @throws IllegalArgumentException if {@code pressThreshold} is not in
+     *                                  range of {@code 0.0F} (exclusive)
+     *                                  to {@code 1.0F} (inclusive); if
+     *                                  {@code releaseThreshold} is not in
+     *                                  range of {@code 0.0F} (exclusive)
+     *                                  to {@code pressThreshold}
+     *                                  (inclusive).
+     */
+    public AnalogStickPressConfig(@NotNull Mode mode, float pressThreshold,
+                                  float releaseThreshold) {
+        this.mode = Objects.requireNonNull(mode, "mode cannot be null");
+        if (!(pressThreshold > 0.0F && pressThreshold <= 1.0F)) {
+            String msg = "pressThreshold must be in range of 0.0F to 1.0F";
+            throw new IllegalArgumentException(msg);
+        } else if (!(releaseThreshold > 0.0F
+                && releaseThreshold <= pressThreshold)) {
+            String msg = "releaseThreshold must be in range of 0.0F";
+            msg += " to pressThreshold";
+            throw new IllegalArgumentException(msg);
+        }
+        this.pressThreshold = pressThreshold;
+        this.releaseThreshold = releaseThreshold;
+    }
+
+    /**
+     * Constructs a new {@code AnalogStickPressConfig} with the default
+     * press and release thresholds.
+     * <p>
+     * <b>Shorthand for:</b> {@link #AnalogStickPressConfig(Mode, float,
+     * float)}, with the argument for {@code pressThreshold} being
+     * {@link #DEFAULT_PRESS_THRESHOLD} and {@code releaseThreshold} being
+     * {@value #DEFAULT_RELEASE_THRESHOLD}.
+     *
+     * @param mode how the position of the stick is divided into
+     *             directions.
+     * @throws NullPointerException if {@code mode} is {@code null}.
+     */
+    public AnalogStickPressConfig(@NotNull Mode mode) {
+        this(mode, DEFAULT_PRESS_THRESHOLD, DEFAULT_RELEASE_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new {@code AnalogStickPressConfig} with the mode being
+     * {@link Mode#AXIAL}, and the default press and release thresholds.
+     */
+    public AnalogStickPressConfig() {
+        this(Mode.AXIAL);
+    }
+
+    /**
+     * Returns how the position of the stick is divided into directions.
+     *
+     * @return how the position of the stick is divided into directions.
+     */
+    public @NotNull Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Returns how far the stick must move to press a direction.
+     *
+     * @return how far the stick must move to press a direction.
+     */
+    public float getPressThreshold() {
+        return this.pressThreshold;
+    }
+
+    /**
+     * Returns how far the stick must move back to release a direction.
+     *
+     * @return how far the stick must move back to release a direction.
+     * This is guaranteed to not be greater than the value returned by
+     * {@link #getPressThreshold()}.
+     */
+    public float getReleaseThreshold() {
+        return this.releaseThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, pressThreshold, releaseThreshold);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnalogStickPressConfig that = (AnalogStickPressConfig) o;
+        return Float.compare(that.pressThreshold, pressThreshold) == 0
+                && Float.compare(that.releaseThreshold, releaseThreshold) == 0
+                && mode == that.mode;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("mode=" + mode)
+                .add("pressThreshold=" + pressThreshold)
+                .add("releaseThreshold=" + releaseThreshold)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -16,7 +16,7 @@ import org.jetbrains.annotations.Nullable;
 public final class AnalogTrigger
         extends IoFeature<TriggerStateZ, TriggerState> {
 
-    private static final float TRIGGER_PRESS = 2.0F / 3.0F;
+    static final float TRIGGER_PRESS = 2.0F / 3.0F;
 
     /**
      * Returns if a given force indicates an analog trigger is pressed.
@@ -0,0 +1,189 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Learns the calibration of an analog trigger from its raw force while
+ * it is being used. This accounts for worn or third-party triggers which
+ * do not match the bounds given by their device.
+ * <p>
+ * The resting force of the trigger is learned while it has barely moved
+ * for a number of samples in a row near its lower bound. The upper bound
+ * expands as soon as the trigger is pressed past it, and then decays
+ * slowly back towards the resting force. Only a constant amount of memory
+ * is used, no matter how many samples are taken.
+ * <p>
+ * A new calibration is created only when the learned bounds move by a
+ * noticeable amount, and is swapped in all at once.
+ * <p>
+ * <b>Thread safety:</b> Only {@link #getCalibration()} is thread-safe.
+ * All other methods should only be called by the thread polling the
+ * device which owns the analog trigger.
+ *
+ * @see TriggerState#useAutoCalibration(AnalogTriggerAutoCalibrator)
+ * @see AnalogStickAutoCalibrator
+ */
+public final class AnalogTriggerAutoCalibrator {
+
+    private final @NotNull AnalogTriggerCalibration seed;
+    private final float decay;
+    private final int restSamples;
+    private final float restTolerance;
+
+    private final AutoCalibrationAxis axis;
+    private float upperBound, lowerBound;
+    private int stillSamples;
+    private volatile @NotNull AnalogTriggerCalibration calibration;
+
+    /**
+     * Constructs a new {@code AnalogTriggerAutoCalibrator}.
+     *
+     * @param seed          the calibration to start from. Its deadzone,
+     *                      anti-deadzone, and response curve are kept in
+     *                      each learned calibration.
+     * @param decay         how much the upper bound decays towards the
+     *                      resting force each sample, as a fraction of
+     *                      its distance from it.
+     * @param restSamples   how many samples in a row the trigger must
+     *                      barely move for to be considered at rest.
+     * @param restTolerance how far the trigger can move between samples
+     *                      and still be considered at rest, as a fraction
+     *                      of the span of {@code seed}.
+     * @throws NullPointerException     if {@code seed} is {@code null}.
+     * @throws IllegalArgumentException if {@code decay} is not in range of
+     *                                  {@code 0.0F} to {@code 1.0F}; if
+     *                                  {@code restSamples} is less than
+     *                                  one; if {@code restTolerance} is
+     *                                  negative.
+     */
+    public AnalogTriggerAutoCalibrator(@NotNull AnalogTriggerCalibration seed,
+                                       float decay, int restSamples,
+                                       float restTolerance) {
+        this.seed = Objects.requireNonNull(seed, "seed cannot be null");
+        if (!(decay >= 0.0F && decay <= 1.0F)) {
+            String msg = "decay must be in range of 0.0F to 1.0F";
+            throw new IllegalArgumentException(msg);
+        } else if (restSamples < 1) {
+            throw new IllegalArgumentException("restSamples must be >= 1");
+        } else if (!(restTolerance >= 0.0F)) {
+            String msg = "restTolerance cannot be negative";
+            throw new IllegalArgumentException(msg);
+        }
+
+        this.decay = decay;
+        this.restSamples = restSamples;
+        this.restTolerance = restTolerance;
+
+        /* a trigger rests at its lower bound, not in the middle */
+        this.axis = new AutoCalibrationAxis(seed.getLowerBound(),
+                seed.getUpperBound(), seed.getLowerBound());
+
+        this.upperBound = seed.getUpperBound();
+        this.lowerBound = seed.getLowerBound();
+        this.calibration = seed;
+    }
+
+    /**
+     * Constructs a new {@code AnalogTriggerAutoCalibrator} with the
+     * default decay, rest samples, and rest tolerance.
+     *
+     * @param seed the calibration to start from. Its deadzone,
+     *             anti-deadzone, and response curve are kept in each
+     *             learned calibration.
+     * @throws NullPointerException if {@code seed} is {@code null}.
+     * @see AnalogStickAutoCalibrator#DEFAULT_DECAY
+     * @see AnalogStickAutoCalibrator#DEFAULT_REST_SAMPLES
+     * @see AnalogStickAutoCalibrator#DEFAULT_REST_TOLERANCE
+     */
+    public AnalogTriggerAutoCalibrator(@NotNull AnalogTriggerCalibration seed) {
+        this(seed, AnalogStickAutoCalibrator.DEFAULT_DECAY,
+                AnalogStickAutoCalibrator.DEFAULT_REST_SAMPLES,
+                AnalogStickAutoCalibrator.DEFAULT_REST_TOLERANCE);
+    }
+
+    /**
+     * Returns the most recently learned calibration.
+     *
+     * @return the most recently learned calibration. Before any samples
+     * have been taken, this is the seed calibration.
+     */
+    public @NotNull AnalogTriggerCalibration getCalibration() {
+        return this.calibration;
+    }
+
+    /**
+     * Returns if the trigger was at rest as of the last sample.
+     *
+     * @return {@code true} if the trigger is at rest, {@code false}
+     * otherwise.
+     */
+    public boolean isAtRest() {
+        return stillSamples >= restSamples;
+    }
+
+    /**
+     * Forgets everything learned so far, and goes back to the seed
+     * calibration.
+     */
+    public void reset() {
+        axis.reset();
+        this.upperBound = seed.getUpperBound();
+        this.lowerBound = seed.getLowerBound();
+        this.stillSamples = 0;
+        this.calibration = seed;
+    }
+
+    /**
+     * Takes a sample of the raw force of the trigger.
+     *
+     * @param rawForce the raw force.
+     */
+    public void sample(float rawForce) {
+        float span = axis.getSeedSpan();
+
+        if (!axis.isStill(rawForce, span * restTolerance)) {
+            this.stillSamples = 0;
+        } else if (stillSamples < restSamples) {
+            this.stillSamples++;
+        }
+
+        axis.sample(rawForce, decay);
+
+        float restZone = span * AnalogStickAutoCalibrator.REST_ZONE;
+        if (this.isAtRest() && axis.isNearCenter(rawForce, restZone)) {
+            axis.rest(rawForce);
+        }
+
+        /*
+         * The lower bound is the resting force itself, rather than the
+         * lowest force seen. Otherwise, a single dip below the resting
+         * force would make the trigger read as slightly pressed at rest.
+         */
+        float upper = axis.upper;
+        float lower = axis.center;
+        float threshold = span * AnalogStickAutoCalibrator.UPDATE_THRESHOLD;
+        if (Math.abs(upper - upperBound) > threshold
+                || Math.abs(lower - lowerBound) > threshold) {
+            this.upperBound = upper;
+            this.lowerBound = lower;
+            this.calibration = seed.withBounds(upper, lower);
+        }
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("seed=" + seed)
+                .add("decay=" + decay)
+                .add("restSamples=" + restSamples)
+                .add("restTolerance=" + restTolerance)
+                .add("calibration=" + calibration)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
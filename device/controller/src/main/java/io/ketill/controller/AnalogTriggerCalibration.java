@@ -1,6 +1,8 @@
 package io.ketill.controller;
 
 import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
@@ -8,30 +10,40 @@ import java.util.Objects;
  * Used by {@link AnalogTrigger} and {@link TriggerState} to calibrate
  * the current force of an analog trigger to the appropriate bounds of
  * {@code -1.0F} to {@code 1.0F}.
+ * <p>
+ * A calibration can also apply a deadzone, an anti-deadzone, and a response
+ * curve to the normalized force. By default, none of these are applied.
+ * Since calibrations are immutable, these are set via methods which return
+ * a new calibration (e.g., {@link #withDeadzone(float, float)}.) All
+ * constants needed to apply a calibration are computed when it is created.
  *
  * @see #apply(float)
  * @see AnalogStickCalibration
  */
 public final class AnalogTriggerCalibration {
 
-    private static float normalize(float value, float upper, float lower) {
-        return (value - lower) / (upper - lower);
-    }
+    /* @formatter:off */
+    public static final float
+            NO_INNER_DEADZONE = 0.0F,
+            NO_OUTER_DEADZONE = 1.0F,
+            NO_ANTI_DEADZONE = 0.0F;
+    /* @formatter:on */
 
     private final float upperBound;
     private final float lowerBound;
+    private final float innerDeadzone;
+    private final float outerDeadzone;
+    private final float antiDeadzone;
+    private final @NotNull AnalogResponseCurve curve;
 
-    /**
-     * Constructs a new {@code AnalogTriggerCalibration}.
-     *
-     * @param upperBound the upper bound. This <i>must</i> have a value
-     *                   greater than {@code lowerBound}.
-     * @param lowerBound the lower bound. This <i>must</i> have a value
-     *                   lower than {@code upperBound}.
-     * @throws IllegalArgumentException if the value of {@code upperBound} is
-     *                                  not greater than {@code lowerBound}.
-     */
-    public AnalogTriggerCalibration(float upperBound, float lowerBound) {
+    /* cached on creation, these are not part of the value */
+    private final transient float range;
+    private final transient @Nullable AnalogShaper shaper;
+
+    private AnalogTriggerCalibration(float upperBound, float lowerBound,
+                                     float innerDeadzone, float outerDeadzone,
+                                     float antiDeadzone,
+                                     @NotNull AnalogResponseCurve curve) {
         /*
          * If the upper bound is not greater than the lower bound, it would
          * break normalization. This would render calibration useless.
@@ -43,6 +55,35 @@ public final class AnalogTriggerCalibration {
 
         this.upperBound = upperBound;
         this.lowerBound = lowerBound;
+        this.innerDeadzone = innerDeadzone;
+        this.outerDeadzone = outerDeadzone;
+        this.antiDeadzone = antiDeadzone;
+        this.curve = curve;
+
+        this.range = upperBound - lowerBound;
+
+        if (AnalogShaper.isIdentity(innerDeadzone, outerDeadzone,
+                antiDeadzone, curve)) {
+            this.shaper = null; /* nothing to shape */
+        } else {
+            this.shaper = new AnalogShaper(innerDeadzone, outerDeadzone,
+                    antiDeadzone, curve);
+        }
+    }
+
+    /**
+     * Constructs a new {@code AnalogTriggerCalibration}.
+     *
+     * @param upperBound the upper bound. This <i>must</i> have a value
+     *                   greater than {@code lowerBound}.
+     * @param lowerBound the lower bound. This <i>must</i> have a value
+     *                   lower than {@code upperBound}.
+     * @throws IllegalArgumentException if the value of {@code upperBound} is
+     *                                  not greater than {@code lowerBound}.
+     */
+    public AnalogTriggerCalibration(float upperBound, float lowerBound) {
+        this(upperBound, lowerBound, NO_INNER_DEADZONE, NO_OUTER_DEADZONE,
+                NO_ANTI_DEADZONE, AnalogResponseCurve.LINEAR);
     }
 
     /**
@@ -69,6 +110,116 @@ public final class AnalogTriggerCalibration {
         return this.lowerBound;
     }
 
+    /**
+     * Returns a copy of this calibration with different bounds. The
+     * deadzone, anti-deadzone, and response curve are kept.
+     *
+     * @param upperBound the upper bound. This <i>must</i> have a value
+     *                   greater than {@code lowerBound}.
+     * @param lowerBound the lower bound. This <i>must</i> have a value
+     *                   lower than {@code upperBound}.
+     * @return the new calibration.
+     * @throws IllegalArgumentException if the value of {@code upperBound} is
+     *                                  not greater than {@code lowerBound}.
+     */
+    public @NotNull AnalogTriggerCalibration withBounds(float upperBound,
+                                                        float lowerBound) {
+        return new AnalogTriggerCalibration(upperBound, lowerBound,
+                innerDeadzone, outerDeadzone, antiDeadzone, curve);
+    }
+
+    /**
+     * Returns the inner deadzone for this calibration. Any normalized
+     * force at or below this is reported as zero.
+     *
+     * @return the inner deadzone for this calibration.
+     */
+    public float getInnerDeadzone() {
+        return this.innerDeadzone;
+    }
+
+    /**
+     * Returns the outer deadzone for this calibration. Any normalized
+     * force at or above this is reported as one.
+     *
+     * @return the outer deadzone for this calibration.
+     */
+    public float getOuterDeadzone() {
+        return this.outerDeadzone;
+    }
+
+    /**
+     * Returns the anti-deadzone for this calibration. This is the lowest
+     * force reported for a force outside the inner deadzone. It is used
+     * to cancel out a deadzone applied by a game itself.
+     *
+     * @return the anti-deadzone for this calibration.
+     */
+    public float getAntiDeadzone() {
+        return this.antiDeadzone;
+    }
+
+    /**
+     * Returns the response curve for this calibration.
+     *
+     * @return the response curve for this calibration.
+     */
+    public @NotNull AnalogResponseCurve getCurve() {
+        return this.curve;
+    }
+
+    /**
+     * Returns a copy of this calibration with a different deadzone.
+     *
+     * @param inner the inner deadzone. Any normalized force at or below
+     *              this is reported as zero.
+     * @param outer the outer deadzone. Any normalized force at or above
+     *              this is reported as one.
+     * @return the new calibration.
+     * @throws IllegalArgumentException if {@code inner} or {@code outer}
+     *                                  are not in range of {@code 0.0F}
+     *                                  to {@code 1.0F}; if {@code inner}
+     *                                  is not less than {@code outer}.
+     */
+    public @NotNull AnalogTriggerCalibration withDeadzone(float inner,
+                                                          float outer) {
+        AnalogShaper.requireDeadzone(inner, outer);
+        return new AnalogTriggerCalibration(upperBound, lowerBound,
+                inner, outer, antiDeadzone, curve);
+    }
+
+    /**
+     * Returns a copy of this calibration with a different anti-deadzone.
+     *
+     * @param anti the lowest force reported for a force outside the
+     *             inner deadzone.
+     * @return the new calibration.
+     * @throws IllegalArgumentException if {@code anti} is not in range of
+     *                                  {@code 0.0F} (inclusive) to
+     *                                  {@code 1.0F} (exclusive).
+     */
+    public @NotNull AnalogTriggerCalibration withAntiDeadzone(float anti) {
+        AnalogShaper.requireAntiDeadzone(anti);
+        return new AnalogTriggerCalibration(upperBound, lowerBound,
+                innerDeadzone, outerDeadzone, anti, curve);
+    }
+
+    /* @formatter:off */
+    /**
+     * Returns a copy of this calibration with a different response curve.
+     *
+     * @param curve the response curve.
+     * @return the new calibration.
+     * @throws NullPointerException if {@code curve} is {@code null}.
+     */
+    public @NotNull AnalogTriggerCalibration
+            withCurve(@NotNull AnalogResponseCurve curve) {
+        Objects.requireNonNull(curve, "curve cannot be null");
+        return new AnalogTriggerCalibration(upperBound, lowerBound,
+                innerDeadzone, outerDeadzone, antiDeadzone, curve);
+    }
+    /* @formatter:on */
+
     /**
      * Applies this calibration to the specified value.
      *
@@ -77,12 +228,17 @@ public final class AnalogTriggerCalibration {
      * @return the calibrated force.
      */
     public float apply(float value) {
-        return normalize(value, upperBound, lowerBound);
+        float normalized = (value - lowerBound) / range;
+        if (shaper == null) {
+            return normalized;
+        }
+        return shaper.shape(Math.max(0.0F, normalized));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(upperBound, lowerBound);
+        return Objects.hash(upperBound, lowerBound, innerDeadzone,
+                outerDeadzone, antiDeadzone, curve);
     }
 
     @Override
@@ -91,7 +247,11 @@ public final class AnalogTriggerCalibration {
         if (o == null || getClass() != o.getClass()) return false;
         AnalogTriggerCalibration that = (AnalogTriggerCalibration) o;
         return Float.compare(that.upperBound, upperBound) == 0
-                && Float.compare(that.lowerBound, lowerBound) == 0;
+                && Float.compare(that.lowerBound, lowerBound) == 0
+                && Float.compare(that.innerDeadzone, innerDeadzone) == 0
+                && Float.compare(that.outerDeadzone, outerDeadzone) == 0
+                && Float.compare(that.antiDeadzone, antiDeadzone) == 0
+                && curve.equals(that.curve);
     }
 
     /* @formatter:off */
@@ -100,6 +260,10 @@ public final class AnalogTriggerCalibration {
         return ToStringUtils.getJoiner(this)
                 .add("upperBound=" + upperBound)
                 .add("lowerBound=" + lowerBound)
+                .add("innerDeadzone=" + innerDeadzone)
+                .add("outerDeadzone=" + outerDeadzone)
+                .add("antiDeadzone=" + antiDeadzone)
+                .add("curve=" + curve)
                 .toString();
     }
     /* @formatter:on */
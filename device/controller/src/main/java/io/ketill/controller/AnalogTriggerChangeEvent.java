@@ -0,0 +1,71 @@
+package io.ketill.controller;
+
+import io.ketill.IoDevice;
+import io.ketill.IoFeatureChangeEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Emitted by {@link Controller} when the force of an
+ * {@link AnalogTrigger} has changed by more than its change epsilon
+ * since this event was last emitted. Smaller changes are not discarded,
+ * but rather coalesced into the next event. The force is calibrated.
+ *
+ * @see TriggerState#setChangeEpsilon(float)
+ * @see IoDevice#subscribeEvents(Class, double, Consumer)
+ */
+public final class AnalogTriggerChangeEvent extends IoFeatureChangeEvent
+        implements AnalogTriggerEvent {
+
+    private final float delta;
+    private final float force;
+
+    AnalogTriggerChangeEvent(@NotNull Controller controller,
+                             @NotNull AnalogTrigger trigger,
+                             float delta, float force) {
+        super(controller, trigger);
+        this.delta = delta;
+        this.force = force;
+    }
+
+    @Override
+    public @NotNull Controller getController() {
+        return (Controller) this.getDevice();
+    }
+
+    @Override
+    public @NotNull AnalogTrigger getTrigger() {
+        return (AnalogTrigger) this.getFeature();
+    }
+
+    /**
+     * Returns how much the force of the analog trigger changed.
+     *
+     * @return how much the force of the analog trigger changed.
+     */
+    public float getDelta() {
+        return this.delta;
+    }
+
+    /**
+     * Returns the force of the analog trigger after it changed.
+     *
+     * @return the force of the analog trigger after it changed.
+     */
+    public float getForce() {
+        return this.force;
+    }
+
+    /* @formatter:off */
+    @Override
+    protected @NotNull AnalogTriggerChangeEvent
+            coalesce(@NotNull IoFeatureChangeEvent next) {
+        AnalogTriggerChangeEvent nextChange = (AnalogTriggerChangeEvent) next;
+        return new AnalogTriggerChangeEvent(this.getController(),
+                this.getTrigger(), delta + nextChange.delta,
+                nextChange.force);
+    }
+    /* @formatter:on */
+
+}
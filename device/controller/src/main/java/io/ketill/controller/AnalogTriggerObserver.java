@@ -20,7 +20,8 @@ final class AnalogTriggerObserver
 
     @Override
     protected boolean isPressedImpl() {
-        return AnalogTrigger.isPressed(internalState.calibratedForce);
+        float force = internalState.calibratedForce;
+        return this.isPastThreshold(force, AnalogTrigger.TRIGGER_PRESS);
     }
 
     @Override
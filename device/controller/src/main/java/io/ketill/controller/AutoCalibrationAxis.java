@@ -0,0 +1,98 @@
+package io.ketill.controller;
+
+/**
+ * Learns the center and extrema of a single analog axis from a stream of
+ * samples, using a constant amount of memory.
+ * <p>
+ * The extrema expand immediately when a sample goes past them, and then
+ * slowly decay back towards the center. This allows a spurious sample to
+ * eventually be forgotten. The center is only learned while the axis is
+ * at rest, which is decided by the owning auto-calibrator.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it is
+ * only a detail of {@link AnalogStickAutoCalibrator} and
+ * {@link AnalogTriggerAutoCalibrator}. As such, it is kept hidden from
+ * users.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe.
+ */
+final class AutoCalibrationAxis {
+
+    /**
+     * How far the extrema can decay, as a fraction of their distance from
+     * the center in the seed calibration.
+     */
+    static final float MIN_EXTENT = 0.5F;
+
+    /**
+     * How much the center moves towards a sample taken at rest.
+     */
+    static final float REST_RATE = 0.05F;
+
+    private final float seedLower, seedUpper, seedCenter;
+    private final float minUpperExtent, minLowerExtent;
+
+    float lower, upper, center;
+    private float last;
+
+    AutoCalibrationAxis(float lower, float upper, float center) {
+        this.seedLower = lower;
+        this.seedUpper = upper;
+        this.seedCenter = center;
+        this.minUpperExtent = (upper - center) * MIN_EXTENT;
+        this.minLowerExtent = (center - lower) * MIN_EXTENT;
+        this.reset();
+    }
+
+    void reset() {
+        this.lower = seedLower;
+        this.upper = seedUpper;
+        this.center = seedCenter;
+        this.last = seedCenter;
+    }
+
+    float getSeedSpan() {
+        return seedUpper - seedLower;
+    }
+
+    /**
+     * Returns if a sample is within a tolerance of the previous sample.
+     * Afterwards, the sample is remembered for the next call.
+     */
+    boolean isStill(float value, float tolerance) {
+        boolean still = Math.abs(value - last) <= tolerance;
+        this.last = value;
+        return still;
+    }
+
+    boolean isNearCenter(float value, float zone) {
+        return Math.abs(value - center) <= zone;
+    }
+
+    void sample(float value, float decay) {
+        if (value > upper) {
+            this.upper = value;
+        } else {
+            this.upper -= (upper - center) * decay;
+        }
+
+        if (value < lower) {
+            this.lower = value;
+        } else {
+            this.lower += (center - lower) * decay;
+        }
+
+        /*
+         * Without a floor, the extrema of a stick left alone for long
+         * enough would decay into the center. Any small movement would
+         * then be reported as a full press.
+         */
+        this.upper = Math.max(upper, center + minUpperExtent);
+        this.lower = Math.min(lower, center - minLowerExtent);
+    }
+
+    void rest(float value) {
+        this.center += (value - center) * REST_RATE;
+    }
+
+}
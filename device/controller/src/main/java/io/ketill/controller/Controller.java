@@ -8,6 +8,8 @@ import io.ketill.RegisteredIoFeature;
 import io.ketill.ToStringUtils;
 import io.ketill.pressable.PressableIoFeatureConfig;
 import io.ketill.pressable.PressableIoFeatureConfigView;
+import io.ketill.pressable.PressableIoFeatureScheduler;
+import io.ketill.pressable.PressableIoFeatureStats;
 import io.ketill.pressable.PressableIoFeatureSupport;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
@@ -15,6 +17,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A controller which and can send receive I/O data. Examples of controllers
@@ -29,6 +34,11 @@ public abstract class Controller extends IoDevice implements PressableIoFeatureS
 
     private final @NotNull Map<RumbleMotor, MotorVibration> rumbleMotors;
     private @NotNull PressableIoFeatureConfigView pressableConfig;
+    private final @NotNull Map<IoFeature<?, ?>, PressableIoFeatureConfigView>
+            featureConfigs;
+    private final @NotNull AtomicLong pressableConfigVersion;
+    private final @NotNull PressableIoFeatureStats pressableStats;
+    private final @NotNull PressableIoFeatureScheduler pressableScheduler;
 
     /**
      * The left and right analog sticks of the controller.<br>
@@ -79,6 +89,10 @@ public abstract class Controller extends IoDevice implements PressableIoFeatureS
 
         this.rumbleMotors = new HashMap<>();
         this.pressableConfig = PressableIoFeatureConfig.DEFAULT;
+        this.featureConfigs = new ConcurrentHashMap<>();
+        this.pressableConfigVersion = new AtomicLong();
+        this.pressableStats = new PressableIoFeatureStats();
+        this.pressableScheduler = new PressableIoFeatureScheduler();
 
         if (registerFields) {
             this.registerFields();
@@ -166,6 +180,8 @@ public abstract class Controller extends IoDevice implements PressableIoFeatureS
     @Override
     @MustBeInvokedByOverriders
     protected void featureUnregistered(@NotNull IoFeature<?, ?> feature) {
+        pressableScheduler.cancel(feature);
+
         if (feature instanceof RumbleMotor) {
             synchronized (rumbleMotors) {
                 MotorVibration vibration = rumbleMotors.remove(feature);
@@ -182,6 +198,56 @@ public abstract class Controller extends IoDevice implements PressableIoFeatureS
     @Override
     public final void usePressableConfig(@Nullable PressableIoFeatureConfigView view) {
         this.pressableConfig = PressableIoFeatureConfig.valueOf(view);
+        pressableConfigVersion.incrementAndGet();
+    }
+
+    /* @formatter:off */
+    @Override
+    public final @Nullable PressableIoFeatureConfigView
+            getPressableConfig(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        return featureConfigs.get(feature);
+    }
+
+    @Override
+    public final void
+            usePressableConfig(@NotNull IoFeature<?, ?> feature,
+                               @Nullable PressableIoFeatureConfigView view) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        if (view == null) {
+            featureConfigs.remove(feature);
+        } else {
+            featureConfigs.put(feature, view);
+        }
+        pressableConfigVersion.incrementAndGet();
+    }
+    /* @formatter:on */
+
+    @Override
+    public final long getPressableConfigVersion() {
+        return pressableConfigVersion.get();
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureStats getPressableStats() {
+        return this.pressableStats;
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureScheduler getPressableScheduler() {
+        return this.pressableScheduler;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Note:</b> A controller also needs polling while a hold or virtual press
+     * of any pressable feature is scheduled, so it fires on time.
+     */
+    @Override
+    public boolean needsPolling() {
+        return super.needsPolling()
+                || pressableScheduler.getScheduledCount() > 0;
     }
 
     /**
@@ -204,6 +270,9 @@ public abstract class Controller extends IoDevice implements PressableIoFeatureS
     public String toString() {
         return ToStringUtils.getJoiner(super.toString(), this)
                 .add("pressableConfig=" + pressableConfig)
+                .add("featureConfigs=" + featureConfigs)
+                .add("pressableStats=" + pressableStats)
+                .add("pressableScheduler=" + pressableScheduler)
                 .toString();
     }
     /* @formatter:on */
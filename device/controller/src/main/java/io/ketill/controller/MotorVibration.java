@@ -7,7 +7,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class MotorVibration {
 
-    private float strength;
+    private volatile float strength;
 
     MotorVibration() {
         /* make constructor package-private */
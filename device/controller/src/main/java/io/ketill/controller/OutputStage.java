@@ -0,0 +1,299 @@
+package io.ketill.controller;
+
+import io.ketill.IoDeviceAdapter;
+import io.ketill.IoFeature;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects changes made to output features (e.g., rumble motors, LEDs,
+ * or a lightbar) during a single poll, so they can be written to the
+ * device all at once.
+ * <p>
+ * Each output feature is declared with a number of channels. A rumble
+ * motor would have one channel (its strength), while a lightbar would
+ * have four (its red, green, blue, and alpha intensity.) Feature adapters
+ * stage the values of these channels via {@link #stage(IoFeature, int,
+ * float)}. Afterwards, a call to {@link #flush(long)} invokes the writer
+ * <i>once</i> if any channel differs from what was last written. Writes
+ * can also be rate limited, in which case a write that comes too soon is
+ * deferred to a later flush. Only the latest staged values are written.
+ * <p>
+ * This is intended to be flushed by an adapter from
+ * {@link IoDeviceAdapter#featuresUpdated()}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It should
+ * only be used by the thread polling the device which owns it.
+ *
+ * @see Writer
+ */
+public final class OutputStage {
+
+    /**
+     * Writes the staged values of an {@link OutputStage} to a device.
+     *
+     * @see OutputStage#get(IoFeature, int)
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+        /**
+         * Called when the staged values must be written to the device.
+         *
+         * @param stage the output stage whose staged values to write.
+         * @throws Exception if an error occurs.
+         */
+        void write(@NotNull OutputStage stage) throws Exception;
+
+    }
+
+    private final @NotNull Writer writer;
+    private final long minWriteIntervalNs;
+    private final Map<IoFeature<?, ?>, float[]> staged;
+    private final Map<IoFeature<?, ?>, float[]> written;
+
+    private boolean dirty;
+    private boolean hasWritten;
+    private long lastWriteTime;
+    private long writeCount;
+    private long deferredCount;
+
+    /**
+     * Constructs a new {@code OutputStage}.
+     *
+     * @param writer           the writer to call when the staged values
+     *                         must be written to the device.
+     * @param minWriteInterval the minimum amount of time between each write.
+     *                         A value of zero disables rate limiting.
+     * @param unit             the unit of {@code minWriteInterval}.
+     * @throws NullPointerException     if {@code writer} or {@code unit}
+     *                                  are {@code null}.
+     * @throws IllegalArgumentException if {@code minWriteInterval} is
+     *                                  negative.
+     */
+    public OutputStage(@NotNull Writer writer, long minWriteInterval,
+                       @NotNull TimeUnit unit) {
+        this.writer = Objects.requireNonNull(writer,
+                "writer cannot be null");
+        Objects.requireNonNull(unit, "unit cannot be null");
+        if (minWriteInterval < 0) {
+            String msg = "minWriteInterval cannot be negative";
+            throw new IllegalArgumentException(msg);
+        }
+        this.minWriteIntervalNs = unit.toNanos(minWriteInterval);
+        this.staged = new HashMap<>();
+        this.written = new HashMap<>();
+    }
+
+    /**
+     * Constructs a new {@code OutputStage} without rate limiting.
+     * <p>
+     * <b>Shorthand for:</b> {@link #OutputStage(Writer, long, TimeUnit)},
+     * with the argument for {@code minWriteInterval} being {@code 0}.
+     *
+     * @param writer the writer to call when the staged values must be
+     *               written to the device.
+     * @throws NullPointerException if {@code writer} is {@code null}.
+     */
+    public OutputStage(@NotNull Writer writer) {
+        this(writer, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Declares an output feature. Each of its channels is initially
+     * staged (and considered written) with a value of zero.
+     *
+     * @param feature  the output feature to declare.
+     * @param channels the amount of channels the feature has.
+     * @throws NullPointerException     if {@code feature} is {@code null}.
+     * @throws IllegalArgumentException if {@code channels} is less than
+     *                                  one.
+     * @throws IllegalStateException    if {@code feature} has already
+     *                                  been declared.
+     */
+    public void declare(@NotNull IoFeature<?, ?> feature, int channels) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        if (channels < 1) {
+            throw new IllegalArgumentException("channels must be >= 1");
+        } else if (staged.containsKey(feature)) {
+            throw new IllegalStateException("feature already declared");
+        }
+        staged.put(feature, new float[channels]);
+        written.put(feature, new float[channels]);
+    }
+
+    /**
+     * Returns if an output feature has been declared.
+     *
+     * @param feature the output feature to check.
+     * @return {@code true} if {@code feature} has been declared,
+     * {@code false} otherwise.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    public boolean isDeclared(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        return staged.containsKey(feature);
+    }
+
+    private float @NotNull [] getChannels(@NotNull IoFeature<?, ?> feature,
+                                          int channel) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        float[] channels = staged.get(feature);
+        if (channels == null) {
+            String msg = "feature \"" + feature.getId() + "\"";
+            msg += " not declared";
+            throw new IllegalStateException(msg);
+        } else if (channel < 0 || channel >= channels.length) {
+            String msg = "Channel: " + channel;
+            msg += ", Channels: " + channels.length;
+            throw new IndexOutOfBoundsException(msg);
+        }
+        return channels;
+    }
+
+    /**
+     * Stages the value of an output feature's channel. The value will be
+     * written on the next call to {@link #flush(long)} that is not rate
+     * limited, unless it is staged again with a different value first.
+     *
+     * @param feature the output feature.
+     * @param channel the channel of {@code feature}.
+     * @param value   the value to stage.
+     * @throws NullPointerException      if {@code feature} is {@code null}.
+     * @throws IllegalStateException     if {@code feature} has not been
+     *                                   declared.
+     * @throws IndexOutOfBoundsException if {@code channel} is out of
+     *                                   bounds for {@code feature}.
+     */
+    public void stage(@NotNull IoFeature<?, ?> feature, int channel,
+                      float value) {
+        float[] channels = this.getChannels(feature, channel);
+        if (channels[channel] != value) {
+            channels[channel] = value;
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Returns the currently staged value of an output feature's channel.
+     * This should be used by a {@link Writer} to fetch what to write.
+     *
+     * @param feature the output feature.
+     * @param channel the channel of {@code feature}.
+     * @return the currently staged value.
+     * @throws NullPointerException      if {@code feature} is {@code null}.
+     * @throws IllegalStateException     if {@code feature} has not been
+     *                                   declared.
+     * @throws IndexOutOfBoundsException if {@code channel} is out of
+     *                                   bounds for {@code feature}.
+     */
+    public float get(@NotNull IoFeature<?, ?> feature, int channel) {
+        return this.getChannels(feature, channel)[channel];
+    }
+
+    private boolean differsFromWritten() {
+        for (Map.Entry<IoFeature<?, ?>, float[]> entry : staged.entrySet()) {
+            float[] stagedChannels = entry.getValue();
+            float[] writtenChannels = written.get(entry.getKey());
+            for (int i = 0; i < stagedChannels.length; i++) {
+                if (stagedChannels[i] != writtenChannels[i]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns if there are staged values which have not been written.
+     *
+     * @return {@code true} if a staged value differs from the value that
+     * was last written, {@code false} otherwise.
+     */
+    public boolean isDirty() {
+        if (dirty && !this.differsFromWritten()) {
+            /*
+             * A channel can be staged with a new value, and later back to
+             * the value which was last written within the same poll. When
+             * this happens, there is nothing to write after all.
+             */
+            this.dirty = false;
+        }
+        return this.dirty;
+    }
+
+    /**
+     * Writes all staged values to the device via a single call to the
+     * writer, if there are any which have not been written.
+     * <p>
+     * If the previous write was more recent than the minimum write
+     * interval, the write is deferred. The staged values remain staged,
+     * and will be written on a later flush.
+     *
+     * @param nanoTime the current time in nanoseconds, typically the value
+     *                 of {@link System#nanoTime()}.
+     * @return {@code true} if the writer was called, {@code false}
+     * otherwise.
+     * @throws Exception if an error occurs in the writer.
+     */
+    public boolean flush(long nanoTime) throws Exception {
+        if (!this.isDirty()) {
+            return false;
+        }
+
+        if (hasWritten && nanoTime - lastWriteTime < minWriteIntervalNs) {
+            this.deferredCount++;
+            return false; /* write again later */
+        }
+
+        writer.write(this);
+
+        for (Map.Entry<IoFeature<?, ?>, float[]> entry : staged.entrySet()) {
+            float[] stagedChannels = entry.getValue();
+            float[] writtenChannels = written.get(entry.getKey());
+            System.arraycopy(stagedChannels, 0, writtenChannels, 0,
+                    stagedChannels.length);
+        }
+
+        this.dirty = false;
+        this.hasWritten = true;
+        this.lastWriteTime = nanoTime;
+        this.writeCount++;
+        return true;
+    }
+
+    /**
+     * Returns how many times the writer has been called.
+     *
+     * @return how many times the writer has been called.
+     */
+    public long getWriteCount() {
+        return this.writeCount;
+    }
+
+    /**
+     * Returns how many times a write was deferred due to rate limiting.
+     *
+     * @return how many times a write was deferred.
+     */
+    public long getDeferredCount() {
+        return this.deferredCount;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("minWriteIntervalNs=" + minWriteIntervalNs)
+                .add("writeCount=" + writeCount)
+                .add("deferredCount=" + deferredCount)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
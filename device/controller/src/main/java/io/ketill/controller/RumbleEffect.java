@@ -0,0 +1,43 @@
+package io.ketill.controller;
+
+/**
+ * A haptic effect which can be played on a {@link RumbleMotor} via a
+ * {@link RumbleEffectEngine}.
+ * <p>
+ * <b>Thread safety:</b> Implementations must be <i>thread-safe.</i> The
+ * strength of an effect is evaluated on the thread of the engine which
+ * is playing it. As such, it is recommended for effects to be immutable.
+ *
+ * @see RumbleEnvelope
+ * @see RumblePulse
+ * @see RumbleSequence
+ */
+public interface RumbleEffect {
+
+    /**
+     * The duration of an effect which plays until it is cancelled.
+     *
+     * @see #getDuration()
+     */
+    long INFINITE = -1L;
+
+    /**
+     * Returns how long this effect plays for.
+     *
+     * @return how long this effect plays for in nanoseconds, or
+     * {@link #INFINITE} if it plays until cancelled.
+     */
+    long getDuration();
+
+    /**
+     * Evaluates the strength of this effect.
+     *
+     * @param elapsed how long this effect has been playing for in
+     *                nanoseconds. This is guaranteed to be at least zero,
+     *                and less than {@link #getDuration()} if it is finite.
+     * @return the strength of this effect at {@code elapsed}. Values
+     * outside the range of {@code 0.0F} to {@code 1.0F} are capped.
+     */
+    float getStrength(long elapsed);
+
+}
@@ -0,0 +1,389 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Plays {@link RumbleEffect} instances on rumble motors. Effects are
+ * evaluated on a background timer thread, so the application does not
+ * need to update the strength of a motor every frame.
+ * <p>
+ * When multiple effects are played on the same motor at once, they are
+ * mixed by taking the strongest. The mixed strength is then quantized,
+ * and the motor is only updated when the quantized strength changes.
+ * This prevents redundant writes to the device when an effect changes
+ * too slowly for the difference to be felt.
+ * <p>
+ * The timer thread is started when an effect is first played, and is
+ * stopped once there are no effects left to play. When an engine is no
+ * longer needed, it should be closed to shut down its timer thread.
+ * <p>
+ * If an effect or a motor throws an error while being updated, the
+ * effects involved are cancelled. The error is then reported to
+ * {@link RxJavaPlugins#onError(Throwable)}, so that the remaining effects
+ * keep playing.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see #getShared()
+ * @see #play(MotorVibration, RumbleEffect)
+ */
+public final class RumbleEffectEngine implements Closeable {
+
+    /**
+     * The default tick period of an engine, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_PERIOD_MS = 4L;
+
+    /**
+     * The default amount of strength levels a motor is quantized to. Most
+     * rumble motors are driven with a single byte, and cannot tell apart
+     * strengths any finer than this.
+     */
+    public static final int DEFAULT_QUANTIZE_LEVELS = 256;
+
+    private static @Nullable RumbleEffectEngine shared;
+
+    /**
+     * Returns the engine shared by all controllers. It uses the default
+     * tick period and quantization levels. If the shared engine has been
+     * closed, a new one is created in its place.
+     *
+     * @return the shared rumble effect engine.
+     */
+    public static synchronized @NotNull RumbleEffectEngine getShared() {
+        if (shared == null || shared.isClosed()) {
+            shared = new RumbleEffectEngine(DEFAULT_TICK_PERIOD_MS,
+                    TimeUnit.MILLISECONDS, DEFAULT_QUANTIZE_LEVELS);
+        }
+        return shared;
+    }
+
+    private static @NotNull ScheduledExecutorService createTimer() {
+        return Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "Ketill-Rumble");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /*
+     * Each motor has its own list of playbacks. The last strength written
+     * to the motor is also kept, so that redundant writes can be skipped.
+     */
+    private static class MotorEffects {
+
+        final List<RumblePlayback> playbacks = new ArrayList<>();
+        float lastStrength = -1.0F;
+
+    }
+
+    private final LongSupplier clock;
+    private final @Nullable ScheduledExecutorService timer;
+    private final long tickPeriodNs;
+    private final int quantizeLevels;
+    private final Map<MotorVibration, MotorEffects> motors;
+    private @Nullable ScheduledFuture<?> tickTask;
+    private boolean closed;
+
+    @VisibleForTesting
+    RumbleEffectEngine(@NotNull LongSupplier clock,
+                       @Nullable ScheduledExecutorService timer,
+                       long tickPeriodNs, int quantizeLevels) {
+        this.clock = clock;
+        this.timer = timer;
+        this.tickPeriodNs = tickPeriodNs;
+        this.quantizeLevels = quantizeLevels;
+        this.motors = new IdentityHashMap<>();
+    }
+
+    /**
+     * Constructs a new {@code RumbleEffectEngine}.
+     *
+     * @param tickPeriod     how often effects are evaluated.
+     * @param unit           the unit of {@code tickPeriod}.
+     * @param quantizeLevels how many distinct strength levels a motor can
+     *                       be set to.
+     * @throws NullPointerException     if {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if {@code tickPeriod} is not
+     *                                  positive; if {@code quantizeLevels}
+     *                                  is less than two.
+     */
+    public RumbleEffectEngine(long tickPeriod, @NotNull TimeUnit unit,
+                              int quantizeLevels) {
+        this(System::nanoTime, createTimer(),
+                requireTickPeriod(tickPeriod, unit),
+                requireQuantizeLevels(quantizeLevels));
+    }
+
+    private static long requireTickPeriod(long tickPeriod,
+                                          @NotNull TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit cannot be null");
+        if (tickPeriod <= 0) {
+            throw new IllegalArgumentException("tickPeriod must be positive");
+        }
+        return unit.toNanos(tickPeriod);
+    }
+
+    private static int requireQuantizeLevels(int quantizeLevels) {
+        if (quantizeLevels < 2) {
+            String msg = "quantizeLevels must be >= 2";
+            throw new IllegalArgumentException(msg);
+        }
+        return quantizeLevels;
+    }
+
+    /**
+     * Plays an effect on a rumble motor.
+     *
+     * @param vibration the state of the rumble motor to play the effect on.
+     * @param effect    the effect to play.
+     * @return the playback of {@code effect}, which can be used to cancel it.
+     * @throws NullPointerException  if {@code vibration} or {@code effect}
+     *                               are {@code null}.
+     * @throws IllegalStateException if this engine is closed.
+     */
+    public synchronized @NotNull RumblePlayback
+            play(@NotNull MotorVibration vibration,
+                 @NotNull RumbleEffect effect) {
+        Objects.requireNonNull(vibration, "vibration cannot be null");
+        Objects.requireNonNull(effect, "effect cannot be null");
+        if (closed) {
+            throw new IllegalStateException("engine closed");
+        }
+
+        RumblePlayback playback =
+                new RumblePlayback(vibration, effect, clock.getAsLong());
+        motors.computeIfAbsent(vibration, v -> new MotorEffects())
+                .playbacks.add(playback);
+
+        if (timer != null && tickTask == null) {
+            this.tickTask = timer.scheduleAtFixedRate(this::tick, 0L,
+                    tickPeriodNs, TimeUnit.NANOSECONDS);
+        }
+
+        return playback;
+    }
+
+    /**
+     * Plays an effect on a rumble motor of a controller.
+     * <p>
+     * <b>Shorthand for:</b> {@link #play(MotorVibration, RumbleEffect)},
+     * with the argument for {@code vibration} being the state of
+     * {@code motor} in {@code controller}.
+     *
+     * @param controller the controller which owns {@code motor}.
+     * @param motor      the rumble motor to play the effect on.
+     * @param effect     the effect to play.
+     * @return the playback of {@code effect}, which can be used to cancel it.
+     * @throws NullPointerException  if {@code controller}, {@code motor},
+     *                               or {@code effect} are {@code null}.
+     * @throws IllegalStateException if {@code motor} is not registered to
+     *                               {@code controller}; if this engine is
+     *                               closed.
+     */
+    public @NotNull RumblePlayback play(@NotNull Controller controller,
+                                        @NotNull RumbleMotor motor,
+                                        @NotNull RumbleEffect effect) {
+        Objects.requireNonNull(controller, "controller cannot be null");
+        Objects.requireNonNull(motor, "motor cannot be null");
+        return this.play(controller.getState(motor), effect);
+    }
+
+    /**
+     * Cancels every effect playing on a rumble motor.
+     *
+     * @param vibration the state of the rumble motor.
+     * @throws NullPointerException if {@code vibration} is {@code null}.
+     */
+    public synchronized void stopAll(@NotNull MotorVibration vibration) {
+        Objects.requireNonNull(vibration, "vibration cannot be null");
+        MotorEffects effects = motors.get(vibration);
+        if (effects != null) {
+            for (RumblePlayback playback : effects.playbacks) {
+                playback.cancel();
+            }
+        }
+    }
+
+    /**
+     * Returns how many effects are currently being played.
+     *
+     * @return how many effects are currently being played.
+     */
+    public synchronized int getPlayingCount() {
+        int count = 0;
+        for (MotorEffects effects : motors.values()) {
+            count += effects.playbacks.size();
+        }
+        return count;
+    }
+
+    private static void report(@NotNull Throwable cause) {
+        /*
+         * Errors are handled the same way RxJava handles them for its
+         * subscribers. Letting them escape would stop the timer from
+         * running the tick task, leaving every motor stuck at its last
+         * strength with no way of recovering.
+         */
+        Exceptions.throwIfFatal(cause);
+        RxJavaPlugins.onError(cause);
+    }
+
+    private float quantize(float strength) {
+        float max = quantizeLevels - 1;
+        return Math.round(strength * max) / max;
+    }
+
+    private float mix(@NotNull MotorEffects effects, long now) {
+        float mixed = 0.0F;
+        Iterator<RumblePlayback> playbacksI = effects.playbacks.iterator();
+        while (playbacksI.hasNext()) {
+            RumblePlayback playback = playbacksI.next();
+            long elapsed = Math.max(0L, now - playback.startTime);
+            long duration = playback.effect.getDuration();
+
+            if (!playback.isDone() && duration != RumbleEffect.INFINITE
+                    && elapsed >= duration) {
+                playback.cancel(); /* effect is over */
+            }
+            if (playback.isDone()) {
+                playbacksI.remove();
+                continue;
+            }
+
+            try {
+                float strength = playback.effect.getStrength(elapsed);
+                mixed = Math.max(mixed, strength);
+            } catch (Throwable cause) {
+                playback.cancel(); /* faulty effect */
+                playbacksI.remove();
+                report(cause);
+            }
+        }
+        return Math.max(0.0F, Math.min(1.0F, mixed));
+    }
+
+    @VisibleForTesting
+    synchronized void tick() {
+        long now = clock.getAsLong();
+
+        /*
+         * Motors are removed while being iterated over. Both the motor and
+         * its effects must come from the same iterator, as removing from
+         * one iterator invalidates any others over the same map.
+         */
+        Iterator<Map.Entry<MotorVibration, MotorEffects>> motorsI =
+                motors.entrySet().iterator();
+        while (motorsI.hasNext()) {
+            Map.Entry<MotorVibration, MotorEffects> entry = motorsI.next();
+            MotorVibration vibration = entry.getKey();
+            MotorEffects effects = entry.getValue();
+
+            float strength = this.quantize(this.mix(effects, now));
+            if (strength != effects.lastStrength) {
+                try {
+                    vibration.setStrength(strength);
+                    effects.lastStrength = strength;
+                } catch (Throwable cause) {
+                    for (RumblePlayback playback : effects.playbacks) {
+                        playback.cancel(); /* faulty motor */
+                    }
+                    effects.playbacks.clear();
+                    report(cause);
+                }
+            }
+
+            /*
+             * Once no effects are left on a motor, it is forgotten. The
+             * strength of zero written above ensures the motor does not
+             * keep vibrating after the last effect ends.
+             */
+            if (effects.playbacks.isEmpty()) {
+                motorsI.remove();
+            }
+        }
+
+        if (motors.isEmpty() && tickTask != null) {
+            tickTask.cancel(false);
+            this.tickTask = null;
+        }
+    }
+
+    /**
+     * Returns if this engine is closed.
+     *
+     * @return {@code true} if this engine is closed, {@code false}
+     * otherwise.
+     */
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Closes this engine. Every effect still playing is cancelled, and
+     * the motors they were played on are set back to zero. The timer
+     * thread of this engine is then shut down. If the engine is already
+     * closed then invoking this method has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        this.closed = true;
+
+        for (Map.Entry<MotorVibration, MotorEffects> entry :
+                motors.entrySet()) {
+            MotorEffects effects = entry.getValue();
+            for (RumblePlayback playback : effects.playbacks) {
+                playback.cancel();
+            }
+            if (effects.lastStrength > 0.0F) {
+                try {
+                    entry.getKey().setStrength(0.0F);
+                } catch (Throwable cause) {
+                    report(cause);
+                }
+            }
+        }
+        motors.clear();
+
+        if (tickTask != null) {
+            tickTask.cancel(false);
+            this.tickTask = null;
+        }
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("tickPeriodNs=" + tickPeriodNs)
+                .add("quantizeLevels=" + quantizeLevels)
+                .add("closed=" + closed)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,84 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RumbleEffect} which ramps up to a strength (the attack),
+ * holds that strength (the sustain), and then ramps back down to zero
+ * (the decay.)
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+public final class RumbleEnvelope implements RumbleEffect {
+
+    private final float strength;
+    private final long attack;
+    private final long sustain;
+    private final long decay;
+
+    /**
+     * Constructs a new {@code RumbleEnvelope}.
+     *
+     * @param strength the strength to ramp up to and sustain. This value
+     *                 will be capped to a range of {@code 0.0F} to
+     *                 {@code 1.0F}.
+     * @param attack   how long it takes to ramp up to {@code strength}.
+     * @param sustain  how long {@code strength} is held for.
+     * @param decay    how long it takes to ramp down to zero.
+     * @param unit     the unit of {@code attack}, {@code sustain}, and
+     *                 {@code decay}.
+     * @throws NullPointerException     if {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if {@code attack}, {@code sustain},
+     *                                  or {@code decay} are negative.
+     */
+    public RumbleEnvelope(float strength, long attack, long sustain,
+                          long decay, @NotNull TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit cannot be null");
+        if (attack < 0 || sustain < 0 || decay < 0) {
+            String msg = "attack, sustain, and decay cannot be negative";
+            throw new IllegalArgumentException(msg);
+        }
+        this.strength = Math.max(0.0F, Math.min(1.0F, strength));
+        this.attack = unit.toNanos(attack);
+        this.sustain = unit.toNanos(sustain);
+        this.decay = unit.toNanos(decay);
+    }
+
+    @Override
+    public long getDuration() {
+        return attack + sustain + decay;
+    }
+
+    @Override
+    public float getStrength(long elapsed) {
+        if (elapsed < attack) {
+            return strength * ((float) elapsed / attack);
+        }
+        elapsed -= attack;
+        if (elapsed < sustain) {
+            return strength;
+        }
+        elapsed -= sustain;
+        if (elapsed < decay) {
+            return strength * (1.0F - (float) elapsed / decay);
+        }
+        return 0.0F;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("strength=" + strength)
+                .add("attack=" + attack)
+                .add("sustain=" + sustain)
+                .add("decay=" + decay)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
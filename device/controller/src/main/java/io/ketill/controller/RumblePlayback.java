@@ -0,0 +1,67 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link RumbleEffect} being played by a {@link RumbleEffectEngine}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see RumbleEffectEngine#play(MotorVibration, RumbleEffect)
+ */
+public final class RumblePlayback {
+
+    final @NotNull MotorVibration vibration;
+    final @NotNull RumbleEffect effect;
+    final long startTime;
+    private volatile boolean done;
+
+    RumblePlayback(@NotNull MotorVibration vibration,
+                   @NotNull RumbleEffect effect, long startTime) {
+        this.vibration = vibration;
+        this.effect = effect;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Returns the effect being played.
+     *
+     * @return the effect being played.
+     */
+    public @NotNull RumbleEffect getEffect() {
+        return this.effect;
+    }
+
+    /**
+     * Returns if the effect has finished playing or was cancelled.
+     *
+     * @return {@code true} if the effect is no longer being played,
+     * {@code false} otherwise.
+     */
+    public boolean isDone() {
+        return this.done;
+    }
+
+    /**
+     * Stops playing the effect. If the effect has already finished or
+     * was cancelled, this method has no effect.
+     * <p>
+     * <b>Note:</b> The strength of the motor is updated on the next tick
+     * of the engine, not immediately.
+     */
+    public void cancel() {
+        this.done = true;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("effect=" + effect)
+                .add("done=" + done)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
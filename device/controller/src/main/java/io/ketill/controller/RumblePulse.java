@@ -0,0 +1,89 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RumbleEffect} which alternates between a strength and zero
+ * a fixed amount of times.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+public final class RumblePulse implements RumbleEffect {
+
+    /**
+     * The pulse count of a pulse which repeats until it is cancelled.
+     */
+    public static final int REPEAT_FOREVER = -1;
+
+    private final float strength;
+    private final long onTime;
+    private final long period;
+    private final int count;
+
+    /**
+     * Constructs a new {@code RumblePulse}.
+     *
+     * @param strength the strength of each pulse. This value will be
+     *                 capped to a range of {@code 0.0F} to {@code 1.0F}.
+     * @param onTime   how long each pulse lasts.
+     * @param offTime  how long to wait between each pulse.
+     * @param count    how many pulses there are, or
+     *                 {@link #REPEAT_FOREVER} to pulse until cancelled.
+     * @param unit     the unit of {@code onTime} and {@code offTime}.
+     * @throws NullPointerException     if {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if {@code onTime} is not positive;
+     *                                  if {@code offTime} is negative; if
+     *                                  {@code count} is not positive and
+     *                                  not {@link #REPEAT_FOREVER}.
+     */
+    public RumblePulse(float strength, long onTime, long offTime, int count,
+                       @NotNull TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit cannot be null");
+        if (onTime <= 0) {
+            throw new IllegalArgumentException("onTime must be positive");
+        } else if (offTime < 0) {
+            throw new IllegalArgumentException("offTime cannot be negative");
+        } else if (count <= 0 && count != REPEAT_FOREVER) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        this.strength = Math.max(0.0F, Math.min(1.0F, strength));
+        this.onTime = unit.toNanos(onTime);
+        this.period = this.onTime + unit.toNanos(offTime);
+        this.count = count;
+    }
+
+    @Override
+    public long getDuration() {
+        if (count == REPEAT_FOREVER) {
+            return INFINITE;
+        }
+
+        /*
+         * There is no need to wait after the last pulse. As such, the
+         * effect ends as soon as the last pulse is over.
+         */
+        return period * (count - 1) + onTime;
+    }
+
+    @Override
+    public float getStrength(long elapsed) {
+        return elapsed % period < onTime ? strength : 0.0F;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("strength=" + strength)
+                .add("onTime=" + onTime)
+                .add("period=" + period)
+                .add("count=" + count)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
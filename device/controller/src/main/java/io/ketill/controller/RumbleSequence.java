@@ -0,0 +1,85 @@
+package io.ketill.controller;
+
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link RumbleEffect} which plays other effects one after another.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+public final class RumbleSequence implements RumbleEffect {
+
+    private final @NotNull RumbleEffect @NotNull [] effects;
+    private final long duration;
+
+    /**
+     * Constructs a new {@code RumbleSequence}.
+     *
+     * @param effects the effects to play, in order. Only the last effect
+     *                can have an {@link #INFINITE} duration, as any effect
+     *                after it would never be played.
+     * @throws NullPointerException     if {@code effects} or any of its
+     *                                  elements are {@code null}.
+     * @throws IllegalArgumentException if {@code effects} is empty; if any
+     *                                  effect except the last one has an
+     *                                  infinite duration.
+     */
+    public RumbleSequence(@NotNull RumbleEffect @NotNull ... effects) {
+        Objects.requireNonNull(effects, "effects cannot be null");
+        if (effects.length == 0) {
+            throw new IllegalArgumentException("effects cannot be empty");
+        }
+
+        long duration = 0L;
+        for (int i = 0; i < effects.length; i++) {
+            RumbleEffect effect = effects[i];
+            Objects.requireNonNull(effect, "effect cannot be null");
+
+            long effectDuration = effect.getDuration();
+            if (effectDuration == INFINITE) {
+                if (i < effects.length - 1) {
+                    String msg = "only the last effect can be infinite";
+                    throw new IllegalArgumentException(msg);
+                }
+                duration = INFINITE;
+            } else {
+                duration += effectDuration;
+            }
+        }
+
+        this.effects = effects.clone();
+        this.duration = duration;
+    }
+
+    @Override
+    public long getDuration() {
+        return this.duration;
+    }
+
+    @Override
+    public float getStrength(long elapsed) {
+        for (RumbleEffect effect : effects) {
+            long effectDuration = effect.getDuration();
+            if (effectDuration == INFINITE || elapsed < effectDuration) {
+                return effect.getStrength(elapsed);
+            }
+            elapsed -= effectDuration;
+        }
+        return 0.0F; /* sequence is over */
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("effects=" + Arrays.toString(effects))
+                .add("duration=" + duration)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -53,6 +53,80 @@ public final class StickPos extends ContainerState<StickPosZ> {
         internalState.calibration = calibration;
     }
 
+    /**
+     * Returns the press configuration of this analog stick.
+     *
+     * @return the press configuration of this analog stick.
+     * @see #usePressConfig(AnalogStickPressConfig)
+     */
+    public @NotNull AnalogStickPressConfig getPressConfig() {
+        return internalState.pressConfig;
+    }
+
+    /**
+     * Updates the press configuration of this analog stick. This decides
+     * which directions the analog stick is considered pressed towards.
+     *
+     * @param config the press configuration to use. A value of
+     *               {@code null} is permitted, and will result in
+     *               {@link AnalogStickPressConfig#DEFAULT} being used.
+     */
+    public void usePressConfig(@Nullable AnalogStickPressConfig config) {
+        if (config == null) {
+            config = AnalogStickPressConfig.DEFAULT;
+        }
+        internalState.pressConfig = config;
+    }
+
+    /**
+     * Returns the auto-calibrator of this analog stick.
+     *
+     * @return the auto-calibrator of this analog stick, a value of
+     * {@code null} indicates no auto-calibration.
+     * @see #useAutoCalibration(AnalogStickAutoCalibrator)
+     */
+    public @Nullable AnalogStickAutoCalibrator getAutoCalibrator() {
+        return internalState.autoCalibrator;
+    }
+
+    /* @formatter:off */
+    /**
+     * Updates the auto-calibrator of this analog stick. While present,
+     * it learns the calibration of this analog stick each time it is
+     * updated. The calibration it learns replaces the one set by
+     * {@link #useCalibration(AnalogStickCalibration)}.
+     *
+     * @param autoCalibrator the auto-calibrator to use. A value of
+     *                       {@code null} is permitted, and will stop
+     *                       auto-calibration. The last calibration it
+     *                       learned will remain in use.
+     * @see #useAutoCalibration()
+     */
+    public void
+            useAutoCalibration(@Nullable AnalogStickAutoCalibrator autoCalibrator) {
+        internalState.autoCalibrator = autoCalibrator;
+    }
+    /* @formatter:on */
+
+    /**
+     * Starts auto-calibration of this analog stick, starting from its
+     * current calibration. If it has no calibration, bounds of
+     * {@code -1.0F} to {@code 1.0F} are assumed.
+     *
+     * @return the auto-calibrator now in use.
+     * @see #useAutoCalibration(AnalogStickAutoCalibrator)
+     */
+    public @NotNull AnalogStickAutoCalibrator useAutoCalibration() {
+        AnalogStickCalibration seed = internalState.calibration;
+        if (seed == null) {
+            seed = new AnalogStickCalibration(1.0F, 1.0F, -1.0F, -1.0F);
+        }
+        AnalogStickAutoCalibrator autoCalibrator =
+                new AnalogStickAutoCalibrator(seed);
+        this.useAutoCalibration(autoCalibrator);
+        return autoCalibrator;
+    }
+
     /**
      * Returns the analog stick's current position.
      *
@@ -160,4 +234,32 @@ public final class StickPos extends ContainerState<StickPosZ> {
         return this.getZ(true);
     }
 
+    /**
+     * Returns how far this analog stick must move before an
+     * {@link AnalogStickMoveEvent} is emitted.
+     *
+     * @return the move epsilon of this analog stick.
+     * @see #setMoveEpsilon(float)
+     */
+    public float getMoveEpsilon() {
+        return internalState.moveEpsilon;
+    }
+
+    /**
+     * Sets how far this analog stick must move before an
+     * {@link AnalogStickMoveEvent} is emitted. Moves which do not exceed
+     * this distance are not discarded. Rather, they are added up until
+     * they do. By default, this is {@code 0.01F}.
+     *
+     * @param epsilon the distance this analog stick must move.
+     * @throws IllegalArgumentException if {@code epsilon} is negative or
+     *                                  {@code NaN}.
+     */
+    public void setMoveEpsilon(float epsilon) {
+        if (!(epsilon >= 0.0F)) {
+            throw new IllegalArgumentException("epsilon must be >= 0");
+        }
+        internalState.moveEpsilon = epsilon;
+    }
+
 }
@@ -24,7 +24,16 @@ public final class StickPosZ implements AutonomousState {
      * the user of their own accord.
      */
     @AutonomousField
-    public @Nullable AnalogStickCalibration calibration;
+    public volatile @Nullable AnalogStickCalibration calibration;
+
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * When present, it is sampled by the state each update and replaces
+     * {@link #calibration} with what it has learned. It is set by the
+     * user of their own accord.
+     */
+    @AutonomousField
+    public volatile @Nullable AnalogStickAutoCalibrator autoCalibrator;
 
     /**
      * This should <i>not</i> be modified by the adapter.<br>
@@ -35,6 +44,14 @@ public final class StickPosZ implements AutonomousState {
     @AutonomousField
     public final @NotNull Vector3f calibratedPos;
 
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * It is used by the state to decide which directions are pressed,
+     * and is set by the user of their own accord.
+     */
+    @AutonomousField
+    public volatile @NotNull AnalogStickPressConfig pressConfig;
+
     /**
      * This should <i>not</i> be modified by the adapter.<br>
      * It is updated automatically by the state.
@@ -44,6 +61,21 @@ public final class StickPosZ implements AutonomousState {
     @AutonomousField
     public final @NotNull ButtonStateZ up, down, left, right;
 
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * It is used by the state to decide when the analog stick has moved
+     * far enough to emit an {@link AnalogStickMoveEvent}, and is set by
+     * the user of their own accord.
+     */
+    @AutonomousField
+    public volatile float moveEpsilon;
+
+    final AnalogStickClassifier classifier;
+
+    private final AnalogStick stick;
+    private final IoDeviceObserver observer;
+    private final Vector3f movedPos;
+
     private final AnalogStickObserver upObserver;
     private final AnalogStickObserver downObserver;
     private final AnalogStickObserver leftObserver;
@@ -55,6 +87,13 @@ public final class StickPosZ implements AutonomousState {
         this.pos = new Vector3f();
         this.calibration = calibration;
         this.calibratedPos = new Vector3f();
+        this.pressConfig = AnalogStickPressConfig.DEFAULT;
+        this.classifier = new AnalogStickClassifier();
+        this.moveEpsilon = 0.01F;
+
+        this.stick = stick;
+        this.observer = observer;
+        this.movedPos = new Vector3f();
 
         this.up = new ButtonStateZ();
         this.down = new ButtonStateZ();
@@ -73,15 +112,52 @@ public final class StickPosZ implements AutonomousState {
 
     @Override
     public void update() {
+        AnalogStickAutoCalibrator autoCalibrator = this.autoCalibrator;
+        if (autoCalibrator != null) {
+            autoCalibrator.sample(pos);
+            this.calibration = autoCalibrator.getCalibration();
+        }
+
+        /*
+         * The calibration can be replaced by another thread at any time.
+         * Reading it only once ensures the same calibration is used for
+         * the entire update.
+         */
+        AnalogStickCalibration calibration = this.calibration;
         calibratedPos.set(pos);
         if (calibration != null) {
             calibration.applyTo(calibratedPos);
         }
 
+        /*
+         * All four directions are classified at once, before any of the
+         * observers are polled. The observers only read the result, and
+         * take care of emitting events and tracking how long each
+         * direction has been held.
+         */
+        classifier.classify(calibratedPos, pressConfig);
+
         upObserver.poll();
         downObserver.poll();
         leftObserver.poll();
         rightObserver.poll();
+
+        /*
+         * Moves are measured from where the analog stick was when the last
+         * move event was emitted, rather than where it was last update.
+         * This way, small moves add up until they exceed the epsilon.
+         */
+        float moveX = calibratedPos.x - movedPos.x;
+        float moveY = calibratedPos.y - movedPos.y;
+        float epsilon = this.moveEpsilon;
+        if (moveX * moveX + moveY * moveY > epsilon * epsilon) {
+            movedPos.set(calibratedPos);
+            if (observer.hasSubscribers()) {
+                Controller controller = (Controller) observer.getDevice();
+                observer.onNext(new AnalogStickMoveEvent(controller, stick,
+                        moveX, moveY, calibratedPos.x, calibratedPos.y));
+            }
+        }
     }
 
 }
@@ -39,6 +39,55 @@ public final class TriggerState extends ContainerState<TriggerStateZ>
         internalState.calibration = calibration;
     }
 
+    /**
+     * Returns the auto-calibrator of this analog trigger.
+     *
+     * @return the auto-calibrator of this analog trigger, a value of
+     * {@code null} indicates no auto-calibration.
+     * @see #useAutoCalibration(AnalogTriggerAutoCalibrator)
+     */
+    public @Nullable AnalogTriggerAutoCalibrator getAutoCalibrator() {
+        return internalState.autoCalibrator;
+    }
+
+    /* @formatter:off */
+    /**
+     * Updates the auto-calibrator of this analog trigger. While present,
+     * it learns the calibration of this analog trigger each time it is
+     * updated. The calibration it learns replaces the one set by
+     * {@link #useCalibration(AnalogTriggerCalibration)}.
+     *
+     * @param autoCalibrator the auto-calibrator to use. A value of
+     *                       {@code null} is permitted, and will stop
+     *                       auto-calibration. The last calibration it
+     *                       learned will remain in use.
+     * @see #useAutoCalibration()
+     */
+    public void
+            useAutoCalibration(@Nullable AnalogTriggerAutoCalibrator autoCalibrator) {
+        internalState.autoCalibrator = autoCalibrator;
+    }
+    /* @formatter:on */
+
+    /**
+     * Starts auto-calibration of this analog trigger, starting from its
+     * current calibration. If it has no calibration, bounds of
+     * {@code 0.0F} to {@code 1.0F} are assumed.
+     *
+     * @return the auto-calibrator now in use.
+     * @see #useAutoCalibration(AnalogTriggerAutoCalibrator)
+     */
+    public @NotNull AnalogTriggerAutoCalibrator useAutoCalibration() {
+        AnalogTriggerCalibration seed = internalState.calibration;
+        if (seed == null) {
+            seed = new AnalogTriggerCalibration(1.0F, 0.0F);
+        }
+        AnalogTriggerAutoCalibrator autoCalibrator =
+                new AnalogTriggerAutoCalibrator(seed);
+        this.useAutoCalibration(autoCalibrator);
+        return autoCalibrator;
+    }
+
     /**
      * Returns the analog trigger's current force.
      *
@@ -66,6 +115,34 @@ public final class TriggerState extends ContainerState<TriggerStateZ>
         return this.getForce(true);
     }
 
+    /**
+     * Returns how much the force of this analog trigger must change
+     * before an {@link AnalogTriggerChangeEvent} is emitted.
+     *
+     * @return the change epsilon of this analog trigger.
+     * @see #setChangeEpsilon(float)
+     */
+    public float getChangeEpsilon() {
+        return internalState.changeEpsilon;
+    }
+
+    /**
+     * Sets how much the force of this analog trigger must change before
+     * an {@link AnalogTriggerChangeEvent} is emitted. Changes which do
+     * not exceed this amount are not discarded. Rather, they are added
+     * up until they do. By default, this is {@code 0.01F}.
+     *
+     * @param epsilon the amount the force must change by.
+     * @throws IllegalArgumentException if {@code epsilon} is negative or
+     *                                  {@code NaN}.
+     */
+    public void setChangeEpsilon(float epsilon) {
+        if (!(epsilon >= 0.0F)) {
+            throw new IllegalArgumentException("epsilon must be >= 0");
+        }
+        internalState.changeEpsilon = epsilon;
+    }
+
     @Override
     public boolean isPressed() {
         return internalState.pressed;
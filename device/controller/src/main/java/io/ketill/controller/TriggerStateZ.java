@@ -23,7 +23,16 @@ public final class TriggerStateZ implements AutonomousState {
      * the user of their own accord.
      */
     @AutonomousField
-    public @Nullable AnalogTriggerCalibration calibration;
+    public volatile @Nullable AnalogTriggerCalibration calibration;
+
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * When present, it is sampled by the state each update and replaces
+     * {@link #calibration} with what it has learned. It is set by the
+     * user of their own accord.
+     */
+    @AutonomousField
+    public volatile @Nullable AnalogTriggerAutoCalibrator autoCalibrator;
 
     /**
      * This should <i>not</i> be modified by the adapter.<br>
@@ -43,24 +52,62 @@ public final class TriggerStateZ implements AutonomousState {
     @AutonomousField
     public boolean pressed, held;
 
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * It is used by the state to decide when the force has changed enough
+     * to emit an {@link AnalogTriggerChangeEvent}, and is set by the user
+     * of their own accord.
+     */
+    @AutonomousField
+    public volatile float changeEpsilon;
+
+    private final AnalogTrigger trigger;
+    private final IoDeviceObserver observer;
     private final AnalogTriggerObserver triggerObserver;
+    private float changedForce;
 
     TriggerStateZ(@NotNull AnalogTrigger trigger,
                   @NotNull IoDeviceObserver observer,
                   @Nullable AnalogTriggerCalibration calibration) {
         this.calibration = calibration;
+        this.changeEpsilon = 0.01F;
 
+        this.trigger = trigger;
+        this.observer = observer;
         this.triggerObserver = new AnalogTriggerObserver(trigger,
                 this, observer);
     }
 
     @Override
     public void update() {
+        AnalogTriggerAutoCalibrator autoCalibrator = this.autoCalibrator;
+        if (autoCalibrator != null) {
+            autoCalibrator.sample(force);
+            this.calibration = autoCalibrator.getCalibration();
+        }
+
+        /* read once, it can be replaced by another thread */
+        AnalogTriggerCalibration calibration = this.calibration;
         this.calibratedForce = force;
         if (calibration != null) {
             this.calibratedForce = calibration.apply(force);
         }
         triggerObserver.poll();
+
+        /*
+         * Changes are measured from the force when the last change event
+         * was emitted, rather than the force last update. This way, small
+         * changes add up until they exceed the epsilon.
+         */
+        float delta = calibratedForce - changedForce;
+        if (Math.abs(delta) > changeEpsilon) {
+            this.changedForce = calibratedForce;
+            if (observer.hasSubscribers()) {
+                Controller controller = (Controller) observer.getDevice();
+                observer.onNext(new AnalogTriggerChangeEvent(controller,
+                        trigger, delta, calibratedForce));
+            }
+        }
     }
 
 }
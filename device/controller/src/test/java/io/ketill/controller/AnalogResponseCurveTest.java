@@ -0,0 +1,95 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class AnalogResponseCurveTest {
+
+    @Test
+    void testLinear() {
+        AnalogResponseCurve linear = AnalogResponseCurve.LINEAR;
+        assertTrue(linear.isLinear());
+        assertEquals(0.3F, linear.apply(0.3F));
+
+        /* magnitudes are capped to a range of 0.0F to 1.0F */
+        assertEquals(0.0F, linear.apply(-1.0F));
+        assertEquals(1.0F, linear.apply(2.0F));
+    }
+
+    @Test
+    void testPower() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalogResponseCurve.power(0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalogResponseCurve.power(Float.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalogResponseCurve.power(Float.POSITIVE_INFINITY));
+
+        /* a power of one would be no different from a linear curve */
+        assertSame(AnalogResponseCurve.LINEAR,
+                AnalogResponseCurve.power(1.0F));
+
+        AnalogResponseCurve squared = AnalogResponseCurve.power(2.0F);
+        assertFalse(squared.isLinear());
+        assertEquals(0.0F, squared.apply(0.0F));
+        assertEquals(0.25F, squared.apply(0.5F), 1e-4F);
+        assertEquals(1.0F, squared.apply(1.0F));
+
+        /*
+         * The curve is sampled into a table, with linear interpolation
+         * between samples. As such, it should remain close to the true
+         * curve everywhere, not only at the samples.
+         */
+        for (int i = 0; i <= 1000; i++) {
+            float in = i / 1000.0F;
+            assertEquals(in * in, squared.apply(in), 1e-4F);
+        }
+    }
+
+    @Test
+    void testSpline() {
+        assertThrows(NullPointerException.class,
+                () -> AnalogResponseCurve.spline((float[]) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalogResponseCurve.spline(0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnalogResponseCurve.spline(0.0F, 1.1F));
+
+        /* the curve must pass through each of its points */
+        AnalogResponseCurve spline =
+                AnalogResponseCurve.spline(0.0F, 0.1F, 0.6F, 1.0F);
+        assertEquals(0.0F, spline.apply(0.0F));
+        assertEquals(0.1F, spline.apply(1.0F / 3.0F), 1e-3F);
+        assertEquals(0.6F, spline.apply(2.0F / 3.0F), 1e-3F);
+        assertEquals(1.0F, spline.apply(1.0F));
+
+        /*
+         * Two points spaced evenly from zero to one describe a straight
+         * line. The spline should produce the same line.
+         */
+        AnalogResponseCurve straight = AnalogResponseCurve.spline(0.0F, 1.0F);
+        assertEquals(0.5F, straight.apply(0.5F), 1e-5F);
+    }
+
+    @Test
+    void testEquals() {
+        assertEquals(AnalogResponseCurve.power(2.0F),
+                AnalogResponseCurve.power(2.0F));
+        assertEquals(AnalogResponseCurve.power(2.0F).hashCode(),
+                AnalogResponseCurve.power(2.0F).hashCode());
+        assertNotEquals(AnalogResponseCurve.power(2.0F),
+                AnalogResponseCurve.power(3.0F));
+        assertNotEquals(AnalogResponseCurve.LINEAR,
+                AnalogResponseCurve.power(2.0F));
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(AnalogResponseCurve.class,
+                AnalogResponseCurve.LINEAR);
+    }
+
+}
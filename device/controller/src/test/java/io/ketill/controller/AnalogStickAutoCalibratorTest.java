@@ -0,0 +1,127 @@
+package io.ketill.controller;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class AnalogStickAutoCalibratorTest {
+
+    private AnalogStickCalibration seed;
+    private AnalogStickAutoCalibrator autoCalibrator;
+
+    @BeforeEach
+    void createAutoCalibrator() {
+        this.seed = new AnalogStickCalibration(1.0F, 1.0F, -1.0F, -1.0F)
+                .withDeadzone(0.1F);
+        this.autoCalibrator = new AnalogStickAutoCalibrator(seed,
+                0.0F, 10, AnalogStickAutoCalibrator.DEFAULT_REST_TOLERANCE);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new AnalogStickAutoCalibrator(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickAutoCalibrator(seed, -0.1F, 1, 0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickAutoCalibrator(seed, 0.0F, 0, 0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickAutoCalibrator(seed, 0.0F, 1, -1.0F));
+
+        /* before any samples, the seed calibration should be used */
+        assertSame(seed, autoCalibrator.getCalibration());
+    }
+
+    @Test
+    void testSampleExtrema() {
+        assertThrows(NullPointerException.class,
+                () -> autoCalibrator.sample((Vector3fc) null));
+
+        /*
+         * When the stick goes past the bounds of its calibration, the
+         * bounds must expand to fit. The bounds stay symmetrical around
+         * the center, so that the center is still reported as zero.
+         */
+        autoCalibrator.sample(new Vector3f(1.2F, 0.0F, 0.0F));
+        AnalogStickCalibration learned = autoCalibrator.getCalibration();
+        assertNotSame(seed, learned);
+        assertEquals(1.2F, learned.getUpperBound().x(), 1e-5F);
+        assertEquals(-1.2F, learned.getLowerBound().x(), 1e-5F);
+
+        /* the deadzone of the seed must be kept */
+        assertEquals(seed.getInnerDeadzone(), learned.getInnerDeadzone());
+
+        /*
+         * If the bounds have not moved, the calibration must not be
+         * replaced. Creating a calibration each poll would be wasteful.
+         */
+        autoCalibrator.sample(0.5F, 0.5F);
+        assertSame(learned, autoCalibrator.getCalibration());
+    }
+
+    @Test
+    void testSampleDecay() {
+        AnalogStickAutoCalibrator decaying =
+                new AnalogStickAutoCalibrator(seed, 0.5F, 10, 0.0F);
+        decaying.sample(2.0F, 0.0F);
+
+        /*
+         * Past extrema decay back towards the center. However, they must
+         * never decay so far that a small movement of the stick would be
+         * reported as a full press.
+         */
+        for (int i = 0; i < 100; i++) {
+            decaying.sample(0.0F, 0.0F);
+        }
+        float upperX = decaying.getCalibration().getUpperBound().x();
+        assertTrue(upperX < 2.0F);
+        assertTrue(upperX >= 1.0F * AutoCalibrationAxis.MIN_EXTENT);
+    }
+
+    @Test
+    void testSampleRest() {
+        /*
+         * A stick that is moving should not be considered at rest, and
+         * its center should not be learned.
+         */
+        for (int i = 0; i < 20; i++) {
+            autoCalibrator.sample(i % 2 == 0 ? 0.1F : -0.1F, 0.0F);
+        }
+        assertFalse(autoCalibrator.isAtRest());
+
+        /*
+         * Once the stick has stayed still near its center for enough
+         * samples, it is at rest. Its center should then move towards
+         * where it is resting, as a worn stick would.
+         */
+        for (int i = 0; i < 200; i++) {
+            autoCalibrator.sample(0.1F, -0.05F);
+        }
+        assertTrue(autoCalibrator.isAtRest());
+
+        Vector3f pos = new Vector3f(0.1F, -0.05F, 0.0F);
+        autoCalibrator.getCalibration().withDeadzone(0.0F).applyTo(pos);
+        assertEquals(0.0F, pos.x, 1e-3F);
+        assertEquals(0.0F, pos.y, 1e-3F);
+
+        /* a stick held still at its edge must not be taken as at rest */
+        autoCalibrator.reset();
+        assertSame(seed, autoCalibrator.getCalibration());
+        for (int i = 0; i < 200; i++) {
+            autoCalibrator.sample(0.9F, 0.0F);
+        }
+        assertSame(seed, autoCalibrator.getCalibration());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(AnalogStickAutoCalibrator.class,
+                autoCalibrator);
+    }
+
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static io.ketill.KetillAssertions.*;
+import static io.ketill.controller.AnalogStickCalibration.DeadzoneShape;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SuppressWarnings("ConstantConditions")
@@ -96,10 +97,126 @@ class AnalogStickCalibrationTest {
         assertEquals(0.0F, calibrated3f.z);
     }
 
+    @Test
+    void testWithBounds() {
+        assertThrows(NullPointerException.class,
+                () -> calibration.withBounds(null, new Vector2f()));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withBounds(new Vector2f(), new Vector2f()));
+
+        /* the deadzone must be kept when changing the bounds */
+        AnalogStickCalibration deadzone = calibration.withDeadzone(0.2F);
+        AnalogStickCalibration bounds = deadzone.withBounds(
+                new Vector2f(1.0F, 1.0F), new Vector2f(-1.0F, -1.0F));
+        assertEquals(1.0F, bounds.getUpperBound().x());
+        assertEquals(-1.0F, bounds.getLowerBound().y());
+        assertEquals(0.2F, bounds.getInnerDeadzone());
+    }
+
+    @Test
+    void testWithDeadzone() {
+        assertThrows(NullPointerException.class,
+                () -> calibration.withDeadzone(null, 0.0F, 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withDeadzone(-0.1F));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withDeadzone(DeadzoneShape.RADIAL,
+                        0.5F, 0.5F));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withDeadzone(DeadzoneShape.RADIAL,
+                        0.0F, 1.1F));
+
+        /*
+         * Calibrations are immutable. As such, setting the deadzone must
+         * return a new calibration rather than modify the original.
+         */
+        AnalogStickCalibration radial = calibration.withDeadzone(0.25F);
+        assertNotSame(calibration, radial);
+        assertEquals(0.0F, calibration.getInnerDeadzone());
+        assertEquals(0.25F, radial.getInnerDeadzone());
+        assertEquals(1.0F, radial.getOuterDeadzone());
+        assertEquals(DeadzoneShape.RADIAL, radial.getDeadzoneShape());
+
+        /* a position inside the deadzone must be reported as zero */
+        Vector2f vec = new Vector2f(0.0F, 0.77F * 0.2F);
+        radial.applyTo(vec);
+        assertEquals(0.0F, vec.x);
+        assertEquals(0.0F, vec.y);
+
+        /*
+         * A radial deadzone must preserve the direction of the stick.
+         * Past the deadzone, the magnitude is rescaled so that it still
+         * goes smoothly from zero to one.
+         */
+        vec.set(0.77F * 0.375F, 0.77F * 0.5F); /* magnitude of 0.625F */
+        radial.applyTo(vec);
+        assertEquals(0.5F, vec.length(), 1e-5F);
+        assertEquals(0.75F, vec.x / vec.y, 1e-5F);
+
+        /* past the outer deadzone, the magnitude is capped to one */
+        vec.set(0.77F, 0.77F);
+        radial.applyTo(vec);
+        assertEquals(1.0F, vec.length(), 1e-5F);
+
+        /*
+         * An axial deadzone is applied to each axis separately. Unlike
+         * a radial deadzone, a stick held mostly along one axis has its
+         * other axis snapped to zero.
+         */
+        AnalogStickCalibration axial = calibration
+                .withDeadzone(DeadzoneShape.AXIAL, 0.25F, 1.0F);
+        Vector3f vec3 = new Vector3f(0.77F * 0.2F, -0.77F, 1.0F);
+        axial.applyTo(vec3);
+        assertEquals(0.0F, vec3.x);
+        assertEquals(-1.0F, vec3.y);
+        assertEquals(1.0F, vec3.z);
+    }
+
+    @Test
+    void testWithAntiDeadzone() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withAntiDeadzone(-0.1F));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withAntiDeadzone(1.0F));
+
+        AnalogStickCalibration anti = calibration.withDeadzone(0.25F)
+                .withAntiDeadzone(0.2F);
+        assertEquals(0.2F, anti.getAntiDeadzone());
+        assertEquals(0.25F, anti.getInnerDeadzone());
+
+        /*
+         * Just outside the inner deadzone, the magnitude should jump to
+         * the anti-deadzone. This is to cancel out the deadzone that a
+         * game may apply itself.
+         */
+        Vector2f vec = new Vector2f(0.0F, 0.77F * 0.2501F);
+        anti.applyTo(vec);
+        assertEquals(0.2F, vec.y, 1e-3F);
+
+        vec.set(0.0F, 0.77F);
+        anti.applyTo(vec);
+        assertEquals(1.0F, vec.y, 1e-5F);
+    }
+
+    @Test
+    void testWithCurve() {
+        assertThrows(NullPointerException.class,
+                () -> calibration.withCurve(null));
+
+        AnalogResponseCurve squared = AnalogResponseCurve.power(2.0F);
+        AnalogStickCalibration curved = calibration.withCurve(squared);
+        assertSame(squared, curved.getCurve());
+
+        Vector2f vec = new Vector2f(-0.385F, 0.0F); /* halfway left */
+        curved.applyTo(vec);
+        assertEquals(-0.25F, vec.x, 1e-4F);
+    }
+
     @Test
     void verifyEquals() {
         EqualsVerifier.forClass(AnalogStickCalibration.class)
-                .withNonnullFields("upperBound", "lowerBound").verify();
+                .withNonnullFields("upperBound", "lowerBound",
+                        "deadzoneShape", "curve").verify();
     }
 
     @Test
@@ -0,0 +1,96 @@
+package io.ketill.controller;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.controller.AnalogStickClassifier.*;
+import static io.ketill.controller.AnalogStickPressConfig.Mode;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalogStickClassifierTest {
+
+    private AnalogStickClassifier classifier;
+
+    @BeforeEach
+    void createClassifier() {
+        this.classifier = new AnalogStickClassifier();
+    }
+
+    private int classify(float x, float y, AnalogStickPressConfig config) {
+        return classifier.classify(new Vector3f(x, y, 0.0F), config);
+    }
+
+    @Test
+    void testClassifyAxial() {
+        AnalogStickPressConfig config =
+                new AnalogStickPressConfig(Mode.AXIAL, 0.6F, 0.4F);
+
+        assertEquals(0, this.classify(0.0F, 0.0F, config));
+        assertEquals(UP | RIGHT, this.classify(0.7F, 0.7F, config));
+        assertTrue(classifier.isPressed(Direction.UP));
+        assertTrue(classifier.isPressed(Direction.RIGHT));
+
+        /*
+         * Once a direction is pressed, it should stay pressed until the
+         * stick moves back past the release threshold. This prevents the
+         * direction from chattering when held near the press threshold.
+         */
+        assertEquals(UP | RIGHT, this.classify(0.5F, 0.5F, config));
+        assertEquals(0, this.classify(0.3F, 0.3F, config));
+        assertEquals(0, this.classify(0.5F, 0.5F, config));
+
+        assertEquals(DOWN | LEFT, this.classify(-0.7F, -0.7F, config));
+    }
+
+    @Test
+    void testClassifyFourWay() {
+        AnalogStickPressConfig config =
+                new AnalogStickPressConfig(Mode.FOUR_WAY, 0.6F, 0.4F);
+
+        /* only one direction can be pressed at once */
+        assertEquals(UP, this.classify(0.1F, 0.8F, config));
+        assertEquals(LEFT, this.classify(-0.8F, 0.1F, config));
+        assertEquals(DOWN, this.classify(0.0F, -0.8F, config));
+        assertEquals(RIGHT, this.classify(0.8F, 0.0F, config));
+
+        /*
+         * Just past the edge between two sectors, the current sector
+         * should be kept. Otherwise, a stick held on the edge would
+         * rapidly switch between the two.
+         */
+        double angle = Math.toRadians(46.0D);
+        float x = (float) Math.cos(angle), y = (float) Math.sin(angle);
+        assertEquals(RIGHT, this.classify(x, y, config));
+
+        angle = Math.toRadians(60.0D);
+        x = (float) Math.cos(angle);
+        y = (float) Math.sin(angle);
+        assertEquals(UP, this.classify(x, y, config));
+
+        /* thresholds apply to the distance from the center */
+        assertEquals(UP, this.classify(0.0F, 0.5F, config));
+        assertEquals(0, this.classify(0.0F, 0.3F, config));
+    }
+
+    @Test
+    void testClassifyEightWay() {
+        AnalogStickPressConfig config =
+                new AnalogStickPressConfig(Mode.EIGHT_WAY, 0.6F, 0.4F);
+
+        assertEquals(RIGHT, this.classify(0.8F, 0.0F, config));
+        assertEquals(UP | RIGHT, this.classify(0.6F, 0.6F, config));
+        assertEquals(UP, this.classify(0.0F, 0.8F, config));
+        assertEquals(UP | LEFT, this.classify(-0.6F, 0.6F, config));
+        assertEquals(LEFT, this.classify(-0.8F, 0.0F, config));
+        assertEquals(DOWN | LEFT, this.classify(-0.6F, -0.6F, config));
+        assertEquals(DOWN, this.classify(0.0F, -0.8F, config));
+        assertEquals(DOWN | RIGHT, this.classify(0.6F, -0.6F, config));
+
+        /* switching modes must not reuse a sector from the old mode */
+        AnalogStickPressConfig fourWay =
+                new AnalogStickPressConfig(Mode.FOUR_WAY, 0.6F, 0.4F);
+        assertEquals(DOWN, this.classify(0.1F, -0.8F, fourWay));
+    }
+
+}
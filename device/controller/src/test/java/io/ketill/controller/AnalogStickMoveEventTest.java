@@ -0,0 +1,62 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalogStickMoveEventTest {
+
+    private Controller controller;
+    private AnalogStick stick;
+    private AnalogStickMoveEvent event;
+
+    @BeforeEach
+    void createEvent() {
+        this.controller = mock(Controller.class);
+        this.stick = mock(AnalogStick.class);
+        this.event = new AnalogStickMoveEvent(controller, stick,
+                0.25F, -0.25F, 0.50F, -0.50F);
+    }
+
+    @Test
+    void testGetController() {
+        assertSame(controller, event.getController());
+    }
+
+    @Test
+    void testGetStick() {
+        assertSame(stick, event.getStick());
+    }
+
+    @Test
+    void testGetDelta() {
+        assertEquals(0.25F, event.getDeltaX());
+        assertEquals(-0.25F, event.getDeltaY());
+    }
+
+    @Test
+    void testGetPosition() {
+        assertEquals(0.50F, event.getX());
+        assertEquals(-0.50F, event.getY());
+    }
+
+    @Test
+    void testCoalesce() {
+        /*
+         * When two moves are coalesced, the result must be the total of
+         * both moves, ending at the position of the latest one.
+         */
+        AnalogStickMoveEvent next = new AnalogStickMoveEvent(controller,
+                stick, 0.25F, 0.50F, 0.75F, 0.00F);
+        AnalogStickMoveEvent coalesced = event.coalesce(next);
+        assertSame(controller, coalesced.getController());
+        assertSame(stick, coalesced.getStick());
+        assertEquals(0.50F, coalesced.getDeltaX());
+        assertEquals(0.25F, coalesced.getDeltaY());
+        assertEquals(0.75F, coalesced.getX());
+        assertEquals(0.00F, coalesced.getY());
+    }
+
+}
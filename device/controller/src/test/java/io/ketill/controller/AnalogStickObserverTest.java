@@ -4,12 +4,16 @@ import io.ketill.IoDeviceObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.ketill.controller.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AnalogStickObserverTest {
 
+    private AtomicLong time;
     private IoDeviceObserver deviceObserver;
     private StickPosZ internalState;
     private ButtonStateZ buttonState;
@@ -18,6 +22,8 @@ class AnalogStickObserverTest {
     @BeforeEach
     void createObserver() {
         Controller controller = mock(Controller.class);
+        this.time = new AtomicLong();
+        when(controller.getPollTime()).thenAnswer(a -> time.get());
         this.deviceObserver = mock(IoDeviceObserver.class);
         when(deviceObserver.getDevice()).thenReturn(controller);
 
@@ -29,11 +35,22 @@ class AnalogStickObserverTest {
                 internalState, buttonState, deviceObserver);
     }
 
+    /*
+     * The observer does not check the position of the stick itself. It
+     * only reads what the classifier of the stick has decided, which is
+     * normally done by the state before polling its observers.
+     */
+    private void classify(float y) {
+        internalState.calibratedPos.y = y;
+        internalState.classifier.classify(internalState.calibratedPos,
+                internalState.pressConfig);
+    }
+
     @Test
     void testIsPressedImpl() {
-        internalState.calibratedPos.y = 1.0F;
+        this.classify(1.0F);
         assertTrue(stickObserver.isPressedImpl());
-        internalState.calibratedPos.y = 0.0F;
+        this.classify(0.0F);
         assertFalse(stickObserver.isPressedImpl());
     }
 
@@ -56,13 +73,13 @@ class AnalogStickObserverTest {
     }
 
     @Test
-    void testPoll() throws InterruptedException {
+    void testPoll() {
         /*
          * Once the calibrated position of an analog stick is pressed towards
          * the observed direction, the button state should be updated by the
          * observer to indicate that it is pressed.
          */
-        internalState.calibratedPos.y = 1.0F;
+        this.classify(1.0F);
         stickObserver.poll(); /* trigger state update */
         assertTrue(buttonState.pressed);
 
@@ -72,7 +89,8 @@ class AnalogStickObserverTest {
          * state should be updated by the observer to indicate that it is
          * held down.
          */
-        Thread.sleep(stickObserver.getConfig().getHoldTime());
+        long holdTime = stickObserver.getConfig().getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
         stickObserver.poll(); /* trigger state update */
         assertTrue(buttonState.held);
 
@@ -81,7 +99,7 @@ class AnalogStickObserverTest {
          * (after being pressed down), the button state should be updated by
          * the observer to indicate it is no longer pressed or held down.
          */
-        internalState.calibratedPos.y = 0.0F;
+        this.classify(0.0F);
         stickObserver.poll(); /* trigger state update */
         assertFalse(buttonState.pressed);
         assertFalse(buttonState.held);
@@ -0,0 +1,50 @@
+package io.ketill.controller;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static io.ketill.controller.AnalogStickPressConfig.Mode;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class AnalogStickPressConfigTest {
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new AnalogStickPressConfig(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickPressConfig(Mode.AXIAL, 0.0F, 0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickPressConfig(Mode.AXIAL, 1.1F, 0.5F));
+
+        /*
+         * If the release threshold were greater than the press threshold,
+         * a stick between the two would be pressed and released on every
+         * poll. This is the opposite of what hysteresis is for.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogStickPressConfig(Mode.AXIAL, 0.5F, 0.6F));
+
+        AnalogStickPressConfig config = new AnalogStickPressConfig();
+        assertEquals(Mode.AXIAL, config.getMode());
+        assertEquals(AnalogStickPressConfig.DEFAULT_PRESS_THRESHOLD,
+                config.getPressThreshold());
+        assertEquals(AnalogStickPressConfig.DEFAULT_RELEASE_THRESHOLD,
+                config.getReleaseThreshold());
+    }
+
+    @Test
+    void verifyEquals() {
+        EqualsVerifier.forClass(AnalogStickPressConfig.class)
+                .withNonnullFields("mode").verify();
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(AnalogStickPressConfig.class,
+                AnalogStickPressConfig.DEFAULT);
+    }
+
+}
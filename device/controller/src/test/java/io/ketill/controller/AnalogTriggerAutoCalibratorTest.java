@@ -0,0 +1,66 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class AnalogTriggerAutoCalibratorTest {
+
+    private AnalogTriggerCalibration seed;
+    private AnalogTriggerAutoCalibrator autoCalibrator;
+
+    @BeforeEach
+    void createAutoCalibrator() {
+        this.seed = new AnalogTriggerCalibration(1.0F, 0.0F);
+        this.autoCalibrator = new AnalogTriggerAutoCalibrator(seed,
+                0.0F, 10, AnalogStickAutoCalibrator.DEFAULT_REST_TOLERANCE);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new AnalogTriggerAutoCalibrator(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogTriggerAutoCalibrator(seed, 1.1F, 1, 0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogTriggerAutoCalibrator(seed, 0.0F, 0, 0.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnalogTriggerAutoCalibrator(seed, 0.0F, 1, -1.0F));
+        assertSame(seed, autoCalibrator.getCalibration());
+    }
+
+    @Test
+    void testSample() {
+        /* pressing past the upper bound must expand it */
+        autoCalibrator.sample(1.25F);
+        AnalogTriggerCalibration learned = autoCalibrator.getCalibration();
+        assertEquals(1.25F, learned.getUpperBound(), 1e-5F);
+        assertEquals(0.0F, learned.getLowerBound(), 1e-5F);
+
+        /*
+         * A worn trigger may never fully return to its lower bound. Once
+         * it has rested long enough, that resting force should be taken
+         * as the new lower bound.
+         */
+        for (int i = 0; i < 200; i++) {
+            autoCalibrator.sample(0.1F);
+        }
+        assertTrue(autoCalibrator.isAtRest());
+        learned = autoCalibrator.getCalibration();
+        assertEquals(0.0F, learned.apply(0.1F), 1e-3F);
+
+        autoCalibrator.reset();
+        assertSame(seed, autoCalibrator.getCalibration());
+        assertFalse(autoCalibrator.isAtRest());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(AnalogTriggerAutoCalibrator.class,
+                autoCalibrator);
+    }
+
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import static io.ketill.KetillAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+@SuppressWarnings("ConstantConditions")
 class AnalogTriggerCalibrationTest {
 
     private AnalogTriggerCalibration calibration;
@@ -43,9 +44,62 @@ class AnalogTriggerCalibrationTest {
         assertEquals(0.25F, calibration.apply(value));
     }
 
+    @Test
+    void testWithBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withBounds(0.0F, 0.0F));
+
+        /* the deadzone must be kept when changing the bounds */
+        AnalogTriggerCalibration bounds = calibration
+                .withDeadzone(0.2F, 1.0F).withBounds(1.0F, 0.5F);
+        assertEquals(1.0F, bounds.getUpperBound());
+        assertEquals(0.5F, bounds.getLowerBound());
+        assertEquals(0.2F, bounds.getInnerDeadzone());
+    }
+
+    @Test
+    void testWithDeadzone() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withDeadzone(-0.1F, 1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withDeadzone(0.5F, 0.5F));
+
+        AnalogTriggerCalibration deadzone =
+                calibration.withDeadzone(0.1F, 0.9F);
+        assertNotSame(calibration, deadzone);
+        assertEquals(0.1F, deadzone.getInnerDeadzone());
+        assertEquals(0.9F, deadzone.getOuterDeadzone());
+
+        assertEquals(0.0F, deadzone.apply(0.77F * 0.05F));
+        assertEquals(0.5F, deadzone.apply(0.77F * 0.5F), 1e-5F);
+        assertEquals(1.0F, deadzone.apply(0.77F * 0.95F));
+    }
+
+    @Test
+    void testWithAntiDeadzone() {
+        assertThrows(IllegalArgumentException.class,
+                () -> calibration.withAntiDeadzone(1.0F));
+
+        AnalogTriggerCalibration anti = calibration.withAntiDeadzone(0.2F);
+        assertEquals(0.2F, anti.getAntiDeadzone());
+        assertEquals(0.0F, anti.apply(0.0F));
+        assertEquals(0.6F, anti.apply(0.385F), 1e-5F);
+    }
+
+    @Test
+    void testWithCurve() {
+        assertThrows(NullPointerException.class,
+                () -> calibration.withCurve(null));
+
+        AnalogTriggerCalibration curved =
+                calibration.withCurve(AnalogResponseCurve.power(2.0F));
+        assertEquals(0.25F, curved.apply(0.385F), 1e-4F);
+    }
+
     @Test
     void verifyEquals() {
-        EqualsVerifier.forClass(AnalogTriggerCalibration.class).verify();
+        EqualsVerifier.forClass(AnalogTriggerCalibration.class)
+                .withNonnullFields("curve").verify();
     }
 
     @Test
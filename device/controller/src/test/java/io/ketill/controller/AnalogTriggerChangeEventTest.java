@@ -0,0 +1,58 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalogTriggerChangeEventTest {
+
+    private Controller controller;
+    private AnalogTrigger trigger;
+    private AnalogTriggerChangeEvent event;
+
+    @BeforeEach
+    void createEvent() {
+        this.controller = mock(Controller.class);
+        this.trigger = mock(AnalogTrigger.class);
+        this.event = new AnalogTriggerChangeEvent(controller, trigger,
+                0.25F, 0.75F);
+    }
+
+    @Test
+    void testGetController() {
+        assertSame(controller, event.getController());
+    }
+
+    @Test
+    void testGetTrigger() {
+        assertSame(trigger, event.getTrigger());
+    }
+
+    @Test
+    void testGetDelta() {
+        assertEquals(0.25F, event.getDelta());
+    }
+
+    @Test
+    void testGetForce() {
+        assertEquals(0.75F, event.getForce());
+    }
+
+    @Test
+    void testCoalesce() {
+        /*
+         * When two changes are coalesced, the result must be the total
+         * of both changes, ending at the force of the latest one.
+         */
+        AnalogTriggerChangeEvent next = new AnalogTriggerChangeEvent(
+                controller, trigger, -0.50F, 0.25F);
+        AnalogTriggerChangeEvent coalesced = event.coalesce(next);
+        assertSame(controller, coalesced.getController());
+        assertSame(trigger, coalesced.getTrigger());
+        assertEquals(-0.25F, coalesced.getDelta());
+        assertEquals(0.25F, coalesced.getForce());
+    }
+
+}
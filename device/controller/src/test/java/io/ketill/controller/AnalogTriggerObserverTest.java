@@ -1,15 +1,20 @@
 package io.ketill.controller;
 
 import io.ketill.IoDeviceObserver;
+import io.ketill.pressable.PressableIoFeatureConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.ketill.controller.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AnalogTriggerObserverTest {
 
+    private AtomicLong time;
     private IoDeviceObserver deviceObserver;
     private TriggerStateZ internalState;
     private AnalogTriggerObserver triggerObserver;
@@ -17,6 +22,8 @@ class AnalogTriggerObserverTest {
     @BeforeEach
     void createObserver() {
         Controller controller = mock(Controller.class);
+        this.time = new AtomicLong();
+        when(controller.getPollTime()).thenAnswer(a -> time.get());
         this.deviceObserver = mock(IoDeviceObserver.class);
         when(deviceObserver.getDevice()).thenReturn(controller);
 
@@ -36,6 +43,31 @@ class AnalogTriggerObserverTest {
         assertFalse(triggerObserver.isPressedImpl());
     }
 
+    @Test
+    void testPressHysteresis() {
+        Controller controller = (Controller) deviceObserver.getDevice();
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        config.setPressHysteresis(0.1F);
+        when(controller.getPressableConfig()).thenReturn(config);
+
+        internalState.calibratedForce = AnalogTrigger.TRIGGER_PRESS;
+        triggerObserver.poll();
+        assertTrue(internalState.pressed);
+
+        /*
+         * Once pressed, a trigger whose force dips just below the press
+         * threshold must remain pressed. It is only released once it has
+         * fallen below the threshold minus the hysteresis.
+         */
+        internalState.calibratedForce = AnalogTrigger.TRIGGER_PRESS - 0.05F;
+        triggerObserver.poll();
+        assertTrue(internalState.pressed);
+
+        internalState.calibratedForce = AnalogTrigger.TRIGGER_PRESS - 0.15F;
+        triggerObserver.poll();
+        assertFalse(internalState.pressed);
+    }
+
     @Test
     void testOnPress() {
         triggerObserver.onPress(); /* trigger event emission */
@@ -55,7 +87,7 @@ class AnalogTriggerObserverTest {
     }
 
     @Test
-    void testPoll() throws InterruptedException {
+    void testPoll() {
         /*
          * Once the calibrated force of an analog trigger indicates that
          * it is pressed down, the trigger state should be updated by the
@@ -71,7 +103,8 @@ class AnalogTriggerObserverTest {
          * state should be updated by the observer to indicate that it is
          * held down.
          */
-        Thread.sleep(triggerObserver.getConfig().getHoldTime());
+        long holdTime = triggerObserver.getConfig().getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
         triggerObserver.poll(); /* trigger state update */
         assertTrue(internalState.held);
 
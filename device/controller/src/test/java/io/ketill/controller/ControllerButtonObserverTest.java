@@ -4,12 +4,16 @@ import io.ketill.IoDeviceObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.ketill.controller.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class ControllerButtonObserverTest {
 
+    private AtomicLong time;
     private IoDeviceObserver deviceObserver;
     private ButtonStateZ internalState;
     private ControllerButtonObserver buttonObserver;
@@ -17,6 +21,8 @@ class ControllerButtonObserverTest {
     @BeforeEach
     void createObserver() {
         Controller controller = mock(Controller.class);
+        this.time = new AtomicLong();
+        when(controller.getPollTime()).thenAnswer(a -> time.get());
         this.deviceObserver = mock(IoDeviceObserver.class);
         when(deviceObserver.getDevice()).thenReturn(controller);
 
@@ -55,7 +61,7 @@ class ControllerButtonObserverTest {
     }
 
     @Test
-    void testPoll() throws InterruptedException {
+    void testPoll() {
         /* press button for next test */
         internalState.pressed = true;
         buttonObserver.poll(); /* observe press */
@@ -65,7 +71,8 @@ class ControllerButtonObserverTest {
          * considered held down, the button state should be updated by
          * the observer to indicate that it is held down.
          */
-        Thread.sleep(buttonObserver.getConfig().getHoldTime());
+        long holdTime = buttonObserver.getConfig().getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
         buttonObserver.poll(); /* trigger state update */
         assertTrue(internalState.held);
 
@@ -1,6 +1,7 @@
 package io.ketill.controller;
 
 import io.ketill.pressable.PressableIoFeatureConfig;
+import io.ketill.pressable.PressableIoFeatureScheduler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +62,56 @@ class ControllerTest {
                 controller.getPressableConfig());
     }
 
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testUseFeaturePressableConfig() {
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        assertThrows(NullPointerException.class,
+                () -> controller.usePressableConfig(null, config));
+        assertThrows(NullPointerException.class,
+                () -> controller.getPressableConfig(null));
+
+        assertNull(controller.getPressableConfig(lt));
+        controller.usePressableConfig(lt, config);
+        assertSame(config, controller.getPressableConfig(lt));
+
+        /*
+         * When the controller is told to use a null value for the config
+         * of a feature, the feature should go back to using the config of
+         * the controller.
+         */
+        controller.usePressableConfig(lt, null);
+        assertNull(controller.getPressableConfig(lt));
+    }
+
+    @Test
+    void testGetPressableStats() {
+        assertNotNull(controller.getPressableStats());
+    }
+
+    @Test
+    void testGetPressableScheduler() {
+        PressableIoFeatureScheduler scheduler =
+                controller.getPressableScheduler();
+        assertNotNull(scheduler);
+
+        /* press a button for the next test */
+        ControllerButton button = new ControllerButton("button");
+        controller.registerFeature(button);
+        ButtonStateZ state = controller.getInternalStateAccess(button);
+        state.pressed = true;
+        controller.poll();
+        assertEquals(1, scheduler.getScheduledCount());
+
+        /*
+         * When a feature is unregistered while it is pressed, its hold
+         * deadline must be cancelled. Otherwise, it would continue to
+         * emit events after being unregistered.
+         */
+        controller.unregisterFeature(button);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
     @Test
     void testRumble() {
         /* register rumble motor for next test */
@@ -1,6 +1,7 @@
 package io.ketill.controller;
 
 import io.ketill.AdapterSupplier;
+import io.ketill.IoFeature;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -12,4 +13,8 @@ class MockController extends Controller {
         super("mock_controller", adapterSupplier, ls, rs, lt, rt);
     }
 
+    <Z> Z getInternalStateAccess(@NotNull IoFeature<Z, ?> feature) {
+        return this.getInternalState(feature);
+    }
+
 }
@@ -0,0 +1,137 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class OutputStageTest {
+
+    private static final long INTERVAL_MS = 10L;
+    private static final long INTERVAL_NS =
+            TimeUnit.MILLISECONDS.toNanos(INTERVAL_MS);
+
+    private RumbleMotor motorStrong, motorWeak;
+    private AtomicInteger writes;
+    private float[] lastWrite;
+    private OutputStage stage;
+
+    @BeforeEach
+    void createStage() {
+        this.motorStrong = new RumbleMotor("strong");
+        this.motorWeak = new RumbleMotor("weak");
+        this.writes = new AtomicInteger();
+        this.lastWrite = new float[2];
+
+        this.stage = new OutputStage(s -> {
+            writes.incrementAndGet();
+            lastWrite[0] = s.get(motorStrong, 0);
+            lastWrite[1] = s.get(motorWeak, 0);
+        }, INTERVAL_MS, TimeUnit.MILLISECONDS);
+        stage.declare(motorStrong, 1);
+        stage.declare(motorWeak, 1);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new OutputStage(null));
+        assertThrows(NullPointerException.class,
+                () -> new OutputStage(s -> {}, 0L, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OutputStage(s -> {}, -1L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testDeclare() {
+        assertThrows(NullPointerException.class,
+                () -> stage.declare(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> stage.declare(new RumbleMotor("motor"), 0));
+
+        /*
+         * Declaring the same feature twice is most likely a mistake by
+         * the adapter. It would also cause its staged values to be lost.
+         */
+        assertThrows(IllegalStateException.class,
+                () -> stage.declare(motorStrong, 1));
+
+        assertTrue(stage.isDeclared(motorStrong));
+        assertFalse(stage.isDeclared(new RumbleMotor("motor")));
+    }
+
+    @Test
+    void testStage() {
+        /*
+         * It would not make sense to stage a value for a null feature,
+         * an undeclared feature, or a channel that does not exist.
+         */
+        assertThrows(NullPointerException.class,
+                () -> stage.stage(null, 0, 1.0F));
+        assertThrows(IllegalStateException.class,
+                () -> stage.stage(new RumbleMotor("motor"), 0, 1.0F));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> stage.stage(motorStrong, 1, 1.0F));
+
+        assertFalse(stage.isDirty());
+        stage.stage(motorStrong, 0, 0.5F);
+        assertEquals(0.5F, stage.get(motorStrong, 0));
+        assertTrue(stage.isDirty());
+
+        /*
+         * If a value is staged back to what was last written before the
+         * stage is flushed, there is nothing left to write.
+         */
+        stage.stage(motorStrong, 0, 0.0F);
+        assertFalse(stage.isDirty());
+    }
+
+    @Test
+    void testFlush() throws Exception {
+        /* nothing staged, so nothing to write */
+        assertFalse(stage.flush(0L));
+        assertEquals(0, writes.get());
+
+        /*
+         * When both motors are changed during the same poll, they must
+         * be written together via a single call to the writer.
+         */
+        stage.stage(motorStrong, 0, 0.25F);
+        stage.stage(motorWeak, 0, 0.75F);
+        assertTrue(stage.flush(0L));
+        assertEquals(1, writes.get());
+        assertEquals(0.25F, lastWrite[0]);
+        assertEquals(0.75F, lastWrite[1]);
+
+        /*
+         * Writing again before the minimum write interval has elapsed
+         * must be deferred. Only the latest values staged should be
+         * written once the interval has elapsed.
+         */
+        stage.stage(motorStrong, 0, 0.50F);
+        assertFalse(stage.flush(INTERVAL_NS - 1));
+        stage.stage(motorStrong, 0, 1.00F);
+        assertFalse(stage.flush(INTERVAL_NS - 1));
+        assertEquals(2, stage.getDeferredCount());
+
+        assertTrue(stage.flush(INTERVAL_NS));
+        assertEquals(2, writes.get());
+        assertEquals(1.00F, lastWrite[0]);
+        assertEquals(2, stage.getWriteCount());
+
+        /* nothing has changed since the last write */
+        assertFalse(stage.flush(INTERVAL_NS * 2));
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(OutputStage.class, stage);
+    }
+
+}
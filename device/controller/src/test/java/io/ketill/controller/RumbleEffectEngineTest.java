@@ -0,0 +1,285 @@
+package io.ketill.controller;
+
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ConstantConditions")
+class RumbleEffectEngineTest {
+
+    private AtomicLong clock;
+    private MotorVibration vibration;
+    private RumbleEffectEngine engine;
+
+    @BeforeEach
+    void createEngine() {
+        this.clock = new AtomicLong();
+        this.vibration = spy(new MotorVibration());
+
+        /*
+         * The engine is given no timer here. This allows the tests to
+         * tick the engine manually, at exactly the time they want.
+         */
+        this.engine = new RumbleEffectEngine(clock::get, null, 1L, 5);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new RumbleEffectEngine(1L, null, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleEffectEngine(0L, TimeUnit.SECONDS, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleEffectEngine(1L, TimeUnit.SECONDS, 1));
+    }
+
+    @Test
+    void testGetShared() {
+        assertSame(RumbleEffectEngine.getShared(),
+                RumbleEffectEngine.getShared());
+    }
+
+    @Test
+    void testPlay() {
+        RumbleEffect effect = new RumbleEnvelope(1.0F, 0L, 10L, 0L,
+                TimeUnit.NANOSECONDS);
+        assertThrows(NullPointerException.class,
+                () -> engine.play((MotorVibration) null, effect));
+        assertThrows(NullPointerException.class,
+                () -> engine.play(vibration, null));
+
+        RumblePlayback playback = engine.play(vibration, effect);
+        assertSame(effect, playback.getEffect());
+        assertEquals(1, engine.getPlayingCount());
+
+        engine.tick();
+        assertEquals(1.0F, vibration.getStrength());
+        assertFalse(playback.isDone());
+
+        /*
+         * Once the effect is over, the motor must be set back to zero.
+         * Otherwise, it would keep vibrating until something else sets
+         * its strength.
+         */
+        clock.set(10L);
+        engine.tick();
+        assertEquals(0.0F, vibration.getStrength());
+        assertTrue(playback.isDone());
+        assertEquals(0, engine.getPlayingCount());
+    }
+
+    @Test
+    void testPlayController() {
+        MockController controller = new MockController(
+                MockControllerAdapter::new, null, null, null, null);
+        RumbleMotor motor = new RumbleMotor("rumble");
+        MotorVibration state = controller.registerFeature(motor).getState();
+        RumbleEffect effect = new RumbleEnvelope(1.0F, 0L, 10L, 0L,
+                TimeUnit.NANOSECONDS);
+
+        assertThrows(NullPointerException.class,
+                () -> engine.play(null, motor, effect));
+        assertThrows(NullPointerException.class,
+                () -> engine.play(controller, null, effect));
+
+        engine.play(controller, motor, effect);
+        engine.tick();
+        assertEquals(1.0F, state.getStrength());
+    }
+
+    @Test
+    void testMix() {
+        RumbleEffect weak = new RumbleEnvelope(0.25F, 0L, 20L, 0L,
+                TimeUnit.NANOSECONDS);
+        RumbleEffect strong = new RumbleEnvelope(0.75F, 0L, 10L, 0L,
+                TimeUnit.NANOSECONDS);
+
+        /*
+         * When effects overlap on the same motor, the strongest one
+         * should win. Once it ends, the weaker one should be felt.
+         */
+        engine.play(vibration, weak);
+        engine.play(vibration, strong);
+        engine.tick();
+        assertEquals(0.75F, vibration.getStrength());
+
+        clock.set(10L);
+        engine.tick();
+        assertEquals(0.25F, vibration.getStrength());
+    }
+
+    @Test
+    void testExpireOnManyMotors() {
+        /*
+         * Effects of different lengths are played on many motors at once.
+         * When some of them end, their motors are forgotten while the
+         * others are still being iterated over. This must not stop the
+         * remaining motors from being updated.
+         */
+        RumbleEffect finite = new RumbleEnvelope(1.0F, 0L, 10L, 0L,
+                TimeUnit.NANOSECONDS);
+        RumbleEffect forever = new RumblePulse(1.0F, 1L, 0L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+
+        MotorVibration[] vibrations = new MotorVibration[8];
+        for (int i = 0; i < vibrations.length; i++) {
+            vibrations[i] = new MotorVibration();
+            engine.play(vibrations[i], (i % 2 == 0) ? finite : forever);
+        }
+        engine.tick();
+        for (MotorVibration motor : vibrations) {
+            assertEquals(1.0F, motor.getStrength());
+        }
+
+        clock.set(10L);
+        assertDoesNotThrow(() -> engine.tick());
+        for (int i = 0; i < vibrations.length; i++) {
+            float expected = (i % 2 == 0) ? 0.0F : 1.0F;
+            assertEquals(expected, vibrations[i].getStrength());
+        }
+        assertEquals(vibrations.length / 2, engine.getPlayingCount());
+    }
+
+    @Test
+    void testQuantize() {
+        /*
+         * The engine was created with five quantization levels. As such,
+         * the strength of the motor can only be set in steps of 0.25F,
+         * and is only written when it moves to another step.
+         */
+        RumbleEffect ramp = new RumbleEnvelope(1.0F, 100L, 0L, 0L,
+                TimeUnit.NANOSECONDS);
+        engine.play(vibration, ramp);
+
+        for (int i = 0; i < 100; i++) {
+            clock.set(i);
+            engine.tick();
+            float strength = vibration.getStrength();
+            assertEquals(0.0F, strength % 0.25F);
+        }
+
+        /* 0.0F, 0.25F, 0.50F, 0.75F, and 1.0F */
+        verify(vibration, times(5)).setStrength(anyFloat());
+    }
+
+    @Test
+    void testCancel() {
+        RumbleEffect forever = new RumblePulse(1.0F, 1L, 0L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+        RumblePlayback playback = engine.play(vibration, forever);
+        engine.tick();
+        assertEquals(1.0F, vibration.getStrength());
+
+        playback.cancel();
+        assertTrue(playback.isDone());
+        engine.tick();
+        assertEquals(0.0F, vibration.getStrength());
+
+        engine.play(vibration, forever);
+        engine.play(vibration, forever);
+        assertThrows(NullPointerException.class,
+                () -> engine.stopAll(null));
+        engine.stopAll(vibration);
+        engine.tick();
+        assertEquals(0, engine.getPlayingCount());
+    }
+
+    @Test
+    void testTickError() {
+        List<Throwable> errors = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        try {
+            RumbleEffect faulty = mock(RumbleEffect.class);
+            when(faulty.getDuration()).thenReturn(RumbleEffect.INFINITE);
+            when(faulty.getStrength(anyLong()))
+                    .thenThrow(new RuntimeException());
+            RumbleEffect constant = new RumbleEnvelope(0.5F, 0L, 10L, 0L,
+                    TimeUnit.NANOSECONDS);
+
+            /*
+             * An error from an effect must not stop the engine from
+             * ticking. The faulty effect should be cancelled, and the
+             * error reported, while other effects keep playing.
+             */
+            RumblePlayback faultyPlayback = engine.play(vibration, faulty);
+            engine.play(vibration, constant);
+            engine.tick();
+            assertTrue(faultyPlayback.isDone());
+            assertEquals(0.5F, vibration.getStrength());
+            assertEquals(1, errors.size());
+
+            /*
+             * When a motor throws an error, every effect on it must be
+             * cancelled. Otherwise, the engine would keep trying to set
+             * its strength on every tick.
+             */
+            MotorVibration broken = mock(MotorVibration.class);
+            doThrow(new RuntimeException()).when(broken)
+                    .setStrength(anyFloat());
+            RumblePlayback brokenPlayback = engine.play(broken, constant);
+            engine.tick();
+            assertTrue(brokenPlayback.isDone());
+            assertEquals(2, errors.size());
+            assertEquals(1, engine.getPlayingCount());
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    void testClose() {
+        ScheduledExecutorService timer = mock(ScheduledExecutorService.class);
+        RumbleEffectEngine timed =
+                new RumbleEffectEngine(clock::get, timer, 1L, 5);
+        RumbleEffect forever = new RumblePulse(1.0F, 1L, 0L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+
+        RumblePlayback playback = timed.play(vibration, forever);
+        timed.tick();
+        assertEquals(1.0F, vibration.getStrength());
+
+        /*
+         * Closing the engine must stop the motors it was driving and
+         * shut down the timer it owns. Otherwise, the timer thread and
+         * the vibration of the motors would outlive the engine.
+         */
+        assertFalse(timed.isClosed());
+        timed.close();
+        assertTrue(timed.isClosed());
+        assertTrue(playback.isDone());
+        assertEquals(0.0F, vibration.getStrength());
+        assertEquals(0, timed.getPlayingCount());
+        verify(timer).shutdown();
+
+        timed.close(); /* should have no effect */
+        verify(timer, times(1)).shutdown();
+        assertThrows(IllegalStateException.class,
+                () -> timed.play(vibration, forever));
+    }
+
+    @Test
+    void testGetSharedClosed() {
+        RumbleEffectEngine closed = RumbleEffectEngine.getShared();
+        closed.close();
+        assertNotSame(closed, RumbleEffectEngine.getShared());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(RumbleEffectEngine.class, engine);
+        RumblePlayback playback = engine.play(vibration,
+                new RumbleEnvelope(1.0F, 0L, 0L, 0L, TimeUnit.SECONDS));
+        assertImplementsToString(RumblePlayback.class, playback);
+    }
+
+}
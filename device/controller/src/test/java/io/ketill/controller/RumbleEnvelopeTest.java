@@ -0,0 +1,65 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class RumbleEnvelopeTest {
+
+    private RumbleEnvelope envelope;
+
+    @BeforeEach
+    void createEnvelope() {
+        this.envelope = new RumbleEnvelope(1.0F, 10L, 20L, 10L,
+                TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new RumbleEnvelope(1.0F, 0L, 0L, 0L, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleEnvelope(1.0F, -1L, 0L, 0L,
+                        TimeUnit.NANOSECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleEnvelope(1.0F, 0L, -1L, 0L,
+                        TimeUnit.NANOSECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleEnvelope(1.0F, 0L, 0L, -1L,
+                        TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testGetDuration() {
+        assertEquals(40L, envelope.getDuration());
+    }
+
+    @Test
+    void testGetStrength() {
+        assertEquals(0.0F, envelope.getStrength(0L));
+        assertEquals(0.5F, envelope.getStrength(5L)); /* attack */
+        assertEquals(1.0F, envelope.getStrength(10L)); /* sustain */
+        assertEquals(1.0F, envelope.getStrength(29L));
+        assertEquals(0.5F, envelope.getStrength(35L)); /* decay */
+        assertEquals(0.0F, envelope.getStrength(40L));
+
+        /*
+         * To prevent unexpected behavior, the strength of an envelope
+         * is capped between a value of 0.0F and 1.0F.
+         */
+        RumbleEnvelope strong = new RumbleEnvelope(2.0F, 0L, 1L, 0L,
+                TimeUnit.NANOSECONDS);
+        assertEquals(1.0F, strong.getStrength(0L));
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(RumbleEnvelope.class, envelope);
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class RumblePulseTest {
+
+    private RumblePulse pulse;
+
+    @BeforeEach
+    void createPulse() {
+        this.pulse = new RumblePulse(0.5F, 10L, 5L, 3,
+                TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new RumblePulse(1.0F, 1L, 0L, 1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumblePulse(1.0F, 0L, 0L, 1,
+                        TimeUnit.NANOSECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumblePulse(1.0F, 1L, -1L, 1,
+                        TimeUnit.NANOSECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumblePulse(1.0F, 1L, 0L, 0,
+                        TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void testGetDuration() {
+        /* the effect ends once the last pulse is over */
+        assertEquals(40L, pulse.getDuration());
+
+        RumblePulse forever = new RumblePulse(1.0F, 1L, 1L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+        assertEquals(RumbleEffect.INFINITE, forever.getDuration());
+    }
+
+    @Test
+    void testGetStrength() {
+        assertEquals(0.5F, pulse.getStrength(0L));
+        assertEquals(0.5F, pulse.getStrength(9L));
+        assertEquals(0.0F, pulse.getStrength(10L));
+        assertEquals(0.0F, pulse.getStrength(14L));
+        assertEquals(0.5F, pulse.getStrength(15L));
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(RumblePulse.class, pulse);
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.ketill.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class RumbleSequenceTest {
+
+    private RumbleEffect first, second;
+    private RumbleSequence sequence;
+
+    @BeforeEach
+    void createSequence() {
+        this.first = new RumbleEnvelope(0.25F, 0L, 10L, 0L,
+                TimeUnit.NANOSECONDS);
+        this.second = new RumbleEnvelope(0.75F, 0L, 20L, 0L,
+                TimeUnit.NANOSECONDS);
+        this.sequence = new RumbleSequence(first, second);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new RumbleSequence((RumbleEffect[]) null));
+        assertThrows(NullPointerException.class,
+                () -> new RumbleSequence(first, null));
+        assertThrows(IllegalArgumentException.class,
+                RumbleSequence::new);
+
+        /*
+         * Any effect after one which never ends would never be played.
+         * This is most likely a mistake by the user.
+         */
+        RumbleEffect forever = new RumblePulse(1.0F, 1L, 1L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+        assertThrows(IllegalArgumentException.class,
+                () -> new RumbleSequence(forever, first));
+        assertDoesNotThrow(() -> new RumbleSequence(first, forever));
+    }
+
+    @Test
+    void testGetDuration() {
+        assertEquals(30L, sequence.getDuration());
+
+        RumbleEffect forever = new RumblePulse(1.0F, 1L, 1L,
+                RumblePulse.REPEAT_FOREVER, TimeUnit.NANOSECONDS);
+        RumbleSequence infinite = new RumbleSequence(first, forever);
+        assertEquals(RumbleEffect.INFINITE, infinite.getDuration());
+    }
+
+    @Test
+    void testGetStrength() {
+        assertEquals(0.25F, sequence.getStrength(0L));
+        assertEquals(0.25F, sequence.getStrength(9L));
+        assertEquals(0.75F, sequence.getStrength(10L));
+        assertEquals(0.75F, sequence.getStrength(29L));
+        assertEquals(0.0F, sequence.getStrength(30L));
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(RumbleSequence.class, sequence);
+    }
+
+}
@@ -5,6 +5,9 @@ import org.joml.Vector3f;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +60,42 @@ class StickPosTest {
         assertSame(calibration, container.getCalibration());
     }
 
+    @Test
+    void testUsePressConfig() {
+        assertSame(AnalogStickPressConfig.DEFAULT,
+                container.getPressConfig());
+
+        AnalogStickPressConfig config = new AnalogStickPressConfig(
+                AnalogStickPressConfig.Mode.EIGHT_WAY);
+        container.usePressConfig(config);
+        assertSame(config, container.getPressConfig());
+
+        /* a null config should result in the default being used */
+        container.usePressConfig(null);
+        assertSame(AnalogStickPressConfig.DEFAULT,
+                container.getPressConfig());
+    }
+
+    @Test
+    void testUseAutoCalibration() {
+        container.useCalibration(null);
+        AnalogStickAutoCalibrator autoCalibrator =
+                container.useAutoCalibration();
+        assertSame(autoCalibrator, container.getAutoCalibrator());
+
+        /*
+         * When auto-calibrating, the calibration learned by the auto
+         * calibrator must replace the current calibration on update.
+         */
+        internal.pos.set(0.5F, 0.0F, 0.0F);
+        internal.update();
+        assertSame(autoCalibrator.getCalibration(),
+                container.getCalibration());
+
+        container.useAutoCalibration(null);
+        assertNull(container.getAutoCalibrator());
+    }
+
     @Test
     void testGetPos() {
         Vector3f raw = new Vector3f(1.23F, 4.56F, 7.89F);
@@ -92,6 +131,63 @@ class StickPosTest {
         assertEquals(4.56F, container.getZ());
     }
 
+    @Test
+    void testSetMoveEpsilon() {
+        assertEquals(0.01F, container.getMoveEpsilon());
+        container.setMoveEpsilon(0.25F);
+        assertEquals(0.25F, container.getMoveEpsilon());
+        assertEquals(0.25F, internal.moveEpsilon);
+
+        /*
+         * A negative epsilon would mean the analog stick is always
+         * considered to have moved, even when it has not. As such,
+         * assume this was a mistake by the user.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setMoveEpsilon(-1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setMoveEpsilon(Float.NaN));
+    }
+
+    @Test
+    void testUpdateEmitsMove() {
+        List<AnalogStickMoveEvent> moves = new ArrayList<>();
+        doReturn(true).when(observer).hasSubscribers();
+        doAnswer(answer -> {
+            Object event = answer.getArgument(0);
+            if (event instanceof AnalogStickMoveEvent) {
+                moves.add((AnalogStickMoveEvent) event);
+            }
+            return null;
+        }).when(observer).onNext(any());
+        container.setMoveEpsilon(0.25F);
+
+        /*
+         * Moves which do not exceed the epsilon must not result in an
+         * event. However, they must not be forgotten either. Once they
+         * add up to more than the epsilon, the event must include them.
+         */
+        internal.pos.x = 0.125F;
+        internal.update();
+        internal.pos.x = 0.250F;
+        internal.update();
+        assertTrue(moves.isEmpty());
+
+        internal.pos.x = 0.375F;
+        internal.update();
+        assertEquals(1, moves.size());
+        AnalogStickMoveEvent move = moves.get(0);
+        assertSame(stick, move.getStick());
+        assertEquals(0.375F, move.getDeltaX());
+        assertEquals(0.375F, move.getX());
+
+        /* without subscribers, no event should be created */
+        doReturn(false).when(observer).hasSubscribers();
+        internal.pos.x = -1.0F;
+        internal.update();
+        assertEquals(1, moves.size());
+    }
+
     @Test
     void testUpdate() {
         internal.update(); /* trigger calibration */
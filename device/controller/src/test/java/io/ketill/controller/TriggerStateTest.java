@@ -4,6 +4,9 @@ import io.ketill.IoDeviceObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.ketill.controller.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -42,6 +45,26 @@ class TriggerStateTest {
         assertSame(calibration, container.getCalibration());
     }
 
+    @Test
+    void testUseAutoCalibration() {
+        container.useCalibration(null);
+        AnalogTriggerAutoCalibrator autoCalibrator =
+                container.useAutoCalibration();
+        assertSame(autoCalibrator, container.getAutoCalibrator());
+
+        /*
+         * When auto-calibrating, the calibration learned by the auto
+         * calibrator must replace the current calibration on update.
+         */
+        internal.force = 0.5F;
+        internal.update();
+        assertSame(autoCalibrator.getCalibration(),
+                container.getCalibration());
+
+        container.useAutoCalibration(null);
+        assertNull(container.getAutoCalibrator());
+    }
+
     @Test
     void testGetForce() {
         internal.force = 1.23F;
@@ -69,6 +92,61 @@ class TriggerStateTest {
         assertFalse(container.isHeld());
     }
 
+    @Test
+    void testSetChangeEpsilon() {
+        assertEquals(0.01F, container.getChangeEpsilon());
+        container.setChangeEpsilon(0.25F);
+        assertEquals(0.25F, container.getChangeEpsilon());
+        assertEquals(0.25F, internal.changeEpsilon);
+
+        /*
+         * A negative epsilon would mean the force is always considered
+         * to have changed, even when it has not. As such, assume this
+         * was a mistake by the user.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setChangeEpsilon(-1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setChangeEpsilon(Float.NaN));
+    }
+
+    @Test
+    void testUpdateEmitsChange() {
+        List<AnalogTriggerChangeEvent> changes = new ArrayList<>();
+        doReturn(true).when(observer).hasSubscribers();
+        doAnswer(answer -> {
+            Object event = answer.getArgument(0);
+            if (event instanceof AnalogTriggerChangeEvent) {
+                changes.add((AnalogTriggerChangeEvent) event);
+            }
+            return null;
+        }).when(observer).onNext(any());
+        container.setChangeEpsilon(0.25F);
+
+        /*
+         * Changes which do not exceed the epsilon must not result in an
+         * event. However, they must not be forgotten either. Once they
+         * add up to more than the epsilon, the event must include them.
+         */
+        internal.force = 0.125F;
+        internal.update();
+        internal.force = 0.250F;
+        internal.update();
+        assertTrue(changes.isEmpty());
+
+        internal.force = 0.375F;
+        internal.update();
+        assertEquals(1, changes.size());
+        assertEquals(0.375F, changes.get(0).getDelta());
+        assertEquals(0.375F, changes.get(0).getForce());
+
+        /* the next change is measured from the force of the last event */
+        internal.force = 0.0F;
+        internal.update();
+        assertEquals(2, changes.size());
+        assertEquals(-0.375F, changes.get(1).getDelta());
+    }
+
     @Test
     void testUpdate() {
         internal.update(); /* trigger calibrations */
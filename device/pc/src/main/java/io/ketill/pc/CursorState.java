@@ -81,6 +81,7 @@ public final class CursorState extends ContainerState<CursorStateZ> {
             throw new UnsupportedOperationException(msg);
         }
         internalState.visible = visible;
+        internalState.requestUpdate();
     }
 
     /**
@@ -156,6 +157,7 @@ public final class CursorState extends ContainerState<CursorStateZ> {
             throw new UnsupportedOperationException(msg);
         }
         internalState.requestedPos = pos;
+        internalState.requestUpdate();
     }
 
     /**
@@ -248,6 +250,7 @@ public final class CursorState extends ContainerState<CursorStateZ> {
         internalState.icon = icon;
         internalState.updatedIcon = true;
         internalState.emitIconUpdated = true;
+        internalState.requestUpdate();
     }
 
     /**
@@ -274,4 +277,34 @@ public final class CursorState extends ContainerState<CursorStateZ> {
         return true;
     }
 
+    /**
+     * Returns how far the cursor must move before a
+     * {@link MouseCursorMoveEvent} is emitted.
+     *
+     * @return the move epsilon of the cursor, in pixels.
+     * @see #setMoveEpsilon(float)
+     */
+    public float getMoveEpsilon() {
+        return internalState.moveEpsilon;
+    }
+
+    /**
+     * Sets how far the cursor must move before a
+     * {@link MouseCursorMoveEvent} is emitted. Moves which do not exceed
+     * this distance are not discarded. Rather, they are added up until
+     * they do. By default, this is {@code 1.0F}. This keeps a cursor
+     * which moves a single pixel each poll from emitting a move event
+     * on top of the {@link MouseCursorDisplaceEvent} every poll.
+     *
+     * @param epsilon the distance in pixels the cursor must move.
+     * @throws IllegalArgumentException if {@code epsilon} is negative or
+     *                                  {@code NaN}.
+     */
+    public void setMoveEpsilon(float epsilon) {
+        if (!(epsilon >= 0.0F)) {
+            throw new IllegalArgumentException("epsilon must be >= 0");
+        }
+        internalState.moveEpsilon = epsilon;
+    }
+
 }
@@ -3,6 +3,8 @@ package io.ketill.pc;
 import io.ketill.AutonomousField;
 import io.ketill.AutonomousState;
 import io.ketill.IoDeviceObserver;
+import io.ketill.IoDeviceWaker;
+import io.ketill.IoEventRing;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector2f;
@@ -12,12 +14,22 @@ import java.awt.*;
 
 /**
  * Contains the state of a {@link MouseCursor}.
+ * <p>
+ * When the mouse records events to an {@link IoEventRing}, each
+ * displacement is recorded with the X and Y displacement followed by
+ * the X and Y position. Each change in visibility is recorded with a
+ * value of one if the cursor became visible, zero otherwise.
  *
  * @see #visible
  * @see #requestedPos
  */
 public final class CursorStateZ implements AutonomousState {
 
+    private static final int DISPLACE_TYPE =
+            IoEventRing.getTypeId(MouseCursorDisplaceEvent.class);
+    private static final int VISIBILITY_TYPE =
+            IoEventRing.getTypeId(MouseCursorSetVisibilityEvent.class);
+
     /**
      * These indicate if an I/O device adapter has the ability to perform a
      * specific function for the mouse cursor. By default, it is assumed an
@@ -44,7 +56,7 @@ public final class CursorStateZ implements AutonomousState {
      *
      * @see #adapterCanSetVisible
      */
-    public boolean visible;
+    public volatile boolean visible;
 
     /**
      * When this value is not {@code null}, the adapter should move mouse
@@ -53,7 +65,7 @@ public final class CursorStateZ implements AutonomousState {
      *
      * @see #adapterCanSetPosition
      */
-    public @Nullable Vector2fc requestedPos;
+    public volatile @Nullable Vector2fc requestedPos;
 
     /**
      * This should <i>not</i> be modified by the adapter.<br>
@@ -69,14 +81,25 @@ public final class CursorStateZ implements AutonomousState {
      * icon of the cursor to reflect the contents of {@link #icon}.
      * Afterwards, this value should be set back to {@code false}.
      */
-    public boolean updatedIcon;
+    public volatile boolean updatedIcon;
+
+    /**
+     * This should <i>not</i> be modified by the adapter.<br>
+     * It is used by the state to decide when the cursor has moved far
+     * enough to emit a {@link MouseCursorMoveEvent}, and is set by the
+     * user of their own accord.
+     */
+    @AutonomousField
+    public volatile float moveEpsilon;
 
     private final MouseCursor cursor;
     private final Mouse mouse;
     private final IoDeviceObserver observer;
 
     private final Vector2f lastPos;
+    private final Vector2f movedPos;
     private boolean wasVisible;
+    private int slot = IoEventRing.NO_SLOT;
     boolean emitIconUpdated;
 
     CursorStateZ(@NotNull MouseCursor cursor,
@@ -87,29 +110,82 @@ public final class CursorStateZ implements AutonomousState {
 
         this.currentPos = new Vector2f();
         this.visible = true;
+        this.moveEpsilon = 1.0F;
 
         this.lastPos = new Vector2f();
+        this.movedPos = new Vector2f();
         this.wasVisible = true;
     }
 
+    /*
+     * Requests to update the cursor are usually made by a thread other than
+     * the one polling the mouse. In push mode, that thread may be asleep until
+     * new input arrives. It is woken here so the request is fulfilled on the
+     * next poll, rather than whenever new input happens to arrive.
+     */
+    void requestUpdate() {
+        IoDeviceWaker waker = mouse.getWaker();
+        if (waker != null) {
+            waker.wake(mouse);
+        }
+    }
+
+    private void record(@NotNull IoEventRing ring, int typeId,
+                        float v0, float v1, float v2, float v3) {
+        if (slot == IoEventRing.NO_SLOT) {
+            this.slot = mouse.getFeatureSlot(cursor);
+        }
+        ring.write(typeId, slot, mouse.getPollTime(), v0, v1, v2, v3);
+    }
+
     @Override
     public void update() {
+        IoEventRing ring = observer.getEventRing();
+
         if (!currentPos.equals(lastPos)) {
-            Vector2f displacement = new Vector2f();
-            currentPos.sub(lastPos, displacement);
-            observer.onNext(new MouseCursorDisplaceEvent(mouse,
-                    cursor, displacement));
+            float dx = currentPos.x - lastPos.x;
+            float dy = currentPos.y - lastPos.y;
+            if (ring != null) {
+                this.record(ring, DISPLACE_TYPE, dx, dy,
+                        currentPos.x, currentPos.y);
+            }
+
+            /*
+             * The cursor can move every poll. When no one is subscribed,
+             * creating the event (and its vector) would only be garbage.
+             */
+            if (observer.hasSubscribers()) {
+                Vector2f displacement = new Vector2f(dx, dy);
+                observer.onNext(new MouseCursorDisplaceEvent(mouse,
+                        cursor, displacement));
+            }
         }
         lastPos.set(currentPos);
 
-        if (wasVisible && !visible) {
-            this.wasVisible = false;
-            observer.onNext(new MouseCursorSetVisibilityEvent(mouse,
-                    cursor, false));
-        } else if (!wasVisible && visible) {
-            this.wasVisible = true;
+        /*
+         * Moves are measured from where the cursor was when the last move
+         * event was emitted, rather than where it was last update. This
+         * way, small moves add up until they exceed the epsilon.
+         */
+        float moveX = currentPos.x - movedPos.x;
+        float moveY = currentPos.y - movedPos.y;
+        float epsilon = this.moveEpsilon;
+        if (moveX * moveX + moveY * moveY > epsilon * epsilon) {
+            movedPos.set(currentPos);
+            if (observer.hasSubscribers()) {
+                observer.onNext(new MouseCursorMoveEvent(mouse, cursor,
+                        moveX, moveY, currentPos.x, currentPos.y));
+            }
+        }
+
+        if (wasVisible != visible) {
+            this.wasVisible = visible;
+            if (ring != null) {
+                this.record(ring, VISIBILITY_TYPE, visible ? 1.0F : 0.0F,
+                        0.0F, 0.0F, 0.0F);
+            }
             observer.onNext(new MouseCursorSetVisibilityEvent(mouse,
-                    cursor, true));
+                    cursor, visible));
         }
 
         if (emitIconUpdated) {
@@ -0,0 +1,240 @@
+package io.ketill.pc;
+
+import io.ketill.pressable.PressableIoFeatureScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A compact table of the keys registered to a {@link Keyboard}.
+ * <p>
+ * Each key is given a dense index when registered. The state of every key
+ * is kept in bitsets, with one bit per key. The standard set of keys fits
+ * into two words, meaning the keys which changed during a poll can be
+ * found via a pair of XORs. Only the observers of those keys are polled,
+ * rather than one observer for each key on the keyboard.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it
+ * is an implementation detail of {@link Keyboard}. The state of each
+ * key remains accessible via {@link KeyPress}.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It should
+ * only be used by the thread polling the keyboard which owns it.
+ */
+final class KeyPressTable {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private @Nullable KeyPressZ @NotNull [] states;
+    private long @NotNull [] current;
+    private long @NotNull [] previous;
+    private long @NotNull [] changed;
+    private long @NotNull [] pending;
+    private long @NotNull [] held;
+    private int size;
+
+    KeyPressTable() {
+        this.states = new KeyPressZ[INITIAL_CAPACITY];
+        this.current = new long[PressBits.wordsFor(INITIAL_CAPACITY)];
+        this.previous = new long[current.length];
+        this.changed = new long[current.length];
+        this.pending = new long[current.length];
+        this.held = new long[current.length];
+    }
+
+    private void grow() {
+        int capacity = states.length * 2;
+        int words = PressBits.wordsFor(capacity);
+        this.states = Arrays.copyOf(states, capacity);
+        this.current = Arrays.copyOf(current, words);
+        this.previous = Arrays.copyOf(previous, words);
+        this.changed = Arrays.copyOf(changed, words);
+        this.pending = Arrays.copyOf(pending, words);
+        this.held = Arrays.copyOf(held, words);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a key to this table, binding its state to a new index.
+     *
+     * @param state the state of the key to add.
+     * @return the index of the key.
+     */
+    int add(@NotNull KeyPressZ state) {
+        if (size >= states.length) {
+            this.grow();
+        }
+        int index = size++;
+        states[index] = state;
+        state.bind(this, index);
+        return index;
+    }
+
+    /**
+     * Removes a key from this table. Its index is not reused, as it
+     * would be rare for a keyboard to have its keys unregistered.
+     *
+     * @param key the key to remove.
+     */
+    void remove(@NotNull KeyboardKey key) {
+        for (int i = 0; i < size; i++) {
+            KeyPressZ state = states[i];
+            if (state != null && state.key == key) {
+                state.unbind();
+                states[i] = null;
+                PressBits.set(current, i, false);
+                PressBits.set(previous, i, false);
+                PressBits.set(changed, i, false);
+                PressBits.set(pending, i, false);
+                PressBits.set(held, i, false);
+            }
+        }
+    }
+
+    void setPressed(int index, boolean pressed) {
+        PressBits.set(current, index, pressed);
+    }
+
+    boolean isPressed(int index) {
+        return PressBits.get(current, index);
+    }
+
+    boolean isHeld(int index) {
+        return PressBits.get(held, index);
+    }
+
+    /**
+     * Returns the index of a key in this table.
+     *
+     * @param key the key to look up.
+     * @return the index of {@code key}, {@code -1} if it is not in this
+     * table.
+     */
+    int indexOf(@NotNull KeyboardKey key) {
+        for (int i = 0; i < size; i++) {
+            KeyPressZ state = states[i];
+            if (state != null && state.key == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    void forEachKey(long @NotNull [] words,
+                    @NotNull Consumer<? super KeyboardKey> action) {
+        PressBits.forEach(words, index -> {
+            KeyPressZ state = states[index];
+            if (state != null) {
+                action.accept(state.key);
+            }
+        });
+    }
+
+    /**
+     * Returns the keys which are currently pressed down. This is updated
+     * as each key is updated by the adapter.
+     *
+     * @return the bitset of keys which are currently pressed down.
+     */
+    long @NotNull [] getPressed() {
+        return this.current;
+    }
+
+    /**
+     * Returns the keys which were pressed or released during the last
+     * poll of the keyboard.
+     *
+     * @return the bitset of keys which changed during the last poll.
+     */
+    long @NotNull [] getChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Returns if any key must be polled again, even if it does not change
+     * (e.g., because it was debounced and has yet to settle.)
+     *
+     * @return {@code true} if any key must be polled again, {@code false}
+     * otherwise.
+     */
+    boolean hasPending() {
+        for (long word : pending) {
+            if (word != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Emits the events for each key that changed since the last poll,
+     * and for each key that was held down as of this poll.
+     *
+     * @param pollTime  the time of the poll in nanoseconds.
+     * @param scheduler the scheduler of the keyboard, used to time the
+     *                  hold and virtual press events of each key.
+     */
+    void poll(long pollTime, @NotNull PressableIoFeatureScheduler scheduler) {
+        for (int w = 0; w < current.length; w++) {
+            changed[w] = current[w] ^ previous[w];
+            long poll = changed[w] | pending[w];
+            previous[w] = current[w];
+            pending[w] = 0L;
+
+            while (poll != 0L) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(poll);
+                poll &= poll - 1;
+
+                KeyPressZ state = states[index];
+                if (state == null) {
+                    continue;
+                }
+
+                KeyboardKeyObserver observer = state.keyObserver;
+                observer.poll();
+
+                /*
+                 * When a key is debounced, its observer can still consider
+                 * it to be in its previous state. It must be polled again
+                 * until the two agree, even if the key does not change.
+                 */
+                if (observer.isPressed() != state.pressed) {
+                    PressBits.set(pending, index, true);
+                }
+            }
+        }
+
+        /*
+         * Keys which have been held long enough are expired by the wheel
+         * of the keyboard, not by a poll of their observer. As such, their
+         * state must be updated here. Only keys which are currently down
+         * must be checked, which is usually a handful at most.
+         */
+        scheduler.advance(pollTime);
+        for (int w = 0; w < current.length; w++) {
+            long down = current[w] | held[w];
+            held[w] = 0L;
+
+            while (down != 0L) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(down);
+                down &= down - 1;
+
+                KeyPressZ state = states[index];
+                if (state == null) {
+                    continue;
+                }
+
+                state.held = state.keyObserver.isHeld();
+                if (state.held) {
+                    PressBits.set(held, index, true);
+                }
+            }
+        }
+    }
+
+}
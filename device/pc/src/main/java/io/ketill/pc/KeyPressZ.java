@@ -4,6 +4,7 @@ import io.ketill.AutonomousField;
 import io.ketill.AutonomousState;
 import io.ketill.IoDeviceObserver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Contains the state of a {@link KeyboardKey}.
@@ -25,15 +26,40 @@ public final class KeyPressZ implements AutonomousState {
     @AutonomousField
     public boolean held;
 
-    private final KeyboardKeyObserver keyObserver;
+    final @NotNull KeyboardKey key;
+    final @NotNull KeyboardKeyObserver keyObserver;
+
+    private @Nullable KeyPressTable table;
+    private int index;
 
     KeyPressZ(@NotNull KeyboardKey key, @NotNull IoDeviceObserver observer) {
+        this.key = key;
         this.keyObserver = new KeyboardKeyObserver(key, this, observer);
+        this.index = -1;
+    }
+
+    void bind(@NotNull KeyPressTable table, int index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    void unbind() {
+        this.table = null;
+        this.index = -1;
     }
 
     @Override
     public void update() {
-        keyObserver.poll();
+        if (table != null) {
+            /*
+             * When this key belongs to a keyboard, only its bit is updated
+             * here. The keyboard polls the observer once it has found which
+             * keys changed, so unchanged keys cost only this write.
+             */
+            table.setPressed(index, pressed);
+        } else {
+            keyObserver.poll();
+        }
     }
 
 }
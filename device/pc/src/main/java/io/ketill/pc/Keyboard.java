@@ -4,15 +4,34 @@ import io.ketill.AdapterSupplier;
 import io.ketill.FeaturePresent;
 import io.ketill.FeatureState;
 import io.ketill.IoDevice;
+import io.ketill.IoFeature;
+import io.ketill.RegisteredIoFeature;
 import io.ketill.ToStringUtils;
 import io.ketill.pressable.PressableIoFeatureConfig;
 import io.ketill.pressable.PressableIoFeatureConfigView;
+import io.ketill.pressable.PressableIoFeatureScheduler;
+import io.ketill.pressable.PressableIoFeatureStats;
 import io.ketill.pressable.PressableIoFeatureSupport;
+import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
 /**
  * A generic computer keyboard.
+ * <p>
+ * Along with the state of each key, a keyboard can be queried in bulk
+ * (e.g., {@link #forEachPressedKey(Consumer)} or
+ * {@link #isChordPressed(PressChord)}.) These queries read a bitset of
+ * the keys, rather than the state of every key on the keyboard.
+ * <p>
+ * <b>Thread safety:</b> The bulk queries of this class should only be
+ * called by the thread which polls the keyboard.
  *
  * @see Mouse
  */
@@ -275,6 +294,18 @@ public class Keyboard extends IoDevice implements PressableIoFeatureSupport {
     /* @formatter:on */
 
     private @NotNull PressableIoFeatureConfigView pressableConfig;
+    private final @NotNull Map<IoFeature<?, ?>, PressableIoFeatureConfigView>
+            featureConfigs;
+    private final @NotNull AtomicLong pressableConfigVersion;
+    private final @NotNull PressableIoFeatureStats pressableStats;
+    private final @NotNull PressableIoFeatureScheduler pressableScheduler;
+
+    /*
+     * Keys are registered by the constructor of IoDevice, before any field
+     * initializers of this class have run. As such, this is created when
+     * the first key is registered and must not be given an initializer.
+     */
+    private @Nullable KeyPressTable keyTable;
 
     /**
      * Constructs a new {@code Keyboard}.
@@ -287,6 +318,10 @@ public class Keyboard extends IoDevice implements PressableIoFeatureSupport {
     public Keyboard(@NotNull AdapterSupplier<Keyboard> adapterSupplier) {
         super("keyboard", adapterSupplier);
         this.pressableConfig = PressableIoFeatureConfig.DEFAULT;
+        this.featureConfigs = new ConcurrentHashMap<>();
+        this.pressableConfigVersion = new AtomicLong();
+        this.pressableStats = new PressableIoFeatureStats();
+        this.pressableScheduler = new PressableIoFeatureScheduler();
     }
 
     @Override
@@ -297,6 +332,192 @@ public class Keyboard extends IoDevice implements PressableIoFeatureSupport {
     @Override
     public final void usePressableConfig(@Nullable PressableIoFeatureConfigView view) {
         this.pressableConfig = PressableIoFeatureConfig.valueOf(view);
+        pressableConfigVersion.incrementAndGet();
+    }
+
+    /* @formatter:off */
+    @Override
+    public final @Nullable PressableIoFeatureConfigView
+            getPressableConfig(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        return featureConfigs.get(feature);
+    }
+
+    @Override
+    public final void
+            usePressableConfig(@NotNull IoFeature<?, ?> feature,
+                               @Nullable PressableIoFeatureConfigView view) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        if (view == null) {
+            featureConfigs.remove(feature);
+        } else {
+            featureConfigs.put(feature, view);
+        }
+        pressableConfigVersion.incrementAndGet();
+    }
+    /* @formatter:on */
+
+    @Override
+    public final long getPressableConfigVersion() {
+        return pressableConfigVersion.get();
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureStats getPressableStats() {
+        return this.pressableStats;
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureScheduler getPressableScheduler() {
+        return this.pressableScheduler;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Note:</b> A keyboard also needs polling while a hold or virtual press
+     * of any key is scheduled, or while a debounced key has yet to settle.
+     */
+    @Override
+    public boolean needsPolling() {
+        return super.needsPolling()
+                || pressableScheduler.getScheduledCount() > 0
+                || (keyTable != null && keyTable.hasPending());
+    }
+
+    @Override
+    @MustBeInvokedByOverriders
+    protected void featureRegistered(@NotNull RegisteredIoFeature<?, ?, ?> registered) {
+        IoFeature<?, ?> feature = registered.getFeature();
+        if (feature instanceof KeyboardKey) {
+            if (keyTable == null) {
+                this.keyTable = new KeyPressTable();
+            }
+            keyTable.add(this.getInternalState((KeyboardKey) feature));
+        }
+    }
+
+    @Override
+    @MustBeInvokedByOverriders
+    protected void featureUnregistered(@NotNull IoFeature<?, ?> feature) {
+        pressableScheduler.cancel(feature);
+        if (feature instanceof KeyboardKey && keyTable != null) {
+            keyTable.remove((KeyboardKey) feature);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Note:</b> The observer of a key is only polled during a poll in
+     * which the key was pressed or released. Hold and virtual press events
+     * are emitted by the pressable scheduler of this keyboard.
+     */
+    @Override
+    @MustBeInvokedByOverriders
+    protected void featuresUpdated() {
+        if (keyTable != null) {
+            keyTable.poll(this.getPollTime(), pressableScheduler);
+        }
+    }
+
+    /* @formatter:off */
+    /**
+     * Compiles a set of keys into a chord, which can be checked as pressed
+     * in one operation via {@link #isChordPressed(PressChord)}. This should
+     * be done once (e.g., when setting up key bindings), rather than each
+     * time the chord is checked.
+     *
+     * @param keys the keys of the chord.
+     * @return the compiled chord.
+     * @throws NullPointerException     if {@code keys} or any of its
+     *                                  elements are {@code null}.
+     * @throws IllegalArgumentException if a key is not registered to this
+     *                                  keyboard.
+     */
+    public final synchronized @NotNull PressChord
+            compileChord(@NotNull KeyboardKey @NotNull ... keys) {
+        Objects.requireNonNull(keys, "keys cannot be null");
+        int[] indices = new int[keys.length];
+        int bits = 0;
+        for (int i = 0; i < keys.length; i++) {
+            KeyboardKey key = keys[i];
+            Objects.requireNonNull(key, "key cannot be null");
+            int index = keyTable != null ? keyTable.indexOf(key) : -1;
+            if (index < 0) {
+                String msg = "key \"" + key.getId() + "\"";
+                msg += " not registered";
+                throw new IllegalArgumentException(msg);
+            }
+            indices[i] = index;
+            bits = Math.max(bits, index + 1);
+        }
+
+        long[] mask = new long[PressBits.wordsFor(bits)];
+        for (int index : indices) {
+            PressBits.set(mask, index, true);
+        }
+        return new PressChord(this, mask);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns if every key of a chord is currently pressed.
+     *
+     * @param chord the chord to check.
+     * @return {@code true} if every key of {@code chord} is currently
+     * pressed, {@code false} otherwise.
+     * @throws NullPointerException     if {@code chord} is {@code null}.
+     * @throws IllegalArgumentException if {@code chord} was not compiled
+     *                                  by this keyboard.
+     * @see #compileChord(KeyboardKey...)
+     */
+    public final boolean isChordPressed(@NotNull PressChord chord) {
+        Objects.requireNonNull(chord, "chord cannot be null");
+        if (chord.device != this) {
+            String msg = "chord not compiled by this keyboard";
+            throw new IllegalArgumentException(msg);
+        } else if (keyTable == null) {
+            return chord.getSize() == 0;
+        }
+        return PressBits.containsAll(keyTable.getPressed(), chord.mask);
+    }
+
+    /**
+     * Returns how many keys are currently pressed.
+     *
+     * @return how many keys are currently pressed.
+     */
+    public final int getPressedKeyCount() {
+        return keyTable != null ? PressBits.count(keyTable.getPressed()) : 0;
+    }
+
+    /**
+     * Performs an action for each key which is currently pressed. Only
+     * pressed keys are visited, rather than every key of this keyboard.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if {@code action} is {@code null}.
+     */
+    public final void forEachPressedKey(@NotNull Consumer<? super KeyboardKey> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        if (keyTable != null) {
+            keyTable.forEachKey(keyTable.getPressed(), action);
+        }
+    }
+
+    /**
+     * Performs an action for each key which was pressed or released during
+     * the last poll of this keyboard.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if {@code action} is {@code null}.
+     */
+    public final void forEachChangedKey(@NotNull Consumer<? super KeyboardKey> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        if (keyTable != null) {
+            keyTable.forEachKey(keyTable.getChanged(), action);
+        }
     }
 
     /* @formatter:off */
@@ -304,6 +525,9 @@ public class Keyboard extends IoDevice implements PressableIoFeatureSupport {
     public String toString() {
         return ToStringUtils.getJoiner(super.toString(), this)
                 .add("pressableConfig=" + pressableConfig)
+                .add("featureConfigs=" + featureConfigs)
+                .add("pressableStats=" + pressableStats)
+                .add("pressableScheduler=" + pressableScheduler)
                 .toString();
     }
     /* @formatter:on */
@@ -4,15 +4,37 @@ import io.ketill.AdapterSupplier;
 import io.ketill.FeaturePresent;
 import io.ketill.FeatureState;
 import io.ketill.IoDevice;
+import io.ketill.IoFeature;
+import io.ketill.RegisteredIoFeature;
 import io.ketill.ToStringUtils;
 import io.ketill.pressable.PressableIoFeatureConfig;
 import io.ketill.pressable.PressableIoFeatureConfigView;
+import io.ketill.pressable.PressableIoFeatureScheduler;
+import io.ketill.pressable.PressableIoFeatureStats;
 import io.ketill.pressable.PressableIoFeatureSupport;
+import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
 /**
  * A generic computer mouse.
+ * <p>
+ * Along with the state of each button, a mouse can be queried in bulk
+ * (e.g., {@link #forEachPressedButton(Consumer)} or
+ * {@link #isChordPressed(PressChord)}.) These queries read a bitset of
+ * the buttons, which is rebuilt once each time the mouse is polled.
+ * <p>
+ * <b>Thread safety:</b> The bulk queries of this class should only be
+ * called by the thread which polls the mouse.
  *
  * @see Keyboard
  */
@@ -63,6 +85,21 @@ public class Mouse extends IoDevice
     /* @formatter:on */
 
     private @NotNull PressableIoFeatureConfigView pressableConfig;
+    private final @NotNull Map<IoFeature<?, ?>, PressableIoFeatureConfigView>
+            featureConfigs;
+    private final @NotNull AtomicLong pressableConfigVersion;
+    private final @NotNull PressableIoFeatureStats pressableStats;
+    private final @NotNull PressableIoFeatureScheduler pressableScheduler;
+
+    /*
+     * Buttons are registered by the constructor of IoDevice, before any
+     * field initializers of this class have run. As such, these are created
+     * when the first button is registered and must not be given an
+     * initializer.
+     */
+    private @Nullable List<@Nullable MouseClickZ> clickStates;
+    private long @Nullable [] pressedButtons;
+    private long @Nullable [] changedButtons;
 
     /**
      * Constructs a new {@code Mouse}.
@@ -75,6 +112,10 @@ public class Mouse extends IoDevice
     public Mouse(@NotNull AdapterSupplier<Mouse> adapterSupplier) {
         super("mouse", adapterSupplier);
         this.pressableConfig = PressableIoFeatureConfig.DEFAULT;
+        this.featureConfigs = new ConcurrentHashMap<>();
+        this.pressableConfigVersion = new AtomicLong();
+        this.pressableStats = new PressableIoFeatureStats();
+        this.pressableScheduler = new PressableIoFeatureScheduler();
     }
 
     @Override
@@ -85,6 +126,242 @@ public class Mouse extends IoDevice
     @Override
     public final void usePressableConfig(@Nullable PressableIoFeatureConfigView view) {
         this.pressableConfig = PressableIoFeatureConfig.valueOf(view);
+        pressableConfigVersion.incrementAndGet();
+    }
+
+    /* @formatter:off */
+    @Override
+    public final @Nullable PressableIoFeatureConfigView
+            getPressableConfig(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        return featureConfigs.get(feature);
+    }
+
+    @Override
+    public final void
+            usePressableConfig(@NotNull IoFeature<?, ?> feature,
+                               @Nullable PressableIoFeatureConfigView view) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        if (view == null) {
+            featureConfigs.remove(feature);
+        } else {
+            featureConfigs.put(feature, view);
+        }
+        pressableConfigVersion.incrementAndGet();
+    }
+    /* @formatter:on */
+
+    @Override
+    public final long getPressableConfigVersion() {
+        return pressableConfigVersion.get();
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureStats getPressableStats() {
+        return this.pressableStats;
+    }
+
+    @Override
+    public final @NotNull PressableIoFeatureScheduler getPressableScheduler() {
+        return this.pressableScheduler;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Note:</b> A mouse also needs polling while a hold or virtual press of
+     * any button is scheduled, so it fires on time.
+     */
+    @Override
+    public boolean needsPolling() {
+        return super.needsPolling()
+                || pressableScheduler.getScheduledCount() > 0;
+    }
+
+    @Override
+    @MustBeInvokedByOverriders
+    protected void featureRegistered(@NotNull RegisteredIoFeature<?, ?, ?> registered) {
+        IoFeature<?, ?> feature = registered.getFeature();
+        if (feature instanceof MouseButton) {
+            if (clickStates == null) {
+                this.clickStates = new ArrayList<>();
+            }
+            clickStates.add(this.getInternalState((MouseButton) feature));
+
+            int words = PressBits.wordsFor(clickStates.size());
+            if (pressedButtons == null || changedButtons == null) {
+                this.pressedButtons = new long[words];
+                this.changedButtons = new long[words];
+            } else if (pressedButtons.length < words) {
+                this.pressedButtons = Arrays.copyOf(pressedButtons, words);
+                this.changedButtons = Arrays.copyOf(changedButtons, words);
+            }
+        }
+    }
+
+    @Override
+    @MustBeInvokedByOverriders
+    protected void featureUnregistered(@NotNull IoFeature<?, ?> feature) {
+        pressableScheduler.cancel(feature);
+        if (feature instanceof MouseButton && clickStates != null) {
+            for (int i = 0; i < clickStates.size(); i++) {
+                MouseClickZ state = clickStates.get(i);
+                if (state != null && state.button == feature) {
+                    /* keep the indices of the other buttons */
+                    clickStates.set(i, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Note:</b> Once the buttons have been updated, the bitsets used
+     * by the bulk queries of this mouse are rebuilt.
+     */
+    @Override
+    @MustBeInvokedByOverriders
+    public synchronized void poll() {
+        super.poll();
+        if (clickStates == null || pressedButtons == null
+                || changedButtons == null) {
+            return;
+        }
+
+        for (int w = 0; w < pressedButtons.length; w++) {
+            changedButtons[w] = pressedButtons[w];
+            pressedButtons[w] = 0L;
+        }
+        for (int i = 0; i < clickStates.size(); i++) {
+            MouseClickZ state = clickStates.get(i);
+            if (state != null && state.pressed) {
+                PressBits.set(pressedButtons, i, true);
+            }
+        }
+        for (int w = 0; w < pressedButtons.length; w++) {
+            changedButtons[w] ^= pressedButtons[w];
+        }
+    }
+
+    /* @formatter:off */
+    /**
+     * Compiles a set of buttons into a chord, which can be checked as
+     * pressed in one operation via {@link #isChordPressed(PressChord)}.
+     * This should be done once, rather than each time the chord is checked.
+     *
+     * @param buttons the buttons of the chord.
+     * @return the compiled chord.
+     * @throws NullPointerException     if {@code buttons} or any of its
+     *                                  elements are {@code null}.
+     * @throws IllegalArgumentException if a button is not registered to
+     *                                  this mouse.
+     */
+    public final synchronized @NotNull PressChord
+            compileChord(@NotNull MouseButton @NotNull ... buttons) {
+        Objects.requireNonNull(buttons, "buttons cannot be null");
+        int[] indices = new int[buttons.length];
+        int bits = 0;
+        for (int i = 0; i < buttons.length; i++) {
+            MouseButton button = buttons[i];
+            Objects.requireNonNull(button, "button cannot be null");
+            int index = this.indexOf(button);
+            if (index < 0) {
+                String msg = "button \"" + button.getId() + "\"";
+                msg += " not registered";
+                throw new IllegalArgumentException(msg);
+            }
+            indices[i] = index;
+            bits = Math.max(bits, index + 1);
+        }
+
+        long[] mask = new long[PressBits.wordsFor(bits)];
+        for (int index : indices) {
+            PressBits.set(mask, index, true);
+        }
+        return new PressChord(this, mask);
+    }
+    /* @formatter:on */
+
+    private int indexOf(@NotNull MouseButton button) {
+        if (clickStates == null) {
+            return -1;
+        }
+        for (int i = 0; i < clickStates.size(); i++) {
+            MouseClickZ state = clickStates.get(i);
+            if (state != null && state.button == button) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns if every button of a chord was pressed as of the last poll.
+     *
+     * @param chord the chord to check.
+     * @return {@code true} if every button of {@code chord} was pressed
+     * as of the last poll, {@code false} otherwise.
+     * @throws NullPointerException     if {@code chord} is {@code null}.
+     * @throws IllegalArgumentException if {@code chord} was not compiled
+     *                                  by this mouse.
+     * @see #compileChord(MouseButton...)
+     */
+    public final boolean isChordPressed(@NotNull PressChord chord) {
+        Objects.requireNonNull(chord, "chord cannot be null");
+        if (chord.device != this) {
+            String msg = "chord not compiled by this mouse";
+            throw new IllegalArgumentException(msg);
+        } else if (pressedButtons == null) {
+            return chord.getSize() == 0;
+        }
+        return PressBits.containsAll(pressedButtons, chord.mask);
+    }
+
+    /**
+     * Returns how many buttons were pressed as of the last poll.
+     *
+     * @return how many buttons were pressed as of the last poll.
+     */
+    public final int getPressedButtonCount() {
+        return pressedButtons != null ? PressBits.count(pressedButtons) : 0;
+    }
+
+    private void forEachButton(long @Nullable [] words,
+                               @NotNull Consumer<? super MouseButton> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        if (words == null || clickStates == null) {
+            return;
+        }
+        List<MouseClickZ> states = this.clickStates;
+        PressBits.forEach(words, index -> {
+            MouseClickZ state = states.get(index);
+            if (state != null) {
+                action.accept(state.button);
+            }
+        });
+    }
+
+    /**
+     * Performs an action for each button which was pressed as of the
+     * last poll.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if {@code action} is {@code null}.
+     */
+    public final void forEachPressedButton(@NotNull Consumer<? super MouseButton> action) {
+        this.forEachButton(pressedButtons, action);
+    }
+
+    /**
+     * Performs an action for each button which was pressed or released
+     * during the last poll.
+     *
+     * @param action the action to perform.
+     * @throws NullPointerException if {@code action} is {@code null}.
+     */
+    public final void forEachChangedButton(@NotNull Consumer<? super MouseButton> action) {
+        this.forEachButton(changedButtons, action);
     }
 
     /* @formatter:off */
@@ -92,6 +369,9 @@ public class Mouse extends IoDevice
     public String toString() {
         return ToStringUtils.getJoiner(super.toString(), this)
                 .add("pressableConfig=" + pressableConfig)
+                .add("featureConfigs=" + featureConfigs)
+                .add("pressableStats=" + pressableStats)
+                .add("pressableScheduler=" + pressableScheduler)
                 .toString();
     }
     /* @formatter:on */
@@ -29,10 +29,12 @@ public final class MouseClickZ implements AutonomousState {
     @AutonomousField
     public boolean held;
 
+    final @NotNull MouseButton button;
     private final MouseClickObserver clickObserver;
 
     MouseClickZ(@NotNull MouseButton button,
                 @NotNull IoDeviceObserver observer) {
+        this.button = button;
         this.clickObserver = new MouseClickObserver(button, this, observer);
     }
 
@@ -0,0 +1,93 @@
+package io.ketill.pc;
+
+import io.ketill.IoDevice;
+import io.ketill.IoFeatureChangeEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Emitted by {@link Mouse} when a {@link MouseCursor} has moved further
+ * than its move epsilon since this event was last emitted. Smaller moves
+ * are not discarded, but rather coalesced into the next event.
+ * <p>
+ * Unlike {@link MouseCursorDisplaceEvent}, the movement is stored in
+ * primitive fields. As such, emitting this event does not create any
+ * vectors.
+ *
+ * @see CursorState#setMoveEpsilon(float)
+ * @see IoDevice#subscribeEvents(Class, double, Consumer)
+ */
+public final class MouseCursorMoveEvent extends IoFeatureChangeEvent
+        implements MouseCursorEvent {
+
+    private final float deltaX, deltaY;
+    private final float x, y;
+
+    MouseCursorMoveEvent(@NotNull Mouse mouse, @NotNull MouseCursor cursor,
+                         float deltaX, float deltaY, float x, float y) {
+        super(mouse, cursor);
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public @NotNull Mouse getMouse() {
+        return (Mouse) this.getDevice();
+    }
+
+    @Override
+    public @NotNull MouseCursor getCursor() {
+        return (MouseCursor) this.getFeature();
+    }
+
+    /**
+     * Returns how many pixels the cursor moved along the X-axis.
+     *
+     * @return how many pixels the cursor moved along the X-axis.
+     */
+    public float getDeltaX() {
+        return this.deltaX;
+    }
+
+    /**
+     * Returns how many pixels the cursor moved along the Y-axis.
+     *
+     * @return how many pixels the cursor moved along the Y-axis.
+     */
+    public float getDeltaY() {
+        return this.deltaY;
+    }
+
+    /**
+     * Returns the X-axis position of the cursor after it moved.
+     *
+     * @return the X-axis position of the cursor after it moved.
+     */
+    public float getX() {
+        return this.x;
+    }
+
+    /**
+     * Returns the Y-axis position of the cursor after it moved.
+     *
+     * @return the Y-axis position of the cursor after it moved.
+     */
+    public float getY() {
+        return this.y;
+    }
+
+    /* @formatter:off */
+    @Override
+    protected @NotNull MouseCursorMoveEvent
+            coalesce(@NotNull IoFeatureChangeEvent next) {
+        MouseCursorMoveEvent nextMove = (MouseCursorMoveEvent) next;
+        return new MouseCursorMoveEvent(this.getMouse(), this.getCursor(),
+                deltaX + nextMove.deltaX, deltaY + nextMove.deltaY,
+                nextMove.x, nextMove.y);
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,77 @@
+package io.ketill.pc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Utilities for bitsets of pressable features, stored as arrays of
+ * {@code long} words. Bit {@code i} of a set is stored in word
+ * {@code i / 64}.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it
+ * is only used by {@link Keyboard} and {@link Mouse} to implement
+ * their bulk queries.
+ */
+final class PressBits {
+
+    private PressBits() {
+        /* prevent instantiation */
+    }
+
+    static int wordsFor(int bits) {
+        return (bits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    static boolean get(long @NotNull [] words, int index) {
+        int word = index >>> 6;
+        if (word >= words.length) {
+            return false;
+        }
+        return (words[word] & (1L << index)) != 0L;
+    }
+
+    static void set(long @NotNull [] words, int index, boolean value) {
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    static int count(long @NotNull [] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /*
+     * The mask and the bitset it is tested against may differ in length,
+     * as either can grow when more features are added. Any bit past the
+     * end of the bitset is considered to be clear.
+     */
+    static boolean containsAll(long @NotNull [] words,
+                               long @NotNull [] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if ((word & mask[i]) != mask[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void forEach(long @NotNull [] words,
+                        @NotNull IntConsumer action) {
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0L) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+}
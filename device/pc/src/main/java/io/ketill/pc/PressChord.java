@@ -0,0 +1,61 @@
+package io.ketill.pc;
+
+import io.ketill.IoDevice;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A precompiled set of keys or buttons which can be checked as pressed
+ * all at once (e.g., {@code Ctrl+Shift+K}.) Checking a chord costs a few
+ * word operations, no matter how many features are part of it.
+ * <p>
+ * A chord can only be checked against the device which compiled it,
+ * as the index of each feature is specific to the device.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i> Since it is
+ * immutable, it can be shared without any locking.
+ *
+ * @see Keyboard#compileChord(KeyboardKey...)
+ * @see Mouse#compileChord(MouseButton...)
+ */
+public final class PressChord {
+
+    final @NotNull IoDevice device;
+    final long @NotNull [] mask;
+    private final int size;
+
+    PressChord(@NotNull IoDevice device, long @NotNull [] mask) {
+        this.device = device;
+        this.mask = mask;
+        this.size = PressBits.count(mask);
+    }
+
+    /**
+     * Returns the device which compiled this chord.
+     *
+     * @return the device which compiled this chord.
+     */
+    public @NotNull IoDevice getDevice() {
+        return this.device;
+    }
+
+    /**
+     * Returns how many features are part of this chord.
+     *
+     * @return how many features are part of this chord.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("device=" + device)
+                .add("size=" + size)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -1,6 +1,8 @@
 package io.ketill.pc;
 
 import io.ketill.IoDeviceObserver;
+import io.ketill.IoDeviceWaker;
+import io.ketill.IoEventRing;
 import org.joml.Vector2f;
 import org.joml.Vector2fc;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,8 +10,11 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +25,7 @@ class CursorStateTest {
 
     private static final Random RANDOM = new Random();
 
+    private Mouse mouse;
     private IoDeviceObserver observer;
     private CursorStateZ internal;
     private CursorState container;
@@ -28,9 +34,10 @@ class CursorStateTest {
     void setup() {
         MouseCursor cursor = mock(MouseCursor.class);
 
-        Mouse mouse = mock(Mouse.class);
+        this.mouse = mock(Mouse.class);
         this.observer = mock(IoDeviceObserver.class);
         doReturn(mouse).when(observer).getDevice();
+        doReturn(true).when(observer).hasSubscribers();
 
         this.internal = new CursorStateZ(cursor, observer);
         this.container = new CursorState(internal);
@@ -258,12 +265,43 @@ class CursorStateTest {
         assertFalse(container.trySetIcon(null));
     }
 
+    @Test
+    void testRequestsWakeMouse() {
+        internal.adapterCanSetVisible = true;
+        internal.adapterCanSetPosition = true;
+        internal.adapterCanSetIcon = true;
+
+        /* no waker should be fine */
+        assertDoesNotThrow(() -> container.setVisible(false));
+
+        AtomicInteger wakeCount = new AtomicInteger();
+        doReturn((IoDeviceWaker) device -> wakeCount.incrementAndGet())
+                .when(mouse).getWaker();
+
+        /*
+         * In push mode, the thread polling the mouse may be asleep until
+         * new input arrives. Since a request to update the cursor is not
+         * input, the mouse must be woken so the request is fulfilled on
+         * the next poll.
+         */
+        container.setVisible(true);
+        assertEquals(1, wakeCount.get());
+        container.setPosition(1.0F, 2.0F);
+        assertEquals(2, wakeCount.get());
+        container.setIcon(null);
+        assertEquals(3, wakeCount.get());
+    }
+
     @Test
     void testUpdate() {
         Vector2f lastDisplacement = new Vector2f();
         doAnswer(answer -> {
-            MouseCursorDisplaceEvent event = answer.getArgument(0);
-            lastDisplacement.set(event.getDisplacement());
+            Object event = answer.getArgument(0);
+            if (event instanceof MouseCursorDisplaceEvent) {
+                MouseCursorDisplaceEvent displaceEvent =
+                        (MouseCursorDisplaceEvent) event;
+                lastDisplacement.set(displaceEvent.getDisplacement());
+            }
             return null;
         }).when(observer).onNext(any());
 
@@ -297,4 +335,105 @@ class CursorStateTest {
         assertEquals(0.0F, lastDisplacement.y());
     }
 
+    @Test
+    void testSetMoveEpsilon() {
+        assertEquals(1.0F, container.getMoveEpsilon());
+        container.setMoveEpsilon(4.0F);
+        assertEquals(4.0F, container.getMoveEpsilon());
+        assertEquals(4.0F, internal.moveEpsilon);
+
+        /*
+         * A negative epsilon would mean the cursor is always considered
+         * to have moved, even when it has not. As such, assume this was a
+         * mistake by the user.
+         */
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setMoveEpsilon(-1.0F));
+        assertThrows(IllegalArgumentException.class,
+                () -> container.setMoveEpsilon(Float.NaN));
+    }
+
+    @Test
+    void testUpdateEmitsMove() {
+        List<MouseCursorMoveEvent> moves = new ArrayList<>();
+        doAnswer(answer -> {
+            Object event = answer.getArgument(0);
+            if (event instanceof MouseCursorMoveEvent) {
+                moves.add((MouseCursorMoveEvent) event);
+            }
+            return null;
+        }).when(observer).onNext(any());
+        container.setMoveEpsilon(4.0F);
+
+        /*
+         * Moves which do not exceed the epsilon must not result in an
+         * event. However, they must not be forgotten either. Once they
+         * add up to more than the epsilon, the event must include them.
+         */
+        internal.currentPos.set(2.0F, 0.0F);
+        internal.update();
+        internal.currentPos.set(3.0F, 0.0F);
+        internal.update();
+        assertTrue(moves.isEmpty());
+
+        internal.currentPos.set(5.0F, 0.0F);
+        internal.update();
+        assertEquals(1, moves.size());
+        assertEquals(5.0F, moves.get(0).getDeltaX());
+        assertEquals(0.0F, moves.get(0).getDeltaY());
+        assertEquals(5.0F, moves.get(0).getX());
+
+        /* the next move is measured from where the last event was */
+        internal.currentPos.set(5.0F, -8.0F);
+        internal.update();
+        assertEquals(2, moves.size());
+        assertEquals(0.0F, moves.get(1).getDeltaX());
+        assertEquals(-8.0F, moves.get(1).getDeltaY());
+    }
+
+    @Test
+    void testUpdateWithoutSubscribers() {
+        /*
+         * When no one is subscribed to the mouse, there is no reason to
+         * create a displacement event. Doing so would only create garbage
+         * each time the cursor moves.
+         */
+        doReturn(false).when(observer).hasSubscribers();
+        internal.currentPos.set(1024.0F, 1024.0F);
+        internal.update();
+        verify(observer, never()).onNext(any());
+    }
+
+    @Test
+    void testUpdateRecordsToRing() {
+        IoEventRing ring = new IoEventRing(8);
+        IoEventRing.Cursor reader = ring.cursor();
+        doReturn(ring).when(observer).getEventRing();
+
+        /*
+         * When the mouse records events to a ring, a displacement must
+         * be recorded with the displacement followed by the position.
+         */
+        internal.currentPos.set(16.0F, 32.0F);
+        internal.update();
+        assertTrue(reader.next());
+        int displaceType =
+                IoEventRing.getTypeId(MouseCursorDisplaceEvent.class);
+        assertEquals(displaceType, reader.getTypeId());
+        assertEquals(16.0F, reader.getValue(0));
+        assertEquals(32.0F, reader.getValue(1));
+        assertEquals(16.0F, reader.getValue(2));
+        assertEquals(32.0F, reader.getValue(3));
+
+        /* a change in visibility must also be recorded */
+        internal.visible = false;
+        internal.update();
+        assertTrue(reader.next());
+        int visibilityType =
+                IoEventRing.getTypeId(MouseCursorSetVisibilityEvent.class);
+        assertEquals(visibilityType, reader.getTypeId());
+        assertEquals(0.0F, reader.getValue(0));
+        assertFalse(reader.next());
+    }
+
 }
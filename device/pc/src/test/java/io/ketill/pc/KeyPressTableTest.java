@@ -0,0 +1,135 @@
+package io.ketill.pc;
+
+import io.ketill.IoDeviceObserver;
+import io.ketill.pressable.PressableIoFeatureConfig;
+import io.ketill.pressable.PressableIoFeatureScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class KeyPressTableTest {
+
+    private AtomicLong time;
+    private PressableIoFeatureScheduler scheduler;
+    private IoDeviceObserver deviceObserver;
+    private KeyPressTable table;
+
+    @BeforeEach
+    void createTable() {
+        Keyboard keyboard = mock(Keyboard.class);
+        this.time = new AtomicLong();
+        this.scheduler = new PressableIoFeatureScheduler();
+        when(keyboard.getPollTime()).thenAnswer(a -> time.get());
+        when(keyboard.getPressableScheduler()).thenReturn(scheduler);
+        this.deviceObserver = mock(IoDeviceObserver.class);
+        when(deviceObserver.getDevice()).thenReturn(keyboard);
+
+        this.table = new KeyPressTable();
+    }
+
+    private KeyPressZ createKey(String id) {
+        KeyPressZ state = new KeyPressZ(new KeyboardKey(id), deviceObserver);
+        table.add(state);
+        return state;
+    }
+
+    private void poll(KeyPressZ... states) {
+        for (KeyPressZ state : states) {
+            state.update();
+        }
+        table.poll(time.get(), scheduler);
+    }
+
+    @Test
+    void testAdd() {
+        /*
+         * The table must grow once the initial capacity has been used,
+         * as users are free to register keys which are not standard.
+         */
+        for (int i = 0; i < 200; i++) {
+            KeyPressZ state = this.createKey("key" + i);
+            state.pressed = true;
+            state.update();
+            assertTrue(table.isPressed(i));
+        }
+        assertEquals(200, table.size());
+    }
+
+    @Test
+    void testPoll() {
+        KeyPressZ a = this.createKey("a");
+        KeyPressZ b = this.createKey("b");
+
+        /*
+         * Only the observers of keys which changed during a poll should
+         * emit events. Since neither key is pressed, nothing should be
+         * emitted at all.
+         */
+        this.poll(a, b);
+        verify(deviceObserver, never()).onNext(any());
+
+        a.pressed = true;
+        this.poll(a, b);
+        assertTrue(a.keyObserver.isPressed());
+        assertFalse(b.keyObserver.isPressed());
+        verify(deviceObserver, times(1)).onNext(
+                isA(KeyboardKeyPressEvent.class));
+
+        /* nothing changed, so no further events should be emitted */
+        this.poll(a, b);
+        verify(deviceObserver, times(1)).onNext(any());
+
+        a.pressed = false;
+        this.poll(a, b);
+        assertFalse(a.keyObserver.isPressed());
+        verify(deviceObserver, times(1)).onNext(
+                isA(KeyboardKeyReleaseEvent.class));
+    }
+
+    @Test
+    void testPollHeld() {
+        KeyPressZ a = this.createKey("a");
+        a.pressed = true;
+        this.poll(a);
+
+        /*
+         * A key which is held down does not change, so its observer will
+         * not be polled. Its held state must still be updated once the
+         * hold has been expired by the scheduler.
+         */
+        long holdTime = PressableIoFeatureConfig.DEFAULT.getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
+        this.poll(a);
+        assertTrue(a.held);
+        assertTrue(table.isHeld(0));
+        verify(deviceObserver).onNext(isA(KeyboardKeyHoldEvent.class));
+
+        a.pressed = false;
+        this.poll(a);
+        assertFalse(a.held);
+        assertFalse(table.isHeld(0));
+    }
+
+    @Test
+    void testRemove() {
+        KeyPressZ a = this.createKey("a");
+        a.pressed = true;
+        this.poll(a);
+
+        /*
+         * Once removed, the key must no longer be bound to the table. It
+         * should fall back to polling its own observer.
+         */
+        table.remove(a.key);
+        assertFalse(table.isPressed(0));
+        a.pressed = false;
+        a.update();
+        assertFalse(a.keyObserver.isPressed());
+    }
+
+}
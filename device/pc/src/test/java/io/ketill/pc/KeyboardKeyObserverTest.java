@@ -4,12 +4,16 @@ import io.ketill.IoDeviceObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.ketill.pc.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class KeyboardKeyObserverTest {
 
+    private AtomicLong time;
     private IoDeviceObserver deviceObserver;
     private KeyPressZ internalState;
     private KeyboardKeyObserver keyObserver;
@@ -17,6 +21,8 @@ class KeyboardKeyObserverTest {
     @BeforeEach
     void createObserver() {
         Keyboard keyboard = mock(Keyboard.class);
+        this.time = new AtomicLong();
+        when(keyboard.getPollTime()).thenAnswer(a -> time.get());
         this.deviceObserver = mock(IoDeviceObserver.class);
         when(deviceObserver.getDevice()).thenReturn(keyboard);
 
@@ -55,7 +61,7 @@ class KeyboardKeyObserverTest {
     }
 
     @Test
-    void testPoll() throws InterruptedException {
+    void testPoll() {
         /* press keyboard key for next test */
         internalState.pressed = true;
         keyObserver.poll(); /* observer press */
@@ -65,7 +71,8 @@ class KeyboardKeyObserverTest {
          * to be considered held down, the key state should be updated
          * by the observer to indicate that it is held down.
          */
-        Thread.sleep(keyObserver.getConfig().getHoldTime());
+        long holdTime = keyObserver.getConfig().getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
         keyObserver.poll(); /* trigger state update */
         assertTrue(internalState.held);
 
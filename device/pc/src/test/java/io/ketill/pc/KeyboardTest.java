@@ -1,20 +1,37 @@
 package io.ketill.pc;
 
 import io.ketill.pressable.PressableIoFeatureConfig;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static io.ketill.KetillAssertions.*;
 import static io.ketill.pc.Keyboard.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class KeyboardTest {
 
-    private Keyboard keyboard;
+    private static class MockKeyboard extends Keyboard {
+
+        MockKeyboard() {
+            super(MockPcAdapter::new);
+        }
+
+        void setPressed(@NotNull KeyboardKey key, boolean pressed) {
+            this.getInternalState(key).pressed = pressed;
+        }
+
+    }
+
+    private MockKeyboard keyboard;
 
     @BeforeEach
     void createKeyboard() {
-        this.keyboard = new Keyboard(MockPcAdapter::new);
+        this.keyboard = new MockKeyboard();
     }
 
     @Test
@@ -167,6 +184,84 @@ class KeyboardTest {
                 keyboard.getPressableConfig());
     }
 
+    @Test
+    void testCompileChord() {
+        assertThrows(NullPointerException.class,
+                () -> keyboard.compileChord((KeyboardKey[]) null));
+        assertThrows(NullPointerException.class,
+                () -> keyboard.compileChord(KEY_A, null));
+
+        /*
+         * The index of each key is specific to the keyboard which it
+         * was registered to. As such, a chord cannot contain a key which
+         * is not registered to this keyboard.
+         */
+        KeyboardKey unregistered = new KeyboardKey("unregistered");
+        assertThrows(IllegalArgumentException.class,
+                () -> keyboard.compileChord(KEY_A, unregistered));
+
+        PressChord chord = keyboard.compileChord(KEY_LEFT_CTRL, KEY_C);
+        assertSame(keyboard, chord.getDevice());
+        assertEquals(2, chord.getSize());
+    }
+
+    @Test
+    void testIsChordPressed() {
+        assertThrows(NullPointerException.class,
+                () -> keyboard.isChordPressed(null));
+
+        /* a chord from another keyboard must not be accepted */
+        Keyboard other = new Keyboard(MockPcAdapter::new);
+        PressChord otherChord = other.compileChord(KEY_A);
+        assertThrows(IllegalArgumentException.class,
+                () -> keyboard.isChordPressed(otherChord));
+
+        PressChord chord = keyboard.compileChord(KEY_LEFT_CTRL, KEY_C);
+        keyboard.setPressed(KEY_LEFT_CTRL, true);
+        keyboard.poll();
+        assertFalse(keyboard.isChordPressed(chord));
+
+        keyboard.setPressed(KEY_C, true);
+        keyboard.poll();
+        assertTrue(keyboard.isChordPressed(chord));
+
+        /* an empty chord is always pressed */
+        assertTrue(keyboard.isChordPressed(keyboard.compileChord()));
+    }
+
+    @Test
+    void testBulkQueries() {
+        assertThrows(NullPointerException.class,
+                () -> keyboard.forEachPressedKey(null));
+        assertThrows(NullPointerException.class,
+                () -> keyboard.forEachChangedKey(null));
+
+        keyboard.setPressed(KEY_A, true);
+        keyboard.setPressed(KEY_MENU, true);
+        keyboard.poll();
+        assertEquals(2, keyboard.getPressedKeyCount());
+
+        Set<KeyboardKey> pressed = new HashSet<>();
+        keyboard.forEachPressedKey(pressed::add);
+        assertEquals(new HashSet<>(Arrays.asList(KEY_A, KEY_MENU)),
+                pressed);
+
+        /*
+         * Only keys which were pressed or released during the last poll
+         * should be visited. Since KEY_MENU is still pressed, it has not
+         * changed since the previous poll.
+         */
+        keyboard.setPressed(KEY_A, false);
+        keyboard.setPressed(KEY_B, true);
+        keyboard.poll();
+
+        Set<KeyboardKey> changed = new HashSet<>();
+        keyboard.forEachChangedKey(changed::add);
+        assertEquals(new HashSet<>(Arrays.asList(KEY_A, KEY_B)),
+                changed);
+        assertEquals(2, keyboard.getPressedKeyCount());
+    }
+
     @Test
     void ensureImplementsToString() {
         assertImplementsToString(Keyboard.class, keyboard);
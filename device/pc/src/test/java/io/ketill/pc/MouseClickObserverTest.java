@@ -4,12 +4,16 @@ import io.ketill.IoDeviceObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static io.ketill.pc.EventAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class MouseClickObserverTest {
 
+    private AtomicLong time;
     private IoDeviceObserver deviceObserver;
     private MouseClickZ internalState;
     private MouseClickObserver buttonObserver;
@@ -17,6 +21,8 @@ class MouseClickObserverTest {
     @BeforeEach
     void createObserver() {
         Mouse mouse = mock(Mouse.class);
+        this.time = new AtomicLong();
+        when(mouse.getPollTime()).thenAnswer(a -> time.get());
         this.deviceObserver = mock(IoDeviceObserver.class);
         when(deviceObserver.getDevice()).thenReturn(mouse);
 
@@ -55,7 +61,7 @@ class MouseClickObserverTest {
     }
 
     @Test
-    void testPoll() throws InterruptedException {
+    void testPoll() {
         /* press mouse button for next test */
         internalState.pressed = true;
         buttonObserver.poll(); /* observer press */
@@ -65,7 +71,8 @@ class MouseClickObserverTest {
          * to be considered held down, the button state should be updated
          * by the observer to indicate that it is held down.
          */
-        Thread.sleep(buttonObserver.getConfig().getHoldTime());
+        long holdTime = buttonObserver.getConfig().getHoldTime();
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(holdTime));
         buttonObserver.poll(); /* trigger state update */
         assertTrue(internalState.held);
 
@@ -0,0 +1,62 @@
+package io.ketill.pc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MouseCursorMoveEventTest {
+
+    private Mouse mouse;
+    private MouseCursor cursor;
+    private MouseCursorMoveEvent event;
+
+    @BeforeEach
+    void createEvent() {
+        this.mouse = mock(Mouse.class);
+        this.cursor = mock(MouseCursor.class);
+        this.event = new MouseCursorMoveEvent(mouse, cursor,
+                1.0F, 2.0F, 3.0F, 4.0F);
+    }
+
+    @Test
+    void testGetMouse() {
+        assertSame(mouse, event.getMouse());
+    }
+
+    @Test
+    void testGetCursor() {
+        assertSame(cursor, event.getCursor());
+    }
+
+    @Test
+    void testGetDelta() {
+        assertEquals(1.0F, event.getDeltaX());
+        assertEquals(2.0F, event.getDeltaY());
+    }
+
+    @Test
+    void testGetPosition() {
+        assertEquals(3.0F, event.getX());
+        assertEquals(4.0F, event.getY());
+    }
+
+    @Test
+    void testCoalesce() {
+        /*
+         * When two moves are coalesced, the result must be the total of
+         * both moves, ending at the position of the latest one.
+         */
+        MouseCursorMoveEvent next = new MouseCursorMoveEvent(mouse, cursor,
+                -4.0F, 8.0F, -1.0F, 12.0F);
+        MouseCursorMoveEvent coalesced = event.coalesce(next);
+        assertSame(mouse, coalesced.getMouse());
+        assertSame(cursor, coalesced.getCursor());
+        assertEquals(-3.0F, coalesced.getDeltaX());
+        assertEquals(10.0F, coalesced.getDeltaY());
+        assertEquals(-1.0F, coalesced.getX());
+        assertEquals(12.0F, coalesced.getY());
+    }
+
+}
@@ -1,20 +1,37 @@
 package io.ketill.pc;
 
 import io.ketill.pressable.PressableIoFeatureConfig;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static io.ketill.KetillAssertions.*;
 import static io.ketill.pc.Mouse.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class MouseTest {
 
-    private Mouse mouse;
+    private static class MockMouse extends Mouse {
+
+        MockMouse() {
+            super(MockPcAdapter::new);
+        }
+
+        void setPressed(@NotNull MouseButton button, boolean pressed) {
+            this.getInternalState(button).pressed = pressed;
+        }
+
+    }
+
+    private MockMouse mouse;
 
     @BeforeEach
     void createMouse() {
-        this.mouse = new Mouse(MockPcAdapter::new);
+        this.mouse = new MockMouse();
     }
 
     @Test
@@ -56,6 +73,76 @@ class MouseTest {
                 mouse.getPressableConfig());
     }
 
+    @Test
+    void testCompileChord() {
+        assertThrows(NullPointerException.class,
+                () -> mouse.compileChord((MouseButton[]) null));
+        assertThrows(NullPointerException.class,
+                () -> mouse.compileChord(BUTTON_M1, null));
+
+        MouseButton unregistered = new MouseButton("unregistered");
+        assertThrows(IllegalArgumentException.class,
+                () -> mouse.compileChord(BUTTON_M1, unregistered));
+
+        PressChord chord = mouse.compileChord(BUTTON_M1, BUTTON_M2);
+        assertSame(mouse, chord.getDevice());
+        assertEquals(2, chord.getSize());
+    }
+
+    @Test
+    void testIsChordPressed() {
+        assertThrows(NullPointerException.class,
+                () -> mouse.isChordPressed(null));
+
+        /* a chord from another mouse must not be accepted */
+        Mouse other = new Mouse(MockPcAdapter::new);
+        PressChord otherChord = other.compileChord(BUTTON_M1);
+        assertThrows(IllegalArgumentException.class,
+                () -> mouse.isChordPressed(otherChord));
+
+        PressChord chord = mouse.compileChord(BUTTON_M1, BUTTON_M2);
+        mouse.setPressed(BUTTON_M1, true);
+        mouse.poll();
+        assertFalse(mouse.isChordPressed(chord));
+
+        mouse.setPressed(BUTTON_M2, true);
+        mouse.poll();
+        assertTrue(mouse.isChordPressed(chord));
+    }
+
+    @Test
+    void testBulkQueries() {
+        assertThrows(NullPointerException.class,
+                () -> mouse.forEachPressedButton(null));
+        assertThrows(NullPointerException.class,
+                () -> mouse.forEachChangedButton(null));
+
+        mouse.setPressed(BUTTON_M1, true);
+        mouse.setPressed(BUTTON_M8, true);
+        mouse.poll();
+        assertEquals(2, mouse.getPressedButtonCount());
+
+        Set<MouseButton> pressed = new HashSet<>();
+        mouse.forEachPressedButton(pressed::add);
+        assertEquals(new HashSet<>(Arrays.asList(BUTTON_M1, BUTTON_M8)),
+                pressed);
+
+        /*
+         * Only buttons which were pressed or released during the last
+         * poll should be visited. Since BUTTON_M8 is still pressed, it
+         * has not changed since the previous poll.
+         */
+        mouse.setPressed(BUTTON_M1, false);
+        mouse.setPressed(BUTTON_M2, true);
+        mouse.poll();
+
+        Set<MouseButton> changed = new HashSet<>();
+        mouse.forEachChangedButton(changed::add);
+        assertEquals(new HashSet<>(Arrays.asList(BUTTON_M1, BUTTON_M2)),
+                changed);
+        assertEquals(2, mouse.getPressedButtonCount());
+    }
+
     @Test
     void ensureImplementsToString() {
         assertImplementsToString(Mouse.class, mouse);
@@ -0,0 +1,82 @@
+package io.ketill.pc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PressBitsTest {
+
+    @Test
+    void testWordsFor() {
+        assertEquals(0, PressBits.wordsFor(0));
+        assertEquals(1, PressBits.wordsFor(1));
+        assertEquals(1, PressBits.wordsFor(64));
+        assertEquals(2, PressBits.wordsFor(65));
+    }
+
+    @Test
+    void testGetAndSet() {
+        long[] words = new long[2];
+        PressBits.set(words, 3, true);
+        PressBits.set(words, 70, true);
+        assertTrue(PressBits.get(words, 3));
+        assertTrue(PressBits.get(words, 70));
+        assertFalse(PressBits.get(words, 4));
+
+        PressBits.set(words, 70, false);
+        assertFalse(PressBits.get(words, 70));
+
+        /* bits past the end of the set are never set */
+        assertFalse(PressBits.get(words, 1000));
+    }
+
+    @Test
+    void testCount() {
+        long[] words = new long[2];
+        assertEquals(0, PressBits.count(words));
+        PressBits.set(words, 0, true);
+        PressBits.set(words, 127, true);
+        assertEquals(2, PressBits.count(words));
+    }
+
+    @Test
+    void testContainsAll() {
+        long[] words = new long[2];
+        PressBits.set(words, 1, true);
+        PressBits.set(words, 65, true);
+
+        long[] mask = new long[2];
+        PressBits.set(mask, 1, true);
+        assertTrue(PressBits.containsAll(words, mask));
+        PressBits.set(mask, 65, true);
+        assertTrue(PressBits.containsAll(words, mask));
+        PressBits.set(mask, 2, true);
+        assertFalse(PressBits.containsAll(words, mask));
+
+        /*
+         * A mask can be longer than the set it is checked against, as a
+         * chord may have been compiled after more features were added.
+         * Any bit past the end of the set cannot be contained.
+         */
+        long[] longMask = new long[3];
+        PressBits.set(longMask, 130, true);
+        assertFalse(PressBits.containsAll(words, longMask));
+    }
+
+    @Test
+    void testForEach() {
+        long[] words = new long[2];
+        PressBits.set(words, 5, true);
+        PressBits.set(words, 63, true);
+        PressBits.set(words, 64, true);
+
+        List<Integer> visited = new ArrayList<>();
+        PressBits.forEach(words, visited::add);
+        assertEquals(Arrays.asList(5, 63, 64), visited);
+    }
+
+}
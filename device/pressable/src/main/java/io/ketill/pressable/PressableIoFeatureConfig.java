@@ -29,7 +29,11 @@ public class PressableIoFeatureConfig implements PressableIoFeatureConfigView {
             DEFAULT_HOLD_TIME = 1000L,
             DEFAULT_HOLD_PRESS_INTERVAL = 100L,
             DISABLE_HOLD = -1L,
-            DISABLE_HOLD_PRESS = 0L;
+            DISABLE_HOLD_PRESS = 0L,
+            DISABLE_DEBOUNCE = 0L;
+
+    public static final float
+            NO_HYSTERESIS = 0.0F;
 
     public static final @NotNull PressableIoFeatureConfigView
             DEFAULT = new PressableIoFeatureConfig();
@@ -37,6 +41,8 @@ public class PressableIoFeatureConfig implements PressableIoFeatureConfigView {
 
     private long holdTime;
     private long holdPressInterval;
+    private long debounceTime;
+    private float pressHysteresis;
 
     /**
      * Constructs a new {@code PressableIoFeatureConfig}.
@@ -52,6 +58,8 @@ public class PressableIoFeatureConfig implements PressableIoFeatureConfigView {
     public PressableIoFeatureConfig(long holdTime, long holdPressInterval) {
         this.setHoldTime(holdTime);
         this.setHoldPressInterval(holdPressInterval);
+        this.setDebounceTime(DISABLE_DEBOUNCE);
+        this.setPressHysteresis(NO_HYSTERESIS);
     }
 
     /**
@@ -103,12 +111,55 @@ public class PressableIoFeatureConfig implements PressableIoFeatureConfigView {
         this.holdPressInterval = holdPressInterval;
     }
 
+    @Override
+    public long getDebounceTime() {
+        return this.debounceTime;
+    }
+
+    /**
+     * Sets how long in milliseconds a feature must stay pressed or
+     * released before it can change state again. A change in state
+     * which comes sooner is ignored, unless the feature is still in
+     * that state once this time has passed.
+     *
+     * @param debounceTime how long in milliseconds a feature must stay
+     *                     pressed or released before it can change state
+     *                     again. Values less than one will disable this
+     *                     feature.
+     */
+    public void setDebounceTime(long debounceTime) {
+        this.debounceTime = debounceTime;
+    }
+
+    @Override
+    public float getPressHysteresis() {
+        return this.pressHysteresis;
+    }
+
+    /**
+     * Sets how far below its press threshold the value of an analog
+     * feature must fall before it is released. For example, with a
+     * hysteresis of {@code 0.1F}, a trigger which is pressed at a
+     * force of {@code 2.0F / 3.0F} is only released once its force
+     * falls below {@code 2.0F / 3.0F - 0.1F}.
+     *
+     * @param pressHysteresis how far below its press threshold the value
+     *                        of an analog feature must fall before it is
+     *                        released. Negative values are treated as
+     *                        {@value #NO_HYSTERESIS}.
+     */
+    public void setPressHysteresis(float pressHysteresis) {
+        this.pressHysteresis = Math.max(NO_HYSTERESIS, pressHysteresis);
+    }
+
     /* @formatter:off */
     @Override
     public String toString() {
         return ToStringUtils.getJoiner(this)
                 .add("holdTime=" + holdTime)
                 .add("holdPressInterval=" + holdPressInterval)
+                .add("debounceTime=" + debounceTime)
+                .add("pressHysteresis=" + pressHysteresis)
                 .toString();
     }
     /* @formatter:on */
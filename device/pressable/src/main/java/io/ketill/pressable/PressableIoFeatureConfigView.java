@@ -47,4 +47,44 @@ public interface PressableIoFeatureConfigView {
      */
     long getHoldTime();
 
+    /**
+     * Returns if debouncing is enabled.
+     *
+     * @return {@code true} if debouncing is enabled, {@code false}
+     * otherwise.
+     */
+    default boolean isDebounceEnabled() {
+        long time = this.getDebounceTime();
+        return time > PressableIoFeatureConfig.DISABLE_DEBOUNCE;
+    }
+
+    /**
+     * Returns how long in milliseconds a feature must stay pressed or
+     * released before it can change state again. This is used to ignore
+     * switches which bounce when pressed or released.
+     * <p>
+     * By default, this returns {@link PressableIoFeatureConfig#DISABLE_DEBOUNCE}.
+     *
+     * @return how long in milliseconds a feature must stay pressed or
+     * released before it can change state again. A value less than one
+     * indicates that this is disabled.
+     */
+    default long getDebounceTime() {
+        return PressableIoFeatureConfig.DISABLE_DEBOUNCE;
+    }
+
+    /**
+     * Returns how far below its press threshold the value of an analog
+     * feature (e.g., a trigger) must fall before it is released. This is
+     * used to ignore noisy values near the press threshold.
+     * <p>
+     * By default, this returns {@link PressableIoFeatureConfig#NO_HYSTERESIS}.
+     *
+     * @return how far below its press threshold the value of an analog
+     * feature must fall before it is released.
+     */
+    default float getPressHysteresis() {
+        return PressableIoFeatureConfig.NO_HYSTERESIS;
+    }
+
 }
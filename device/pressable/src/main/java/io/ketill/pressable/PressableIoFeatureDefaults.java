@@ -0,0 +1,95 @@
+package io.ketill.pressable;
+
+import io.ketill.IoFeature;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The state backing the default methods of {@link PressableIoFeatureSupport}.
+ * Since an interface cannot have fields, this state is kept here on behalf
+ * of each implementor which does not override them.
+ * <p>
+ * <b>Visibility:</b> This class is {@code package-private} since it only
+ * exists to provide fallbacks for third-party implementors. Devices built
+ * into Ketill override every method which would make use of it.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ */
+final class PressableIoFeatureDefaults {
+
+    /**
+     * Shared by every implementor which does not track its stats. Since
+     * they are never counted, these will always read as zero.
+     */
+    static final PressableIoFeatureStats UNTRACKED_STATS =
+            new PressableIoFeatureStats(false);
+
+    /*
+     * The keys of this map are weak, so the state of a device is dropped
+     * once the device itself is no longer in use. Since the timers of a
+     * scheduler refer back to the device (by way of its observers), the
+     * scheduler is only weakly referenced. Otherwise, the device would be
+     * kept reachable by this map for as long as a timer is scheduled.
+     */
+    private static final Map<PressableIoFeatureSupport,
+            PressableIoFeatureDefaults> DEFAULTS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /* @formatter:off */
+    private final @NotNull Map<IoFeature<?, ?>, PressableIoFeatureConfigView>
+            featureConfigs;
+    private @NotNull WeakReference<PressableIoFeatureScheduler> scheduler;
+    /* @formatter:on */
+
+    private PressableIoFeatureDefaults() {
+        this.featureConfigs = new ConcurrentHashMap<>();
+        this.scheduler = new WeakReference<>(null);
+    }
+
+    static @NotNull PressableIoFeatureDefaults
+            of(@NotNull PressableIoFeatureSupport support) {
+        Objects.requireNonNull(support, "support cannot be null");
+        return DEFAULTS.computeIfAbsent(support,
+                key -> new PressableIoFeatureDefaults());
+    }
+
+    /* @formatter:off */
+    @Nullable PressableIoFeatureConfigView
+            getConfig(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        return featureConfigs.get(feature);
+    }
+    /* @formatter:on */
+
+    void useConfig(@NotNull IoFeature<?, ?> feature,
+                   @Nullable PressableIoFeatureConfigView config) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        if (config != null) {
+            featureConfigs.put(feature, config);
+        } else {
+            featureConfigs.remove(feature);
+        }
+    }
+
+    synchronized @NotNull PressableIoFeatureScheduler getScheduler() {
+        /*
+         * Once polled, each observer of the device keeps a reference to
+         * the scheduler. As such, it is only collected (and created again
+         * here) when no observer is making use of it.
+         */
+        PressableIoFeatureScheduler current = scheduler.get();
+        if (current == null) {
+            current = new PressableIoFeatureScheduler();
+            this.scheduler = new WeakReference<>(current);
+        }
+        return current;
+    }
+
+}
@@ -3,13 +3,17 @@ package io.ketill.pressable;
 import io.ketill.AutonomousState;
 import io.ketill.IoDevice;
 import io.ketill.IoDeviceObserver;
+import io.ketill.IoEventRing;
 import io.ketill.IoFeature;
 import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.disposables.Disposable;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -22,6 +26,13 @@ import java.util.function.Supplier;
  * periodically via the {@link #poll()} method. This can be achieved
  * by implementing {@link AutonomousState} in the internal state of
  * an I/O feature and calling it from there.
+ * <p>
+ * When the device records events to an {@link IoEventRing}, each press,
+ * hold, and release is recorded with the type ID of
+ * {@link IoFeaturePressEvent}, {@link IoFeatureHoldEvent}, and
+ * {@link IoFeatureReleaseEvent} respectively. This is regardless of the
+ * events emitted by {@link #onPress()}, {@link #onHold()}, and
+ * {@link #onRelease()}.
  *
  * @see PressableIoFeatureEvent
  * @see PressableIoFeatureConfig
@@ -30,6 +41,13 @@ import java.util.function.Supplier;
 public abstract class PressableIoFeatureObserver<Z>
         implements Observer<PressableIoFeatureEvent> {
 
+    private static final int PRESS_TYPE =
+            IoEventRing.getTypeId(IoFeaturePressEvent.class);
+    private static final int HOLD_TYPE =
+            IoEventRing.getTypeId(IoFeatureHoldEvent.class);
+    private static final int RELEASE_TYPE =
+            IoEventRing.getTypeId(IoFeatureReleaseEvent.class);
+
     /**
      * The feature being observed.
      */
@@ -48,11 +66,25 @@ public abstract class PressableIoFeatureObserver<Z>
 
     private final IoDeviceObserver observer;
     private final Supplier<PressableIoFeatureConfigView> configSupplier;
+    private final LongSupplier configVersionSupplier;
+    private final Supplier<PressableIoFeatureStats> statsSupplier;
+    private final Supplier<PressableIoFeatureScheduler> schedulerSupplier;
+    private final PressableIoFeatureScheduler.Timer holdTimer;
+    private @Nullable PressableIoFeatureScheduler scheduler;
 
     private boolean pressed;
     private boolean held;
     private long lastPressTime;
 
+    private @Nullable PressableIoFeatureConfigView cachedConfig;
+    private long cachedConfigVersion;
+    private boolean rawPressed;
+    private boolean transitioned;
+    private long lastTransitionTime;
+    private boolean inHysteresis;
+    private long suppressedCount;
+    private int slot = IoEventRing.NO_SLOT;
+
     /**
      * Constructs a new {@code PressableIoFeatureObserver}.
      * <p>
@@ -81,10 +113,28 @@ public abstract class PressableIoFeatureObserver<Z>
         if (device instanceof PressableIoFeatureSupport) {
             PressableIoFeatureSupport support =
                     (PressableIoFeatureSupport) device;
-            this.configSupplier = support::getPressableConfig;
+            this.configSupplier = () -> {
+                PressableIoFeatureConfigView config =
+                        support.getPressableConfig(feature);
+                return config != null ? config : support.getPressableConfig();
+            };
+            this.configVersionSupplier = support::getPressableConfigVersion;
+
+            /*
+             * The device may not have finished construction at this point
+             * (features can be registered by the constructor of IoDevice.)
+             * As such, the stats must be fetched lazily rather than here.
+             */
+            this.statsSupplier = support::getPressableStats;
+            this.schedulerSupplier = support::getPressableScheduler;
         } else {
             this.configSupplier = () -> PressableIoFeatureConfig.DEFAULT;
+            this.configVersionSupplier = () -> 0L; /* never changes */
+            this.statsSupplier = () -> null;
+            this.schedulerSupplier = () -> null;
         }
+
+        this.holdTimer = new PressableIoFeatureScheduler.Timer(this);
     }
 
     /**
@@ -117,13 +167,25 @@ public abstract class PressableIoFeatureObserver<Z>
         return this.held;
     }
 
+    /**
+     * Returns how many changes in state of the feature were suppressed by
+     * debouncing or hysteresis since this observer was created.
+     *
+     * @return how many changes in state were suppressed.
+     * @see PressableIoFeatureSupport#getPressableStats()
+     */
+    public final long getSuppressedCount() {
+        return this.suppressedCount;
+    }
+
     /**
      * Returns the configuration this observer uses. This is used to
      * determine if and when events should be emitted by the observer.
      * <p>
-     * <b>Note:</b> If the configuration returned by the device is
-     * {@code null}, {@link PressableIoFeatureConfig#DEFAULT} will be
-     * returned instead.
+     * <b>Note:</b> If the device has a configuration specific to the
+     * observed feature, it is returned instead of the configuration
+     * for the device. If neither are present, then
+     * {@link PressableIoFeatureConfig#DEFAULT} will be returned.
      *
      * @return the configuration this observer uses.
      */
@@ -135,6 +197,25 @@ public abstract class PressableIoFeatureObserver<Z>
         return config;
     }
 
+    /*
+     * Looking up the configuration requires the device to check for one
+     * specific to the feature, which is too costly to do on every poll.
+     * Instead, it is cached until the device reports it has changed. This
+     * is only called by the thread polling the device, so the cache does
+     * not need to be guarded.
+     */
+    private @NotNull PressableIoFeatureConfigView currentConfig() {
+        long version = configVersionSupplier.getAsLong();
+        PressableIoFeatureConfigView config = this.cachedConfig;
+        if (config == null || version != cachedConfigVersion || version
+                == PressableIoFeatureSupport.UNTRACKED_CONFIG_VERSION) {
+            config = this.getConfig();
+            this.cachedConfig = config;
+            this.cachedConfigVersion = version;
+        }
+        return config;
+    }
+
     @Override
     public final void onSubscribe(@NotNull Disposable disposable) {
         observer.onSubscribe(disposable);
@@ -200,58 +281,257 @@ public abstract class PressableIoFeatureObserver<Z>
         this.onNext(new IoFeatureReleaseEvent(device, feature));
     }
 
-    private void emitPressEvents(long currentTime) {
-        boolean pressed = this.isPressedImpl();
+    /**
+     * Returns the value written to the first value of each record in the
+     * event ring of the device. By default, this returns zero. Extending
+     * classes should override this if their events carry extra detail
+     * (e.g., the direction of an analog stick.)
+     *
+     * @return the value written to the first value of each record.
+     * @see IoEventRing.Cursor#getValue(int)
+     */
+    protected float getRecordValue() {
+        return 0.0F;
+    }
+
+    private void record(int typeId, long time) {
+        IoEventRing ring = observer.getEventRing();
+        if (ring == null) {
+            return;
+        }
+
+        /*
+         * The slot of the feature stays the same for as long as it is
+         * registered, and this observer is discarded once it is not.
+         * As such, it only needs to be looked up once.
+         */
+        if (slot == IoEventRing.NO_SLOT) {
+            this.slot = device.getFeatureSlot(feature);
+        }
+        ring.write(typeId, slot, time, this.getRecordValue(),
+                0.0F, 0.0F, 0.0F);
+    }
+
+    /**
+     * Determines if an analog value (e.g., the force of a trigger) is
+     * past its press threshold, applying the press hysteresis of the
+     * current configuration. Once pressed, the value must fall below
+     * {@code pressThreshold} minus the hysteresis to be released. This
+     * should be used by {@link #isPressedImpl()} for analog features.
+     *
+     * @param value          the current value.
+     * @param pressThreshold the value at which the feature is pressed.
+     * @return {@code true} if {@code value} is past its press threshold,
+     * {@code false} otherwise.
+     * @see PressableIoFeatureConfigView#getPressHysteresis()
+     */
+    protected final boolean isPastThreshold(float value,
+                                            float pressThreshold) {
+        if (value >= pressThreshold) {
+            this.inHysteresis = false;
+            return true;
+        } else if (!this.pressed) {
+            return false;
+        }
+
+        PressableIoFeatureConfigView config = this.currentConfig();
+        float releaseThreshold = pressThreshold - config.getPressHysteresis();
+        boolean stillPressed = value >= releaseThreshold;
+        if (stillPressed && !inHysteresis) {
+            /*
+             * Only entering the band below the press threshold counts as
+             * a suppressed release. Otherwise, a feature resting in this
+             * band would be counted again each poll.
+             */
+            this.inHysteresis = true;
+            this.suppressedCount++;
+            PressableIoFeatureStats stats = statsSupplier.get();
+            if (stats != null) {
+                stats.countHysteresis();
+            }
+        } else if (!stillPressed) {
+            this.inHysteresis = false;
+        }
+        return stillPressed;
+    }
+
+    private static long toNanos(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private boolean debounce(boolean rawPressed, long currentTime,
+                             @NotNull PressableIoFeatureConfigView config) {
+        boolean rawChanged = rawPressed != this.rawPressed;
+        this.rawPressed = rawPressed;
+
+        if (rawPressed == this.pressed || !config.isDebounceEnabled()) {
+            return rawPressed;
+        }
+
+        /*
+         * The first change in state is accepted right away, so debouncing
+         * adds no latency. Any change which follows within the debounce
+         * time is ignored. If the feature has settled in a different state
+         * once the debounce time has passed, that state is accepted then.
+         */
+        long debounceTime = toNanos(config.getDebounceTime());
+        long sinceTransition = currentTime - this.lastTransitionTime;
+        if (!transitioned || sinceTransition >= debounceTime) {
+            return rawPressed;
+        }
+
+        if (rawChanged) {
+            this.suppressedCount++;
+            PressableIoFeatureStats stats = statsSupplier.get();
+            if (stats != null) {
+                stats.countDebounced();
+            }
+        }
+        return this.pressed;
+    }
+
+    private void emitPressEvents(long currentTime,
+                                 @NotNull PressableIoFeatureConfigView config) {
+        boolean pressed = this.debounce(this.isPressedImpl(),
+                currentTime, config);
         boolean wasPressed = this.pressed;
         this.pressed = pressed;
 
+        if (pressed != wasPressed) {
+            this.transitioned = true;
+            this.lastTransitionTime = currentTime;
+        }
+
         if (!wasPressed && pressed) {
             this.lastPressTime = currentTime;
+            this.record(PRESS_TYPE, currentTime);
             this.onPress();
         } else if (wasPressed && !pressed) {
+            this.cancelHold();
+            this.record(RELEASE_TYPE, currentTime);
             this.onRelease();
             this.held = false;
         }
     }
 
-    private void emitHoldEvents(long currentTime) {
-        if (!this.pressed) {
-            return;
+    private void scheduleHold(long deadline, long currentTime) {
+        if (deadline <= currentTime) {
+            /* no reason to wait for the next poll */
+            holdTimer.deadline = deadline;
+            this.expireHold(currentTime);
+        } else if (scheduler != null) {
+            scheduler.schedule(holdTimer, deadline);
+        } else {
+            holdTimer.deadline = deadline;
+            holdTimer.scheduled = true;
         }
+    }
 
-        PressableIoFeatureConfigView config = this.getConfig();
+    private void cancelHold() {
+        if (scheduler != null) {
+            scheduler.cancel(holdTimer);
+        }
+        holdTimer.scheduled = false;
+    }
 
-        boolean holdEnabled = config.isHoldEnabled();
-        boolean holdPressEnabled = config.isHoldPressEnabled();
-        long holdTime = config.getHoldTime();
-        long holdPressInterval = config.getHoldPressInterval();
+    /*
+     * Called once the deadline of the hold timer is due, either by the
+     * scheduler of the device or by poll() when the device has none.
+     */
+    void expireHold(long currentTime) {
+        holdTimer.scheduled = false;
+        long deadline = holdTimer.deadline;
 
-        long pressDuration = currentTime - this.lastPressTime;
-        if (holdEnabled && !held && pressDuration >= holdTime) {
+        PressableIoFeatureConfigView config = this.currentConfig();
+        if (!config.isHoldEnabled()) {
+            this.held = false;
+            return;
+        }
+
+        if (!held) {
             this.held = true;
+            this.record(HOLD_TYPE, deadline);
             this.onHold();
-        } else if (!holdEnabled) {
-            this.held = false;
         }
 
-        long lastHeldPressDuration = currentTime - this.lastPressTime;
-        if (holdPressEnabled && held
-                && lastHeldPressDuration >= holdPressInterval) {
-            this.lastPressTime = currentTime;
+        if (!config.isHoldPressEnabled()) {
+            return;
+        }
+
+        /*
+         * Virtual presses are anchored to the time they were due, not to
+         * the time of the poll which noticed them. This keeps the interval
+         * between them exact, regardless of how often the device is polled.
+         */
+        long interval = toNanos(config.getHoldPressInterval());
+        long pressDue = Math.max(deadline, lastPressTime + interval);
+        if (pressDue <= currentTime) {
+            this.lastPressTime = pressDue;
+            this.record(PRESS_TYPE, pressDue);
             this.onPress();
+            pressDue += interval;
+        }
+
+        if (pressDue <= currentTime) {
+            /*
+             * When the device is polled less often than the interval, only
+             * one virtual press is emitted per poll. Emitting all missed
+             * presses at once would only cause a burst of input.
+             */
+            long missed = (currentTime - pressDue) / interval + 1;
+            pressDue += missed * interval;
         }
+        this.scheduleHold(pressDue, currentTime);
     }
 
     /**
      * Performs a <i>single</i> query on the pressable state and emits all
      * necessary events from the I/O device. It is recommended to call this
      * method once every application update.
+     * <p>
+     * <b>Note:</b> Timing (e.g., for holding) is based on the time of the
+     * last poll of the device, as given by {@link IoDevice#getPollTime()}.
+     * The clock is not read by this method.
      */
     @MustBeInvokedByOverriders
     public void poll() {
-        long currentTime = System.currentTimeMillis();
-        this.emitPressEvents(currentTime);
-        this.emitHoldEvents(currentTime);
+        /*
+         * Reading the clock here would mean one read per feature, which
+         * adds up quickly for a keyboard. Using the time of the device
+         * poll also ensures every feature sees the exact same time.
+         */
+        long currentTime = device.getPollTime();
+
+        if (scheduler == null) {
+            this.scheduler = schedulerSupplier.get();
+        }
+        if (scheduler != null) {
+            /*
+             * The first observer of the device to be polled will expire
+             * all due deadlines. For every other observer, this returns
+             * immediately, as there is nothing left which is due.
+             */
+            scheduler.advance(currentTime);
+        }
+
+        PressableIoFeatureConfigView config = this.currentConfig();
+        this.emitPressEvents(currentTime, config);
+
+        /*
+         * The hold is usually scheduled by the poll which noticed the press.
+         * However, holding may only have been enabled while the feature was
+         * already pressed. In that case, it is scheduled here instead.
+         */
+        if (pressed && !held && !holdTimer.scheduled
+                && config.isHoldEnabled()) {
+            long holdTime = toNanos(config.getHoldTime());
+            this.scheduleHold(lastPressTime + holdTime, currentTime);
+        }
+
+        if (holdTimer.scheduled && scheduler == null
+                && holdTimer.deadline <= currentTime) {
+            this.expireHold(currentTime);
+        }
     }
 
 }
@@ -0,0 +1,279 @@
+package io.ketill.pressable;
+
+import io.ketill.IoFeature;
+import io.ketill.ToStringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the hold and virtual press events of pressable features for
+ * a single device. When a feature is pressed, its observer schedules the
+ * time at which it will be held down. Once held, it schedules the time of
+ * its next virtual press. As such, only features with an event that is due
+ * must do any work when the device is polled.
+ * <p>
+ * This is implemented as a hashed timer wheel. Each deadline is placed into
+ * one of a fixed number of slots, according to which tick of the wheel it
+ * falls in. Advancing the wheel only visits the slots of the ticks which
+ * have passed since it was last advanced.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>not</i> thread-safe. It should
+ * only be used by the thread polling the device which owns it.
+ *
+ * @see PressableIoFeatureSupport#getPressableScheduler()
+ */
+public final class PressableIoFeatureScheduler {
+
+    /**
+     * A deadline for a single pressable feature. It is owned by, and only
+     * ever scheduled for, the observer of that feature.
+     */
+    static final class Timer {
+
+        final @NotNull PressableIoFeatureObserver<?> observer;
+        long deadline;
+        boolean scheduled;
+
+        private int slot;
+        private @Nullable Timer prev, next;
+
+        Timer(@NotNull PressableIoFeatureObserver<?> observer) {
+            this.observer = observer;
+            this.slot = -1;
+        }
+
+    }
+
+    public static final long DEFAULT_TICK_DURATION_MS = 1L;
+    public static final int DEFAULT_SLOT_COUNT = 256;
+
+    private final long tickDuration;
+    private final @Nullable Timer @NotNull [] slots;
+    private final int mask;
+
+    private boolean started;
+    private long currentTick;
+    private int scheduledCount;
+    private long expiredCount;
+
+    /**
+     * Constructs a new {@code PressableIoFeatureScheduler}.
+     *
+     * @param tickDuration the duration of each tick of the wheel. This is
+     *                     the precision at which deadlines are sorted.
+     * @param unit         the unit of {@code tickDuration}.
+     * @param slotCount    the amount of slots in the wheel. Deadlines
+     *                     further than one revolution of the wheel are
+     *                     still supported, but will be visited once per
+     *                     revolution before they are due.
+     * @throws NullPointerException     if {@code unit} is {@code null}.
+     * @throws IllegalArgumentException if {@code tickDuration} is less
+     *                                  than one nanosecond; if
+     *                                  {@code slotCount} is not a positive
+     *                                  power of two.
+     */
+    public PressableIoFeatureScheduler(long tickDuration,
+                                       @NotNull TimeUnit unit,
+                                       int slotCount) {
+        Objects.requireNonNull(unit, "unit cannot be null");
+        this.tickDuration = unit.toNanos(tickDuration);
+        if (this.tickDuration < 1) {
+            String msg = "tickDuration must be at least one nanosecond";
+            throw new IllegalArgumentException(msg);
+        } else if (slotCount < 1 || Integer.bitCount(slotCount) != 1) {
+            String msg = "slotCount must be a positive power of two";
+            throw new IllegalArgumentException(msg);
+        }
+        this.slots = new Timer[slotCount];
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Constructs a new {@code PressableIoFeatureScheduler} with a tick
+     * duration of {@value #DEFAULT_TICK_DURATION_MS} milliseconds and
+     * {@value #DEFAULT_SLOT_COUNT} slots.
+     */
+    public PressableIoFeatureScheduler() {
+        this(DEFAULT_TICK_DURATION_MS, TimeUnit.MILLISECONDS,
+                DEFAULT_SLOT_COUNT);
+    }
+
+    private long tickOf(long nanoTime) {
+        return Math.floorDiv(nanoTime, tickDuration);
+    }
+
+    private void link(@NotNull Timer timer, long tick) {
+        int slot = (int) (tick & mask);
+        Timer head = slots[slot];
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[slot] = timer;
+        this.scheduledCount++;
+    }
+
+    private void unlink(@NotNull Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.slot = -1;
+        timer.prev = null;
+        timer.next = null;
+        timer.scheduled = false;
+        this.scheduledCount--;
+    }
+
+    void schedule(@NotNull Timer timer, long deadline) {
+        this.cancel(timer);
+
+        long tick = this.tickOf(deadline);
+        if (!started) {
+            this.started = true;
+            this.currentTick = tick;
+        } else if (tick < currentTick) {
+            /*
+             * The current tick is always visited by advance(), so placing
+             * an overdue deadline there ensures it expires on the next
+             * advance rather than one revolution later.
+             */
+            tick = currentTick;
+        }
+
+        timer.deadline = deadline;
+        timer.scheduled = true;
+        this.link(timer, tick);
+    }
+
+    void cancel(@NotNull Timer timer) {
+        if (timer.slot >= 0) {
+            this.unlink(timer);
+        }
+        timer.scheduled = false;
+    }
+
+    /**
+     * Cancels all deadlines scheduled for a feature. This should be called
+     * when a feature is unregistered, as its observer will no longer be
+     * polled to cancel them itself.
+     *
+     * @param feature the feature whose deadlines to cancel.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    public void cancel(@NotNull IoFeature<?, ?> feature) {
+        Objects.requireNonNull(feature, "feature cannot be null");
+        for (Timer head : slots) {
+            Timer timer = head;
+            while (timer != null) {
+                Timer next = timer.next;
+                if (timer.observer.feature == feature) {
+                    this.unlink(timer);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    private void expire(int slot, long nanoTime) {
+        Timer timer = slots[slot];
+        while (timer != null) {
+            /*
+             * An expiring timer may be scheduled again by its observer.
+             * Since it is linked at the head of its new slot, it will not
+             * be visited again during this pass.
+             */
+            Timer next = timer.next;
+            if (timer.deadline <= nanoTime) {
+                this.unlink(timer);
+                this.expiredCount++;
+                timer.observer.expireHold(nanoTime);
+
+                /*
+                 * The events emitted by an observer can cause other timers
+                 * to be cancelled (e.g., by a subscriber unregistering the
+                 * feature they belong to.) If the next timer was one of
+                 * them, it is no longer part of this slot. In that case,
+                 * the walk restarts from the head of the slot. Each timer
+                 * which already expired was either unlinked or scheduled
+                 * for later, so none of them will expire again.
+                 */
+                if (next != null && next.slot != slot) {
+                    next = slots[slot];
+                }
+            }
+            timer = next;
+        }
+    }
+
+    /**
+     * Advances the wheel, expiring each deadline which is due. This is
+     * called by the observers of the device when polled. Calling it more
+     * than once for the same time has no additional effect.
+     *
+     * @param nanoTime the current time in nanoseconds, typically the time
+     *                 of the last poll of the device.
+     */
+    public void advance(long nanoTime) {
+        long nowTick = this.tickOf(nanoTime);
+        if (!started || scheduledCount == 0) {
+            this.started = true;
+            this.currentTick = Math.max(currentTick, nowTick);
+            return;
+        }
+
+        long ticks = Math.max(nowTick, currentTick) - currentTick;
+        if (ticks >= slots.length) {
+            /* every slot would be visited anyway */
+            for (int i = 0; i < slots.length; i++) {
+                this.expire(i, nanoTime);
+            }
+        } else {
+            for (long tick = currentTick; tick <= currentTick + ticks; tick++) {
+                this.expire((int) (tick & mask), nanoTime);
+            }
+        }
+        this.currentTick = Math.max(currentTick, nowTick);
+    }
+
+    /**
+     * Returns how many deadlines are currently scheduled.
+     *
+     * @return how many deadlines are currently scheduled.
+     */
+    public int getScheduledCount() {
+        return this.scheduledCount;
+    }
+
+    /**
+     * Returns how many deadlines have expired since this scheduler was
+     * created.
+     *
+     * @return how many deadlines have expired.
+     */
+    public long getExpiredCount() {
+        return this.expiredCount;
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("tickDuration=" + tickDuration)
+                .add("slotCount=" + slots.length)
+                .add("scheduledCount=" + scheduledCount)
+                .add("expiredCount=" + expiredCount)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -0,0 +1,86 @@
+package io.ketill.pressable;
+
+import io.ketill.ToStringUtils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the changes in state of pressable features which were suppressed
+ * by debouncing or hysteresis. These can be used to tune the configuration
+ * of a device: a high count suggests the feature is noisy, while a count
+ * of zero suggests debouncing or hysteresis could be reduced.
+ * <p>
+ * <b>Thread safety:</b> This class is <i>thread-safe.</i>
+ *
+ * @see PressableIoFeatureSupport#getPressableStats()
+ * @see PressableIoFeatureConfig#setDebounceTime(long)
+ * @see PressableIoFeatureConfig#setPressHysteresis(float)
+ */
+public final class PressableIoFeatureStats {
+
+    private final boolean tracked;
+    private final LongAdder debouncedCount;
+    private final LongAdder hysteresisCount;
+
+    PressableIoFeatureStats(boolean tracked) {
+        this.tracked = tracked;
+        this.debouncedCount = new LongAdder();
+        this.hysteresisCount = new LongAdder();
+    }
+
+    /**
+     * Constructs a new {@code PressableIoFeatureStats}.
+     */
+    public PressableIoFeatureStats() {
+        this(true);
+    }
+
+    void countDebounced() {
+        if (tracked) {
+            debouncedCount.increment();
+        }
+    }
+
+    void countHysteresis() {
+        if (tracked) {
+            hysteresisCount.increment();
+        }
+    }
+
+    /**
+     * Returns how many changes in state were suppressed by debouncing.
+     *
+     * @return how many changes in state were suppressed by debouncing.
+     */
+    public long getDebouncedCount() {
+        return debouncedCount.sum();
+    }
+
+    /**
+     * Returns how many releases were suppressed by hysteresis.
+     *
+     * @return how many releases were suppressed by hysteresis.
+     */
+    public long getHysteresisCount() {
+        return hysteresisCount.sum();
+    }
+
+    /**
+     * Resets all counters back to zero.
+     */
+    public void reset() {
+        debouncedCount.reset();
+        hysteresisCount.reset();
+    }
+
+    /* @formatter:off */
+    @Override
+    public String toString() {
+        return ToStringUtils.getJoiner(this)
+                .add("debouncedCount=" + debouncedCount)
+                .add("hysteresisCount=" + hysteresisCount)
+                .toString();
+    }
+    /* @formatter:on */
+
+}
@@ -1,5 +1,6 @@
 package io.ketill.pressable;
 
+import io.ketill.IoFeature;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,6 +14,14 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface PressableIoFeatureSupport {
 
+    /**
+     * Indicates a device does not track changes to its pressable
+     * configurations.
+     *
+     * @see #getPressableConfigVersion()
+     */
+    long UNTRACKED_CONFIG_VERSION = -1L;
+
     /**
      * Returns the configuration governing pressable features.
      * <p>
@@ -36,4 +45,92 @@ public interface PressableIoFeatureSupport {
      */
     void usePressableConfig(@Nullable PressableIoFeatureConfigView config);
 
+    /* @formatter:off */
+    /**
+     * Returns the configuration governing a specific pressable feature.
+     * When present, it is used instead of the configuration returned by
+     * {@link #getPressableConfig()}.
+     *
+     * <p>
+     * By default, this returns the configuration last set for
+     * {@code feature} via {@link #usePressableConfig(IoFeature,
+     * PressableIoFeatureConfigView)}.
+     *
+     * @param feature the feature whose configuration to return.
+     * @return the configuration governing {@code feature}, {@code null}
+     * if it uses the configuration of the device.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    default @Nullable PressableIoFeatureConfigView
+            getPressableConfig(@NotNull IoFeature<?, ?> feature) {
+        return PressableIoFeatureDefaults.of(this).getConfig(feature);
+    }
+    /* @formatter:on */
+
+    /**
+     * Sets the configuration governing a specific pressable feature. This
+     * allows, for example, a single noisy button to be debounced without
+     * adding latency to every other button.
+     * <p>
+     * By default, the configuration is stored on behalf of this device,
+     * and returned by {@link #getPressableConfig(IoFeature)}.
+     *
+     * @param feature the feature whose configuration to set.
+     * @param config  the configuration to use. A value of {@code null}
+     *                is permitted, and results in the configuration of
+     *                the device being used instead.
+     * @throws NullPointerException if {@code feature} is {@code null}.
+     */
+    /* @formatter:off */
+    default void
+            usePressableConfig(@NotNull IoFeature<?, ?> feature,
+                               @Nullable PressableIoFeatureConfigView config) {
+        PressableIoFeatureDefaults.of(this).useConfig(feature, config);
+    }
+    /* @formatter:on */
+
+    /**
+     * Returns the version of the pressable configurations of this device.
+     * This must change each time either {@code usePressableConfig()} method
+     * is called. Observers cache the configuration of their feature, and
+     * only look it up again once this has changed.
+     * <p>
+     * By default, this returns {@link #UNTRACKED_CONFIG_VERSION}. This
+     * causes observers to look up their configuration on every poll.
+     *
+     * @return the version of the pressable configurations of this device.
+     */
+    default long getPressableConfigVersion() {
+        return UNTRACKED_CONFIG_VERSION;
+    }
+
+    /**
+     * Returns the counters of changes in state suppressed for pressable
+     * features of this device.
+     * <p>
+     * By default, this returns counters shared by every device which does
+     * not track its stats. They are never counted, and always read zero.
+     *
+     * @return the counters of suppressed changes in state.
+     */
+    default @NotNull PressableIoFeatureStats getPressableStats() {
+        return PressableIoFeatureDefaults.UNTRACKED_STATS;
+    }
+
+    /**
+     * Returns the scheduler used to time the hold and virtual press events
+     * of pressable features for this device. Observers only do work for
+     * holding when an event is due, rather than on every poll.
+     * <p>
+     * By default, a scheduler is created for this device the first time
+     * this method is called. Either way, devices should cancel the deadlines
+     * of a feature once it has been unregistered.
+     *
+     * @return the scheduler for pressable features of this device.
+     * @see PressableIoFeatureScheduler#cancel(IoFeature)
+     */
+    default @NotNull PressableIoFeatureScheduler getPressableScheduler() {
+        return PressableIoFeatureDefaults.of(this).getScheduler();
+    }
+
 }
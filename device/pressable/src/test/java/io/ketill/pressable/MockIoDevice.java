@@ -3,20 +3,31 @@ package io.ketill.pressable;
 import io.ketill.AdapterSupplier;
 import io.ketill.IoDevice;
 import io.ketill.IoDeviceObserver;
+import io.ketill.IoFeature;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 class MockIoDevice extends IoDevice {
 
     static class WithSupport extends MockIoDevice
             implements PressableIoFeatureSupport {
 
         boolean requestedConfig;
+        long configVersion;
         private PressableIoFeatureConfigView config;
+        private final Map<IoFeature<?, ?>, PressableIoFeatureConfigView>
+                featureConfigs = new HashMap<>();
+        final PressableIoFeatureStats stats = new PressableIoFeatureStats();
+        final PressableIoFeatureScheduler scheduler =
+                new PressableIoFeatureScheduler();
 
         @Override
         public void usePressableConfig(@Nullable PressableIoFeatureConfigView config) {
             this.config = config;
+            this.configVersion++;
         }
 
         @Override
@@ -25,6 +36,60 @@ class MockIoDevice extends IoDevice {
             return this.config;
         }
 
+        @Override
+        public void usePressableConfig(@NotNull IoFeature<?, ?> feature,
+                                       @Nullable PressableIoFeatureConfigView config) {
+            featureConfigs.put(feature, config);
+            this.configVersion++;
+        }
+
+        @Override
+        public long getPressableConfigVersion() {
+            return this.configVersion;
+        }
+
+        @Override
+        public @Nullable PressableIoFeatureConfigView getPressableConfig(@NotNull IoFeature<?, ?> feature) {
+            return featureConfigs.get(feature);
+        }
+
+        @Override
+        public @NotNull PressableIoFeatureStats getPressableStats() {
+            return this.stats;
+        }
+
+        @Override
+        public @NotNull PressableIoFeatureScheduler getPressableScheduler() {
+            return this.scheduler;
+        }
+
+        @Override
+        protected void featureUnregistered(@NotNull IoFeature<?, ?> feature) {
+            scheduler.cancel(feature);
+        }
+
+    }
+
+    /*
+     * Only implements the methods which have no default. This ensures the
+     * default methods of PressableIoFeatureSupport are used.
+     */
+    static class WithDefaults extends MockIoDevice
+            implements PressableIoFeatureSupport {
+
+        private PressableIoFeatureConfigView config =
+                PressableIoFeatureConfig.DEFAULT;
+
+        @Override
+        public void usePressableConfig(@Nullable PressableIoFeatureConfigView config) {
+            this.config = PressableIoFeatureConfig.valueOf(config);
+        }
+
+        @Override
+        public @NotNull PressableIoFeatureConfigView getPressableConfig() {
+            return this.config;
+        }
+
     }
 
     final IoDeviceObserver observerAccess;
@@ -6,8 +6,12 @@ import org.jetbrains.annotations.NotNull;
 
 class MockIoFeature extends IoFeature<MockPressableState, MockPressableState> {
 
+    MockIoFeature(@NotNull String id) {
+        super(id);
+    }
+
     MockIoFeature() {
-        super("mock");
+        this("mock");
     }
 
     @Override
@@ -5,6 +5,8 @@ import org.jetbrains.annotations.NotNull;
 
 class MockIoFeatureObserver extends PressableIoFeatureObserver<MockPressableState> {
 
+    static final float ANALOG_THRESHOLD = 0.5F;
+
     MockIoFeatureObserver(@NotNull MockIoFeature feature,
                           @NotNull MockPressableState internalState,
                           @NotNull IoDeviceObserver observer) {
@@ -13,6 +15,10 @@ class MockIoFeatureObserver extends PressableIoFeatureObserver<MockPressableStat
 
     @Override
     public boolean isPressedImpl() {
+        if (!Float.isNaN(internalState.force)) {
+            return this.isPastThreshold(internalState.force,
+                    ANALOG_THRESHOLD);
+        }
         return internalState.pressed;
     }
 
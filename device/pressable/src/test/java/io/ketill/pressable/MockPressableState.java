@@ -9,6 +9,12 @@ class MockPressableState implements PressableState {
     boolean pressed;
     boolean held;
 
+    /*
+     * When this is not NaN, the observer treats the feature as analog.
+     * It is then pressed when this is past ANALOG_THRESHOLD.
+     */
+    float force = Float.NaN;
+
     final IoFeature<?, ?> feature;
     final MockIoFeatureObserver observer;
 
@@ -86,6 +86,69 @@ class PressableIoFeatureConfigTest {
         assertFalse(config.isHoldPressEnabled());
     }
 
+    @Test
+    void testGetDebounceTime() {
+        /*
+         * Since this configuration was created with the default constructor,
+         * debouncing should be disabled. Otherwise, every press would have
+         * latency added to it by default.
+         */
+        assertEquals(PressableIoFeatureConfig.DISABLE_DEBOUNCE,
+                config.getDebounceTime());
+        assertFalse(config.isDebounceEnabled());
+    }
+
+    @Test
+    void testSetDebounceTime() {
+        config.setDebounceTime(20L);
+        assertEquals(20L, config.getDebounceTime());
+        assertTrue(config.isDebounceEnabled());
+
+        config.setDebounceTime(PressableIoFeatureConfig.DISABLE_DEBOUNCE);
+        assertFalse(config.isDebounceEnabled());
+    }
+
+    @Test
+    void testSetPressHysteresis() {
+        assertEquals(PressableIoFeatureConfig.NO_HYSTERESIS,
+                config.getPressHysteresis());
+
+        config.setPressHysteresis(0.1F);
+        assertEquals(0.1F, config.getPressHysteresis());
+
+        /*
+         * A negative hysteresis would release a feature before it even
+         * reached its press threshold, which makes no sense. As such,
+         * it is treated as if there were no hysteresis at all.
+         */
+        config.setPressHysteresis(-1.0F);
+        assertEquals(PressableIoFeatureConfig.NO_HYSTERESIS,
+                config.getPressHysteresis());
+    }
+
+    @Test
+    void testDefaultViewMethods() {
+        /*
+         * Configuration views written before debouncing and hysteresis
+         * were introduced only implement the hold methods. They must
+         * continue to behave as they did before.
+         */
+        PressableIoFeatureConfigView view = new PressableIoFeatureConfigView() {
+            @Override
+            public long getHoldTime() {
+                return PressableIoFeatureConfig.DEFAULT_HOLD_TIME;
+            }
+
+            @Override
+            public long getHoldPressInterval() {
+                return PressableIoFeatureConfig.DEFAULT_HOLD_PRESS_INTERVAL;
+            }
+        };
+        assertFalse(view.isDebounceEnabled());
+        assertEquals(PressableIoFeatureConfig.NO_HYSTERESIS,
+                view.getPressHysteresis());
+    }
+
     @Test
     void testValueOf() {
         /*
@@ -1,10 +1,16 @@
 package io.ketill.pressable;
 
+import io.ketill.IoDevice;
+import io.ketill.IoEventRing;
 import io.reactivex.rxjava3.disposables.Disposable;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -16,6 +22,7 @@ class PressableIoFeatureObserverTest {
     private MockIoFeature feature;
     private MockPressableState state;
     private MockIoFeatureObserver observer;
+    private AtomicLong time;
 
     @BeforeEach
     void createObserver() {
@@ -23,6 +30,20 @@ class PressableIoFeatureObserverTest {
         this.feature = new MockIoFeature();
         this.state = device.registerFeature(feature).getState();
         this.observer = state.observer;
+
+        /*
+         * A virtual clock is used so timing can be tested without having
+         * to wait for time to actually pass. The device must be polled for
+         * its observers to see a new time.
+         */
+        this.time = new AtomicLong();
+        device.useClock(time::get);
+        device.poll();
+    }
+
+    private void advance(@NotNull IoDevice device, long millis) {
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        device.poll();
     }
 
     @Test
@@ -85,6 +106,39 @@ class PressableIoFeatureObserverTest {
         support.usePressableConfig(null);
         assertSame(PressableIoFeatureConfig.DEFAULT, impl.getConfig());
         assertTrue(support.requestedConfig);
+
+        /*
+         * When the device has a configuration specific to the observed
+         * feature, it must be used instead of the configuration for the
+         * device. This allows a single noisy feature to be tuned.
+         */
+        PressableIoFeatureConfig specific = new PressableIoFeatureConfig();
+        support.usePressableConfig(custom);
+        support.usePressableConfig(feature, specific);
+        assertSame(specific, impl.getConfig());
+    }
+
+    @Test
+    void testCacheConfig() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        MockIoFeatureObserver impl =
+                support.registerFeature(feature).getState().observer;
+        support.usePressableConfig(new PressableIoFeatureConfig());
+
+        /*
+         * Looking up the configuration on every poll would be wasteful.
+         * It should only be looked up again once the device reports that
+         * it has changed.
+         */
+        impl.poll();
+        assertTrue(support.requestedConfig);
+        support.requestedConfig = false;
+        impl.poll();
+        assertFalse(support.requestedConfig);
+
+        support.usePressableConfig(new PressableIoFeatureConfig());
+        impl.poll();
+        assertTrue(support.requestedConfig);
     }
 
     @Test
@@ -264,7 +318,35 @@ class PressableIoFeatureObserverTest {
     }
 
     @Test
-    void testEmitHoldEvents() throws InterruptedException {
+    void testRecordPressEvents() {
+        IoEventRing ring = device.useEventRing(8);
+        IoEventRing.Cursor reader = ring.cursor();
+
+        /*
+         * When the device records events to a ring, each press and release
+         * must be recorded with the slot of the feature and the time of the
+         * poll which noticed it.
+         */
+        state.pressed = true;
+        this.advance(device, 1L);
+        observer.poll();
+        assertTrue(reader.next());
+        assertEquals(IoEventRing.getTypeId(IoFeaturePressEvent.class),
+                reader.getTypeId());
+        assertEquals(device.getFeatureSlot(feature), reader.getSlot());
+        assertEquals(device.getPollTime(), reader.getTime());
+
+        state.pressed = false;
+        this.advance(device, 1L);
+        observer.poll();
+        assertTrue(reader.next());
+        assertEquals(IoEventRing.getTypeId(IoFeatureReleaseEvent.class),
+                reader.getTypeId());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void testEmitHoldEvents() {
         /*
          * Before subscribing to the observer, trigger the press event by
          * setting the state to indicate it is pressed down and polling
@@ -291,7 +373,7 @@ class PressableIoFeatureObserverTest {
          * equal to the hold time specified by the config, the observer
          * should emit both an IoFeatureHoldEvent and IoFeaturePressEvent.
          */
-        Thread.sleep(config.getHoldTime());
+        this.advance(device, config.getHoldTime());
         observer.poll();
         assertTrue(observer.isHeld());
         assertTrue(emittedPress.get());
@@ -311,7 +393,11 @@ class PressableIoFeatureObserverTest {
          * After enough time has elapsed, the observer should emit another
          * IoFeaturePressEvent as the feature is being held down.
          */
-        Thread.sleep(config.getHoldPressInterval());
+        this.advance(device, config.getHoldPressInterval() - 1);
+        observer.poll();
+        assertFalse(emittedPress.get());
+
+        this.advance(device, 1);
         observer.poll();
         assertTrue(emittedPress.get());
 
@@ -319,11 +405,283 @@ class PressableIoFeatureObserverTest {
          * The configuration can indicate that holdable features are not
          * supported by the device. When this occurs, the observer should
          * not consider the feature held down (even if it was previously
-         * considered to be held down).
+         * considered to be held down). Since the configuration is only
+         * read when an event is due, this happens at the next deadline.
          */
         config.setHoldTime(PressableIoFeatureConfig.DISABLE_HOLD);
+        this.advance(device, config.getHoldPressInterval());
         observer.poll();
         assertFalse(observer.isHeld());
     }
 
+    @Test
+    void testDebounce() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        support.useClock(time::get);
+        support.poll();
+        MockPressableState supportState =
+                support.registerFeature(feature).getState();
+        MockIoFeatureObserver impl = supportState.observer;
+
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        config.setDebounceTime(60000L);
+        support.usePressableConfig(config);
+
+        /* subscribe to observer for next test */
+        AtomicInteger presses = new AtomicInteger();
+        AtomicInteger releases = new AtomicInteger();
+        support.subscribeEvents(IoFeaturePressEvent.class,
+                event -> presses.incrementAndGet());
+        support.subscribeEvents(IoFeatureReleaseEvent.class,
+                event -> releases.incrementAndGet());
+
+        /*
+         * The first change in state must be accepted right away, so that
+         * debouncing does not add latency to the press.
+         */
+        supportState.pressed = true;
+        impl.poll();
+        assertTrue(impl.isPressed());
+        assertEquals(1, presses.get());
+
+        /*
+         * A switch which bounces will briefly report itself as released
+         * after being pressed. Since this happens within the debounce
+         * time, it must be ignored. Each bounce must be counted once,
+         * not once per poll.
+         */
+        supportState.pressed = false;
+        impl.poll();
+        impl.poll();
+        supportState.pressed = true;
+        impl.poll();
+        supportState.pressed = false;
+        impl.poll();
+        assertTrue(impl.isPressed());
+        assertEquals(0, releases.get());
+        assertEquals(2, impl.getSuppressedCount());
+        assertEquals(2, support.stats.getDebouncedCount());
+
+        /*
+         * Once the debounce time has passed, the state the feature has
+         * settled in must be accepted.
+         */
+        this.advance(support, config.getDebounceTime());
+        impl.poll();
+        assertFalse(impl.isPressed());
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    void testPressHysteresis() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        MockPressableState supportState =
+                support.registerFeature(feature).getState();
+        MockIoFeatureObserver impl = supportState.observer;
+
+        float threshold = MockIoFeatureObserver.ANALOG_THRESHOLD;
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        config.setPressHysteresis(0.1F);
+        support.usePressableConfig(config);
+
+        /* a value below the threshold must not press the feature */
+        supportState.force = threshold - 0.05F;
+        impl.poll();
+        assertFalse(impl.isPressed());
+
+        supportState.force = threshold;
+        impl.poll();
+        assertTrue(impl.isPressed());
+
+        /*
+         * Once pressed, a value that dips only slightly below the press
+         * threshold must not release the feature. Entering this band is
+         * counted only once, no matter how long the value stays there.
+         */
+        supportState.force = threshold - 0.05F;
+        impl.poll();
+        impl.poll();
+        assertTrue(impl.isPressed());
+        assertEquals(1, support.stats.getHysteresisCount());
+
+        /*
+         * When the value falls below the press threshold minus the
+         * hysteresis, the feature must finally be released.
+         */
+        supportState.force = threshold - 0.15F;
+        impl.poll();
+        assertFalse(impl.isPressed());
+        assertEquals(1, impl.getSuppressedCount());
+    }
+
+    @Test
+    void testScheduledHoldEvents() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        support.useClock(time::get);
+        support.poll();
+
+        MockPressableState supportState =
+                support.registerFeature(feature).getState();
+        MockIoFeatureObserver impl = supportState.observer;
+        PressableIoFeatureScheduler scheduler = support.scheduler;
+
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        support.usePressableConfig(config);
+
+        /* subscribe to observer for next test */
+        AtomicInteger presses = new AtomicInteger();
+        support.subscribeEvents(IoFeaturePressEvent.class,
+                event -> presses.incrementAndGet());
+
+        /*
+         * When a feature is pressed, its hold deadline must be scheduled
+         * with the scheduler of the device. Once the feature is released,
+         * the deadline must be cancelled.
+         */
+        supportState.pressed = true;
+        impl.poll();
+        assertEquals(1, scheduler.getScheduledCount());
+        supportState.pressed = false;
+        impl.poll();
+        assertEquals(0, scheduler.getScheduledCount());
+
+        supportState.pressed = true;
+        impl.poll();
+        presses.set(0);
+
+        /* nothing is due yet, so nothing should expire */
+        this.advance(support, config.getHoldTime() - 1);
+        impl.poll();
+        assertFalse(impl.isHeld());
+        assertEquals(0, scheduler.getExpiredCount());
+
+        this.advance(support, 1);
+        impl.poll();
+        assertTrue(impl.isHeld());
+        assertEquals(1, presses.get());
+
+        /*
+         * When the device is polled late, the virtual press must still be
+         * emitted. However, the presses which follow must remain aligned
+         * to the configured interval, rather than to the late poll.
+         */
+        long interval = config.getHoldPressInterval();
+        this.advance(support, interval + interval / 2);
+        impl.poll();
+        assertEquals(2, presses.get());
+
+        this.advance(support, interval / 2 - 1);
+        impl.poll();
+        assertEquals(2, presses.get());
+
+        this.advance(support, 1);
+        impl.poll();
+        assertEquals(3, presses.get());
+
+        /*
+         * When a feature is unregistered, its observer is no longer polled
+         * to cancel its deadlines. As such, they can also be cancelled by
+         * the feature they were scheduled for.
+         */
+        scheduler.cancel(feature);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void testEnableHoldWhilePressed() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        support.useClock(time::get);
+        support.poll();
+
+        MockPressableState supportState =
+                support.registerFeature(feature).getState();
+        MockIoFeatureObserver impl = supportState.observer;
+
+        PressableIoFeatureConfig noHold = new PressableIoFeatureConfig();
+        noHold.setHoldTime(PressableIoFeatureConfig.DISABLE_HOLD);
+        support.usePressableConfig(noHold);
+
+        supportState.pressed = true;
+        impl.poll();
+        this.advance(support, PressableIoFeatureConfig.DEFAULT_HOLD_TIME);
+        impl.poll();
+        assertFalse(impl.isHeld());
+
+        /*
+         * When holding is enabled while the feature is already pressed,
+         * it must still be considered held. Since it has been pressed for
+         * longer than the hold time, this should happen right away.
+         */
+        support.usePressableConfig(new PressableIoFeatureConfig());
+        impl.poll();
+        assertTrue(impl.isHeld());
+
+        /*
+         * The same goes for when the configuration in use is modified,
+         * rather than replaced by another.
+         */
+        supportState.pressed = false;
+        impl.poll();
+        support.usePressableConfig(noHold);
+        supportState.pressed = true;
+        impl.poll();
+        noHold.setHoldTime(0L);
+        impl.poll();
+        assertTrue(impl.isHeld());
+    }
+
+    @Test
+    void testUnregisterDuringHold() {
+        MockIoDevice.WithSupport support = new MockIoDevice.WithSupport();
+        support.useClock(time::get);
+        support.poll();
+
+        MockIoFeature[] features = new MockIoFeature[3];
+        MockPressableState[] states = new MockPressableState[3];
+        for (int i = 0; i < features.length; i++) {
+            features[i] = new MockIoFeature("mock_" + i);
+            states[i] = support.registerFeature(features[i]).getState();
+        }
+
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        support.usePressableConfig(config);
+
+        /*
+         * The first feature to be held unregisters all the others. Their
+         * deadlines are in the same slot of the scheduler, and are due at
+         * the same time. They must be cancelled without the scheduler
+         * failing, or expiring them anyway.
+         */
+        AtomicInteger holds = new AtomicInteger();
+        support.subscribeEvents(IoFeatureHoldEvent.class, event -> {
+            holds.incrementAndGet();
+            for (MockIoFeature other : features) {
+                if (other != event.getFeature()
+                        && support.isFeatureRegistered(other)) {
+                    support.unregisterFeature(other);
+                }
+            }
+        });
+
+        for (MockPressableState pressed : states) {
+            pressed.pressed = true;
+            pressed.observer.poll();
+        }
+        assertEquals(3, support.scheduler.getScheduledCount());
+
+        /*
+         * Timers are linked at the head of their slot. As such, the last
+         * feature to be pressed is the first to be held, and is the only
+         * one left registered afterwards.
+         */
+        this.advance(support, config.getHoldTime());
+        assertDoesNotThrow(() -> states[2].observer.poll());
+        assertTrue(support.isFeatureRegistered(features[2]));
+        assertEquals(1, holds.get());
+        assertEquals(1, support.scheduler.getExpiredCount());
+
+        /* only the virtual press of the held feature remains */
+        assertEquals(1, support.scheduler.getScheduledCount());
+    }
+
 }
@@ -0,0 +1,127 @@
+package io.ketill.pressable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ConstantConditions")
+class PressableIoFeatureSchedulerTest {
+
+    private static final int SLOT_COUNT = 8;
+
+    private PressableIoFeatureScheduler scheduler;
+
+    @BeforeEach
+    void createScheduler() {
+        this.scheduler = new PressableIoFeatureScheduler(1L,
+                TimeUnit.NANOSECONDS, SLOT_COUNT);
+    }
+
+    private PressableIoFeatureScheduler.Timer createTimer() {
+        PressableIoFeatureObserver<?> observer =
+                mock(MockIoFeatureObserver.class);
+        return new PressableIoFeatureScheduler.Timer(observer);
+    }
+
+    @Test
+    void testInit() {
+        assertThrows(NullPointerException.class,
+                () -> new PressableIoFeatureScheduler(1L, null, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PressableIoFeatureScheduler(0L,
+                        TimeUnit.NANOSECONDS, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PressableIoFeatureScheduler(1L,
+                        TimeUnit.NANOSECONDS, 6));
+    }
+
+    @Test
+    void testAdvance() {
+        scheduler.advance(0L);
+
+        PressableIoFeatureScheduler.Timer soon = this.createTimer();
+        PressableIoFeatureScheduler.Timer later = this.createTimer();
+        scheduler.schedule(soon, 3L);
+        scheduler.schedule(later, 5L);
+        assertEquals(2, scheduler.getScheduledCount());
+
+        /*
+         * Only the deadlines which are due should expire. Advancing more
+         * than once for the same time should have no additional effect.
+         */
+        scheduler.advance(3L);
+        scheduler.advance(3L);
+        verify(soon.observer, times(1)).expireHold(3L);
+        verify(later.observer, never()).expireHold(anyLong());
+        assertFalse(soon.scheduled);
+        assertTrue(later.scheduled);
+
+        scheduler.advance(5L);
+        verify(later.observer).expireHold(5L);
+        assertEquals(0, scheduler.getScheduledCount());
+        assertEquals(2, scheduler.getExpiredCount());
+    }
+
+    @Test
+    void testAdvanceRevolutions() {
+        scheduler.advance(0L);
+
+        /*
+         * A deadline further away than one revolution of the wheel shares
+         * a slot with deadlines that come sooner. It must only expire once
+         * it is actually due, not when its slot is first visited.
+         */
+        PressableIoFeatureScheduler.Timer far = this.createTimer();
+        scheduler.schedule(far, SLOT_COUNT + 2L);
+        scheduler.advance(2L);
+        verify(far.observer, never()).expireHold(anyLong());
+
+        /*
+         * When the wheel is advanced by more than one revolution at once,
+         * every deadline which is due must still expire.
+         */
+        scheduler.advance(SLOT_COUNT * 4L);
+        verify(far.observer).expireHold(SLOT_COUNT * 4L);
+    }
+
+    @Test
+    void testScheduleOverdue() {
+        scheduler.advance(10L);
+
+        /*
+         * A deadline which has already passed must expire on the next
+         * advance, rather than one revolution of the wheel later.
+         */
+        PressableIoFeatureScheduler.Timer overdue = this.createTimer();
+        scheduler.schedule(overdue, 4L);
+        scheduler.advance(11L);
+        verify(overdue.observer).expireHold(11L);
+    }
+
+    @Test
+    void testCancel() {
+        PressableIoFeatureScheduler.Timer timer = this.createTimer();
+        scheduler.schedule(timer, 3L);
+        scheduler.cancel(timer);
+        assertFalse(timer.scheduled);
+        assertEquals(0, scheduler.getScheduledCount());
+
+        /* cancelling an unscheduled timer should do nothing */
+        assertDoesNotThrow(() -> scheduler.cancel(timer));
+
+        scheduler.advance(3L);
+        verify(timer.observer, never()).expireHold(anyLong());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(PressableIoFeatureScheduler.class,
+                scheduler);
+    }
+
+}
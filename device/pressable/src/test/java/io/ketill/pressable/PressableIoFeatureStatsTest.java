@@ -0,0 +1,44 @@
+package io.ketill.pressable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.ketill.KetillAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PressableIoFeatureStatsTest {
+
+    private PressableIoFeatureStats stats;
+
+    @BeforeEach
+    void createStats() {
+        this.stats = new PressableIoFeatureStats();
+    }
+
+    @Test
+    void testCount() {
+        assertEquals(0, stats.getDebouncedCount());
+        assertEquals(0, stats.getHysteresisCount());
+
+        stats.countDebounced();
+        stats.countDebounced();
+        stats.countHysteresis();
+        assertEquals(2, stats.getDebouncedCount());
+        assertEquals(1, stats.getHysteresisCount());
+    }
+
+    @Test
+    void testReset() {
+        stats.countDebounced();
+        stats.countHysteresis();
+        stats.reset();
+        assertEquals(0, stats.getDebouncedCount());
+        assertEquals(0, stats.getHysteresisCount());
+    }
+
+    @Test
+    void ensureImplementsToString() {
+        assertImplementsToString(PressableIoFeatureStats.class, stats);
+    }
+
+}
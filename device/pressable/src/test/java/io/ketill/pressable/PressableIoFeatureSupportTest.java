@@ -0,0 +1,116 @@
+package io.ketill.pressable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("ConstantConditions")
+class PressableIoFeatureSupportTest {
+
+    private MockIoDevice.WithDefaults device;
+    private MockIoFeature feature;
+
+    @BeforeEach
+    void createDevice() {
+        this.device = new MockIoDevice.WithDefaults();
+        this.feature = new MockIoFeature();
+    }
+
+    @Test
+    void testPressableConfigVersion() {
+        assertEquals(PressableIoFeatureSupport.UNTRACKED_CONFIG_VERSION,
+                device.getPressableConfigVersion());
+    }
+
+    @Test
+    void testFeatureConfig() {
+        assertThrows(NullPointerException.class,
+                () -> device.getPressableConfig(null));
+        assertThrows(NullPointerException.class,
+                () -> device.usePressableConfig(null,
+                        PressableIoFeatureConfig.DEFAULT));
+
+        /*
+         * By default, a feature should use the configuration of the
+         * device. Once a configuration has been set for it, it must be
+         * returned until it is set back to null.
+         */
+        assertNull(device.getPressableConfig(feature));
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        device.usePressableConfig(feature, config);
+        assertSame(config, device.getPressableConfig(feature));
+        device.usePressableConfig(feature, null);
+        assertNull(device.getPressableConfig(feature));
+
+        /* configurations must not be shared between devices */
+        device.usePressableConfig(feature, config);
+        MockIoDevice.WithDefaults other = new MockIoDevice.WithDefaults();
+        assertNull(other.getPressableConfig(feature));
+    }
+
+    @Test
+    void testPressableStats() {
+        /*
+         * By default, the stats are shared by every device. Since they
+         * would be meaningless, they must never be counted.
+         */
+        PressableIoFeatureStats stats = device.getPressableStats();
+        MockIoDevice.WithDefaults other = new MockIoDevice.WithDefaults();
+        assertSame(stats, other.getPressableStats());
+
+        stats.countDebounced();
+        stats.countHysteresis();
+        assertEquals(0, stats.getDebouncedCount());
+        assertEquals(0, stats.getHysteresisCount());
+    }
+
+    @Test
+    void testPressableScheduler() {
+        /*
+         * By default, a scheduler is created for each device. The same
+         * one must be returned every time, as it is used by every feature
+         * of the device.
+         */
+        PressableIoFeatureScheduler scheduler = device.getPressableScheduler();
+        assertNotNull(scheduler);
+        assertSame(scheduler, device.getPressableScheduler());
+
+        MockIoDevice.WithDefaults other = new MockIoDevice.WithDefaults();
+        assertNotSame(scheduler, other.getPressableScheduler());
+    }
+
+    @Test
+    void testHoldWithDefaults() {
+        AtomicLong time = new AtomicLong();
+        device.useClock(time::get);
+        PressableIoFeatureConfig config = new PressableIoFeatureConfig();
+        device.usePressableConfig(config);
+        MockPressableState state = device.registerFeature(feature).getState();
+
+        AtomicInteger holds = new AtomicInteger();
+        device.subscribeEvents(IoFeatureHoldEvent.class,
+                event -> holds.incrementAndGet());
+
+        /*
+         * A device which only implements the required methods must still
+         * have its features held down. This requires the default scheduler
+         * to be used by the observers of the device.
+         */
+        state.pressed = true;
+        device.poll(); /* update poll time */
+        state.observer.poll();
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(config.getHoldTime()));
+        device.poll(); /* update poll time */
+        state.observer.poll();
+
+        assertEquals(1, holds.get());
+        assertEquals(1, device.getPressableScheduler().getExpiredCount());
+    }
+
+}